@@ -0,0 +1,196 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database.sqlite;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import android.test.AndroidTestCase;
+import siminov.core.database.DatabaseUtils;
+import siminov.core.exception.DatabaseException;
+import siminov.core.model.ApplicationDescriptor;
+import siminov.core.model.DatabaseDescriptor;
+import siminov.core.resource.ResourceManager;
+
+public class DatabaseImplTest extends AndroidTestCase {
+
+	private static final String INSERT_QUERY = "INSERT INTO LIQUOR(LIQUOR_TYPE, DESCRIPTION) VALUES (?, ?)";
+
+	private final ResourceManager resourceManager = ResourceManager.getInstance();
+
+	private DatabaseDescriptor databaseDescriptor;
+	private DatabaseImpl database;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+
+		databaseDescriptor = new DatabaseDescriptor();
+		databaseDescriptor.setDatabaseName("SIMINOV-STATEMENT-CACHE-TEST");
+		databaseDescriptor.setType("sqlite");
+
+		ApplicationDescriptor applicationDescriptor = new ApplicationDescriptor();
+		applicationDescriptor.setName("SIMINOV-TEST");
+		applicationDescriptor.addDatabaseDescriptor(databaseDescriptor.getDatabaseName(), databaseDescriptor);
+
+		resourceManager.setApplicationContext(getContext());
+		resourceManager.setApplicationDescriptor(applicationDescriptor);
+
+		database = new DatabaseImpl();
+		database.openOrCreate(databaseDescriptor);
+
+		database.executeQuery(databaseDescriptor, null, "DROP TABLE IF EXISTS LIQUOR");
+		database.executeQuery(databaseDescriptor, null, "CREATE TABLE LIQUOR(LIQUOR_TYPE TEXT PRIMARY KEY, DESCRIPTION TEXT)");
+	}
+
+	protected void tearDown() throws Exception {
+
+		database.close(databaseDescriptor);
+		new File(new DatabaseUtils().getDatabasePath(databaseDescriptor) + databaseDescriptor.getDatabaseName() + ".db").delete();
+
+		resourceManager.removeDatabaseBundle(databaseDescriptor.getDatabaseName());
+		resourceManager.setApplicationDescriptor(null);
+
+		super.tearDown();
+	}
+
+	public void testReusesCompiledStatementOfSameQuery() throws DatabaseException {
+
+		database.executeBindQuery(databaseDescriptor, null, INSERT_QUERY, values("RUM", "Dark"));
+		database.executeBindQuery(databaseDescriptor, null, INSERT_QUERY, values("GIN", "Dry"));
+		database.executeBindQuery(databaseDescriptor, null, INSERT_QUERY, values("VODKA", "Plain"));
+
+		assertEquals(1, database.getStatementCacheMisses());
+		assertEquals(2, database.getStatementCacheHits());
+		assertEquals(3, count());
+	}
+
+	public void testClosesLeastRecentlyUsedStatementOnceFull() throws DatabaseException {
+
+		int queries = DatabaseImpl.STATEMENT_CACHE_SIZE + 4;
+		for(int i = 0;i < queries;i++) {
+			database.executeBindQuery(databaseDescriptor, null, INSERT_QUERY + " /* " + i + " */", values("LIQUOR-" + i, null));
+		}
+
+		assertEquals(queries, database.getStatementCacheMisses());
+		assertEquals(4, database.getStatementCacheEvictions());
+
+		/*
+		 * Most recently used statement is still cached, while first one was evicted and has to be compiled again.
+		 */
+		database.executeBindQuery(databaseDescriptor, null, INSERT_QUERY + " /* " + (queries - 1) + " */", values("RECENT", null));
+		assertEquals(1, database.getStatementCacheHits());
+
+		database.executeBindQuery(databaseDescriptor, null, INSERT_QUERY + " /* 0 */", values("EVICTED", null));
+		assertEquals(1, database.getStatementCacheHits());
+		assertEquals(queries + 1, database.getStatementCacheMisses());
+
+		assertEquals(queries + 2, count());
+	}
+
+	public void testKeepsStatementUsableAfterFailedExecution() throws DatabaseException {
+
+		database.executeBindQuery(databaseDescriptor, null, INSERT_QUERY, values("RUM", "Dark"));
+
+		try {
+			database.executeBindQuery(databaseDescriptor, null, INSERT_QUERY, values("RUM", "Duplicate"));
+			fail("DatabaseException expected");
+		} catch(DatabaseException databaseException) {
+		}
+
+		database.executeBindQuery(databaseDescriptor, null, INSERT_QUERY, values("GIN", "Dry"));
+
+		assertEquals(1, database.getStatementCacheMisses());
+		assertEquals(2, database.getStatementCacheHits());
+		assertEquals(2, count());
+	}
+
+	public void testExecutesSameQueryFromManyThreads() throws Exception {
+
+		final int threads = 4;
+		final int writes = 50;
+
+		final List<Throwable> failures = new ArrayList<Throwable>();
+		Thread[] writers = new Thread[threads];
+
+		for(int i = 0;i < threads;i++) {
+
+			final int writer = i;
+			writers[i] = new Thread(new Runnable() {
+
+				public void run() {
+
+					try {
+						for(int j = 0;j < writes;j++) {
+							database.executeBindQuery(databaseDescriptor, null, INSERT_QUERY, values("LIQUOR-" + writer + "-" + j, null));
+						}
+					} catch(Throwable throwable) {
+						synchronized(failures) {
+							failures.add(throwable);
+						}
+					}
+				}
+			});
+
+			writers[i].start();
+		}
+
+		for(int i = 0;i < threads;i++) {
+			writers[i].join(30000);
+			assertFalse("Writer did not complete", writers[i].isAlive());
+		}
+
+		assertTrue(failures.toString(), failures.isEmpty());
+
+		assertEquals(threads * writes, database.getStatementCacheHits() + database.getStatementCacheMisses());
+		assertEquals(threads * writes, count());
+	}
+
+	public void testClosesCachedStatementsWithDatabase() throws DatabaseException {
+
+		database.executeBindQuery(databaseDescriptor, null, INSERT_QUERY, values("RUM", "Dark"));
+		database.close(databaseDescriptor);
+
+		try {
+			database.executeBindQuery(databaseDescriptor, null, INSERT_QUERY, values("GIN", "Dry"));
+			fail("Statement executed on closed database");
+		} catch(RuntimeException runtimeException) {
+		} catch(DatabaseException databaseException) {
+		}
+
+		database.openOrCreate(databaseDescriptor);
+		assertEquals(1, count());
+	}
+
+
+	private int count() throws DatabaseException {
+
+		Iterator<Map<String, Object>> tuples = database.executeSelectQuery(databaseDescriptor, null, "SELECT COUNT(*) AS TUPLES FROM LIQUOR");
+		return ((Number) tuples.next().get("TUPLES")).intValue();
+	}
+
+	private static Iterator<Object> values(final Object...values) {
+
+		Collection<Object> columnValues = Arrays.asList(values);
+		return columnValues.iterator();
+	}
+}
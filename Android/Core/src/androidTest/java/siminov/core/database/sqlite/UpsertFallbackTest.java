@@ -0,0 +1,137 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database.sqlite;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+import android.test.AndroidTestCase;
+import siminov.core.database.DatabaseUtils;
+import siminov.core.database.InsertSpec;
+import siminov.core.exception.DatabaseException;
+import siminov.core.model.ApplicationDescriptor;
+import siminov.core.model.DatabaseDescriptor;
+import siminov.core.resource.ResourceManager;
+
+public class UpsertFallbackTest extends AndroidTestCase {
+
+	private final ResourceManager resourceManager = ResourceManager.getInstance();
+	private final QueryBuilder queryBuilder = new QueryBuilder();
+
+	private DatabaseDescriptor databaseDescriptor;
+	private DatabaseImpl database;
+
+	private InsertSpec insertSpec;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+
+		databaseDescriptor = new DatabaseDescriptor();
+		databaseDescriptor.setDatabaseName("SIMINOV-UPSERT-TEST");
+		databaseDescriptor.setType("sqlite");
+
+		ApplicationDescriptor applicationDescriptor = new ApplicationDescriptor();
+		applicationDescriptor.setName("SIMINOV-TEST");
+		applicationDescriptor.addDatabaseDescriptor(databaseDescriptor.getDatabaseName(), databaseDescriptor);
+
+		resourceManager.setApplicationContext(getContext());
+		resourceManager.setApplicationDescriptor(applicationDescriptor);
+
+		database = new DatabaseImpl();
+		database.openOrCreate(databaseDescriptor);
+
+		database.executeQuery(databaseDescriptor, null, "DROP TABLE IF EXISTS LIQUOR");
+		database.executeQuery(databaseDescriptor, null, "CREATE TABLE LIQUOR(DESCRIPTION TEXT, LIQUOR_TYPE TEXT, BRAND TEXT, PRIMARY KEY(LIQUOR_TYPE, BRAND))");
+
+		insertSpec = new InsertSpec("LIQUOR", new String[] {"DESCRIPTION", "LIQUOR_TYPE", "BRAND"});
+		insertSpec.setPrimaryKeys(new String[] {"LIQUOR_TYPE", "BRAND"});
+	}
+
+	protected void tearDown() throws Exception {
+
+		database.close(databaseDescriptor);
+		new File(new DatabaseUtils().getDatabasePath(databaseDescriptor) + databaseDescriptor.getDatabaseName() + ".db").delete();
+
+		resourceManager.removeDatabaseBundle(databaseDescriptor.getDatabaseName());
+		resourceManager.setApplicationDescriptor(null);
+
+		super.tearDown();
+	}
+
+	public void testInsertsMissingTuple() throws DatabaseException {
+
+		upsertThroughFallback("Dark", "RUM", "BACARDI");
+		upsertThroughFallback("Dry", "GIN", "BOMBAY");
+
+		assertEquals(2, count());
+		assertEquals("Dark", getDescription("RUM", "BACARDI"));
+	}
+
+	public void testUpdatesExistingTupleInPlace() throws DatabaseException {
+
+		upsertThroughFallback("Dark", "RUM", "BACARDI");
+		upsertThroughFallback("Spiced", "RUM", "BACARDI");
+
+		assertEquals(1, count());
+		assertEquals("Spiced", getDescription("RUM", "BACARDI"));
+	}
+
+	public void testMatchesWholeKey() throws DatabaseException {
+
+		upsertThroughFallback("Dark", "RUM", "BACARDI");
+		upsertThroughFallback("Spiced", "RUM", "CAPTAIN MORGAN");
+
+		assertEquals(2, count());
+		assertEquals("Dark", getDescription("RUM", "BACARDI"));
+	}
+
+	public void testUpsertsInSingleStatementWhereSupported() throws DatabaseException {
+
+		String query = queryBuilder.formUpsertBindQuery(insertSpec);
+		if(query == null) {
+			return;
+		}
+
+		database.executeBindQuery(databaseDescriptor, null, query, Arrays.<Object>asList("Dark", "RUM", "BACARDI").iterator());
+		database.executeBindQuery(databaseDescriptor, null, query, Arrays.<Object>asList("Spiced", "RUM", "BACARDI").iterator());
+
+		assertEquals(1, count());
+		assertEquals("Spiced", getDescription("RUM", "BACARDI"));
+	}
+
+
+	private void upsertThroughFallback(final Object...values) throws DatabaseException {
+
+		database.executeBindQuery(databaseDescriptor, null, queryBuilder.formUpsertUpdateBindQuery(insertSpec), Arrays.asList(values).iterator());
+		database.executeBindQuery(databaseDescriptor, null, queryBuilder.formUpsertInsertBindQuery(insertSpec), Arrays.asList(values).iterator());
+	}
+
+	private int count() throws DatabaseException {
+
+		Iterator<Map<String, Object>> tuples = database.executeSelectQuery(databaseDescriptor, null, "SELECT COUNT(*) AS TUPLES FROM LIQUOR");
+		return ((Number) tuples.next().get("TUPLES")).intValue();
+	}
+
+	private String getDescription(final String liquorType, final String brand) throws DatabaseException {
+
+		Iterator<Map<String, Object>> tuples = database.executeSelectQuery(databaseDescriptor, null, "SELECT DESCRIPTION FROM LIQUOR WHERE LIQUOR_TYPE = ? AND BRAND = ?", new Object[] {liquorType, brand});
+		return (String) tuples.next().get("DESCRIPTION");
+	}
+}
@@ -150,6 +150,36 @@ public interface Constants {
 	 */
 	public String DATABASE_DESCRIPTOR_EXTERNAL_STORAGE = "external_storage";
 
+	/**
+	 * DatabaseDescriptor.xml query_cache_size TAG.
+	 */
+	public String DATABASE_DESCRIPTOR_QUERY_CACHE_SIZE = "query_cache_size";
+
+	/**
+	 * DatabaseDescriptor.xml query_cache_ttl TAG.
+	 */
+	public String DATABASE_DESCRIPTOR_QUERY_CACHE_TTL = "query_cache_ttl";
+
+	/**
+	 * DatabaseDescriptor.xml query_cache_metrics TAG.
+	 */
+	public String DATABASE_DESCRIPTOR_QUERY_CACHE_METRICS = "query_cache_metrics";
+
+	/**
+	 * DatabaseDescriptor.xml write_ahead_logging TAG.
+	 */
+	public String DATABASE_DESCRIPTOR_WRITE_AHEAD_LOGGING = "write_ahead_logging";
+
+	/**
+	 * DatabaseDescriptor.xml reader_pool_size TAG.
+	 */
+	public String DATABASE_DESCRIPTOR_READER_POOL_SIZE = "reader_pool_size";
+
+	/**
+	 * DatabaseDescriptor.xml async_queue_size TAG.
+	 */
+	public String DATABASE_DESCRIPTOR_ASYNC_QUEUE_SIZE = "async_queue_size";
+
 
 	// Library Descriptor Constants.
 
@@ -207,6 +237,36 @@ public interface Constants {
 	 */
 	public String ENTITY_DESCRIPTOR_CLASS_NAME = "class_name";
 
+	/**
+	 * EntityDescriptor.xml track_changes TAG.
+	 */
+	public String ENTITY_DESCRIPTOR_TRACK_CHANGES = "track_changes";
+
+	/**
+	 * EntityDescriptor.xml cache TAG.
+	 */
+	public String ENTITY_DESCRIPTOR_CACHE = "cache";
+
+	/**
+	 * EntityDescriptor.xml cache lru TAG, followed by maximum number of tuples to be cached.
+	 */
+	public String ENTITY_DESCRIPTOR_CACHE_LRU = "lru:";
+
+	/**
+	 * EntityDescriptor.xml write_behind TAG.
+	 */
+	public String ENTITY_DESCRIPTOR_WRITE_BEHIND = "write_behind";
+
+	/**
+	 * EntityDescriptor.xml write_behind_interval TAG.
+	 */
+	public String ENTITY_DESCRIPTOR_WRITE_BEHIND_INTERVAL = "write_behind_interval";
+
+	/**
+	 * EntityDescriptor.xml write_behind_batch_size TAG.
+	 */
+	public String ENTITY_DESCRIPTOR_WRITE_BEHIND_BATCH_SIZE = "write_behind_batch_size";
+
 	/**
 	 * EntityDescriptor.xml column TAG.
 	 */
@@ -338,6 +398,11 @@ public interface Constants {
 	 */
 	public String ENTITY_DESCRIPTOR_RELATIONSHIP_LOAD = "load";
 
+	/**
+	 * EntityDescriptor.xml Relationship Load Lazy Value.
+	 */
+	public String ENTITY_DESCRIPTOR_RELATIONSHIP_LOAD_LAZY = "lazy";
+
 	/**
 	 * EntityDescriptor.xml Relationship Cascade TAG.
 	 */
@@ -588,6 +653,31 @@ public interface Constants {
 	 */
 	public String FORM_SELECT_QUERY_LIMIT_PARAMETER = "FORM_SELECT_QUERY_LIMIT_PARAMETER";
 
+	/**
+	 * Form Select Query Joins Parameter
+	 */
+	public String FORM_SELECT_QUERY_JOINS_PARAMETER = "FORM_SELECT_QUERY_JOINS_PARAMETER";
+
+	/**
+	 * Form Select Query Join Table Name Parameter
+	 */
+	public String FORM_SELECT_QUERY_JOIN_TABLE_NAME_PARAMETER = "FORM_SELECT_QUERY_JOIN_TABLE_NAME_PARAMETER";
+
+	/**
+	 * Form Select Query Join Column Names Parameter
+	 */
+	public String FORM_SELECT_QUERY_JOIN_COLUMN_NAMES_PARAMETER = "FORM_SELECT_QUERY_JOIN_COLUMN_NAMES_PARAMETER";
+
+	/**
+	 * Form Select Query Join Column Prefix Parameter
+	 */
+	public String FORM_SELECT_QUERY_JOIN_COLUMN_PREFIX_PARAMETER = "FORM_SELECT_QUERY_JOIN_COLUMN_PREFIX_PARAMETER";
+
+	/**
+	 * Form Select Query Join Keys Parameter
+	 */
+	public String FORM_SELECT_QUERY_JOIN_KEYS_PARAMETER = "FORM_SELECT_QUERY_JOIN_KEYS_PARAMETER";
+
 	
 	
 	/**
@@ -601,6 +691,23 @@ public interface Constants {
 	public String FORM_SAVE_BIND_QUERY_COLUMN_NAMES_PARAMETER = "FORM_SAVE_BIND_QUERY_COLUMN_NAMES_PARAMETER";
 
 	
+	
+	/**
+	 * Form Upsert Bind Query Table Name Parameter
+	 */
+	public String FORM_UPSERT_BIND_QUERY_TABLE_NAME_PARAMETER = "FORM_UPSERT_BIND_QUERY_TABLE_NAME_PARAMETER";
+	
+	/**
+	 * Form Upsert Bind Query Column Names Parameter
+	 */
+	public String FORM_UPSERT_BIND_QUERY_COLUMN_NAMES_PARAMETER = "FORM_UPSERT_BIND_QUERY_COLUMN_NAMES_PARAMETER";
+	
+	/**
+	 * Form Upsert Bind Query Primary Keys Parameter
+	 */
+	public String FORM_UPSERT_BIND_QUERY_PRIMARY_KEYS_PARAMETER = "FORM_UPSERT_BIND_QUERY_PRIMARY_KEYS_PARAMETER";
+
+	
 	/**
 	 * Form Update Bind Query Table Name Parameter
 	 */
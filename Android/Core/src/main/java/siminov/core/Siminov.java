@@ -24,6 +24,8 @@ import java.util.Iterator;
 import java.util.Map;
 
 import siminov.core.database.DatabaseBundle;
+import siminov.core.database.DatabaseExecutor;
+import siminov.core.database.WriteBehindQueue;
 import siminov.core.database.DatabaseHelper;
 import siminov.core.database.DatabaseUtils;
 import siminov.core.database.design.IDatabaseImpl;
@@ -60,7 +62,26 @@ import siminov.core.resource.ResourceManager;
  */
 public class Siminov {
 
-	protected static boolean isActive = false;
+	/**
+	 * Lifecycle states of SIMINOV. Transitions are made while holding LIFECYCLE_LOCK, state is read without locking.
+	 */
+	protected enum State {
+		INACTIVE,
+		STARTING,
+		ACTIVE,
+		STOPPING
+	}
+	
+	private static final Object LIFECYCLE_LOCK = new Object();
+	private static volatile State state = State.INACTIVE;
+	
+	/**
+	 * TRUE while SIMINOV is active. It is kept in sync with lifecycle state for subclasses which read or set it, and SIMINOV is treated as active while a subclass has set it.
+	 * @deprecated Use {@link #getState()} to read lifecycle state.
+	 */
+	@Deprecated
+	protected static volatile boolean isActive = false;
+	
 	protected static boolean firstTimeProcessed = false;
 
 	protected static ResourceManager coreResourceManager = ResourceManager.getInstance();
@@ -75,11 +96,27 @@ public class Siminov {
 	 * 
 	 */
 	public static void isActive() {
-		if(!isActive) {
+		if(state != State.ACTIVE && !isActive) {
 			throw new DeploymentException(Siminov.class.getName(), "isActive", "Siminov Not Active.");
 		}
 	}
 	
+	/**
+	 * Get current lifecycle state of SIMINOV.
+	 * @return State of SIMINOV.
+	 */
+	protected static State getState() {
+		return state;
+	}
+	
+	/**
+	 * Move SIMINOV to lifecycle state, keeping isActive in sync. Called while holding LIFECYCLE_LOCK.
+	 */
+	private static void setState(final State newState) {
+		state = newState;
+		isActive = newState == State.ACTIVE;
+	}
+	
 	
 	/**
 	 * Returns the IInitializer instance.
@@ -142,13 +179,24 @@ public class Siminov {
 	 */
 	static void start() {
 		
-		if(isActive) {
-			return;
+		synchronized(LIFECYCLE_LOCK) {
+			
+			if(state == State.ACTIVE || isActive) {
+				return;
+			}
+			
+			setState(State.STARTING);
+			
+			try {
+				process();
+			} catch(RuntimeException runtimeException) {
+				setState(State.INACTIVE);
+				throw runtimeException;
+			}
+			
+			WriteBehindQueue.open();
+			setState(State.ACTIVE);
 		}
-		
-		process();
-		
-		isActive = true;
 
 		ISiminovEvents coreEventHandler = coreResourceManager.getSiminovEventHandler();
 		if(coreResourceManager.getSiminovEventHandler() != null) {
@@ -177,24 +225,39 @@ public class Siminov {
 	 * @throws SiminovException If any error occur while shutting down SIMINOV.
 	 */
 	public static void shutdown() {
-		isActive();
 		
-		Iterator<DatabaseDescriptor> databaseDescriptors = coreResourceManager.getDatabaseDescriptors();
-
 		boolean failed = false;
-		while(databaseDescriptors.hasNext()) {
-			DatabaseDescriptor databaseDescriptor = databaseDescriptors.next();
-			DatabaseBundle databaseBundle = coreResourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
-			IDatabaseImpl database = databaseBundle.getDatabase();
+		synchronized(LIFECYCLE_LOCK) {
+			isActive();
 			
-			try {
-				database.close(databaseDescriptor);
-			} catch(DatabaseException databaseException) {
-				failed = true;
+			/*
+			 * Pending asynchronous operations are completed first, while database is still open. They may buffer writes, so buffered writes are written after them.
+			 */
+			DatabaseExecutor.shutdownAll();
+			WriteBehindQueue.shutdownAll();
+			
+			/*
+			 * New operations are refused from here on, as isActive() only passes in ACTIVE state.
+			 */
+			setState(State.STOPPING);
+			
+			Iterator<DatabaseDescriptor> databaseDescriptors = coreResourceManager.getDatabaseDescriptors();
+			while(databaseDescriptors.hasNext()) {
+				DatabaseDescriptor databaseDescriptor = databaseDescriptors.next();
+				DatabaseBundle databaseBundle = coreResourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+				IDatabaseImpl database = databaseBundle.getDatabase();
 				
-				Log.error(Siminov.class.getName(), "shutdown", "DatabaseException caught while closing database, " + databaseException.getMessage());
-				continue;
+				try {
+					database.close(databaseDescriptor);
+				} catch(DatabaseException databaseException) {
+					failed = true;
+					
+					Log.error(Siminov.class.getName(), "shutdown", "DatabaseException caught while closing database, " + databaseException.getMessage());
+					continue;
+				}
 			}
+			
+			setState(State.INACTIVE);
 		}
 		
 		if(failed) {
@@ -214,6 +277,8 @@ public class Siminov {
 		processDatabaseDescriptors();
 		processLibraries();
 		processEntityDescriptors();
+		
+		coreResourceManager.indexDescriptors();
 
 		processDatabase();
 	}
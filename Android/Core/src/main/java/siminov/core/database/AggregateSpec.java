@@ -0,0 +1,205 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+
+/**
+ * Specification of aggregate query, passed to {@link siminov.core.database.design.IQueryBuilder#formAggregateQuery(AggregateSpec)}.
+ * <p>
+ * Same specification forms count, average, sum, total, maximum, minimum and group concat queries, based on its function.
+ */
+public class AggregateSpec {
+
+	/**
+	 * Aggregate function applied on column.
+	 */
+	public enum Function {
+		COUNT("COUNT"),
+		AVG("AVG"),
+		SUM("SUM"),
+		TOTAL("TOTAL"),
+		MAX("MAX"),
+		MIN("MIN"),
+		GROUP_CONCAT("GROUP_CONCAT");
+
+		private final String name;
+
+		private Function(final String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Get SQL name of function.
+		 * @return Name of function.
+		 */
+		public String getName() {
+			return this.name;
+		}
+	}
+
+	private static final String[] NO_NAMES = new String[0];
+
+	private Function function = null;
+	private String tableName = null;
+	private String column = null;
+	private boolean distinct = false;
+	private String whereClause = null;
+	private String[] groupBys = NO_NAMES;
+	private String having = null;
+	private String delimiter = null;
+
+	/**
+	 * AggregateSpec Constructor
+	 * @param function Aggregate function.
+	 * @param tableName Name of table.
+	 * @param column Name of column on which function is applied, NULL is only permitted for count of tuples.
+	 */
+	public AggregateSpec(final Function function, final String tableName, final String column) {
+		this.function = function;
+		this.tableName = tableName;
+		this.column = column;
+	}
+
+	/**
+	 * Get aggregate function.
+	 * @return Aggregate function.
+	 */
+	public Function getFunction() {
+		return this.function;
+	}
+
+	/**
+	 * Set aggregate function.
+	 * @param function Aggregate function.
+	 */
+	public void setFunction(final Function function) {
+		this.function = function;
+	}
+
+	/**
+	 * Get table name.
+	 * @return Name of table.
+	 */
+	public String getTableName() {
+		return this.tableName;
+	}
+
+	/**
+	 * Set table name.
+	 * @param tableName Name of table.
+	 */
+	public void setTableName(final String tableName) {
+		this.tableName = tableName;
+	}
+
+	/**
+	 * Get name of column on which function is applied.
+	 * @return Name of column.
+	 */
+	public String getColumn() {
+		return this.column;
+	}
+
+	/**
+	 * Set name of column on which function is applied.
+	 * @param column Name of column.
+	 */
+	public void setColumn(final String column) {
+		this.column = column;
+	}
+
+	/**
+	 * Check whether only distinct values are counted. It is only used by count.
+	 * @return TRUE: If only distinct values are counted, FALSE: If all values are counted.
+	 */
+	public boolean isDistinct() {
+		return this.distinct;
+	}
+
+	/**
+	 * Set whether only distinct values are counted. It is only used by count.
+	 * @param distinct TRUE: If only distinct values are counted, FALSE: If all values are counted.
+	 */
+	public void setDistinct(final boolean distinct) {
+		this.distinct = distinct;
+	}
+
+	/**
+	 * Get where clause.
+	 * @return Where clause.
+	 */
+	public String getWhereClause() {
+		return this.whereClause;
+	}
+
+	/**
+	 * Set where clause.
+	 * @param whereClause Where clause.
+	 */
+	public void setWhereClause(final String whereClause) {
+		this.whereClause = whereClause;
+	}
+
+	/**
+	 * Get group bys.
+	 * @return Group bys, empty if tuples are not grouped.
+	 */
+	public String[] getGroupBys() {
+		return this.groupBys;
+	}
+
+	/**
+	 * Set group bys.
+	 * @param groupBys Group bys.
+	 */
+	public void setGroupBys(final String[] groupBys) {
+		this.groupBys = groupBys != null ? groupBys : NO_NAMES;
+	}
+
+	/**
+	 * Get having clause.
+	 * @return Having clause.
+	 */
+	public String getHaving() {
+		return this.having;
+	}
+
+	/**
+	 * Set having clause.
+	 * @param having Having clause.
+	 */
+	public void setHaving(final String having) {
+		this.having = having;
+	}
+
+	/**
+	 * Get delimiter of group concat.
+	 * @return Delimiter.
+	 */
+	public String getDelimiter() {
+		return this.delimiter;
+	}
+
+	/**
+	 * Set delimiter of group concat. It is only used by group concat.
+	 * @param delimiter Delimiter.
+	 */
+	public void setDelimiter(final String delimiter) {
+		this.delimiter = delimiter;
+	}
+}
@@ -0,0 +1,155 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import siminov.core.database.design.IAsyncCallback;
+import siminov.core.database.design.ITransactionWork;
+import siminov.core.exception.DatabaseException;
+import siminov.core.model.DatabaseDescriptor;
+
+
+/**
+ * Asynchronous view of object, returned by {@link Database#async()}. Operations are submitted to {@link DatabaseExecutor} of database object is mapped to,
+ * so writes are executed one at a time on its writer thread.
+ * <p>
+ * Selects and aggregates are executed asynchronously through executeAsync of their query builder.
+ *
+ * <pre>
+ *
+Example:
+
+	{@code
+
+	Book book = new Book();
+	book.setTitle(Book.BOOK_TYPE_C);
+
+	book.async().save(new IAsyncCallback<Void>() {
+
+		public void onSuccess(Void result) {
+			//Book saved.
+		}
+
+		public void onFailure(DatabaseException databaseException) {
+			//Log it.
+		}
+	});
+
+	new Book().select().where(Book.TITLE).equalTo(Book.BOOK_TYPE_C).executeAsync(new IAsyncCallback<Book[]>() {
+
+		public void onSuccess(Book[] books) {
+			//Hand books over to UI thread.
+		}
+
+		public void onFailure(DatabaseException databaseException) {
+			//Log it.
+		}
+	});
+
+	}
+ * </pre>
+ */
+public class AsyncDatabase {
+
+	private final Database database;
+	private final DatabaseDescriptor databaseDescriptor;
+
+	AsyncDatabase(final Database database, final DatabaseDescriptor databaseDescriptor) {
+		this.database = database;
+		this.databaseDescriptor = databaseDescriptor;
+	}
+
+	/**
+	 * Save object asynchronously.
+	 * @param callback Callback notified once object is saved, NULL if not needed.
+	 * @return Future which completes once object is saved.
+	 * @throws DatabaseException If operation can not be submitted.
+	 */
+	public Future<Void> save(final IAsyncCallback<Void> callback) throws DatabaseException {
+
+		return DatabaseExecutor.getInstance(databaseDescriptor).submitWrite(new Callable<Void>() {
+
+			public Void call() throws DatabaseException {
+				database.save();
+				return null;
+			}
+		}, callback);
+	}
+
+	/**
+	 * Update object asynchronously.
+	 * @param callback Callback notified once object is updated, NULL if not needed.
+	 * @return Future which completes once object is updated.
+	 * @throws DatabaseException If operation can not be submitted.
+	 */
+	public Future<Void> update(final IAsyncCallback<Void> callback) throws DatabaseException {
+
+		return DatabaseExecutor.getInstance(databaseDescriptor).submitWrite(new Callable<Void>() {
+
+			public Void call() throws DatabaseException {
+				database.update();
+				return null;
+			}
+		}, callback);
+	}
+
+	/**
+	 * Save or update object asynchronously.
+	 * @param callback Callback notified once object is saved or updated, NULL if not needed.
+	 * @return Future which completes once object is saved or updated.
+	 * @throws DatabaseException If operation can not be submitted.
+	 */
+	public Future<Void> saveOrUpdate(final IAsyncCallback<Void> callback) throws DatabaseException {
+
+		return DatabaseExecutor.getInstance(databaseDescriptor).submitWrite(new Callable<Void>() {
+
+			public Void call() throws DatabaseException {
+				database.saveOrUpdate();
+				return null;
+			}
+		}, callback);
+	}
+
+	/**
+	 * Execute unit of work asynchronously within a transaction scope, on writer thread of database. See {@link Database#inTransaction(DatabaseDescriptor, ITransactionWork)}.
+	 * @param work Unit of work.
+	 * @param callback Callback notified once transaction is committed, NULL if not needed.
+	 * @return Future which completes once transaction is committed.
+	 * @throws DatabaseException If operation can not be submitted.
+	 */
+	public Future<Void> inTransaction(final ITransactionWork work, final IAsyncCallback<Void> callback) throws DatabaseException {
+
+		return DatabaseExecutor.getInstance(databaseDescriptor).submitWrite(new Callable<Void>() {
+
+			public Void call() throws DatabaseException {
+				Transaction.execute(databaseDescriptor, work);
+				return null;
+			}
+		}, callback);
+	}
+
+	/**
+	 * Get executor operations of database are submitted to, which exposes queue depth and throughput statistics.
+	 * @return Executor of database.
+	 */
+	public DatabaseExecutor getExecutor() {
+		return DatabaseExecutor.getInstance(databaseDescriptor);
+	}
+}
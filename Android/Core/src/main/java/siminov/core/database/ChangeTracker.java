@@ -0,0 +1,256 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+
+/**
+ * Keeps snapshot of column values of objects loaded from database, for entities which have change tracking enabled.
+ * <p>
+ * Snapshot is taken when object is inflated from tuple, and is compared against current column values on update,
+ * so only changed columns are written. Objects are held weakly and compared by identity, so tracking does not keep
+ * objects alive and does not depend on equals/hashCode of mapped class.
+ * <p>
+ * Snapshot of an object updated within a transaction is only replaced once outermost transaction commits, as tuple keeps its old values if transaction is rolled back.
+ */
+class ChangeTracker {
+
+	private static final Map<ObjectReference, Map<String, Object>> snapshots = new HashMap<ObjectReference, Map<String, Object>>();
+	private static final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<Object>();
+
+	private static final ThreadLocal<Map<String, PendingSnapshots>> currentPendingSnapshots = new ThreadLocal<Map<String, PendingSnapshots>>();
+
+	private ChangeTracker() {
+
+	}
+
+	/**
+	 * Store snapshot of column values for object, replacing any previous snapshot.
+	 * @param object Object loaded from database.
+	 * @param columnValues Column values based on column names.
+	 */
+	static synchronized void track(final Object object, final Map<String, Object> columnValues) {
+		expungeStaleReferences();
+		snapshots.put(new ObjectReference(object, referenceQueue), columnValues);
+	}
+
+	/**
+	 * Store snapshot of column values for object after it is updated. If a transaction is open on database on current thread, snapshot is stored once it commits.
+	 * @param databaseName Name of database of object.
+	 * @param object Updated object.
+	 * @param columnValues Column values based on column names.
+	 */
+	static void trackUpdate(final String databaseName, final Object object, final Map<String, Object> columnValues) {
+
+		Map<String, PendingSnapshots> transactions = currentPendingSnapshots.get();
+		PendingSnapshots pendingSnapshots = transactions != null ? transactions.get(databaseName) : null;
+
+		if(pendingSnapshots == null) {
+			track(object, columnValues);
+			return;
+		}
+
+		pendingSnapshots.snapshots.put(object, columnValues);
+	}
+
+	/**
+	 * Mark transaction as begun on database, on current thread. Nested transactions are counted.
+	 * @param databaseName Name of database.
+	 */
+	static void beginTransaction(final String databaseName) {
+
+		Map<String, PendingSnapshots> transactions = currentPendingSnapshots.get();
+		if(transactions == null) {
+			transactions = new HashMap<String, PendingSnapshots>();
+			currentPendingSnapshots.set(transactions);
+		}
+
+		PendingSnapshots pendingSnapshots = transactions.get(databaseName);
+		if(pendingSnapshots == null) {
+			pendingSnapshots = new PendingSnapshots();
+			transactions.put(databaseName, pendingSnapshots);
+		}
+
+		pendingSnapshots.depth++;
+	}
+
+	/**
+	 * Mark transaction as ended on database, on current thread. Once outermost transaction ends, snapshots of objects updated within it are stored if every transaction was successful, else they are dropped.
+	 * @param databaseName Name of database.
+	 * @param successful TRUE: If transaction was marked successful, FALSE: If it was rolled back.
+	 */
+	static void endTransaction(final String databaseName, final boolean successful) {
+
+		Map<String, PendingSnapshots> transactions = currentPendingSnapshots.get();
+		PendingSnapshots pendingSnapshots = transactions != null ? transactions.get(databaseName) : null;
+
+		if(pendingSnapshots == null) {
+			return;
+		}
+
+		if(!successful) {
+			pendingSnapshots.rolledBack = true;
+		}
+
+		if(--pendingSnapshots.depth > 0) {
+			return;
+		}
+
+		transactions.remove(databaseName);
+		if(transactions.isEmpty()) {
+			currentPendingSnapshots.remove();
+		}
+
+		if(pendingSnapshots.rolledBack) {
+			return;
+		}
+
+		Iterator<Map.Entry<Object, Map<String, Object>>> snapshotsIterator = pendingSnapshots.snapshots.entrySet().iterator();
+		while(snapshotsIterator.hasNext()) {
+			Map.Entry<Object, Map<String, Object>> snapshot = snapshotsIterator.next();
+			track(snapshot.getKey(), snapshot.getValue());
+		}
+	}
+
+	/**
+	 * Drop snapshots of objects updated within transaction of database on current thread, once part of it is rolled back to a savepoint.
+	 * Objects keep their snapshots from before transaction, so their changed columns are written again on next update.
+	 * @param databaseName Name of database.
+	 */
+	static void dropPendingSnapshots(final String databaseName) {
+
+		Map<String, PendingSnapshots> transactions = currentPendingSnapshots.get();
+		PendingSnapshots pendingSnapshots = transactions != null ? transactions.get(databaseName) : null;
+
+		if(pendingSnapshots != null) {
+			pendingSnapshots.snapshots.clear();
+		}
+	}
+
+	/**
+	 * Get snapshot of column values for object.
+	 * @param object Object.
+	 * @return Column values based on column names, NULL if object is not tracked.
+	 */
+	static synchronized Map<String, Object> getSnapshot(final Object object) {
+		expungeStaleReferences();
+		return snapshots.get(new ObjectReference(object, null));
+	}
+
+	/**
+	 * Stop tracking object.
+	 * @param object Object.
+	 */
+	static synchronized void untrack(final Object object) {
+		snapshots.remove(new ObjectReference(object, null));
+	}
+
+	/**
+	 * Check whether column value differs from its snapshot value.
+	 * <p>
+	 * Numbers are compared on their values, as values read from database can be of wider type than attribute.
+	 * @param snapshotValue Column value in snapshot.
+	 * @param columnValue Current column value.
+	 * @return TRUE: If column value is changed, FALSE: If column value is same as snapshot value.
+	 */
+	static boolean isChanged(final Object snapshotValue, final Object columnValue) {
+
+		if(snapshotValue == columnValue) {
+			return false;
+		} else if(snapshotValue == null || columnValue == null) {
+			return true;
+		}
+
+		if(snapshotValue instanceof byte[] && columnValue instanceof byte[]) {
+			return !Arrays.equals((byte[]) snapshotValue, (byte[]) columnValue);
+		}
+
+		if(snapshotValue instanceof Number && columnValue instanceof Number) {
+			if(isFloatingPoint(snapshotValue) || isFloatingPoint(columnValue)) {
+				return ((Number) snapshotValue).doubleValue() != ((Number) columnValue).doubleValue();
+			}
+
+			return ((Number) snapshotValue).longValue() != ((Number) columnValue).longValue();
+		}
+
+		return !snapshotValue.equals(columnValue);
+	}
+
+	private static boolean isFloatingPoint(final Object value) {
+		return value instanceof Float || value instanceof Double;
+	}
+
+	private static void expungeStaleReferences() {
+
+		Reference<? extends Object> reference = referenceQueue.poll();
+		while(reference != null) {
+			snapshots.remove(reference);
+			reference = referenceQueue.poll();
+		}
+	}
+
+
+	/**
+	 * Snapshots of objects updated within transaction of a database on current thread, stored once it commits.
+	 */
+	private static class PendingSnapshots {
+
+		private final Map<Object, Map<String, Object>> snapshots = new IdentityHashMap<Object, Map<String, Object>>();
+
+		private int depth = 0;
+		private boolean rolledBack = false;
+	}
+
+
+	/**
+	 * Weak reference to tracked object, compared based on identity of object.
+	 */
+	private static class ObjectReference extends WeakReference<Object> {
+
+		private final int hashCode;
+
+		private ObjectReference(final Object object, final ReferenceQueue<Object> referenceQueue) {
+			super(object, referenceQueue);
+			this.hashCode = System.identityHashCode(object);
+		}
+
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		public boolean equals(final Object object) {
+
+			if(this == object) {
+				return true;
+			} else if(!(object instanceof ObjectReference)) {
+				return false;
+			}
+
+			Object referent = get();
+			return referent != null && referent == ((ObjectReference) object).get();
+		}
+	}
+}
@@ -18,6 +18,9 @@
 
 package siminov.core.database;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 import siminov.core.database.design.IAverageClause;
 import siminov.core.database.design.ICountClause;
 import siminov.core.database.design.IDeleteClause;
@@ -50,7 +53,10 @@ public class Clause implements ISelectClause, IDeleteClause, ICountClause, ISumC
 	static final String ASC_ORDER_BY = "ASC";
 	static final String DESC_ORDER_BY = "DESC"; 
 	
+	static final String ARGUMENT = "?";
+	
 	private StringBuilder whereClause = new StringBuilder();
+	private Collection<Object> arguments = new ArrayList<Object>();
 	
 	private Where where = null;
 	
@@ -76,7 +82,8 @@ public class Clause implements ISelectClause, IDeleteClause, ICountClause, ISumC
 	 * @return Where object.
 	 */
 	public Where equalTo(Object value) {
-		whereClause.append(EQUAL_TO + " '" + value.toString() + "' ");
+		whereClause.append(EQUAL_TO + " " + ARGUMENT + " ");
+		arguments.add(value);
 		return this.where;
 	}
 
@@ -86,7 +93,8 @@ public class Clause implements ISelectClause, IDeleteClause, ICountClause, ISumC
 	 * @return Where object.
 	 */
 	public Where notEqualTo(Object value) {
-		whereClause.append(NOT_EQUAL_TO + " '" + value + "' ");
+		whereClause.append(NOT_EQUAL_TO + " " + ARGUMENT + " ");
+		arguments.add(value);
 		return this.where;
 	}
 	
@@ -97,7 +105,8 @@ public class Clause implements ISelectClause, IDeleteClause, ICountClause, ISumC
 	 * @return Where object.
 	 */
 	public Where greaterThan(Object value) {
-		whereClause.append(GREATER_THAN + " '" + value + "' ");
+		whereClause.append(GREATER_THAN + " " + ARGUMENT + " ");
+		arguments.add(value);
 		return this.where;
 	}
 	
@@ -108,7 +117,8 @@ public class Clause implements ISelectClause, IDeleteClause, ICountClause, ISumC
 	 * @return Where object.
 	 */
 	public Where greaterThanEqual(Object value) {
-		whereClause.append(GREATER_THAN_EQUAL + " '" + value + "' ");
+		whereClause.append(GREATER_THAN_EQUAL + " " + ARGUMENT + " ");
+		arguments.add(value);
 		return this.where;
 	}
 	
@@ -119,7 +129,8 @@ public class Clause implements ISelectClause, IDeleteClause, ICountClause, ISumC
 	 * @return Where object.
 	 */
 	public Where lessThan(Object value) {
-		whereClause.append(LESS_THAN + " '" + value + "' ");
+		whereClause.append(LESS_THAN + " " + ARGUMENT + " ");
+		arguments.add(value);
 		return this.where;
 	}
 	
@@ -130,7 +141,8 @@ public class Clause implements ISelectClause, IDeleteClause, ICountClause, ISumC
 	 * @return Where object.
 	 */
 	public Where lessThanEqual(Object value) {
-		whereClause.append(LESS_THAN_EQUAL + " '" + value + "' ");
+		whereClause.append(LESS_THAN_EQUAL + " " + ARGUMENT + " ");
+		arguments.add(value);
 		return this.where;
 	}
 
@@ -141,7 +153,9 @@ public class Clause implements ISelectClause, IDeleteClause, ICountClause, ISumC
 	 * @return Where object.
 	 */
 	public Where between(Object start, Object end) {
-		whereClause.append(BETWEEN + " '" + start + "' " + AND + " '" + end + "' ");
+		whereClause.append(BETWEEN + " " + ARGUMENT + " " + AND + " " + ARGUMENT + " ");
+		arguments.add(start);
+		arguments.add(end);
 		return this.where;
 	}
 	
@@ -152,7 +166,8 @@ public class Clause implements ISelectClause, IDeleteClause, ICountClause, ISumC
 	 * @return Where object.
 	 */
 	public Where like(Object like) {
-		whereClause.append(LIKE + " '" + like + "' ");
+		whereClause.append(LIKE + " " + ARGUMENT + " ");
+		arguments.add(like);
 		return this.where;
 	}
 	
@@ -168,11 +183,12 @@ public class Clause implements ISelectClause, IDeleteClause, ICountClause, ISumC
 		if(values != null && values.length > 0) {
 			for(int i = 0;i < values.length;i++) {
 				if(i == 0) {
-					whereClause.append("'" + values[i] + "'");
-					continue;
+					whereClause.append(ARGUMENT);
+				} else {
+					whereClause.append(" ," + ARGUMENT);
 				}
 				
-				whereClause.append(" ,'" + values[i] + "'");
+				arguments.add(values[i]);
 			}
 		} 
 		
@@ -200,7 +216,16 @@ public class Clause implements ISelectClause, IDeleteClause, ICountClause, ISumC
 	
 	
 	/**
-	 * It returns the where clause.
+	 * It returns values to be bound in place of ? placeholders of where clause, in order of their placeholders.
+	 * @return Arguments of where clause.
+	 */
+	Object[] getArguments() {
+		return arguments.toArray();
+	}
+	
+	
+	/**
+	 * It returns the where clause, with ? placeholder in place of each value.
 	 * @return String where clause.
 	 */
 	public String toString() {
@@ -0,0 +1,289 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import siminov.core.Siminov;
+import siminov.core.database.AggregateSpec.Function;
+import siminov.core.database.design.IAsyncCallback;
+import siminov.core.database.design.IAverage;
+import siminov.core.database.design.ICount;
+import siminov.core.database.design.ICursor;
+import siminov.core.database.design.IDelete;
+import siminov.core.database.design.IGroupConcat;
+import siminov.core.database.design.IMax;
+import siminov.core.database.design.IMin;
+import siminov.core.database.design.IQueryBuilder;
+import siminov.core.database.design.ISelect;
+import siminov.core.database.design.ISum;
+import siminov.core.database.design.ITotal;
+import siminov.core.exception.DatabaseException;
+import siminov.core.log.Log;
+import siminov.core.model.EntityDescriptor;
+import siminov.core.model.EntityDescriptor.Relationship;
+import siminov.core.resource.ResourceManager;
+
+
+/**
+ * Query compiled from {@link Where} builder, which can be executed any number of times with new values of its ? placeholders.
+ * <p>
+ * Query is formed, and its operation and joins resolved, only once while compiling. Every execution binds its arguments to same query,
+ * so it is served by prepared statement and row plan caches of database.
+
+ <pre>
+Example:
+
+	{@code
+	CompiledQuery<Book[]> booksOfAuthor = new Book().select().where(Book.AUTHOR).equalTo("").compile();
+
+	Book[] books = booksOfAuthor.execute("Author 1");
+	books = booksOfAuthor.execute("Author 2");
+	}
+	</pre>
+ * @param <T> Type of result of query.
+ */
+public class CompiledQuery<T> {
+
+	/**
+	 * Operation performed by query, resolved once from interface it was built through.
+	 */
+	private enum Operation {
+		SELECT,
+		DELETE,
+		AGGREGATE,
+		GROUP_CONCAT
+	}
+
+	private final EntityDescriptor entityDescriptor;
+	private final Object referObject;
+
+	private final Operation operation;
+
+	private final String whereClause;
+	private final String query;
+
+	private final SelectSpec selectSpec;
+	private final Collection<Relationship> joins;
+
+	private final Object[] arguments;
+	private final int argumentCount;
+
+	/**
+	 * CompiledQuery Constructor
+	 * @param entityDescriptor Entity descriptor of query.
+	 * @param interfaceName Name of interface query was built through.
+	 * @param referObject Object query was built on.
+	 * @param whereClause Where clause.
+	 * @param selectSpec Select specification, used by select.
+	 * @param fetchJoins Refers of relationships fetched through join, used by select.
+	 * @param aggregateSpec Aggregate specification, used by aggregates.
+	 * @param arguments Values of ? placeholders given while building query.
+	 * @throws DatabaseException If query can not be compiled.
+	 */
+	CompiledQuery(final EntityDescriptor entityDescriptor, final String interfaceName, final Object referObject, final String whereClause, final SelectSpec selectSpec, final Collection<String> fetchJoins, final AggregateSpec aggregateSpec, final Object[] arguments) throws DatabaseException {
+
+		Siminov.isActive();
+
+		this.entityDescriptor = entityDescriptor;
+		this.referObject = referObject;
+		this.whereClause = whereClause;
+		this.arguments = arguments.clone();
+
+		this.operation = getOperation(interfaceName, aggregateSpec);
+
+		IQueryBuilder queryBuilder = ResourceManager.getInstance().getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName()).getQueryBuilder();
+		if(this.operation == Operation.SELECT) {
+
+			this.joins = Collections.unmodifiableCollection(DatabaseHelper.getJoins(entityDescriptor, fetchJoins.iterator()));
+			this.selectSpec = DatabaseHelper.formSelectSpec(entityDescriptor, selectSpec.isDistinct(), selectSpec.getWhereClause(), Arrays.asList(selectSpec.getColumnNames()).iterator(), Arrays.asList(selectSpec.getGroupBys()).iterator(), selectSpec.getHaving(), Arrays.asList(selectSpec.getOrderBys()).iterator(), selectSpec.getWhichOrderBy(), selectSpec.getLimit(), this.joins);
+			this.query = queryBuilder.formSelectQuery(this.selectSpec);
+
+			this.argumentCount = countArguments(selectSpec.getWhereClause()) + countArguments(selectSpec.getHaving());
+		} else if(this.operation == Operation.DELETE) {
+
+			this.joins = null;
+			this.selectSpec = null;
+			this.query = queryBuilder.formDeleteQuery(new DeleteSpec(entityDescriptor.getTableName(), whereClause));
+
+			this.argumentCount = countArguments(whereClause);
+		} else {
+
+			aggregateSpec.setTableName(entityDescriptor.getTableName());
+
+			this.joins = null;
+			this.selectSpec = null;
+			this.query = queryBuilder.formAggregateQuery(aggregateSpec);
+
+			this.argumentCount = countArguments(aggregateSpec.getWhereClause()) + countArguments(aggregateSpec.getHaving());
+		}
+	}
+
+	/**
+	 * Get query formed while compiling.
+	 * @return Query having ? placeholders.
+	 */
+	public String getQuery() {
+		return this.query;
+	}
+
+	/**
+	 * Get number of ? placeholders of query, which is number of arguments each execution has to provide.
+	 * @return Number of arguments.
+	 */
+	public int getArgumentCount() {
+		return this.argumentCount;
+	}
+
+	/**
+	 * Execute query. If no argument is provided, values given while building query are used.
+	 * @param arguments Values of ? placeholders, in order they appear in where and having clauses.
+	 * @return Result of query, same as {@link Where#execute()}.
+	 * @throws DatabaseException If number of arguments does not match query, or any error occur while executing query.
+	 */
+	@SuppressWarnings("unchecked")
+	public T execute(final Object...arguments) throws DatabaseException {
+
+		Object[] values = formArguments(arguments);
+
+		if(this.operation == Operation.SELECT) {
+			return (T) DatabaseHelper.select(this.entityDescriptor, null, this.selectSpec, this.joins, this.query, values);
+		} else if(this.operation == Operation.DELETE) {
+			DatabaseHelper.delete(this.referObject, this.whereClause, values);
+			return null;
+		} else if(this.operation == Operation.GROUP_CONCAT) {
+			return (T) DatabaseHelper.groupConcat(this.entityDescriptor, this.query, values);
+		}
+
+		return (T) (Integer) DatabaseHelper.aggregate(this.entityDescriptor, this.query, values);
+	}
+
+	/**
+	 * Execute select query and get cursor over its objects. If no argument is provided, values given while building query are used.
+	 * @param arguments Values of ? placeholders, in order they appear in where and having clauses.
+	 * @return Cursor of objects.
+	 * @throws DatabaseException If query is not a select, number of arguments does not match query, or any error occur while executing query.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public ICursor<T> executeCursor(final Object...arguments) throws DatabaseException {
+
+		if(this.operation != Operation.SELECT) {
+			Log.error(CompiledQuery.class.getName(), "executeCursor", "Cursor is only supported for select, OPERATION: " + this.operation);
+			throw new DatabaseException(CompiledQuery.class.getName(), "executeCursor", "Cursor is only supported for select, OPERATION: " + this.operation);
+		}
+
+		return (ICursor) DatabaseHelper.selectCursor(this.entityDescriptor, null, this.joins, this.query, formArguments(arguments));
+	}
+
+	/**
+	 * Execute query asynchronously on {@link DatabaseExecutor} of its database. Delete is executed on writer thread, other queries on reader threads.
+	 * If no argument is provided, values given while building query are used.
+	 * @param callback Callback notified with result of query, NULL if not needed.
+	 * @param arguments Values of ? placeholders, in order they appear in where and having clauses.
+	 * @return Future of result of query.
+	 * @throws DatabaseException If number of arguments does not match query, or query can not be submitted.
+	 */
+	public Future<T> executeAsync(final IAsyncCallback<T> callback, final Object...arguments) throws DatabaseException {
+
+		final Object[] values = formArguments(arguments);
+		Callable<T> operation = new Callable<T>() {
+
+			public T call() throws DatabaseException {
+				return execute(values);
+			}
+		};
+
+		DatabaseExecutor executor = DatabaseExecutor.getInstance(DatabaseHelper.getDatabaseDescriptor(this.entityDescriptor.getClassName()));
+		if(this.operation == Operation.DELETE) {
+			return executor.submitWrite(operation, callback);
+		}
+
+		return executor.submitRead(operation, callback);
+	}
+
+	private Object[] formArguments(final Object[] arguments) throws DatabaseException {
+
+		if(arguments == null || arguments.length <= 0) {
+			return this.arguments;
+		}
+
+		if(arguments.length != this.argumentCount) {
+			Log.error(CompiledQuery.class.getName(), "formArguments", "Invalid Number Of Arguments: " + arguments.length + ", Expected: " + this.argumentCount + ", QUERY: " + this.query);
+			throw new DatabaseException(CompiledQuery.class.getName(), "formArguments", "Invalid Number Of Arguments: " + arguments.length + ", Expected: " + this.argumentCount + ", QUERY: " + this.query);
+		}
+
+		return arguments;
+	}
+
+	private static Operation getOperation(final String interfaceName, final AggregateSpec aggregateSpec) throws DatabaseException {
+
+		if(interfaceName.equalsIgnoreCase(ISelect.class.getName())) {
+			return Operation.SELECT;
+		} else if(interfaceName.equalsIgnoreCase(IDelete.class.getName())) {
+			return Operation.DELETE;
+		} else if(interfaceName.equalsIgnoreCase(IGroupConcat.class.getName())) {
+			aggregateSpec.setFunction(Function.GROUP_CONCAT);
+			return Operation.GROUP_CONCAT;
+		} else if(interfaceName.equalsIgnoreCase(ICount.class.getName())) {
+			aggregateSpec.setFunction(Function.COUNT);
+		} else if(interfaceName.equalsIgnoreCase(IAverage.class.getName())) {
+			aggregateSpec.setFunction(Function.AVG);
+		} else if(interfaceName.equalsIgnoreCase(ISum.class.getName())) {
+			aggregateSpec.setFunction(Function.SUM);
+		} else if(interfaceName.equalsIgnoreCase(ITotal.class.getName())) {
+			aggregateSpec.setFunction(Function.TOTAL);
+		} else if(interfaceName.equalsIgnoreCase(IMax.class.getName())) {
+			aggregateSpec.setFunction(Function.MAX);
+		} else if(interfaceName.equalsIgnoreCase(IMin.class.getName())) {
+			aggregateSpec.setFunction(Function.MIN);
+		} else {
+			Log.error(CompiledQuery.class.getName(), "getOperation", "Invalid INTERFACE-NAME: " + interfaceName);
+			throw new DatabaseException(CompiledQuery.class.getName(), "getOperation", "Invalid INTERFACE-NAME: " + interfaceName);
+		}
+
+		return Operation.AGGREGATE;
+	}
+
+	/**
+	 * Count ? placeholders of clause, skipping those quoted within string literals.
+	 */
+	private static int countArguments(final String clause) {
+
+		if(clause == null) {
+			return 0;
+		}
+
+		int count = 0;
+		boolean quoted = false;
+
+		for(int i = 0;i < clause.length();i++) {
+			char character = clause.charAt(i);
+			if(character == '\'') {
+				quoted = !quoted;
+			} else if(character == '?' && !quoted) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+}
@@ -17,6 +17,8 @@
 
 package siminov.core.database;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -30,6 +32,7 @@ import siminov.core.database.design.IMin;
 import siminov.core.database.design.ISelect;
 import siminov.core.database.design.ISum;
 import siminov.core.database.design.ITotal;
+import siminov.core.database.design.ITransactionWork;
 import siminov.core.exception.DatabaseException;
 import siminov.core.model.DatabaseDescriptor;
 import siminov.core.model.EntityDescriptor;
@@ -445,6 +448,120 @@ Example: Make Beer Object
 		}
 	}
 
+	
+	/**
+		It adds records of all objects provided, in a single transaction.
+		<p>
+		Insert bind query is compiled once per entity and reused for all of its objects, so it should be used to save large number of objects.
+	
+	   	<pre>
+	   	
+Example: Make Book Objects
+
+	{@code
+
+	Collection<Book> books = new ArrayList<Book>();
+	for(int i = 0;i < 1000;i++) {
+		Book book = new Book();
+		book.setTitle(Book.BOOK_TYPE_C);
+		books.add(book);
+	}
+
+	try {
+		Database.saveAll(books);
+	} catch(DatabaseException de) {
+		//Log it.
+	}
+			
+	}			
+				
+	    </pre>
+	 
+		@param objects Objects which needs to be saved.
+	   	@throws DatabaseException If any error occurs while saving tuples in database.
+	 */
+	public static void saveAll(final Collection<?> objects) throws DatabaseException {
+		DatabaseHelper.saveAll(objects.iterator(), 0);
+	}
+
+	/**
+		It adds records of all objects provided, committing transaction after every chunk size objects.
+		<p>
+		If any error occurs only the current chunk is rolled back, chunks committed before it stay saved.
+
+		@param objects Objects which needs to be saved.
+		@param chunkSize Number of objects to save per transaction, zero to save all objects in a single transaction.
+	   	@throws DatabaseException If any error occurs while saving tuples in database.
+	 */
+	public static void saveAll(final Collection<?> objects, final int chunkSize) throws DatabaseException {
+		DatabaseHelper.saveAll(objects.iterator(), chunkSize);
+	}
+
+	/**
+		It adds records of all objects provided, in a single transaction.
+
+		@param objects Objects which needs to be saved.
+	   	@throws DatabaseException If any error occurs while saving tuples in database.
+	 */
+	public static void saveAll(final Object[] objects) throws DatabaseException {
+		DatabaseHelper.saveAll(Arrays.asList(objects).iterator(), 0);
+	}
+
+	/**
+		It adds records of all objects provided, committing transaction after every chunk size objects.
+
+		@param objects Objects which needs to be saved.
+		@param chunkSize Number of objects to save per transaction, zero to save all objects in a single transaction.
+	   	@throws DatabaseException If any error occurs while saving tuples in database.
+	 */
+	public static void saveAll(final Object[] objects, final int chunkSize) throws DatabaseException {
+		DatabaseHelper.saveAll(Arrays.asList(objects).iterator(), chunkSize);
+	}
+
+	/**
+		It adds records of all objects provided, or updates them if they already exist, in a single transaction.
+		<p>
+		Upsert bind query is compiled once per entity and reused for all of its objects, so it should be used to merge large number of objects, for example while syncing.
+
+		@param objects Objects which needs to be saved or updated.
+	   	@throws DatabaseException If any error occurs while saving tuples in database.
+	 */
+	public static void saveOrUpdateAll(final Collection<?> objects) throws DatabaseException {
+		DatabaseHelper.saveOrUpdateAll(objects.iterator(), 0);
+	}
+
+	/**
+		It adds or updates records of all objects provided, committing transaction after every chunk size objects.
+
+		@param objects Objects which needs to be saved or updated.
+		@param chunkSize Number of objects to save per transaction, zero to save all objects in a single transaction.
+	   	@throws DatabaseException If any error occurs while saving tuples in database.
+	 */
+	public static void saveOrUpdateAll(final Collection<?> objects, final int chunkSize) throws DatabaseException {
+		DatabaseHelper.saveOrUpdateAll(objects.iterator(), chunkSize);
+	}
+
+	/**
+		It adds records of all objects provided, or updates them if they already exist, in a single transaction.
+
+		@param objects Objects which needs to be saved or updated.
+	   	@throws DatabaseException If any error occurs while saving tuples in database.
+	 */
+	public static void saveOrUpdateAll(final Object[] objects) throws DatabaseException {
+		DatabaseHelper.saveOrUpdateAll(Arrays.asList(objects).iterator(), 0);
+	}
+
+	/**
+		It adds or updates records of all objects provided, committing transaction after every chunk size objects.
+
+		@param objects Objects which needs to be saved or updated.
+		@param chunkSize Number of objects to save per transaction, zero to save all objects in a single transaction.
+	   	@throws DatabaseException If any error occurs while saving tuples in database.
+	 */
+	public static void saveOrUpdateAll(final Object[] objects, final int chunkSize) throws DatabaseException {
+		DatabaseHelper.saveOrUpdateAll(Arrays.asList(objects).iterator(), chunkSize);
+	}
+
 	/**
 	It deletes a record from single table in a relational database.
 
@@ -1091,4 +1208,188 @@ Example: Make Beer Object
 	public static void commitTransaction(final DatabaseDescriptor databaseDescriptor) throws DatabaseException {
 		DatabaseHelper.commitTransaction(databaseDescriptor);
 	}
+	
+	
+	/**
+	   Execute unit of work within a transaction scope bound to current thread, which commits once all its work is done.
+	   <p> Saves, updates and deletes made within scope share one commit. Scope opened within another scope of same database is mapped on a savepoint, 
+	   so if it fails only its own changes are rolled back. If database is busy or locked, outermost unit of work is rolled back and executed again, with bounded backoff.
+	   <pre>
+
+Example:
+	{@code
+
+	final Book[] books = ...;
+	
+	Database.inTransaction(databaseDescriptor, new ITransactionWork() {
+		
+		public void execute() throws DatabaseException {
+			for(Book book : books) {
+				book.save();
+			}
+		}
+	});
+	
+	}
+
+	    </pre>
+	 * @param databaseDescriptor Database descriptor of database.
+	 * @param work Unit of work, which may be executed more than once if database is busy.
+	 * @throws DatabaseException If unit of work fails, or database stays busy after all attempts.
+	 */
+	public static void inTransaction(final DatabaseDescriptor databaseDescriptor, final ITransactionWork work) throws DatabaseException {
+		Transaction.execute(databaseDescriptor, work);
+	}
+	
+	
+	/**
+	   Get asynchronous view of invoked object, whose operations are executed on database threads instead of calling thread.
+	   <p> Writes are executed one at a time on writer thread of database, in order they are submitted. See {@link AsyncDatabase}.
+	   <pre>
+
+Example:
+	{@code
+
+	Book cBook = new Book();
+	cBook.setTitle(Book.BOOK_TYPE_C);
+
+	cBook.async().save(null);
+	
+	}
+
+	    </pre>
+	 * @return Asynchronous view of object.
+	 * @throws DatabaseException If no database descriptor is mapped to invoked object.
+	 */
+	public AsyncDatabase async() throws DatabaseException {
+		return new AsyncDatabase(this, getDatabaseDescriptor());
+	}
+	
+	
+	/**
+	   Open a session on current thread, which keeps identity map of objects loaded till it is closed.
+	   <p> While session is open, a tuple loaded more than once resolves to the same object, and parent objects of many-to-one relationships already loaded are not fetched again.
+	   <pre>
+
+Example:
+	{@code
+
+	Session session = Database.openSession();
+	try {
+		Book[] books = new Book().select().execute();
+	} catch(DatabaseException de) {
+		//Log it.
+	} finally {
+		session.close();
+	}
+	
+	}
+
+	    </pre>
+	 * @return Session, which has to be closed by current thread once unit of work is done.
+	 */
+	public static Session openSession() {
+		return Session.open();
+	}
+	
+	
+	/**
+	   Get process wide cache of tuples of entity, which exposes hit, miss and eviction statistics.
+	   <p> Entity is cached only if it defines cache property (lru:N) in its EntityDescriptor.xml.
+	   <pre>
+
+Example:
+	{@code
+
+	EntityCache entityCache = Database.getEntityCache(Book.class);
+	if(entityCache != null) {
+		long hits = entityCache.getHitCount();
+		long misses = entityCache.getMissCount();
+		long evictions = entityCache.getEvictionCount();
+	}
+	
+	}
+
+	    </pre>
+	 * @param classObject Mapped class.
+	 * @return Entity cache, NULL if entity is not cached.
+	 * @throws DatabaseException If no entity descriptor is mapped to class.
+	 */
+	public static EntityCache getEntityCache(final Class<?> classObject) throws DatabaseException {
+		return EntityCache.getEntityCache(DatabaseHelper.getEntityDescriptor(classObject.getName()));
+	}
+	
+	
+	/**
+	   Write all writes buffered by entities which have write_behind enabled in their EntityDescriptor.xml.
+	   <p> It returns once all writes buffered before it was called are written, so following selects see them.
+	   <pre>
+
+Example:
+	{@code
+
+	Event event = new Event();
+	event.setName(Event.APPLICATION_STARTED);
+	event.save();
+
+	Database.flush();
+	
+	}
+
+	    </pre>
+	 */
+	public static void flush() {
+		WriteBehindQueue.flushAll();
+	}
+	
+	
+	/**
+	   Get write behind queue of entity, which exposes pending, coalesced, written and failed write statistics.
+	   <pre>
+
+Example:
+	{@code
+
+	WriteBehindQueue writeBehindQueue = Database.getWriteBehindQueue(Event.class);
+	if(writeBehindQueue != null) {
+		int pending = writeBehindQueue.getPendingCount();
+		long coalesced = writeBehindQueue.getCoalescedCount();
+	}
+	
+	}
+
+	    </pre>
+	 * @param classObject Mapped class.
+	 * @return Write behind queue, NULL if entity does not have write_behind enabled.
+	 * @throws DatabaseException If no entity descriptor is mapped to class.
+	 */
+	public static WriteBehindQueue getWriteBehindQueue(final Class<?> classObject) throws DatabaseException {
+		return WriteBehindQueue.getWriteBehindQueue(DatabaseHelper.getEntityDescriptor(classObject.getName()));
+	}
+	
+	
+	/**
+	   Get cache of select and aggregate results of database, which exposes hit, miss, eviction and invalidation statistics.
+	   <p> Results are cached only if query_cache_size property is defined in DatabaseDescriptor.xml.
+	   Tables written through queries executed directly on database are invalidated as well.
+	   <pre>
+
+Example:
+	{@code
+
+	QueryCache queryCache = Database.getQueryCache(new Book().getDatabaseDescriptor());
+	if(queryCache != null) {
+		long hits = queryCache.getHitCount();
+		queryCache.invalidate("BOOK");
+	}
+	
+	}
+
+	    </pre>
+	 * @param databaseDescriptor Database descriptor.
+	 * @return Query cache, NULL if results of database are not cached.
+	 */
+	public static QueryCache getQueryCache(final DatabaseDescriptor databaseDescriptor) {
+		return ResourceManager.getInstance().getDatabaseBundle(databaseDescriptor.getDatabaseName()).getQueryCache();
+	}
 }
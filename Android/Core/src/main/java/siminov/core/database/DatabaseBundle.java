@@ -27,12 +27,15 @@ import siminov.core.database.design.IQueryBuilder;
  * 	1. Database Instance
  * 	2. Query Builder Instance
  *  3. Data Type Handler Instance
+ *  4. Query Cache Instance, if query cache is enabled for database
  */
 public class DatabaseBundle {
 
 	private IDatabaseImpl database = null;
 	private IQueryBuilder queryBuilder = null;
 	private IDataTypeHandler dataTypeHandler = null;
+	private QueryCache queryCache = null;
+	private QueryTemplates queryTemplates = null;
 	
 	/**
 	 * It returns the database instance
@@ -82,4 +85,36 @@ public class DatabaseBundle {
 	public void setDataTypeHandler(IDataTypeHandler dataTypeHandler) {
 		this.dataTypeHandler = dataTypeHandler;
 	}
+	
+	/**
+	 * It returns the query cache instance.
+	 * @return QueryCache Query cache instance object, NULL if query cache is not enabled for database.
+	 */
+	public QueryCache getQueryCache() {
+		return this.queryCache;
+	}
+	
+	/**
+	 * It sets the query cache instance.
+	 * @param queryCache QueryCache instance object.
+	 */
+	public void setQueryCache(QueryCache queryCache) {
+		this.queryCache = queryCache;
+	}
+	
+	/**
+	 * It returns the query templates instance.
+	 * @return QueryTemplates Query templates instance object.
+	 */
+	public QueryTemplates getQueryTemplates() {
+		return this.queryTemplates;
+	}
+	
+	/**
+	 * It sets the query templates instance.
+	 * @param queryTemplates Query templates instance object.
+	 */
+	public void setQueryTemplates(QueryTemplates queryTemplates) {
+		this.queryTemplates = queryTemplates;
+	}
 }
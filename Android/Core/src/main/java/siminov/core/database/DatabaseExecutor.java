@@ -0,0 +1,377 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import siminov.core.database.design.IAsyncCallback;
+import siminov.core.exception.DatabaseException;
+import siminov.core.log.Log;
+import siminov.core.model.DatabaseDescriptor;
+
+
+/**
+ * Executes asynchronous operations of a database.
+ * <p>
+ * Writes are executed one at a time, in order they are submitted, on a single writer thread, so callers never contend for write lock of database.
+ * Reads are executed on reader_pool_size reader threads if write_ahead_logging is enabled, reading through read connections Android pools in that mode, otherwise on a single reader thread.
+ * <p>
+ * Number of pending operations is bounded by async_queue_size of DatabaseDescriptor.xml. Once it is reached, caller submitting operation waits till one completes.
+ */
+public class DatabaseExecutor {
+
+	private static final long SHUTDOWN_TIMEOUT = 30;
+
+	private static final ConcurrentMap<String, DatabaseExecutor> executors = new ConcurrentHashMap<String, DatabaseExecutor>();
+
+	private final String databaseName;
+
+	private final ThreadPoolExecutor writer;
+	private final ThreadPoolExecutor readers;
+
+	private final int queueSize;
+	private final Semaphore permits;
+
+	private final AtomicInteger pendingWrites = new AtomicInteger();
+	private final AtomicInteger pendingReads = new AtomicInteger();
+	private final AtomicInteger peakQueueDepth = new AtomicInteger();
+
+	private final AtomicLong completedWrites = new AtomicLong();
+	private final AtomicLong completedReads = new AtomicLong();
+	private final AtomicLong failedOperations = new AtomicLong();
+	private final AtomicLong blockedSubmits = new AtomicLong();
+
+	private DatabaseExecutor(final DatabaseDescriptor databaseDescriptor) {
+
+		this.databaseName = databaseDescriptor.getDatabaseName();
+
+		int readerThreads = 1;
+		if(databaseDescriptor.isWriteAheadLoggingEnable()) {
+			readerThreads = Math.max(1, databaseDescriptor.getReaderPoolSize());
+		}
+
+		this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), new DatabaseThreadFactory(databaseName + "-writer"));
+		this.readers = new ThreadPoolExecutor(readerThreads, readerThreads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), new DatabaseThreadFactory(databaseName + "-reader"));
+
+		this.queueSize = databaseDescriptor.getAsyncQueueSize();
+		this.permits = new Semaphore(this.queueSize);
+	}
+
+	/**
+	 * Get executor of database. Executor is created on first use, and lives till SIMINOV is shutdown.
+	 * @param databaseDescriptor Database descriptor.
+	 * @return Executor of database.
+	 */
+	public static DatabaseExecutor getInstance(final DatabaseDescriptor databaseDescriptor) {
+
+		DatabaseExecutor executor = executors.get(databaseDescriptor.getDatabaseName());
+		if(executor != null) {
+			return executor;
+		}
+
+		executor = new DatabaseExecutor(databaseDescriptor);
+
+		DatabaseExecutor existingExecutor = executors.putIfAbsent(databaseDescriptor.getDatabaseName(), executor);
+		if(existingExecutor != null) {
+			executor.shutdownNow();
+			return existingExecutor;
+		}
+
+		return executor;
+	}
+
+	/**
+	 * Stop accepting operations on all databases, and wait for pending operations to complete. It is called by SIMINOV while shutting down.
+	 */
+	public static void shutdownAll() {
+
+		Iterator<DatabaseExecutor> databaseExecutors = executors.values().iterator();
+		while(databaseExecutors.hasNext()) {
+			DatabaseExecutor executor = databaseExecutors.next();
+			executor.shutdown();
+
+			databaseExecutors.remove();
+		}
+	}
+
+	/**
+	 * Submit read operation.
+	 * @param operation Operation.
+	 * @param callback Callback notified once operation completes, NULL if not needed.
+	 * @return Future of result of operation.
+	 * @throws DatabaseException If executor is shutdown, or caller is interrupted while waiting for space in queue.
+	 */
+	<T> Future<T> submitRead(final Callable<T> operation, final IAsyncCallback<T> callback) throws DatabaseException {
+		return submit(this.readers, this.pendingReads, this.completedReads, operation, callback);
+	}
+
+	/**
+	 * Submit write operation. Writes are executed in order they are submitted.
+	 * @param operation Operation.
+	 * @param callback Callback notified once operation completes, NULL if not needed.
+	 * @return Future of result of operation.
+	 * @throws DatabaseException If executor is shutdown, or caller is interrupted while waiting for space in queue.
+	 */
+	<T> Future<T> submitWrite(final Callable<T> operation, final IAsyncCallback<T> callback) throws DatabaseException {
+		return submit(this.writer, this.pendingWrites, this.completedWrites, operation, callback);
+	}
+
+	private <T> Future<T> submit(final ThreadPoolExecutor executor, final AtomicInteger pending, final AtomicLong completed, final Callable<T> operation, final IAsyncCallback<T> callback) throws DatabaseException {
+
+		if(!permits.tryAcquire()) {
+			blockedSubmits.incrementAndGet();
+
+			try {
+				permits.acquire();
+			} catch(InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+
+				Log.error(DatabaseExecutor.class.getName(), "submit", "InterruptedException caught while waiting for space in queue, DATABASE-NAME: " + databaseName);
+				throw new DatabaseException(DatabaseExecutor.class.getName(), "submit", "InterruptedException caught while waiting for space in queue, DATABASE-NAME: " + databaseName);
+			}
+		}
+
+		pending.incrementAndGet();
+		updatePeakQueueDepth();
+
+		OperationTask<T> task = new OperationTask<T>(new Operation<T>(operation, callback), pending, completed);
+
+		try {
+			executor.execute(task);
+			return task;
+		} catch(RejectedExecutionException rejectedExecutionException) {
+			pending.decrementAndGet();
+			permits.release();
+
+			Log.error(DatabaseExecutor.class.getName(), "submit", "Executor Is Shutdown, DATABASE-NAME: " + databaseName);
+			throw new DatabaseException(DatabaseExecutor.class.getName(), "submit", "Executor Is Shutdown, DATABASE-NAME: " + databaseName);
+		}
+	}
+
+	private void updatePeakQueueDepth() {
+
+		int queueDepth = getQueueDepth();
+		int peak = peakQueueDepth.get();
+		while(queueDepth > peak && !peakQueueDepth.compareAndSet(peak, queueDepth)) {
+			peak = peakQueueDepth.get();
+		}
+	}
+
+	private void shutdown() {
+
+		writer.shutdown();
+		readers.shutdown();
+
+		try {
+			if(!writer.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS) || !readers.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+				Log.error(DatabaseExecutor.class.getName(), "shutdown", "Pending Operations Did Not Complete, DATABASE-NAME: " + databaseName + ", PENDING-WRITES: " + pendingWrites.get() + ", PENDING-READS: " + pendingReads.get());
+			}
+		} catch(InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			Log.error(DatabaseExecutor.class.getName(), "shutdown", "InterruptedException caught while waiting for pending operations, DATABASE-NAME: " + databaseName);
+		}
+	}
+
+	private void shutdownNow() {
+		writer.shutdownNow();
+		readers.shutdownNow();
+	}
+
+	/**
+	 * Get maximum number of operations which can be pending, as per async_queue_size defined in DatabaseDescriptor.xml.
+	 * @return Size of queue.
+	 */
+	public int getQueueSize() {
+		return this.queueSize;
+	}
+
+	/**
+	 * Get number of operations submitted and not yet completed.
+	 * @return Depth of queue.
+	 */
+	public int getQueueDepth() {
+		return this.queueSize - this.permits.availablePermits();
+	}
+
+	/**
+	 * Get highest depth queue has reached.
+	 * @return Peak depth of queue.
+	 */
+	public int getPeakQueueDepth() {
+		return this.peakQueueDepth.get();
+	}
+
+	/**
+	 * Get number of writes submitted and not yet completed.
+	 * @return Pending writes.
+	 */
+	public int getPendingWriteCount() {
+		return this.pendingWrites.get();
+	}
+
+	/**
+	 * Get number of reads submitted and not yet completed.
+	 * @return Pending reads.
+	 */
+	public int getPendingReadCount() {
+		return this.pendingReads.get();
+	}
+
+	/**
+	 * Get number of writes completed, successfully or not.
+	 * @return Completed writes.
+	 */
+	public long getCompletedWriteCount() {
+		return this.completedWrites.get();
+	}
+
+	/**
+	 * Get number of reads completed, successfully or not.
+	 * @return Completed reads.
+	 */
+	public long getCompletedReadCount() {
+		return this.completedReads.get();
+	}
+
+	/**
+	 * Get number of operations which failed.
+	 * @return Failed operations.
+	 */
+	public long getFailedCount() {
+		return this.failedOperations.get();
+	}
+
+	/**
+	 * Get number of times caller had to wait because queue was full.
+	 * @return Blocked submits.
+	 */
+	public long getBlockedSubmitCount() {
+		return this.blockedSubmits.get();
+	}
+
+
+	/**
+	 * Future of operation, which frees its place in queue once it completes, fails or is cancelled, even if it is cancelled before it runs.
+	 */
+	private class OperationTask<T> extends FutureTask<T> {
+
+		private final AtomicInteger pending;
+		private final AtomicLong completed;
+
+		private OperationTask(final Operation<T> operation, final AtomicInteger pending, final AtomicLong completed) {
+			super(operation);
+
+			this.pending = pending;
+			this.completed = completed;
+		}
+
+		protected void done() {
+			pending.decrementAndGet();
+			completed.incrementAndGet();
+			permits.release();
+		}
+	}
+
+
+	/**
+	 * Runs operation on executor thread, and notifies callback.
+	 */
+	private class Operation<T> implements Callable<T> {
+
+		private final Callable<T> operation;
+		private final IAsyncCallback<T> callback;
+
+		private Operation(final Callable<T> operation, final IAsyncCallback<T> callback) {
+			this.operation = operation;
+			this.callback = callback;
+		}
+
+		public T call() throws Exception {
+
+			T result = null;
+			Exception exception = null;
+			DatabaseException databaseException = null;
+
+			try {
+				result = operation.call();
+			} catch(DatabaseException operationException) {
+				exception = operationException;
+				databaseException = operationException;
+			} catch(Exception operationException) {
+				exception = operationException;
+				databaseException = new DatabaseException(DatabaseExecutor.class.getName(), "call", "Exception caught while executing operation, DATABASE-NAME: " + databaseName + ", " + operationException.getMessage());
+			}
+
+			if(exception != null) {
+				failed(databaseException);
+				throw exception;
+			}
+
+			if(callback != null) {
+				callback.onSuccess(result);
+			}
+
+			return result;
+		}
+
+		private void failed(final DatabaseException databaseException) {
+
+			failedOperations.incrementAndGet();
+			Log.error(DatabaseExecutor.class.getName(), "call", "Operation Failed, DATABASE-NAME: " + databaseName + ", " + databaseException.getMessage());
+
+			if(callback != null) {
+				callback.onFailure(databaseException);
+			}
+		}
+	}
+
+
+	/**
+	 * Creates named daemon threads of database, so they can be told apart while debugging and do not keep process alive.
+	 */
+	private static class DatabaseThreadFactory implements ThreadFactory {
+
+		private final String name;
+		private final AtomicInteger count = new AtomicInteger();
+
+		private DatabaseThreadFactory(final String name) {
+			this.name = name;
+		}
+
+		public Thread newThread(final Runnable runnable) {
+
+			Thread thread = new Thread(runnable, "Siminov-" + name + "-" + count.incrementAndGet());
+			thread.setDaemon(true);
+
+			return thread;
+		}
+	}
+}
@@ -17,8 +17,9 @@
 
 package siminov.core.database;
 
-import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import siminov.core.database.design.IDataTypeHandler;
 import siminov.core.database.design.IDatabaseImpl;
@@ -31,16 +32,24 @@ import siminov.core.utils.ClassUtils;
 /**
  * Exposes methods to create database instance based on Database Type needed. 
  * It has methods to GET DatabaseFactory, GET Database.
+ * <p>
+ * It is safe to use from multiple threads, database bundles are read without locking.
  */
 public class DatabaseFactory {
 
-	private static DatabaseFactory databaseFactory = null;
-	private Hashtable<String, DatabaseBundle> databaseBundles = new Hashtable<String, DatabaseBundle> ();
+	private final ConcurrentMap<String, DatabaseBundle> databaseBundles = new ConcurrentHashMap<String, DatabaseBundle>();
 
-	private String DATABASE_PACKAGE_NAME = "siminov.core.database";
-	private String DATABASE_CLASS_NAME = "DatabaseImpl";
-	private String DATABASE_QUERY_BUILDER = "QueryBuilder";
-	private String DATABASE_DATA_TYPE_HANDLER = "DataTypeHandler";
+	private static final String DATABASE_PACKAGE_NAME = "siminov.core.database";
+	private static final String DATABASE_CLASS_NAME = "DatabaseImpl";
+	private static final String DATABASE_QUERY_BUILDER = "QueryBuilder";
+	private static final String DATABASE_DATA_TYPE_HANDLER = "DataTypeHandler";
+	
+	/**
+	 * Holds singleton instance, which is created by class loader on first use of holder.
+	 */
+	private static class Holder {
+		private static final DatabaseFactory INSTANCE = new DatabaseFactory();
+	}
 	
 	/**
 	 * Database Factory Private Constructor
@@ -54,11 +63,7 @@ public class DatabaseFactory {
 	 * @return DatabaseFactory Instance.
 	 */
 	public static DatabaseFactory getInstance() {
-		if(databaseFactory == null) {
-			databaseFactory = new DatabaseFactory();
-		}	
-		
-		return databaseFactory;
+		return Holder.INSTANCE;
 	}
 	
 	/**
@@ -68,15 +73,28 @@ public class DatabaseFactory {
 	 * @throws DatabaseException If not able to create IDatabase instance.
 	 */
 	public DatabaseBundle getDatabaseBundle(final DatabaseDescriptor databaseDescriptor) {
-		if(databaseBundles.containsKey(databaseDescriptor.getDatabaseName())) {
-			return databaseBundles.get(databaseDescriptor.getDatabaseName());
+		DatabaseBundle existingDatabaseBundle = databaseBundles.get(databaseDescriptor.getDatabaseName());
+		if(existingDatabaseBundle != null) {
+			return existingDatabaseBundle;
 		}
 
 		String type = databaseDescriptor.getType();
 		String packageName = DATABASE_PACKAGE_NAME + "." + type;
 
 		DatabaseBundle databaseBundle = getDatabaseBundle(packageName);
-		databaseBundles.put(databaseDescriptor.getDatabaseName(), databaseBundle);
+		
+		int queryCacheSize = databaseDescriptor.getQueryCacheSize();
+		if(queryCacheSize > 0) {
+			databaseBundle.setQueryCache(new QueryCache(queryCacheSize, databaseDescriptor.getQueryCacheTtl(), databaseDescriptor.isQueryCacheMetricsEnable()));
+		}
+		
+		/*
+		 * Bundle created by thread which loses race is never opened, so it is just dropped.
+		 */
+		existingDatabaseBundle = databaseBundles.putIfAbsent(databaseDescriptor.getDatabaseName(), databaseBundle);
+		if(existingDatabaseBundle != null) {
+			return existingDatabaseBundle;
+		}
 		
 		return databaseBundle;
 	}
@@ -114,6 +132,7 @@ public class DatabaseFactory {
 		databaseBundle.setDatabase(database);
 		databaseBundle.setQueryBuilder(queryBuilder);
 		databaseBundle.setDataTypeHandler(dataTypeHandler);
+		databaseBundle.setQueryTemplates(new QueryTemplates(queryBuilder));
 		
 		return databaseBundle;
 	}
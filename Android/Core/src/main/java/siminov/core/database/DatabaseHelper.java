@@ -20,22 +20,39 @@ package siminov.core.database;
 
 import java.io.File;
 import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import siminov.core.Constants;
 import siminov.core.Siminov;
+import siminov.core.database.AggregateSpec.Function;
+import siminov.core.database.SelectSpec.Join;
+import siminov.core.database.design.ICursor;
 import siminov.core.database.design.IDataTypeHandler;
 import siminov.core.database.design.IDatabaseImpl;
+import siminov.core.database.design.IEntityMapper;
 import siminov.core.database.design.IQueryBuilder;
+import siminov.core.database.design.IStatement;
+import siminov.core.database.design.ITransactionWork;
 import siminov.core.events.IDatabaseEvents;
 import siminov.core.exception.DatabaseException;
 import siminov.core.exception.DeploymentException;
+import siminov.core.exception.SiminovCriticalException;
 import siminov.core.exception.SiminovException;
 import siminov.core.log.Log;
 import siminov.core.model.DatabaseDescriptor;
@@ -43,6 +60,7 @@ import siminov.core.model.EntityDescriptor;
 import siminov.core.model.EntityDescriptor.Attribute;
 import siminov.core.model.EntityDescriptor.Index;
 import siminov.core.model.EntityDescriptor.Relationship;
+import siminov.core.model.EntityDescriptor.RelationshipType;
 import siminov.core.resource.ResourceManager;
 import siminov.core.utils.ClassUtils;
 
@@ -53,8 +71,48 @@ import siminov.core.utils.ClassUtils;
  */
 public abstract class DatabaseHelper implements Constants {
 
+	/**
+	 * Maximum number of ? placeholders SQLite allows in a single query.
+	 */
+	private static final int SQLITE_MAX_VARIABLE_NUMBER = 999;
+	
+	/**
+	 * Whitespace ignored while comparing where clauses. It is compiled once, as it is matched on every select.
+	 */
+	private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+	
+	/**
+	 * Table written by an insert, replace, update or delete statement executed directly on database.
+	 */
+	private static final Pattern WRITTEN_TABLE_PATTERN = Pattern.compile("^\\s*;?\\s*(?:(?:INSERT|REPLACE)(?:\\s+OR\\s+\\w+)?\\s+INTO|UPDATE(?:\\s+OR\\s+\\w+)?|DELETE\\s+FROM)\\s+([^\\s(]+)", Pattern.CASE_INSENSITIVE);
+	
+	/**
+	 * Quotes around identifiers.
+	 */
+	private static final Pattern QUOTE_PATTERN = Pattern.compile("[\"'`\\[\\]]");
+	
+	/**
+	 * Statements executed directly on database which do not change any tuple.
+	 */
+	private static final Pattern READ_QUERY_PATTERN = Pattern.compile("^\\s*;?\\s*(?:SELECT|PRAGMA|SAVEPOINT|RELEASE|ROLLBACK|BEGIN|COMMIT|END|EXPLAIN|ANALYZE)\\b", Pattern.CASE_INSENSITIVE);
+
 	private static ResourceManager resourceManager = ResourceManager.getInstance();
 
+	/**
+	 * Identity column names of entities, based on plan of entity descriptor. Plans are held weakly, so column names are dropped with plans which are compiled again.
+	 */
+	private static final Map<EntityDescriptor.Plan, String[]> identityColumnNamesBasedOnPlan = Collections.synchronizedMap(new WeakHashMap<EntityDescriptor.Plan, String[]>());
+	
+	/**
+	 * Entities whose tables refer table of an entity, directly or through other refering entities. Entity descriptors are held weakly, same as plans.
+	 */
+	private static final Map<EntityDescriptor, EntityDescriptor[]> referingEntityDescriptors = Collections.synchronizedMap(new WeakHashMap<EntityDescriptor, EntityDescriptor[]>());
+	
+	/**
+	 * Set while an entity write of this class executes, whose caches are invalidated by its caller tuple by tuple, instead of whole table.
+	 */
+	private static final ThreadLocal<Boolean> entityWrite = new ThreadLocal<Boolean>();
+
 	
 	/**
 	 * It is used to create instance of IDatabase implementation.
@@ -231,7 +289,7 @@ public abstract class DatabaseHelper implements Constants {
 	public static void upgradeTable(final EntityDescriptor entityDescriptor) throws DatabaseException {
 
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
 		
 		IDatabaseImpl database = databaseBundle.getDatabase();
 		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
@@ -494,7 +552,7 @@ Example:
 		 */
 
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
 
 		IDatabaseImpl database = databaseBundle.getDatabase();
 		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
@@ -774,7 +832,7 @@ Example:
 
 		
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
 		
 		IDatabaseImpl database = databaseBundle.getDatabase();
 		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
@@ -791,6 +849,7 @@ Example:
 		parameters.put(IQueryBuilder.FORM_DROP_TABLE_QUERY_TABLE_NAME_PARAMETER, tableName);
 
 		database.executeQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, queryBuilder.formDropTableQuery(parameters));
+		invalidateCaches(entityDescriptor, null);
 		
 		IDatabaseEvents databaseEventHandler = resourceManager.getDatabaseEventHandler();
 		if(databaseEventHandler != null) {
@@ -868,7 +927,7 @@ Example:
 	static void createIndex(final EntityDescriptor entityDescriptor, final String indexName, final Iterator<String> columnNames, final boolean isUnique) throws DatabaseException {
 		
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
 		
 		IDatabaseImpl database = databaseBundle.getDatabase();
 		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
@@ -937,7 +996,7 @@ Example:
 		Siminov.isActive();
 
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
 
 		IDatabaseImpl database = databaseBundle.getDatabase();
 		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
@@ -1003,6 +1062,7 @@ Example:
 		file.delete();
 		
 		resourceManager.removeDatabaseBundle(databaseDescriptor.getDatabaseName());
+		EntityCache.clearAll();
 		
 		IDatabaseEvents databaseEventHandler = resourceManager.getDatabaseEventHandler();
 		if(databaseEventHandler != null) {
@@ -1062,6 +1122,7 @@ Example: Make Beer Object
 		}
 		
 		database.executeMethod(SQLITE_DATABASE_BEGIN_TRANSACTION, null);
+		transactionBegan(databaseDescriptor);
 	}
 	
 	/**
@@ -1118,11 +1179,44 @@ Example: Make Beer Object
 		} catch(DatabaseException databaseException) {
 			Log.error(DatabaseHelper.class.getName(), "commitTransaction", "DatabaseException caught while executing end transaction method, " + databaseException.getMessage());
 			throw new DeploymentException(DatabaseHelper.class.getName(), "commitTransaction", databaseException.getMessage());
+		} finally {
+			transactionEnded(databaseDescriptor, true);
+		}
+	}
+
+	/**
+	 * Notify caches of database that a transaction began on it, so they neither serve nor cache results which may contain uncommitted tuples.
+	 * @param databaseDescriptor Database descriptor of database.
+	 */
+	static void transactionBegan(final DatabaseDescriptor databaseDescriptor) {
+		
+		QueryCache queryCache = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName()).getQueryCache();
+		if(queryCache != null) {
+			queryCache.beginTransaction();
+		}
+		
+		EntityCache.beginTransaction(databaseDescriptor.getDatabaseName());
+		ChangeTracker.beginTransaction(databaseDescriptor.getDatabaseName());
+	}
+
+	/**
+	 * Notify caches of database that a transaction ended on it, either committed or rolled back.
+	 * @param databaseDescriptor Database descriptor of database.
+	 * @param successful TRUE: If transaction was marked successful, FALSE: If it was rolled back.
+	 */
+	static void transactionEnded(final DatabaseDescriptor databaseDescriptor, final boolean successful) {
+		
+		QueryCache queryCache = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName()).getQueryCache();
+		if(queryCache != null) {
+			queryCache.endTransaction();
 		}
+		
+		EntityCache.endTransaction(databaseDescriptor.getDatabaseName());
+		ChangeTracker.endTransaction(databaseDescriptor.getDatabaseName(), successful);
 	}
 
 	
-	static Object[] select(final Object object, final Object parentObject, final EntityDescriptor entityDescriptor, final boolean distinct, final String whereClause, final Iterator<String> columnNames, final Iterator<String> groupBy, final String having, final Iterator<String> orderBy, final String whichOrderBy, final String limit) throws DatabaseException {
+	static Object[] select(final Object object, final Object parentObject, final EntityDescriptor entityDescriptor, final boolean distinct, final String whereClause, final Iterator<String> columnNames, final Iterator<String> groupBy, final String having, final Iterator<String> orderBy, final String whichOrderBy, final String limit, final Iterator<String> fetchJoins, final Object[] arguments) throws DatabaseException {
 		/*
 		 * 1. Get entity descriptor object for mapped invoked class object.
 		 * 2. Traverse group by's and form a single string.
@@ -1138,7 +1232,7 @@ Example: Make Beer Object
 		 * 1. Get entity descriptor object for mapped invoked class object.
 		 */
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
 		
 		IDatabaseImpl database = databaseBundle.getDatabase();
 		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
@@ -1152,266 +1246,982 @@ Example: Make Beer Object
 		 * 4. Pass all parameters to executeFetchQuery and get cursor.
 		 */
 
-		Map<String, Object> parameters = new HashMap<String, Object> ();
-		parameters.put(IQueryBuilder.FORM_SELECT_QUERY_TABLE_NAME_PARAMETER, entityDescriptor.getTableName());
-		parameters.put(IQueryBuilder.FORM_SELECT_QUERY_DISTINCT_PARAMETER, distinct);
-		parameters.put(IQueryBuilder.FORM_SELECT_QUERY_WHERE_CLAUSE_PARAMETER, whereClause);
-		parameters.put(IQueryBuilder.FORM_SELECT_QUERY_COLUMN_NAMES_PARAMETER, columnNames);
-		parameters.put(IQueryBuilder.FORM_SELECT_QUERY_GROUP_BYS_PARAMETER, groupBy);
-		parameters.put(IQueryBuilder.FORM_SELECT_QUERY_HAVING_PARAMETER, having);
-		parameters.put(IQueryBuilder.FORM_SELECT_QUERY_ORDER_BYS_PARAMETER, orderBy);
-		parameters.put(IQueryBuilder.FORM_SELECT_QUERY_WHICH_ORDER_BY_PARAMETER, whichOrderBy);
-		parameters.put(IQueryBuilder.FORM_SELECT_QUERY_LIMIT_PARAMETER, limit);
-		
-		
-		Iterator<Map<String, Object>> datas = database.executeSelectQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, queryBuilder.formSelectQuery(parameters));
-		Collection<Map<String, Object>> datasBundle = new LinkedList<Map<String,Object>>();
-		while(datas.hasNext()) {
-			datasBundle.add(datas.next());
+		Collection<Relationship> joins = getJoins(entityDescriptor, fetchJoins);
+		SelectSpec selectSpec = formSelectSpec(entityDescriptor, distinct, whereClause, columnNames, groupBy, having, orderBy, whichOrderBy, limit, joins);
+		
+		return select(entityDescriptor, parentObject, selectSpec, joins, queryBuilder.formSelectQuery(selectSpec), arguments);
+	}
+	
+	
+	/**
+	 	Execute select query already formed from select specification, and inflate its tuples along with their relationships.
+	 	
+	 	@param entityDescriptor Entity Descriptor of mapped table.
+	 	@param parentObject Object whose relationship is being fetched, NULL if none.
+	 	@param selectSpec Specification query was formed from.
+	 	@param joins Relationships fetched through join.
+	 	@param query Select query.
+	 	@param arguments Values of ? placeholders.
+	 	@return Objects.
+	 	@throws DatabaseException If any error occur while fetching tuples.
+	 */
+	static Object[] select(final EntityDescriptor entityDescriptor, final Object parentObject, final SelectSpec selectSpec, final Collection<Relationship> joins, final String query, final Object[] arguments) throws DatabaseException {
+		
+		Collection<String> tableNames = new ArrayList<String>();
+		tableNames.add(entityDescriptor.getTableName());
+		
+		Iterator<Relationship> joinsIterator = joins.iterator();
+		while(joinsIterator.hasNext()) {
+			tableNames.add(joinsIterator.next().getReferedEntityDescriptor().getTableName());
 		}
 		
-		Iterator<Object> tuples = parseAndInflateData(object, parentObject, entityDescriptor, datasBundle.iterator());
-		datas = datasBundle.iterator();	
+		List<Object> tuples = new ArrayList<Object>();
+		List<Map<String, Object>> datas = new ArrayList<Map<String, Object>>();
 		
-		/*
-		 * 5. Pass got cursor and mapped entity descriptor object for invoked class object, and pass it parseCursor method which will return all tuples in form of actual objects.
-		 */
-		Collection<Object> tuplesCollection = new LinkedList<Object> ();
-		if(object != null) {
+		EntityCache entityCache = EntityCache.getEntityCache(entityDescriptor);
+		if(entityCache != null && joins.isEmpty() && isPrimaryKeyLookup(entityDescriptor, selectSpec, arguments)) {
 			
-			while(tuples.hasNext() && datas.hasNext()) {
-				Object tuple = tuples.next();
-				Map<String, Object> data = datas.next();
-				
-				tuplesCollection.add(tuple);
-				
-				//processOneToOneRelationship(tuple, parentObject);
-				//processOneToManyRelationship(tuple, parentObject);
-
-				//processManyToOneRelationship(tuple, parentObject, data);
-				//processManyToManyRelationship(tuple, parentObject, data);
-				
-				RelationshipHelper.processRelationship(tuple, parentObject);
-				RelationshipHelper.processRelationship(tuple, parentObject, data);
+			/*
+			 * Tuple is looked up on its primary key, serve it from entity cache.
+			 */
+			List<String> key = RelationshipHelper.formKey(arguments);
+			
+			Map<String, Object> data = entityCache.get(key);
+			if(data != null) {
+				tuples.add(inflateData(entityDescriptor.getClassObject(), entityDescriptor, data));
+				datas.add(data);
+			} else {
+				long generation = entityCache.getGeneration();
 				
+				fetch(entityDescriptor, query, arguments, tableNames, tuples, datas);
+				if(datas.size() == 1) {
+					entityCache.put(key, datas.get(0), generation);
+				}
 			}
+		} else {
+			fetch(entityDescriptor, query, arguments, tableNames, tuples, datas);
 		}
 		
-		Class<?> classObject = null;
-		try {
-			classObject = Class.forName(entityDescriptor.getClassName());
-		} catch(Exception exception) {
-			Log.error(DatabaseHelper.class.getName(), "select", "Exception caught while making class object for return type, ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
-			throw new DatabaseException(DatabaseHelper.class.getName(), "select", "Exception caught while making class object for return type, ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
-		}
-		
-		Object returnType = Array.newInstance(classObject, tuplesCollection.size());
-		Iterator<Object> tuplesIterator = tuplesCollection.iterator();
-		
-		int index = 0;
-		while(tuplesIterator.hasNext()) {
-			Array.set(returnType, index++, tuplesIterator.next());
-		}
+		/*
+		 * 5. Pass got cursor and mapped entity descriptor object for invoked class object, and pass it parseCursor method which will return all tuples in form of actual objects.
+		 */
+		inflateJoins(entityDescriptor, joins, tuples, datas);
+		RelationshipHelper.processRelationships(entityDescriptor, tuples, datas, parentObject != null ? parentObject.getClass().getName() : null, joins);
 		
-		Object[] returnTypes = (Object[]) returnType;
-		return returnTypes;
+		Object[] returnTypes = (Object[]) Array.newInstance(entityDescriptor.getClassObject(), tuples.size());
+		return tuples.toArray(returnTypes);
 	}
 
 	
 	/**
-	 	Returns all tuples based on manual query from mapped table for invoked class object.
-	 
-	 	<pre>
+	 	Fetch tuples of mapped table based on where clause and inflate them, without processing their relationships.
 	 	
-Example:
-	
-	{@code
-	
-	String query = "SELECT * FROM BOOK";
-	
-	Book[] books = null;
-	try {
-		books = new Book().select(query);
-	} catch(DatabaseException de) {
-		//Log it.
-	}
-	 		
-	} 			
-	 	</pre>
-	
-	 	@param query Manual query on which tuples need to be fetched.
-	 	@return Array Of Objects.
-	 	@throws DatabaseException If any error occur while getting tuples from a single table.
+	 	@param entityDescriptor Entity Descriptor of mapped table.
+	 	@param whereClause Where clause having ? placeholders.
+	 	@param arguments Values of ? placeholders.
+	 	@param tuples Inflated objects are added to it.
+	 	@param datas Tuples read from database are added to it, in same order as objects.
+	 	@throws DatabaseException If any error occur while fetching tuples.
 	 */
-	static Object[] select(final Object object, final String query) throws DatabaseException {
-		Siminov.isActive();
-		
-		/*
-		 * 1. Get entity descriptor object for mapped invoked class object.
-		 */
-		
-		//EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
-		query.trim();
-		String tableName = query.substring(query.indexOf(Constants.DATABASE_QUERY_FROM_TABLE_INDEX) + 5, query.length());
-		if(tableName.indexOf(" ") != -1) {
-			tableName = tableName.substring(0, tableName.indexOf(" "));
-		}
+	private static void select(final EntityDescriptor entityDescriptor, final String whereClause, final Object[] arguments, final List<Object> tuples, final List<Map<String, Object>> datas) throws DatabaseException {
 		
-		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptorBasedOnTableName(tableName);
+		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
 		
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
 		IDatabaseImpl database = databaseBundle.getDatabase();
 
 		if(database == null) {
-			Log.error(DatabaseHelper.class.getName(), "select", "No Database Instance Found For ENTITY-DESCRIPTOR: " + tableName);
-			throw new DeploymentException(DatabaseHelper.class.getName(), "select", "No Database Instance Found For ENTITY-DESCRIPTOR: " + tableName);
-		}
-		
-		/*
-		 * 4. Pass all parameters to executeFetchQuery and get cursor.
-		 */
-		Iterator<Object> tuples = parseAndInflateData(object, null, null, database.executeSelectQuery(databaseDescriptor, null, query));
-			
-		/*
-		 * 5. Pass got cursor and mapped entity descriptor object for invoked class object, and pass it parseCursor method which will return all tuples in form of actual objects.
-		 */
-		
-		Collection<Object> tuplesCollection = new LinkedList<Object> ();
-		while(tuples.hasNext()) {
-			Object tuple = tuples.next();
-			tuplesCollection.add(tuple);
+			Log.error(DatabaseHelper.class.getName(), "select", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
+			throw new DeploymentException(DatabaseHelper.class.getName(), "select", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
 		}
 
-		Class<?> classObject = null;
-		try {
-			classObject = Class.forName(object.getClass().getName());
-		} catch(Exception exception) {
-			Log.error(DatabaseHelper.class.getName(), "manualFetch", "Exception caught while making class object for return type, ENTITY-DESCRIPTOR: " + object.getClass().getName());
-			throw new DatabaseException(DatabaseHelper.class.getName(), "manualFetch", "Exception caught while making class object for return type, ENTITY-DESCRIPTOR: " + object.getClass().getName());
+		String query = databaseBundle.getQueryTemplates().getSelectQuery(entityDescriptor, whereClause);
+		fetch(entityDescriptor, query, arguments, Collections.singletonList(entityDescriptor.getTableName()), tuples, datas);
+	}
+	
+	/**
+	 	Check whether select only matches all primary key columns of entity with arguments, and reads whole tuple, so that its result can be served from entity cache.
+	 */
+	private static boolean isPrimaryKeyLookup(final EntityDescriptor entityDescriptor, final SelectSpec selectSpec, final Object[] arguments) throws DatabaseException {
+		
+		final String whereClause = selectSpec.getWhereClause();
+		final String having = selectSpec.getHaving();
+		final String limit = selectSpec.getLimit();
+		
+		if(whereClause == null || arguments == null || Arrays.asList(arguments).contains(null)) {
+			return false;
+		} else if(selectSpec.getColumnNames().length > 0 || selectSpec.getGroupBys().length > 0 || selectSpec.getOrderBys().length > 0) {
+			return false;
+		} else if((having != null && having.length() > 0) || (limit != null && limit.length() > 0)) {
+			return false;
 		}
 		
-		Object returnType = Array.newInstance(classObject, tuplesCollection.size());
-		Iterator<Object> tuplesIterator = tuplesCollection.iterator();
-		
-		int index = 0;
-		while(tuplesIterator.hasNext()) {
-			Array.set(returnType, index++, tuplesIterator.next());
+		String[] identityColumnNames = getIdentityColumnNames(entityDescriptor);
+		if(identityColumnNames.length <= 0 || identityColumnNames.length != arguments.length) {
+			return false;
 		}
 		
-		Object[] returnTypes = (Object[]) returnType;
-		return returnTypes;
+		String primaryKeyWhereClause = QueryTemplates.formKeyWhereClause(identityColumnNames);
+		return WHITESPACE_PATTERN.matcher(whereClause).replaceAll("").equalsIgnoreCase(WHITESPACE_PATTERN.matcher(primaryKeyWhereClause).replaceAll(""));
 	}
-
 	
 	/**
-		It adds a record to any single table in a relational database.
-
-	   	<pre>
-	   	
-Example: Make Book Object
-
-	{@code
-
-	Book cBook = new Book();
-	cBook.setTitle(Book.BOOK_TYPE_C);
-	cBook.setDescription(applicationContext.getString(R.string.c_description));
-	cBook.setAuthor(applicationContext.getString(R.string.c_author));
-	cBook.setLink(applicationContext.getString(R.string.c_link));
-
-	try {
-		cBook.save();
-	} catch(DatabaseException de) {
-		//Log it.
-	}
-	
-	}
-
-	    </pre>
-	 
-	   	@throws DatabaseException If any error occurs while saving tuples in database.
+	 * Get key of object, formed from its primary key values same as key of entity cache.
+	 * @return Key, NULL if entity has no primary key or any primary key value of object is not set.
 	 */
-	static void save(final Object object) throws DatabaseException {
-		save(object, null);
-	}
-	
-	
-	private static void save(final Object object, final Object parentObject) throws DatabaseException {
-		Siminov.isActive();
+	static List<String> getKey(final EntityDescriptor entityDescriptor, final Object object) throws DatabaseException {
 		
-		/*
-		 * 1. Get mapped entity descriptor object for object parameter class name.
-		 * 2. Get Table Name, All Method Names, All Column Names, All Column Values, All Column Types, by parsing each fields.
-		 * 3. Using QueryBuilder form insert bind query.
-		 * 4. Pass query to executeBindQuery method for insertion.
-		 * 5. Check for relationship's if any, IF EXISTS: process it, ELSE: return.
-		 */
+		Attribute[] primaryKeys = entityDescriptor.getPlan().getPrimaryKeys();
+		if(primaryKeys.length <= 0) {
+			return null;
+		}
 		
-		if(object == null) {
-			Log.debug(DatabaseHelper.class.getName(), "save", "Invalid Object Found.");
-			return;
+		Object[] key = RelationshipHelper.getKeys(entityDescriptor, Collections.singletonList(object), primaryKeys).get(0);
+		if(Arrays.asList(key).contains(null)) {
+			return null;
 		}
 		
-		/*
-		 * 1. Get mapped entity descriptor object for invoked class object.
-		 */
+		return RelationshipHelper.formKey(key);
+	}
+	
+	/**
+	 	Remove results of table, and of tables refering it, from query cache after it is written. Refering tables can be changed through ON UPDATE or ON DELETE actions.
+	 	Remove tuple of object from entity cache, or whole entity cache if tuple can not be identified by object alone. Caches of refering entities are cleared.
+	 */
+	private static void invalidateCaches(final EntityDescriptor entityDescriptor, final Object object) throws DatabaseException {
 		
-		EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
-		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(object.getClass().getName());
+		EntityDescriptor[] referingEntityDescriptors = getReferingEntityDescriptors(entityDescriptor);
 		
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
-		IDatabaseImpl database = databaseBundle.getDatabase();
-		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
-
-		if(database == null) {
-			Log.error(DatabaseHelper.class.getName(), "save", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
-			throw new DeploymentException(DatabaseHelper.class.getName(), "save", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
+		QueryCache queryCache = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName()).getQueryCache();
+		if(queryCache != null) {
+			queryCache.invalidate(entityDescriptor.getTableName());
+			
+			for(int i = 0;i < referingEntityDescriptors.length;i++) {
+				queryCache.invalidate(referingEntityDescriptors[i].getTableName());
+			}
 		}
-
-		/*
-		 * 2. Get Table Name, All Method Names, All Column Names, All Column Values, All Column Types, by parsing each fields.
-		 */
-		String tableName = entityDescriptor.getTableName();
 		
-		Collection<String> columnNames = new LinkedList<String>();
-		Collection<Object> columnValues = new LinkedList<Object>();
-
-		Iterator<EntityDescriptor.Attribute> attributes = entityDescriptor.getAttributes();
-		while(attributes.hasNext()) {
-			Attribute attribute = attributes.next();
+		for(int i = 0;i < referingEntityDescriptors.length;i++) {
 			
-			try {
-				columnNames.add(attribute.getColumnName());
-				columnValues.add(ClassUtils.getValue(object, attribute.getGetterMethodName()));
-			} catch(SiminovException siminovException) {
-				Log.error(DatabaseHelper.class.getName(), "save", "SiminovException caught while get method values through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
-				throw new DatabaseException(DatabaseHelper.class.getName(), "save", siminovException.getMessage());
-			} 
+			EntityCache referingEntityCache = EntityCache.getEntityCache(referingEntityDescriptors[i]);
+			if(referingEntityCache != null) {
+				referingEntityCache.clear();
+			}
 		}
 		
+		EntityCache entityCache = EntityCache.getEntityCache(entityDescriptor);
+		if(entityCache == null) {
+			return;
+		}
 		
-		RelationshipHelper.processRelationship(object, null, columnNames, columnValues);
-		
+		Attribute[] primaryKeys = entityDescriptor.getPlan().getPrimaryKeys();
+		if(object == null || primaryKeys.length <= 0 || primaryKeys.length != getIdentityColumnNames(entityDescriptor).length) {
+			entityCache.clear();
+			return;
+		}
 		
-		/*
-		 * 3. Using QueryBuilder form insert bind query.
-		 */
-		Map<String, Object> parameters = new HashMap<String, Object> ();
-		parameters.put(IQueryBuilder.FORM_SAVE_BIND_QUERY_TABLE_NAME_PARAMETER, tableName);
-		parameters.put(IQueryBuilder.FORM_SAVE_BIND_QUERY_COLUMN_NAMES_PARAMETER, columnNames.iterator());
-
+		entityCache.remove(RelationshipHelper.formKey(RelationshipHelper.getKeys(entityDescriptor, Collections.singletonList(object), primaryKeys).get(0)));
+	}
+	
+	/**
+	 	Invalidate caches of database after a query is executed directly on it.
+	 	<p>
+	 	Results of table written by query, and of tables refering it, are removed from query cache, and caches of their entities are cleared.
+	 	If written table can not be told from query, as for schema changes, all caches of database are cleared. Selects and transaction control statements invalidate nothing.
+	 	Entity writes of DatabaseHelper are skipped, as it removes their tuples from caches itself.
+	 	
+	 	@param databaseDescriptor Database descriptor on which query is executed.
+	 	@param query Query executed.
+	 	@throws DatabaseException If any error occur while invalidating caches.
+	 */
+	public static void invalidateCaches(final DatabaseDescriptor databaseDescriptor, final String query) throws DatabaseException {
 		
-		String query = queryBuilder.formSaveBindQuery(parameters);
+		if(databaseDescriptor == null || query == null || Boolean.TRUE.equals(entityWrite.get()) || READ_QUERY_PATTERN.matcher(query).find()) {
+			return;
+		}
 		
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		QueryCache queryCache = databaseBundle != null ? databaseBundle.getQueryCache() : null;
 		
-		/*
-		 * 4. Pass query to executeBindQuery method for insertion.
+		Matcher writtenTableMatcher = WRITTEN_TABLE_PATTERN.matcher(query);
+		if(!writtenTableMatcher.find()) {
+			EntityCache.clearAll();
+			
+			if(queryCache != null) {
+				queryCache.clear();
+			}
+			
+			return;
+		}
+		
+		String tableName = QUOTE_PATTERN.matcher(writtenTableMatcher.group(1)).replaceAll("");
+		tableName = tableName.substring(tableName.lastIndexOf('.') + 1);
+		
+		Iterator<EntityDescriptor> entityDescriptors = databaseDescriptor.getEntityDescriptors();
+		while(entityDescriptors.hasNext()) {
+			
+			EntityDescriptor entityDescriptor = entityDescriptors.next();
+			if(entityDescriptor.getTableName().equalsIgnoreCase(tableName)) {
+				invalidateCaches(entityDescriptor, null);
+				return;
+			}
+		}
+		
+		if(queryCache != null) {
+			queryCache.invalidate(tableName);
+		}
+	}
+	
+	/**
+	 	Get entities whose tables refer table of entity through a one to one, many to one or many to many relationship, and entities refering those in turn.
+	 */
+	private static EntityDescriptor[] getReferingEntityDescriptors(final EntityDescriptor entityDescriptor) throws DatabaseException {
+		
+		EntityDescriptor[] referingEntities = referingEntityDescriptors.get(entityDescriptor);
+		if(referingEntities != null) {
+			return referingEntities;
+		}
+		
+		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
+		
+		Collection<EntityDescriptor> referings = new ArrayList<EntityDescriptor>();
+		LinkedList<EntityDescriptor> referedEntities = new LinkedList<EntityDescriptor>();
+		referedEntities.add(entityDescriptor);
+		
+		while(!referedEntities.isEmpty()) {
+			
+			String referedClassName = referedEntities.removeFirst().getClassName();
+			
+			Iterator<EntityDescriptor> entityDescriptors = databaseDescriptor.getEntityDescriptors();
+			while(entityDescriptors.hasNext()) {
+				
+				EntityDescriptor candidate = entityDescriptors.next();
+				if(candidate == entityDescriptor || referings.contains(candidate) || !refers(candidate, referedClassName)) {
+					continue;
+				}
+				
+				referings.add(candidate);
+				referedEntities.add(candidate);
+			}
+		}
+		
+		referingEntities = referings.toArray(new EntityDescriptor[referings.size()]);
+		referingEntityDescriptors.put(entityDescriptor, referingEntities);
+		
+		return referingEntities;
+	}
+	
+	/**
+	 	Check whether table of entity holds keys of refered class, which is so for each relationship except one to many.
+	 */
+	private static boolean refers(final EntityDescriptor entityDescriptor, final String referedClassName) {
+		
+		Iterator<Relationship> relationships = entityDescriptor.getRelationships();
+		while(relationships.hasNext()) {
+			
+			Relationship relationship = relationships.next();
+			if(relationship.getRelationshipType() != RelationshipType.ONE_TO_MANY && referedClassName.equalsIgnoreCase(relationship.getReferTo())) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 	Execute bind query writing object of entity. Caches are not invalidated for whole table, as caller removes tuple of object from them once it is written.
+	 */
+	private static void executeEntityWrite(final IDatabaseImpl database, final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query, final Iterator<Object> columnValues) throws DatabaseException {
+		
+		entityWrite.set(Boolean.TRUE);
+		try {
+			database.executeBindQuery(databaseDescriptor, entityDescriptor, query, columnValues);
+		} finally {
+			entityWrite.remove();
+		}
+	}
+	
+	private static void fetch(final EntityDescriptor entityDescriptor, final String query, final Object[] arguments, final Collection<String> tableNames, final List<Object> tuples, final List<Map<String, Object>> datas) throws DatabaseException {
+
+		Iterator<Map<String, Object>> values = executeSelectQuery(entityDescriptor, query, arguments, tableNames);
+		while(values.hasNext()) {
+			Map<String, Object> data = values.next();
+			
+			tuples.add(inflateData(entityDescriptor.getClassObject(), entityDescriptor, data));
+			datas.add(data);
+		}
+	}
+
+	/**
+	 	Execute select query of entity, serving tuples from query cache of database if it is enabled.
+	 	
+	 	@param entityDescriptor Entity Descriptor of mapped table.
+	 	@param query Query having ? placeholders.
+	 	@param arguments Values of ? placeholders.
+	 	@param tableNames Tables read by query, its cached result is invalidated when any of them is written.
+	 	@return Tuples.
+	 	@throws DatabaseException If any error occur while executing query.
+	 */
+	private static Iterator<Map<String, Object>> executeSelectQuery(final EntityDescriptor entityDescriptor, final String query, final Object[] arguments, final Collection<String> tableNames) throws DatabaseException {
+		
+		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
+		
+		IDatabaseImpl database = databaseBundle.getDatabase();
+		QueryCache queryCache = databaseBundle.getQueryCache();
+		
+		/*
+		 * Results are not cached within a transaction, as they may contain uncommitted tuples.
+		 */
+		if(queryCache == null || queryCache.isTransactionOpen()) {
+			return database.executeSelectQuery(databaseDescriptor, entityDescriptor, query, arguments);
+		}
+		
+		List<String> key = QueryCache.formKey(query, arguments);
+		
+		List<Map<String, Object>> tuples = queryCache.get(key);
+		if(tuples != null) {
+			return tuples.iterator();
+		}
+		
+		long generation = queryCache.getGeneration();
+		
+		tuples = new ArrayList<Map<String, Object>>();
+		
+		Iterator<Map<String, Object>> values = database.executeSelectQuery(databaseDescriptor, entityDescriptor, query, arguments);
+		while(values.hasNext()) {
+			tuples.add(values.next());
+		}
+		
+		queryCache.put(key, tableNames, tuples, generation);
+		return tuples.iterator();
+	}
+	
+	
+	/**
+	 	Returns cursor over tuples of mapped table for invoked class object, which inflates one object per next() instead of reading whole result upfront.
+	 	<p>
+	 	Relationships of each object are processed when it is read. Cursor has to be closed if it is not read till end.
+	 	
+	 	@return Cursor of objects.
+	 	@throws DatabaseException If any error occur while executing query.
+	 */
+	static ICursor<Object> selectCursor(final Object object, final Object parentObject, final EntityDescriptor entityDescriptor, final boolean distinct, final String whereClause, final Iterator<String> columnNames, final Iterator<String> groupBy, final String having, final Iterator<String> orderBy, final String whichOrderBy, final String limit, final Iterator<String> fetchJoins, final Object[] arguments) throws DatabaseException {
+		Siminov.isActive();
+		
+		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
+		
+		IDatabaseImpl database = databaseBundle.getDatabase();
+		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
+
+		if(database == null) {
+			Log.error(DatabaseHelper.class.getName(), "selectCursor", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
+			throw new DeploymentException(DatabaseHelper.class.getName(), "selectCursor", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
+		}
+		
+		Collection<Relationship> joins = getJoins(entityDescriptor, fetchJoins);
+		SelectSpec selectSpec = formSelectSpec(entityDescriptor, distinct, whereClause, columnNames, groupBy, having, orderBy, whichOrderBy, limit, joins);
+		
+		return selectCursor(entityDescriptor, parentObject, joins, queryBuilder.formSelectQuery(selectSpec), arguments);
+	}
+	
+	/**
+	 	Returns cursor over tuples of select query already formed from select specification.
+	 	
+	 	@return Cursor of objects.
+	 	@throws DatabaseException If any error occur while executing query.
+	 */
+	static ICursor<Object> selectCursor(final EntityDescriptor entityDescriptor, final Object parentObject, final Collection<Relationship> joins, final String query, final Object[] arguments) throws DatabaseException {
+		
+		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
+		IDatabaseImpl database = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName()).getDatabase();
+		
+		ICursor<Map<String, Object>> datas = database.executeSelectCursor(databaseDescriptor, entityDescriptor, query, arguments);
+		return new EntityCursor(datas, parentObject, entityDescriptor, joins);
+	}
+
+	
+	/**
+	 	Resolve relationships to be fetched through LEFT JOIN, based on their refer. Only one to one and many to one relationships can be joined, as they refer to a single object.
+	 */
+	static Collection<Relationship> getJoins(final EntityDescriptor entityDescriptor, final Iterator<String> fetchJoins) throws DatabaseException {
+		
+		Collection<Relationship> joins = new ArrayList<Relationship>();
+		if(fetchJoins == null) {
+			return joins;
+		}
+		
+		while(fetchJoins.hasNext()) {
+			String refer = fetchJoins.next();
+			
+			Relationship relationship = entityDescriptor.getRelationshipBasedOnRefer(refer);
+			if(relationship == null) {
+				Log.error(DatabaseHelper.class.getName(), "getJoins", "No Relationship Found For REFER: " + refer + ", ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
+				throw new DatabaseException(DatabaseHelper.class.getName(), "getJoins", "No Relationship Found For REFER: " + refer + ", ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
+			}
+			
+			RelationshipType relationshipType = relationship.getRelationshipType();
+			if(relationshipType != RelationshipType.ONE_TO_ONE && relationshipType != RelationshipType.MANY_TO_ONE) {
+				Log.error(DatabaseHelper.class.getName(), "getJoins", "Only One To One And Many To One Relationships Can Be Fetched Through Join, REFER: " + refer + ", TYPE: " + relationship.getType());
+				throw new DatabaseException(DatabaseHelper.class.getName(), "getJoins", "Only One To One And Many To One Relationships Can Be Fetched Through Join, REFER: " + refer + ", TYPE: " + relationship.getType());
+			}
+			
+			RelationshipHelper.getReferedEntityDescriptor(relationship);
+			if(!joins.contains(relationship)) {
+				joins.add(relationship);
+			}
+		}
+		
+		return joins;
+	}
+	
+	/**
+	 	Form select specification of entity. Iterators are read once here, so specification can be used by query builder and entity cache check alike.
+	 */
+	static SelectSpec formSelectSpec(final EntityDescriptor entityDescriptor, final boolean distinct, final String whereClause, final Iterator<String> columnNames, final Iterator<String> groupBy, final String having, final Iterator<String> orderBy, final String whichOrderBy, final String limit, final Collection<Relationship> joins) throws DatabaseException {
+		
+		SelectSpec selectSpec = new SelectSpec(entityDescriptor.getTableName());
+		selectSpec.setDistinct(distinct);
+		selectSpec.setWhereClause(whereClause);
+		selectSpec.setColumnNames(SelectSpec.toArray(columnNames));
+		selectSpec.setGroupBys(SelectSpec.toArray(groupBy));
+		selectSpec.setHaving(having);
+		selectSpec.setOrderBys(SelectSpec.toArray(orderBy));
+		selectSpec.setWhichOrderBy(whichOrderBy);
+		selectSpec.setLimit(limit);
+		
+		if(!joins.isEmpty()) {
+			selectSpec.setColumnNames(formJoinColumnNames(joins, selectSpec.getColumnNames()));
+			selectSpec.setJoins(formJoins(joins));
+		}
+		
+		return selectSpec;
+	}
+	
+	/**
+	 	If only few columns are fetched, add join keys to them so that joined tables can be matched.
+	 */
+	private static String[] formJoinColumnNames(final Collection<Relationship> joins, final String[] columnNames) throws DatabaseException {
+		
+		if(columnNames.length <= 0) {
+			return columnNames;
+		}
+		
+		Collection<String> joinColumnNames = new ArrayList<String>(Arrays.asList(columnNames));
+		
+		Iterator<Relationship> relationships = joins.iterator();
+		while(relationships.hasNext()) {
+			Iterator<String> keys = getJoinKeys(relationships.next().getReferedEntityDescriptor()).iterator();
+			while(keys.hasNext()) {
+				String key = keys.next();
+				if(!joinColumnNames.contains(key)) {
+					joinColumnNames.add(key);
+				}
+			}
+		}
+		
+		return joinColumnNames.toArray(new String[joinColumnNames.size()]);
+	}
+	
+	private static List<Join> formJoins(final Collection<Relationship> joins) throws DatabaseException {
+		
+		List<Join> joinSpecs = new ArrayList<Join>();
+		
+		Iterator<Relationship> relationships = joins.iterator();
+		while(relationships.hasNext()) {
+			Relationship relationship = relationships.next();
+			EntityDescriptor referedEntityDescriptor = relationship.getReferedEntityDescriptor();
+			
+			Collection<String> columnNames = getJoinColumnNames(referedEntityDescriptor);
+			Collection<String> keys = getJoinKeys(referedEntityDescriptor);
+			
+			joinSpecs.add(new Join(referedEntityDescriptor.getTableName(), columnNames.toArray(new String[columnNames.size()]), relationship.getRefer() + RowPlan.JOIN_COLUMN_SEPARATOR, keys.toArray(new String[keys.size()])));
+		}
+		
+		return joinSpecs;
+	}
+	
+	/**
+	 	Columns on which refered table is joined. Table having relationship stores foreign keys of refered table under same column names, see createTable.
+	 */
+	private static Collection<String> getJoinKeys(final EntityDescriptor referedEntityDescriptor) throws DatabaseException {
+		
+		Collection<String> keys = new ArrayList<String>();
+		
+		Iterator<Attribute> foreignKeys = getForeignKeys(referedEntityDescriptor).iterator();
+		while(foreignKeys.hasNext()) {
+			String columnName = foreignKeys.next().getColumnName();
+			if(!keys.contains(columnName)) {
+				keys.add(columnName);
+			}
+		}
+		
+		return keys;
+	}
+	
+	/**
+	 	Columns of refered table to be fetched, its attributes and foreign keys of its own relationships, so its relationships can be processed same as a selected object.
+	 */
+	private static Collection<String> getJoinColumnNames(final EntityDescriptor referedEntityDescriptor) throws DatabaseException {
+		
+		Collection<String> columnNames = new ArrayList<String>();
+		
+		Iterator<Attribute> attributes = referedEntityDescriptor.getAttributes();
+		while(attributes.hasNext()) {
+			columnNames.add(attributes.next().getColumnName());
+		}
+		
+		Collection<Relationship> relationships = new ArrayList<Relationship>();
+		
+		Iterator<Relationship> oneToOneRelationships = referedEntityDescriptor.getOneToOneRelationships();
+		while(oneToOneRelationships.hasNext()) {
+			relationships.add(oneToOneRelationships.next());
+		}
+		
+		Iterator<Relationship> manyToOneRelationships = referedEntityDescriptor.getManyToOneRelationships();
+		while(manyToOneRelationships.hasNext()) {
+			relationships.add(manyToOneRelationships.next());
+		}
+		
+		Iterator<Relationship> relationshipsIterator = relationships.iterator();
+		while(relationshipsIterator.hasNext()) {
+			Iterator<String> foreignKeys = getJoinKeys(RelationshipHelper.getReferedEntityDescriptor(relationshipsIterator.next())).iterator();
+			while(foreignKeys.hasNext()) {
+				String foreignKey = foreignKeys.next();
+				if(!columnNames.contains(foreignKey)) {
+					columnNames.add(foreignKey);
+				}
+			}
+		}
+		
+		return columnNames;
+	}
+	
+	/**
+	 	Inflate refered objects of joined relationships from their prefixed columns and set them in objects. 
+	 	<p>
+	 	Tuples sharing a refered object get same instance of it, and relationships of refered objects are processed in batch.
+	 */
+	private static void inflateJoins(final EntityDescriptor entityDescriptor, final Collection<Relationship> joins, final List<Object> tuples, final List<Map<String, Object>> datas) throws DatabaseException {
+		
+		Iterator<Relationship> relationships = joins.iterator();
+		while(relationships.hasNext()) {
+			Relationship relationship = relationships.next();
+			
+			EntityDescriptor referedEntityDescriptor = relationship.getReferedEntityDescriptor();
+			String columnPrefix = relationship.getRefer() + RowPlan.JOIN_COLUMN_SEPARATOR;
+			String[] keys = getJoinKeys(referedEntityDescriptor).toArray(new String[0]);
+			
+			Map<List<String>, Object> referedObjects = new HashMap<List<String>, Object>();
+			List<Object> inflatedObjects = new ArrayList<Object>();
+			List<Map<String, Object>> inflatedDatas = new ArrayList<Map<String, Object>>();
+			
+			for(int i = 0;i < tuples.size();i++) {
+				
+				Map<String, Object> referedData = new HashMap<String, Object>();
+				
+				Iterator<Map.Entry<String, Object>> columns = datas.get(i).entrySet().iterator();
+				while(columns.hasNext()) {
+					Map.Entry<String, Object> column = columns.next();
+					if(column.getKey().startsWith(columnPrefix)) {
+						referedData.put(column.getKey().substring(columnPrefix.length()), column.getValue());
+					}
+				}
+				
+				Object[] key = new Object[keys.length];
+				for(int j = 0;j < keys.length;j++) {
+					key[j] = referedData.get(keys[j]);
+				}
+				
+				/*
+				 * No tuple matched in refered table.
+				 */
+				if(Arrays.asList(key).contains(null)) {
+					continue;
+				}
+				
+				List<String> formedKey = RelationshipHelper.formKey(key);
+				Object referedObject = referedObjects.get(formedKey);
+				if(referedObject == null) {
+					referedObject = inflateData(referedEntityDescriptor.getClassObject(), referedEntityDescriptor, referedData);
+					
+					referedObjects.put(formedKey, referedObject);
+					inflatedObjects.add(referedObject);
+					inflatedDatas.add(referedData);
+				}
+				
+				try {
+					setValue(tuples.get(i), relationship, referedObject.getClass(), referedObject);
+				} catch(SiminovException siminovException) {
+					Log.error(DatabaseHelper.class.getName(), "inflateJoins", "SiminovException caught while invoking method, CLASS-NAME: " + entityDescriptor.getClassName() + ", METHOD-NAME: " + relationship.getSetterReferMethodName() + ", " + siminovException.getMessage());
+					throw new DatabaseException(DatabaseHelper.class.getName(), "inflateJoins", "SiminovException caught while invoking method, CLASS-NAME: " + entityDescriptor.getClassName() + ", METHOD-NAME: " + relationship.getSetterReferMethodName() + ", " + siminovException.getMessage());
+				}
+			}
+			
+			RelationshipHelper.processRelationships(referedEntityDescriptor, inflatedObjects, inflatedDatas, entityDescriptor.getClassName());
+		}
+	}
+
+	
+	/**
+	 	Returns all tuples based on manual query from mapped table for invoked class object.
+	 
+	 	<pre>
+	 	
+Example:
+	
+	{@code
+	
+	String query = "SELECT * FROM BOOK";
+	
+	Book[] books = null;
+	try {
+		books = new Book().select(query);
+	} catch(DatabaseException de) {
+		//Log it.
+	}
+	 		
+	} 			
+	 	</pre>
+	
+	 	@param query Manual query on which tuples need to be fetched.
+	 	@return Array Of Objects.
+	 	@throws DatabaseException If any error occur while getting tuples from a single table.
+	 */
+	static Object[] select(final Object object, final String query) throws DatabaseException {
+		Siminov.isActive();
+		
+		/*
+		 * 1. Get entity descriptor object for mapped invoked class object.
+		 */
+		
+		//EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
+		query.trim();
+		String tableName = query.substring(query.indexOf(Constants.DATABASE_QUERY_FROM_TABLE_INDEX) + 5, query.length());
+		if(tableName.indexOf(" ") != -1) {
+			tableName = tableName.substring(0, tableName.indexOf(" "));
+		}
+		
+		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptorBasedOnTableName(tableName);
+		
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		IDatabaseImpl database = databaseBundle.getDatabase();
+
+		if(database == null) {
+			Log.error(DatabaseHelper.class.getName(), "select", "No Database Instance Found For ENTITY-DESCRIPTOR: " + tableName);
+			throw new DeploymentException(DatabaseHelper.class.getName(), "select", "No Database Instance Found For ENTITY-DESCRIPTOR: " + tableName);
+		}
+		
+		/*
+		 * 4. Pass all parameters to executeFetchQuery and get cursor.
+		 */
+		Iterator<Object> tuples = parseAndInflateData(object, null, null, database.executeSelectQuery(databaseDescriptor, null, query));
+			
+		/*
+		 * 5. Pass got cursor and mapped entity descriptor object for invoked class object, and pass it parseCursor method which will return all tuples in form of actual objects.
+		 */
+		
+		Collection<Object> tuplesCollection = new LinkedList<Object> ();
+		while(tuples.hasNext()) {
+			Object tuple = tuples.next();
+			tuplesCollection.add(tuple);
+		}
+
+		Object returnType = Array.newInstance(object.getClass(), tuplesCollection.size());
+		Iterator<Object> tuplesIterator = tuplesCollection.iterator();
+		
+		int index = 0;
+		while(tuplesIterator.hasNext()) {
+			Array.set(returnType, index++, tuplesIterator.next());
+		}
+		
+		Object[] returnTypes = (Object[]) returnType;
+		return returnTypes;
+	}
+
+	
+	/**
+		It adds a record to any single table in a relational database.
+
+	   	<pre>
+	   	
+Example: Make Book Object
+
+	{@code
+
+	Book cBook = new Book();
+	cBook.setTitle(Book.BOOK_TYPE_C);
+	cBook.setDescription(applicationContext.getString(R.string.c_description));
+	cBook.setAuthor(applicationContext.getString(R.string.c_author));
+	cBook.setLink(applicationContext.getString(R.string.c_link));
+
+	try {
+		cBook.save();
+	} catch(DatabaseException de) {
+		//Log it.
+	}
+	
+	}
+
+	    </pre>
+	 
+	   	@throws DatabaseException If any error occurs while saving tuples in database.
+	 */
+	static void save(final Object object) throws DatabaseException {
+		
+		if(object != null && WriteBehindQueue.save(getEntityDescriptor(object.getClass().getName()), object)) {
+			return;
+		}
+		
+		save(object, null);
+	}
+	
+	
+	/**
+		It adds records of all objects provided, compiling insert bind query once per entity and saving all of them in a single transaction.
+		<p>
+		Objects are grouped by their class, groups are saved in order in which their first object appears.
+		If chunk size is greater than zero, transaction is committed after every chunk size objects of a group, so failure rolls back only the current chunk.
+		
+		@param objects Objects which needs to be saved.
+		@param chunkSize Number of objects to save per transaction, zero to save each group in a single transaction.
+	   	@throws DatabaseException If any error occurs while saving tuples in database.
+	 */
+	static void saveAll(final Iterator<?> objects, final int chunkSize) throws DatabaseException {
+		saveAll(objects, chunkSize, false);
+	}
+	
+	/**
+		It adds or updates records of all objects provided, same as saveAll, but through upsert bind query so existing tuples are updated instead of failing.
+		
+		@param objects Objects which needs to be saved or updated.
+		@param chunkSize Number of objects to save per transaction, zero to save each group in a single transaction.
+	   	@throws DatabaseException If any error occurs while saving tuples in database.
+	 */
+	static void saveOrUpdateAll(final Iterator<?> objects, final int chunkSize) throws DatabaseException {
+		saveAll(objects, chunkSize, true);
+	}
+	
+	private static void saveAll(final Iterator<?> objects, final int chunkSize, final boolean upsert) throws DatabaseException {
+		Siminov.isActive();
+		
+		Map<String, Collection<Object>> groups = new LinkedHashMap<String, Collection<Object>>();
+		while(objects.hasNext()) {
+			Object object = objects.next();
+			if(object == null) {
+				Log.debug(DatabaseHelper.class.getName(), "saveAll", "Invalid Object Found.");
+				continue;
+			}
+			
+			Collection<Object> group = groups.get(object.getClass().getName());
+			if(group == null) {
+				group = new ArrayList<Object>();
+				groups.put(object.getClass().getName(), group);
+			}
+			
+			group.add(object);
+		}
+		
+		Iterator<Map.Entry<String, Collection<Object>>> groupsIterator = groups.entrySet().iterator();
+		while(groupsIterator.hasNext()) {
+			Map.Entry<String, Collection<Object>> group = groupsIterator.next();
+			saveAll(getEntityDescriptor(group.getKey()), group.getValue().iterator(), chunkSize, upsert);
+		}
+	}
+	
+	private static void saveAll(final EntityDescriptor entityDescriptor, final Iterator<Object> objects, final int chunkSize, final boolean upsert) throws DatabaseException {
+
+		WriteBehindQueue.flush(entityDescriptor);
+		
+		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
+		
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
+		IDatabaseImpl database = databaseBundle.getDatabase();
+		QueryTemplates queryTemplates = databaseBundle.getQueryTemplates();
+
+		if(database == null) {
+			Log.error(DatabaseHelper.class.getName(), "saveAll", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
+			throw new DeploymentException(DatabaseHelper.class.getName(), "saveAll", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
+		}
+
+		IStatement[] statements = null;
+		String[] statementQueries = null;
+		
+		int count = 0;
+		boolean successful = false;
+		
+		database.executeMethod(SQLITE_DATABASE_BEGIN_TRANSACTION, null);
+		transactionBegan(databaseDescriptor);
+		
+		try {
+			while(objects.hasNext()) {
+				Object object = objects.next();
+				
+				Collection<String> columnNames = new ArrayList<String>();
+				Collection<Object> columnValues = new ArrayList<Object>();
+				
+				formSaveColumns(object, entityDescriptor, columnNames, columnValues);
+
+				/*
+				 * Columns are same for every object of an entity, so query is compiled only once. Compile again only if it ever differs.
+				 */
+				String[] queries = upsert ? queryTemplates.getUpsertQueries(entityDescriptor, columnNames) : new String[] {queryTemplates.getSaveQuery(entityDescriptor, columnNames)};
+				if(statements == null || !Arrays.equals(queries, statementQueries)) {
+					closeStatements(statements);
+					
+					statements = new IStatement[queries.length];
+					statementQueries = queries;
+					
+					for(int i = 0;i < queries.length;i++) {
+						statements[i] = database.compileBindQuery(databaseDescriptor, entityDescriptor, queries[i]);
+					}
+				}
+				
+				for(int i = 0;i < statements.length;i++) {
+					statements[i].execute(columnValues.iterator());
+				}
+				
+				invalidateCaches(entityDescriptor, object);
+				
+				processSaveRelationships(object, null, entityDescriptor);
+				
+				count++;
+				if(chunkSize > 0 && count % chunkSize == 0 && objects.hasNext()) {
+					database.executeMethod(SQLITE_DATABASE_COMMIT_TRANSACTION, null);
+					database.executeMethod(SQLITE_DATABASE_END_TRANSACTION, null);
+					transactionEnded(databaseDescriptor, true);
+					
+					database.executeMethod(SQLITE_DATABASE_BEGIN_TRANSACTION, null);
+					transactionBegan(databaseDescriptor);
+				}
+			}
+			
+			database.executeMethod(SQLITE_DATABASE_COMMIT_TRANSACTION, null);
+			successful = true;
+		} finally {
+			closeStatements(statements);
+			
+			try {
+				database.executeMethod(SQLITE_DATABASE_END_TRANSACTION, null);
+			} finally {
+				transactionEnded(databaseDescriptor, successful);
+			}
+		}
+	}
+	
+	private static void closeStatements(final IStatement[] statements) throws DatabaseException {
+		if(statements == null) {
+			return;
+		}
+		
+		for(int i = 0;i < statements.length;i++) {
+			if(statements[i] != null) {
+				statements[i].close();
+			}
+		}
+	}
+	
+	
+	private static void save(final Object object, final Object parentObject) throws DatabaseException {
+		Siminov.isActive();
+		
+		/*
+		 * 1. Get mapped entity descriptor object for object parameter class name.
+		 * 2. Get Table Name, All Method Names, All Column Names, All Column Values, All Column Types, by parsing each fields.
+		 * 3. Using QueryBuilder form insert bind query.
+		 * 4. Pass query to executeBindQuery method for insertion.
+		 * 5. Check for relationship's if any, IF EXISTS: process it, ELSE: return.
 		 */
-		database.executeBindQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query, columnValues.iterator());
+		
+		if(object == null) {
+			Log.debug(DatabaseHelper.class.getName(), "save", "Invalid Object Found.");
+			return;
+		}
+		
+		/*
+		 * 1. Get mapped entity descriptor object for invoked class object.
+		 */
+		
+		EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
+		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(object.getClass().getName());
+		
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(object.getClass().getName());
+		IDatabaseImpl database = databaseBundle.getDatabase();
+		QueryTemplates queryTemplates = databaseBundle.getQueryTemplates();
+
+		if(database == null) {
+			Log.error(DatabaseHelper.class.getName(), "save", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
+			throw new DeploymentException(DatabaseHelper.class.getName(), "save", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
+		}
+
+		/*
+		 * 2. Get Table Name, All Method Names, All Column Names, All Column Values, All Column Types, by parsing each fields.
+		 */
+		Collection<String> columnNames = new LinkedList<String>();
+		Collection<Object> columnValues = new LinkedList<Object>();
+
+		formSaveColumns(object, entityDescriptor, columnNames, columnValues);
+		
+		
+		/*
+		 * 3. Using QueryBuilder form insert bind query, or reuse it if it was already formed for same columns.
+		 */
+		String query = queryTemplates.getSaveQuery(entityDescriptor, columnNames);
+		
+		
+		/*
+		 * 4. Pass query to executeBindQuery method for insertion.
+		 */
+		executeEntityWrite(database, getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query, columnValues.iterator());
+		invalidateCaches(entityDescriptor, object);
 		
 		
 		/*
 		 * 5. Check for relationship's if any, IF EXISTS: process it, ELSE: return all objects.
 		 */
+		processSaveRelationships(object, parentObject, entityDescriptor);
+	}
+
+	
+	/**
+		Get column names and column values of object needed by insert bind query, including foreign key columns of relationships.
+	 */
+	private static void formSaveColumns(final Object object, final EntityDescriptor entityDescriptor, final Collection<String> columnNames, final Collection<Object> columnValues) throws DatabaseException {
+
+		IEntityMapper<Object> entityMapper = entityDescriptor.getEntityMapper();
+		
+		Attribute[] attributes = entityDescriptor.getPlan().getAttributes();
+		for(int i = 0;i < attributes.length;i++) {
+			Attribute attribute = attributes[i];
+			columnNames.add(attribute.getColumnName());
+			
+			if(entityMapper != null) {
+				continue;
+			}
+			
+			try {
+				columnValues.add(getValue(object, attribute));
+			} catch(SiminovException siminovException) {
+				Log.error(DatabaseHelper.class.getName(), "save", "SiminovException caught while get method values through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
+				throw new DatabaseException(DatabaseHelper.class.getName(), "save", siminovException.getMessage());
+			} 
+		}
+		
+		if(entityMapper != null) {
+			entityMapper.bindInsert(object, columnValues);
+		}
+		
+		
+		RelationshipHelper.processRelationship(object, null, columnNames, columnValues);
+	}
+
+	
+	/**
+		Save or update objects refered by saved object through its relationships.
+	 */
+	private static void processSaveRelationships(final Object object, final Object parentObject, final EntityDescriptor entityDescriptor) throws DatabaseException {
+
 		Iterator<EntityDescriptor.Relationship> relationships = entityDescriptor.getRelationships();
 		while(relationships.hasNext()) {
 			EntityDescriptor.Relationship relationship = relationships.next();
@@ -1421,12 +2231,12 @@ Example: Make Book Object
 				continue;
 			}
 			
-			String relationshipType = relationship.getType();
-			if(relationshipType == null || relationshipType.length() <= 0) {
+			RelationshipType relationshipType = relationship.getRelationshipType();
+			if(relationshipType == null) {
 				continue;
 			}
 			
-			if(relationshipType.equalsIgnoreCase(ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_ONE_TO_ONE)) {
+			if(relationshipType == RelationshipType.ONE_TO_ONE) {
 				
 				if(parentObject != null && relationship.getReferTo().equalsIgnoreCase(parentObject.getClass().getName())) {
 					continue;
@@ -1438,7 +2248,7 @@ Example: Make Book Object
 				 */
 				Object referedObject = null;
 				try {
-					referedObject = ClassUtils.getValue(object, relationship.getGetterReferMethodName());
+					referedObject = getValue(object, relationship);
 				} catch(SiminovException siminovException) {
 					Log.error(DatabaseHelper.class.getName(), "save", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
 					throw new DatabaseException(DatabaseHelper.class.getName(), "save", siminovException.getMessage());
@@ -1457,17 +2267,17 @@ Example: Make Book Object
 				
 				
 				try {
-					ClassUtils.invokeMethod(referedObject, referedRelationship.getSetterReferMethodName(), new Class[] {object.getClass()}, new Object[] {object});
+					setValue(referedObject, referedRelationship, object.getClass(), object);
 				} catch(SiminovException siminovException) {
 					Log.error(DatabaseHelper.class.getName(), "save", "SiminovException caught while setting up one to one relationship mapping, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
 					throw new DatabaseException(DatabaseHelper.class.getName(), "save", siminovException.getMessage());
 				}
 				
 				saveOrUpdate(referedObject, object);
-			} else if(relationshipType.equalsIgnoreCase(ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_ONE_TO_MANY)) {
+			} else if(relationshipType == RelationshipType.ONE_TO_MANY) {
 				Iterator<?> values = null;
 				try {
-					values = (Iterator<?>) ClassUtils.getValue(object, relationship.getGetterReferMethodName());
+					values = (Iterator<?>) getValue(object, relationship);
 				} catch(SiminovException siminovException) {
 					Log.error(DatabaseHelper.class.getName(), "save", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
 					throw new DatabaseException(DatabaseHelper.class.getName(), "save", siminovException.getMessage());
@@ -1481,7 +2291,7 @@ Example: Make Book Object
 				while(values.hasNext()) {
 					saveOrUpdate(values.next());
 				}
-			} else if(relationshipType.equalsIgnoreCase(ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_MANY_TO_MANY)) {
+			} else if(relationshipType == RelationshipType.MANY_TO_MANY) {
 				
 				if(parentObject != null && relationship.getReferTo().equalsIgnoreCase(parentObject.getClass().getName())) {
 					continue;
@@ -1493,7 +2303,7 @@ Example: Make Book Object
 				 */
 				Object referedObject = null;
 				try {
-					referedObject = ClassUtils.getValue(object, relationship.getGetterReferMethodName());
+					referedObject = getValue(object, relationship);
 				} catch(SiminovException siminovException) {
 					Log.error(DatabaseHelper.class.getName(), "save", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
 					throw new DatabaseException(DatabaseHelper.class.getName(), "save", siminovException.getMessage());
@@ -1537,6 +2347,11 @@ Example: Make Beer Object
 	   	@throws DatabaseException If any error occurs while saving tuples in database.
 	 */
 	static void update(final Object object) throws DatabaseException {
+		
+		if(object != null) {
+			WriteBehindQueue.flush(getEntityDescriptor(object.getClass().getName()));
+		}
+		
 		update(object, null);
 	}
 	
@@ -1563,70 +2378,150 @@ Example: Make Beer Object
 		EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(object.getClass().getName());
 		
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(object.getClass().getName());
 		IDatabaseImpl database = databaseBundle.getDatabase();
-		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
+		QueryTemplates queryTemplates = databaseBundle.getQueryTemplates();
 
 		if(database == null) {
 			Log.error(DatabaseHelper.class.getName(), "update", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
 			throw new DeploymentException(DatabaseHelper.class.getName(), "update", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
 		}
 
-		StringBuilder whereClause = new StringBuilder();
-		String tableName = entityDescriptor.getTableName();
+		Collection<String> keyColumnNames = new ArrayList<String>();
+		Collection<Object> keyColumnValues = new ArrayList<Object>();
 
 		/*
 		 * 2. Get Table Name, All Method Names, All Column Names, All Column Values, All Column Types, All, Primary Keys, by parsing each fields.
 		 */
-		Iterator<EntityDescriptor.Attribute> attributes = entityDescriptor.getAttributes();
+		EntityDescriptor.Plan plan = entityDescriptor.getPlan();
+		Attribute[] attributes = plan.getAttributes();
 
 		Collection<String> columnNames = new LinkedList<String>();
 		Collection<Object> columnValues = new LinkedList<Object>();
 		
-		while(attributes.hasNext()) {
-			Attribute attribute = attributes.next();
+		IEntityMapper<Object> entityMapper = entityDescriptor.getEntityMapper();
+		Iterator<Object> mappedColumnValues = null;
+		
+		if(entityMapper != null) {
+			Collection<Object> boundColumnValues = new ArrayList<Object>();
+			entityMapper.bindUpdate(object, boundColumnValues);
+			
+			mappedColumnValues = boundColumnValues.iterator();
+		}
+		
+		Object[] attributeValues = new Object[attributes.length];
+		for(int i = 0;i < attributes.length;i++) {
+			Attribute attribute = attributes[i];
 			Object columnValue = null;
-			try {
-				columnNames.add(attribute.getColumnName());
-				columnValue = ClassUtils.getValue(object, attribute.getGetterMethodName());
-			} catch(SiminovException siminovException) {
-				Log.error(DatabaseHelper.class.getName(), "update", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
-				throw new DatabaseException(DatabaseHelper.class.getName(), "update", siminovException.getMessage());
-			} 
+			
+			columnNames.add(attribute.getColumnName());
+			
+			if(mappedColumnValues != null) {
+				columnValue = mappedColumnValues.next();
+			} else {
+				try {
+					columnValue = getValue(object, attribute);
+				} catch(SiminovException siminovException) {
+					Log.error(DatabaseHelper.class.getName(), "update", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
+					throw new DatabaseException(DatabaseHelper.class.getName(), "update", siminovException.getMessage());
+				} 
+			}
 			
 			columnValues.add(columnValue);
-			
-			if(attribute.isPrimaryKey()) {
-				if(whereClause.length() == 0) {
-					whereClause.append(attribute.getColumnName() + "= '" + columnValue + "'");
-				} else {
-					whereClause.append(" AND " + attribute.getColumnName() + "= '" + columnValue + "'");
-				}
-			}
+			attributeValues[i] = columnValue;
+		}
+		
+		Attribute[] primaryKeys = plan.getPrimaryKeys();
+		for(int i = 0;i < primaryKeys.length;i++) {
+			keyColumnNames.add(primaryKeys[i].getColumnName());
+			keyColumnValues.add(attributeValues[plan.getColumnIndex(primaryKeys[i].getColumnName())]);
 		}
 		
 		
-		RelationshipHelper.processRelationship(object, parentObject, whereClause);
 		RelationshipHelper.processRelationship(object, parentObject, columnNames, columnValues);
 		
-		
 		/*
-		 * 4. Using QueryBuilder form update bind query.
+		 * Columns added by relationships are foreign keys, which are part of primary key of table, so tuple is matched on them too.
 		 */
-		Map<String, Object> parameters = new HashMap<String, Object> ();
-		parameters.put(IQueryBuilder.FORM_UPDATE_BIND_QUERY_TABLE_NAME_PARAMETER, tableName);
-		parameters.put(IQueryBuilder.FORM_UPDATE_BIND_QUERY_COLUMN_NAMES_PARAMETER, columnNames.iterator());
-		parameters.put(IQueryBuilder.FORM_UPDATE_BIND_QUERY_WHERE_CLAUSE_PARAMETER, whereClause.toString());
+		Iterator<String> foreignKeyNames = columnNames.iterator();
+		Iterator<Object> foreignKeyValues = columnValues.iterator();
+		
+		for(int i = 0;i < attributes.length;i++) {
+			foreignKeyNames.next();
+			foreignKeyValues.next();
+		}
+		
+		while(foreignKeyNames.hasNext()) {
+			keyColumnNames.add(foreignKeyNames.next());
+			keyColumnValues.add(foreignKeyValues.next());
+		}
 		
 		
-		String query = queryBuilder.formUpdateBindQuery(parameters);
-
 		/*
-		 * 5. Pass query to executeBindQuery method for updation.
+		 * If object was loaded with change tracking, keep only columns changed since it was loaded.
 		 */
+		Map<String, Object> snapshot = null;
+		if(entityDescriptor.isTrackChanges()) {
+			snapshot = ChangeTracker.getSnapshot(object);
+		}
+		
+		if(snapshot != null) {
+			
+			Iterator<String> columnNamesIterator = columnNames.iterator();
+			Iterator<Object> columnValuesIterator = columnValues.iterator();
+			
+			while(columnNamesIterator.hasNext()) {
+				String columnName = columnNamesIterator.next();
+				Object columnValue = columnValuesIterator.next();
+				
+				if(snapshot.containsKey(columnName) && !ChangeTracker.isChanged(snapshot.get(columnName), columnValue)) {
+					columnNamesIterator.remove();
+					columnValuesIterator.remove();
+				}
+			}
+		}
 		
-		Iterator<Object> values = columnValues.iterator();
-		database.executeBindQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query, values);
+		if(snapshot == null || !columnNames.isEmpty()) {
+			
+			/*
+			 * 4. Using QueryBuilder form update bind query, or reuse it if it was already formed for same columns. Tuple is matched on bound key values.
+			 */
+			String query = queryTemplates.getUpdateQuery(entityDescriptor, columnNames, keyColumnNames);
+	
+			/*
+			 * 5. Pass query to executeBindQuery method for updation.
+			 */
+			
+			Collection<Object> values = new ArrayList<Object>(columnValues);
+			values.addAll(keyColumnValues);
+			
+			executeEntityWrite(database, getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query, values.iterator());
+			invalidateCaches(entityDescriptor, object);
+			
+			if(snapshot != null) {
+				
+				Map<String, Object> updatedSnapshot = new HashMap<String, Object>(snapshot);
+				
+				Iterator<String> columnNamesIterator = columnNames.iterator();
+				Iterator<Object> columnValuesIterator = columnValues.iterator();
+				
+				while(columnNamesIterator.hasNext()) {
+					
+					String columnName = columnNamesIterator.next();
+					Object columnValue = columnValuesIterator.next();
+					if(columnValue instanceof byte[]) {
+						columnValue = ((byte[]) columnValue).clone();
+					}
+					
+					updatedSnapshot.put(columnName, columnValue);
+				}
+				
+				/*
+				 * Snapshot is only advanced once update is committed, as tuple keeps its old values if transaction is rolled back.
+				 */
+				ChangeTracker.trackUpdate(getDatabaseDescriptor(entityDescriptor.getClassName()).getDatabaseName(), object, updatedSnapshot);
+			}
+		}
 		
 		/*
 		 * 6. Check for relationship's if any, IF EXISTS: process it, ELSE: return.
@@ -1640,15 +2535,15 @@ Example: Make Beer Object
 				continue;
 			}
 			
-			String relationshipType = relationship.getType();
-			if(relationshipType == null || relationshipType.length() <= 0) {
+			RelationshipType relationshipType = relationship.getRelationshipType();
+			if(relationshipType == null) {
 				continue;
 			}
 			
-			if(relationshipType.equalsIgnoreCase(ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_ONE_TO_ONE)) {
+			if(relationshipType == RelationshipType.ONE_TO_ONE) {
 				Object value = null;
 				try {
-					value = ClassUtils.getValue(object, relationship.getGetterReferMethodName());
+					value = getValue(object, relationship);
 				} catch(SiminovException siminovException) {
 					Log.error(DatabaseHelper.class.getName(), "update", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
 					throw new DatabaseException(DatabaseHelper.class.getName(), "update", siminovException.getMessage());
@@ -1660,10 +2555,10 @@ Example: Make Beer Object
 				}
 
 				saveOrUpdate(value);
-			} else if(relationshipType.equalsIgnoreCase(ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_ONE_TO_MANY)) {
+			} else if(relationshipType == RelationshipType.ONE_TO_MANY) {
 				Iterator<?> relationshipValues = null;
 				try {
-					relationshipValues = (Iterator<?>) ClassUtils.getValue(object, relationship.getGetterReferMethodName());
+					relationshipValues = (Iterator<?>) getValue(object, relationship);
 				} catch(SiminovException siminovException) {
 					Log.error(DatabaseHelper.class.getName(), "update", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
 					throw new DatabaseException(DatabaseHelper.class.getName(), "update", siminovException.getMessage());
@@ -1677,10 +2572,10 @@ Example: Make Beer Object
 				while(relationshipValues.hasNext()) {
 					saveOrUpdate(relationshipValues.next());
 				}
-			} else if(relationshipType.equalsIgnoreCase(ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_MANY_TO_MANY)) {
+			} else if(relationshipType == RelationshipType.MANY_TO_MANY) {
 				Object value = null;
 				try {
-					value = ClassUtils.getValue(object, relationship.getGetterReferMethodName());
+					value = getValue(object, relationship);
 				} catch(SiminovException siminovException) {
 					Log.error(DatabaseHelper.class.getName(), "update", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
 					throw new DatabaseException(DatabaseHelper.class.getName(), "update", siminovException.getMessage());
@@ -1729,6 +2624,11 @@ Example: Make Beer Object
 	   	@throws DatabaseException If any error occurs while saving tuples in database.
 	 */
 	static void saveOrUpdate(final Object object) throws DatabaseException {
+		
+		if(object != null && WriteBehindQueue.saveOrUpdate(getEntityDescriptor(object.getClass().getName()), object)) {
+			return;
+		}
+		
 		saveOrUpdate(object, null);
 	}
 	
@@ -1738,9 +2638,10 @@ Example: Make Beer Object
 		
 		/*
 		 * 1. Get mapped entity descriptor object for object class name.
-		 * 2. Get Table Name, All Method Names, All Column Names, All Column Values, All Column Types, All, Primary Keys, by parsing each fields.
-		 * 3. Form where clause based on primary keys to fetch objects from database table. IF EXISTS: call update method, ELSE: class save method.
-		 * 4. IF EXISTS: call update method, ELSE: call save method.
+		 * 2. Get Table Name, All Method Names, All Column Names, All Column Values, All Column Types, by parsing each fields.
+		 * 3. Using QueryBuilder form upsert bind query, which inserts tuple or updates it if it already exists.
+		 * 4. Pass query to executeBindQuery method.
+		 * 5. Check for relationship's if any, IF EXISTS: process it, ELSE: return.
 		 */
 		
 		if(object == null) {
@@ -1751,11 +2652,12 @@ Example: Make Beer Object
 		/*
 		 * 1. Get mapped entity descriptor object for object class name.
 		 */
-		EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
-		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(object.getClass().getName());
+		final EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
+		final DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(object.getClass().getName());
 		
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
-		IDatabaseImpl database = databaseBundle.getDatabase();
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(object.getClass().getName());
+		final IDatabaseImpl database = databaseBundle.getDatabase();
+		QueryTemplates queryTemplates = databaseBundle.getQueryTemplates();
 
 		if(database == null) {
 			Log.error(DatabaseHelper.class.getName(), "saveOrUpdate", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
@@ -1763,55 +2665,47 @@ Example: Make Beer Object
 		}
 
 		/*
-		 * 2. Get Table Name, All Method Names, All Column Names, All Column Values, All Column Types, All, Primary Keys, by parsing each fields.
+		 * 2. Get Table Name, All Method Names, All Column Names, All Column Values, All Column Types, by parsing each fields.
 		 */
-		
-		StringBuilder whereClause = new StringBuilder();
-		Iterator<Attribute> attributes = entityDescriptor.getAttributes();
-		while(attributes.hasNext()) {
-			Attribute attribute = attributes.next();
-
-			if(attribute.isPrimaryKey()) {
-				Object columnValue = null;
-				try {
-					columnValue = ClassUtils.getValue(object, attribute.getGetterMethodName());
-				} catch(SiminovException siminovException) {
-					Log.error(DatabaseHelper.class.getName(), "saveOrUpdate", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
-					throw new DatabaseException(DatabaseHelper.class.getName(), "saveOrUpdate", siminovException.getMessage());
-				} 
+		Collection<String> columnNames = new ArrayList<String>();
+		final Collection<Object> columnValues = new ArrayList<Object>();
 
-				
-				if(whereClause.length() <= 0) {
-					whereClause.append(attribute.getColumnName() + "= '" + columnValue + "'");
-				} else {
-					whereClause.append(" AND " + attribute.getColumnName() + "= '" + columnValue + "'");
-				}
-			}
-		}
-		
+		formSaveColumns(object, entityDescriptor, columnNames, columnValues);
 		
-		RelationshipHelper.processRelationship(object, null, whereClause);
 		
+		/*
+		 * 3. Using QueryBuilder form upsert bind queries, which insert tuple or update it if it already exists. They are reused if they were already formed for same columns.
+		 */
+		final String[] queries = queryTemplates.getUpsertQueries(entityDescriptor, columnNames);
 		
-		if(whereClause == null || whereClause.length() <= 0) {
-			save(object, parentObject);
-			return;
-		}
-
 		
 		/*
-		 * 4. IF EXISTS: call update method, ELSE: call save method.
+		 * 4. Pass queries to executeBindQuery method. Update and insert queries, used if database can not upsert in a single statement, are executed in a transaction.
 		 */
-		int count = count(entityDescriptor, null, false, whereClause.toString(), null, null);
-		if(count <= 0) {
-			save(object, parentObject);
+		if(queries.length == 1) {
+			executeEntityWrite(database, databaseDescriptor, entityDescriptor, queries[0], columnValues.iterator());
 		} else {
-			update(object, parentObject);
+			Transaction.execute(databaseDescriptor, new ITransactionWork() {
+				
+				public void execute() throws DatabaseException {
+					for(int i = 0;i < queries.length;i++) {
+						executeEntityWrite(database, databaseDescriptor, entityDescriptor, queries[i], columnValues.iterator());
+					}
+				}
+			});
 		}
+		
+		invalidateCaches(entityDescriptor, object);
+		
+		
+		/*
+		 * 5. Check for relationship's if any, IF EXISTS: process it, ELSE: return.
+		 */
+		processSaveRelationships(object, parentObject, entityDescriptor);
 	}
 	
 
-	static void delete(final Object object, final String whereClause) throws DatabaseException {
+	static void delete(final Object object, final String whereClause, final Object[] arguments) throws DatabaseException {
 		/*
 		 * 1. Get mapped entity descriptor object for object parameter class name.
 		 * 2. Get Table Name, All Method Names, All Column Names, All Column Values, All Column Types, All, Primary Keys, by parsing each fields.
@@ -1830,9 +2724,21 @@ Example: Make Beer Object
 		 * 1. Get mapped entity descriptor object for object parameter class name.
 		 */
 		EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
+		
+		/*
+		 * Delete of object can be buffered, delete based on where clause has to see buffered writes of entity.
+		 */
+		if(whereClause == null || whereClause.length() <= 0) {
+			if(WriteBehindQueue.delete(entityDescriptor, object)) {
+				return;
+			}
+		} else {
+			WriteBehindQueue.flush(entityDescriptor);
+		}
+		
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(object.getClass().getName());
 		
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(object.getClass().getName());
 		IDatabaseImpl database = databaseBundle.getDatabase();
 		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
 
@@ -1841,63 +2747,69 @@ Example: Make Beer Object
 			throw new DeploymentException(DatabaseHelper.class.getName(), "delete", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
 		}
 		
-		StringBuilder where = new StringBuilder();
-		
 		if(whereClause == null || whereClause.length() <= 0) {
-			Iterator<Attribute> attributes = entityDescriptor.getAttributes();
 			
-			while(attributes.hasNext()) {
-				Attribute attribute = attributes.next();
+			/*
+			 * 3. Match tuple on primary keys, and foreign keys of relationships which are part of primary key.
+			 */
+			Collection<String> keyColumnNames = new ArrayList<String>();
+			Collection<Object> keyColumnValues = new ArrayList<Object>();
+			
+			Attribute[] primaryKeys = entityDescriptor.getPlan().getPrimaryKeys();
+			for(int i = 0;i < primaryKeys.length;i++) {
 				
-				Object columnValue = null;
 				try {
-					columnValue = ClassUtils.getValue(object, attribute.getGetterMethodName());
+					keyColumnNames.add(primaryKeys[i].getColumnName());
+					keyColumnValues.add(getValue(object, primaryKeys[i]));
 				} catch(SiminovException siminovException) {
 					Log.error(DatabaseHelper.class.getName(), "delete", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
 					throw new DatabaseException(DatabaseHelper.class.getName(), "delete", siminovException.getMessage());
 				} 
-
-				
-				/*
-				 * 3. Form where clause based on primary keys for deletion purpose.
-				 */
-				if(attribute.isPrimaryKey()) {
-					if(where.length() <= 0) {
-						where.append(attribute.getColumnName() + "= '" + columnValue + "'");							
-					} else {
-						where.append(" AND " + attribute.getColumnName() + "= '" + columnValue + "'");							
-					}
-				}
 			}
 
-			RelationshipHelper.processRelationship(object, null, where);
+			RelationshipHelper.processRelationship(object, null, keyColumnNames, keyColumnValues);
+			
+			/*
+			 * 4. Using QueryBuilder form delete bind query, or reuse it if it was already formed for same keys.
+			 * 5. Pass query to executeBindQuery method for deletion.
+			 */
+			String query = databaseBundle.getQueryTemplates().getDeleteQuery(entityDescriptor, keyColumnNames);
+			database.executeBindQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query, keyColumnValues.iterator());
 		} else {
-			where.append(whereClause);
+			
+			/*
+			 * 4. Using QueryBuilder form delete query.
+			 */
+			String query = queryBuilder.formDeleteQuery(new DeleteSpec(entityDescriptor.getTableName(), whereClause));
+			
+			/*
+			 * 5. Pass query to executeBindQuery method for deletion.
+			 */
+			if(arguments != null && arguments.length > 0) {
+				database.executeBindQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query, Arrays.asList(arguments).iterator());
+			} else {
+				database.executeQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query);
+			}
 		}
 		
 		/*
-		 * 4. Using QueryBuilder form update bind query.
+		 * Deleted tuple may cascade to tuples of other entities, so all entity caches and query cache of database are cleared.
 		 */
+		EntityCache.clearAll();
 		
-		Map<String, Object> parameters = new HashMap<String, Object> ();
-		parameters.put(IQueryBuilder.FORM_DELETE_QUERY_TABLE_NAME_PARAMETER, entityDescriptor.getTableName());
-		parameters.put(IQueryBuilder.FORM_DELETE_QUERY_WHERE_CLAUSE_PARAMETER, where.toString());
-
-		
-		String query = queryBuilder.formDeleteQuery(parameters);
-		/*
-		 * 5. Pass query to executeBindQuery method for deletion.
-		 */
-		database.executeQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query);
+		QueryCache queryCache = databaseBundle.getQueryCache();
+		if(queryCache != null) {
+			queryCache.clear();
+		}
 	}
 	
 
-	static final int count(final EntityDescriptor entityDescriptor, final String column, final boolean distinct, final String whereClause, final Iterator<String> groupBys, final String having) throws DatabaseException {
+	static final int count(final EntityDescriptor entityDescriptor, final String column, final boolean distinct, final String whereClause, final Iterator<String> groupBys, final String having, final Object[] arguments) throws DatabaseException {
 		
 		Siminov.isActive();
 		
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
 		
 		IDatabaseImpl database = databaseBundle.getDatabase();
 		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
@@ -1908,47 +2820,21 @@ Example: Make Beer Object
 		}
 
 		
-		Map<String, Object> parameters = new HashMap<String, Object> ();
-		parameters.put(IQueryBuilder.FORM_COUNT_QUERY_TABLE_NAME_PARAMETER, entityDescriptor.getTableName());
-		parameters.put(IQueryBuilder.FORM_COUNT_QUERY_COLUMN_PARAMETER, column);
-		parameters.put(IQueryBuilder.FORM_COUNT_QUERY_DISTINCT_PARAMETER, distinct);
-		parameters.put(IQueryBuilder.FORM_COUNT_QUERY_WHERE_CLAUSE_PARAMETER, whereClause);
-		parameters.put(IQueryBuilder.FORM_COUNT_QUERY_GROUP_BYS_PARAMETER, groupBys);
-		parameters.put(IQueryBuilder.FORM_COUNT_QUERY_HAVING_PARAMETER, having);
-		
-		
-		String query = queryBuilder.formCountQuery(parameters);
-
-		Iterator<Map<String, Object>> datas = database.executeSelectQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query);
-		while(datas.hasNext()) {
-			Map<String, Object> data = datas.next();
-			Collection<Object> parse = data.values();
-
-			Iterator<Object> values = parse.iterator();
-			while(values.hasNext()) {
-
-				Object value = values.next();
-				if(value instanceof Integer) {
-					return ((Integer) value).intValue();
-				} else if(value instanceof Long) {
-					return ((Long) value).intValue();
-				} else if(value instanceof Float) {
-					return ((Float) value).intValue();
-				}
-
-			}
-		}
-		
-		return 0;
+		AggregateSpec aggregateSpec = new AggregateSpec(Function.COUNT, entityDescriptor.getTableName(), column);
+		aggregateSpec.setDistinct(distinct);
+		aggregateSpec.setWhereClause(whereClause);
+		aggregateSpec.setGroupBys(SelectSpec.toArray(groupBys));
+		aggregateSpec.setHaving(having);
 
+		return aggregate(entityDescriptor, queryBuilder.formAggregateQuery(aggregateSpec), arguments);
 	}
 	
-	static final int avg(final EntityDescriptor entityDescriptor, final String column, final String whereClause, final Iterator<String> groupBys, final String having) throws DatabaseException {
+	static final int avg(final EntityDescriptor entityDescriptor, final String column, final String whereClause, final Iterator<String> groupBys, final String having, final Object[] arguments) throws DatabaseException {
 		
 		Siminov.isActive();
 		
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
 		
 		IDatabaseImpl database = databaseBundle.getDatabase();
 		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
@@ -1959,47 +2845,21 @@ Example: Make Beer Object
 		}
 
 		
-		Map<String, Object> parameters = new HashMap<String, Object>();
-		parameters.put(IQueryBuilder.FORM_AVG_QUERY_TABLE_NAME_PARAMETER, entityDescriptor.getTableName());
-		parameters.put(IQueryBuilder.FORM_AVG_QUERY_COLUMN_PARAMETER, column);
-		parameters.put(IQueryBuilder.FORM_AVG_QUERY_WHERE_CLAUSE_PARAMETER, whereClause);
-		parameters.put(IQueryBuilder.FORM_AVG_QUERY_GROUP_BYS_PARAMETER, groupBys);
-		parameters.put(IQueryBuilder.FORM_AVG_QUERY_HAVING_PARAMETER, having);
-		
-		
-		String query = queryBuilder.formAvgQuery(parameters);
-
-		Iterator<Map<String, Object>> datas = database.executeSelectQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query);
-		while(datas.hasNext()) {
-			Map<String, Object> data = datas.next();
-			Collection<Object> parse = data.values();
-
-			Iterator<Object> values = parse.iterator();
-			while(values.hasNext()) {
+		AggregateSpec aggregateSpec = new AggregateSpec(Function.AVG, entityDescriptor.getTableName(), column);
+		aggregateSpec.setWhereClause(whereClause);
+		aggregateSpec.setGroupBys(SelectSpec.toArray(groupBys));
+		aggregateSpec.setHaving(having);
 
-				Object value = values.next();
-				if(value instanceof Integer) {
-					return ((Integer) value).intValue();
-				} else if(value instanceof Long) {
-					return ((Long) value).intValue();
-				} else if(value instanceof Float) {
-					return ((Float) value).intValue();
-				}
-			
-			}
-		}
-		
-		return 0;
-		
+		return aggregate(entityDescriptor, queryBuilder.formAggregateQuery(aggregateSpec), arguments);
 	}
 	
 	
-	static final int sum(final EntityDescriptor entityDescriptor, final String column, final String whereClause, final Iterator<String> groupBys, final String having) throws DatabaseException {
+	static final int sum(final EntityDescriptor entityDescriptor, final String column, final String whereClause, final Iterator<String> groupBys, final String having, final Object[] arguments) throws DatabaseException {
 		
 		Siminov.isActive();
 		
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
 		
 		IDatabaseImpl database = databaseBundle.getDatabase();
 		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
@@ -2010,46 +2870,20 @@ Example: Make Beer Object
 		}
 
 		
-		Map<String, Object> parameters = new HashMap<String, Object>();
-		parameters.put(IQueryBuilder.FORM_SUM_QUERY_TABLE_NAME_PARAMETER, entityDescriptor.getTableName());
-		parameters.put(IQueryBuilder.FORM_SUM_QUERY_COLUMN_PARAMETER, column);
-		parameters.put(IQueryBuilder.FORM_SUM_QUERY_WHERE_CLAUSE_PARAMETER, whereClause);
-		parameters.put(IQueryBuilder.FORM_SUM_QUERY_GROUP_BYS_PARAMETER, groupBys);
-		parameters.put(IQueryBuilder.FORM_SUM_QUERY_HAVING_PARAMETER, having);
-		
-		
-		String query = queryBuilder.formSumQuery(parameters);
-
-		Iterator<Map<String, Object>> datas = database.executeSelectQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query);
-		while(datas.hasNext()) {
-			Map<String, Object> data = datas.next();
-			Collection<Object> parse = data.values();
-
-			Iterator<Object> values = parse.iterator();
-			while(values.hasNext()) {
-
-				Object value = values.next();
-				if(value instanceof Integer) {
-					return ((Integer) value).intValue();
-				} else if(value instanceof Long) {
-					return ((Long) value).intValue();
-				} else if(value instanceof Float) {
-					return ((Float) value).intValue();
-				}
+		AggregateSpec aggregateSpec = new AggregateSpec(Function.SUM, entityDescriptor.getTableName(), column);
+		aggregateSpec.setWhereClause(whereClause);
+		aggregateSpec.setGroupBys(SelectSpec.toArray(groupBys));
+		aggregateSpec.setHaving(having);
 
-			}
-		}
-		
-		return 0;
-		
+		return aggregate(entityDescriptor, queryBuilder.formAggregateQuery(aggregateSpec), arguments);
 	}
 	
-	static final int total(final EntityDescriptor entityDescriptor, final String column, final String whereClause, final Iterator<String> groupBys, final String having) throws DatabaseException {
+	static final int total(final EntityDescriptor entityDescriptor, final String column, final String whereClause, final Iterator<String> groupBys, final String having, final Object[] arguments) throws DatabaseException {
 		
 		Siminov.isActive();
 		
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
 		
 		IDatabaseImpl database = databaseBundle.getDatabase();
 		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
@@ -2060,96 +2894,44 @@ Example: Make Beer Object
 		}
 
 		
-		Map<String, Object> parameters = new HashMap<String, Object>();
-		parameters.put(IQueryBuilder.FORM_TOTAL_QUERY_TABLE_NAME_PARAMETER, entityDescriptor.getTableName());
-		parameters.put(IQueryBuilder.FORM_TOTAL_QUERY_COLUMN_PARAMETER, column);
-		parameters.put(IQueryBuilder.FORM_TOTAL_QUERY_WHERE_CLAUSE_PARAMETER, whereClause);
-		parameters.put(IQueryBuilder.FORM_TOTAL_QUERY_GROUP_BYS_PARAMETER, groupBys);
-		parameters.put(IQueryBuilder.FORM_TOTAL_QUERY_HAVING_PARAMETER, having);
-		
-		
-		String query = queryBuilder.formTotalQuery(parameters);
-
-		Iterator<Map<String, Object>> datas = database.executeSelectQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query);
-		while(datas.hasNext()) {
-			Map<String, Object> data = datas.next();
-			Collection<Object> parse = data.values();
-
-			Iterator<Object> values = parse.iterator();
-			while(values.hasNext()) {
-
-				Object value = values.next();
-				if(value instanceof Integer) {
-					return ((Integer) value).intValue();
-				} else if(value instanceof Long) {
-					return ((Long) value).intValue();
-				} else if(value instanceof Float) {
-					return ((Float) value).intValue();
-				}
+		AggregateSpec aggregateSpec = new AggregateSpec(Function.TOTAL, entityDescriptor.getTableName(), column);
+		aggregateSpec.setWhereClause(whereClause);
+		aggregateSpec.setGroupBys(SelectSpec.toArray(groupBys));
+		aggregateSpec.setHaving(having);
 
-			}
-		}
-		
-		return 0;
-		
+		return aggregate(entityDescriptor, queryBuilder.formAggregateQuery(aggregateSpec), arguments);
 	}
 	
-	static final int min(final EntityDescriptor entityDescriptor, final String column, final String whereClause, final Iterator<String> groupBys, final String having) throws DatabaseException {
+	static final int min(final EntityDescriptor entityDescriptor, final String column, final String whereClause, final Iterator<String> groupBys, final String having, final Object[] arguments) throws DatabaseException {
 		
 		Siminov.isActive();
 
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
 		
 		IDatabaseImpl database = databaseBundle.getDatabase();
 		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
 
-		if(database == null) {
-			Log.error(DatabaseHelper.class.getName(), "min", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
-			throw new DeploymentException(DatabaseHelper.class.getName(), "min", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
-		}
-
-		
-		Map<String, Object> parameters = new HashMap<String, Object>();
-		parameters.put(IQueryBuilder.FORM_MIN_QUERY_TABLE_NAME_PARAMETER, entityDescriptor.getTableName());
-		parameters.put(IQueryBuilder.FORM_MIN_QUERY_COLUMN_PARAMETER, column);
-		parameters.put(IQueryBuilder.FORM_MIN_QUERY_WHERE_CLAUSE_PARAMETER, whereClause);
-		parameters.put(IQueryBuilder.FORM_MIN_QUERY_GROUP_BYS_PARAMETER, groupBys);
-		parameters.put(IQueryBuilder.FORM_MIN_QUERY_HAVING_PARAMETER, having);
-		
-		
-		String query = queryBuilder.formMinQuery(parameters);
-
-		Iterator<Map<String, Object>> datas = database.executeSelectQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query);
-		while(datas.hasNext()) {
-			Map<String, Object> data = datas.next();
-			Collection<Object> parse = data.values();
-
-			Iterator<Object> values = parse.iterator();
-			while(values.hasNext()) {
-
-				Object value = values.next();
-				if(value instanceof Integer) {
-					return ((Integer) value).intValue();
-				} else if(value instanceof Long) {
-					return ((Long) value).intValue();
-				} else if(value instanceof Float) {
-					return ((Float) value).intValue();
-				}
-
-			}
+		if(database == null) {
+			Log.error(DatabaseHelper.class.getName(), "min", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
+			throw new DeploymentException(DatabaseHelper.class.getName(), "min", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
 		}
+
 		
-		return 0;
-		
+		AggregateSpec aggregateSpec = new AggregateSpec(Function.MIN, entityDescriptor.getTableName(), column);
+		aggregateSpec.setWhereClause(whereClause);
+		aggregateSpec.setGroupBys(SelectSpec.toArray(groupBys));
+		aggregateSpec.setHaving(having);
+
+		return aggregate(entityDescriptor, queryBuilder.formAggregateQuery(aggregateSpec), arguments);
 	}
 	
-	static final int max(final EntityDescriptor entityDescriptor, final String column, final String whereClause, final Iterator<String> groupBys, final String having) throws DatabaseException {
+	static final int max(final EntityDescriptor entityDescriptor, final String column, final String whereClause, final Iterator<String> groupBys, final String having, final Object[] arguments) throws DatabaseException {
 		
 		Siminov.isActive();
 		
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
 		
 		IDatabaseImpl database = databaseBundle.getDatabase();
 		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
@@ -2160,17 +2942,51 @@ Example: Make Beer Object
 		}
 
 		
-		Map<String, Object> parameters = new HashMap<String, Object>();
-		parameters.put(IQueryBuilder.FORM_MAX_QUERY_TABLE_NAME_PARAMETER, entityDescriptor.getTableName());
-		parameters.put(IQueryBuilder.FORM_MAX_QUERY_COLUMN_PARAMETER, column);
-		parameters.put(IQueryBuilder.FORM_MAX_QUERY_WHERE_CLAUSE_PARAMETER, whereClause);
-		parameters.put(IQueryBuilder.FORM_MAX_QUERY_GROUP_BYS_PARAMETER, groupBys);
-		parameters.put(IQueryBuilder.FORM_MAX_QUERY_HAVING_PARAMETER, having);
+		AggregateSpec aggregateSpec = new AggregateSpec(Function.MAX, entityDescriptor.getTableName(), column);
+		aggregateSpec.setWhereClause(whereClause);
+		aggregateSpec.setGroupBys(SelectSpec.toArray(groupBys));
+		aggregateSpec.setHaving(having);
+
+		return aggregate(entityDescriptor, queryBuilder.formAggregateQuery(aggregateSpec), arguments);
+	}
+	
+	static final String groupConcat(final EntityDescriptor entityDescriptor, final String column, final String delimiter, final String whereClause, Iterator<String> groupBys, final String having, final Object[] arguments) throws DatabaseException {
+		
+		Siminov.isActive();
+		
+		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName(entityDescriptor.getClassName());
 		
+		IDatabaseImpl database = databaseBundle.getDatabase();
+		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
+
+		if(database == null) {
+			Log.error(DatabaseHelper.class.getName(), "groupConcat", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
+			throw new DeploymentException(DatabaseHelper.class.getName(), "groupConcat", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
+		}
+
 		
-		String query = queryBuilder.formMaxQuery(parameters);
+		AggregateSpec aggregateSpec = new AggregateSpec(Function.GROUP_CONCAT, entityDescriptor.getTableName(), column);
+		aggregateSpec.setDelimiter(delimiter);
+		aggregateSpec.setWhereClause(whereClause);
+		aggregateSpec.setGroupBys(SelectSpec.toArray(groupBys));
+		aggregateSpec.setHaving(having);
 
-		Iterator<Map<String, Object>> datas = database.executeSelectQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query);
+		return groupConcat(entityDescriptor, queryBuilder.formAggregateQuery(aggregateSpec), arguments);
+	}
+	
+	/**
+	 	Execute count, avg, sum, total, min or max query already formed from aggregate specification.
+	 	
+	 	@param entityDescriptor Entity Descriptor of mapped table.
+	 	@param query Aggregate query.
+	 	@param arguments Values of ? placeholders.
+	 	@return Value of aggregate, 0 if query returns none.
+	 	@throws DatabaseException If any error occur while executing query.
+	 */
+	static int aggregate(final EntityDescriptor entityDescriptor, final String query, final Object[] arguments) throws DatabaseException {
+		
+		Iterator<Map<String, Object>> datas = executeSelectQuery(entityDescriptor, query, arguments, Collections.singletonList(entityDescriptor.getTableName()));
 		while(datas.hasNext()) {
 			Map<String, Object> data = datas.next();
 			Collection<Object> parse = data.values();
@@ -2186,42 +3002,24 @@ Example: Make Beer Object
 				} else if(value instanceof Float) {
 					return ((Float) value).intValue();
 				}
-
 			}
 		}
 		
 		return 0;
-		
 	}
 	
-	static final String groupConcat(final EntityDescriptor entityDescriptor, final String column, final String delimiter, final String whereClause, Iterator<String> groupBys, final String having) throws DatabaseException {
-		
-		Siminov.isActive();
-		
-		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptor(entityDescriptor.getClassName());
-		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundle(databaseDescriptor.getDatabaseName());
-		
-		IDatabaseImpl database = databaseBundle.getDatabase();
-		IQueryBuilder queryBuilder = databaseBundle.getQueryBuilder();
-
-		if(database == null) {
-			Log.error(DatabaseHelper.class.getName(), "groupConcat", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
-			throw new DeploymentException(DatabaseHelper.class.getName(), "groupConcat", "No Database Instance Found For ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName());
-		}
-
-		
-		Map<String, Object> parameters = new HashMap<String, Object>();
-		parameters.put(IQueryBuilder.FORM_GROUP_CONCAT_QUERY_TABLE_NAME_PARAMETER, entityDescriptor.getTableName());
-		parameters.put(IQueryBuilder.FORM_GROUP_CONCAT_QUERY_COLUMN_PARAMETER, column);
-		parameters.put(IQueryBuilder.FORM_GROUP_CONCAT_QUERY_DELIMITER_PARAMETER, delimiter);
-		parameters.put(IQueryBuilder.FORM_GROUP_CONCAT_QUERY_WHERE_CLAUSE_PARAMETER, whereClause);
-		parameters.put(IQueryBuilder.FORM_GROUP_CONCAT_QUERY_GROUP_BYS_PARAMETER, groupBys);
-		parameters.put(IQueryBuilder.FORM_GROUP_CONCAT_QUERY_HAVING_PARAMETER, having);
-		
+	/**
+	 	Execute group concat query already formed from aggregate specification.
+	 	
+	 	@param entityDescriptor Entity Descriptor of mapped table.
+	 	@param query Group concat query.
+	 	@param arguments Values of ? placeholders.
+	 	@return Concatenated values, NULL if query returns none.
+	 	@throws DatabaseException If any error occur while executing query.
+	 */
+	static String groupConcat(final EntityDescriptor entityDescriptor, final String query, final Object[] arguments) throws DatabaseException {
 		
-		String query = queryBuilder.formGroupConcatQuery(parameters);
-
-		Iterator<Map<String, Object>> datas = database.executeSelectQuery(getDatabaseDescriptor(entityDescriptor.getClassName()), entityDescriptor, query);
+		Iterator<Map<String, Object>> datas = executeSelectQuery(entityDescriptor, query, arguments, Collections.singletonList(entityDescriptor.getTableName()));
 		while(datas.hasNext()) {
 			Map<String, Object> data = datas.next();
 			Collection<Object> parse = data.values();
@@ -2233,7 +3031,6 @@ Example: Make Beer Object
 		}
 		
 		return null;
-		
 	}
 
 	/**
@@ -2433,7 +3230,7 @@ Example:
 			Attribute attribute = attributes.next();
 			
 			try {
-				columnNameAndItsValues.put(attribute.getColumnName(), ClassUtils.getValue(object, attribute.getGetterMethodName()));
+				columnNameAndItsValues.put(attribute.getColumnName(), getValue(object, attribute));
 			} catch(SiminovException siminovException) {
 				Log.error(DatabaseHelper.class.getName(), "getColumnValues", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
 				throw new DatabaseException(DatabaseHelper.class.getName(), "getColumnValues", siminovException.getMessage());
@@ -2462,7 +3259,7 @@ Example:
 				boolean isPrimary = attribute.isPrimaryKey();
 				if(isPrimary) {
 					try {
-						columnNameAndItsValues.put(attribute.getColumnName(), ClassUtils.getValue(object, attribute.getGetterMethodName()));
+						columnNameAndItsValues.put(attribute.getColumnName(), getValue(object, attribute));
 					} catch(SiminovException siminovException) {
 						Log.error(DatabaseHelper.class.getName(), "getColumnValues", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
 						throw new DatabaseException(DatabaseHelper.class.getName(), "getColumnValues", siminovException.getMessage());
@@ -2482,7 +3279,7 @@ Example:
 				boolean isPrimary = attribute.isPrimaryKey();
 				if(isPrimary) {
 					try {
-						columnNameAndItsValues.put(attribute.getColumnName(), ClassUtils.getValue(object, attribute.getGetterMethodName()));
+						columnNameAndItsValues.put(attribute.getColumnName(), getValue(object, attribute));
 					} catch(SiminovException siminovException) {
 						Log.error(DatabaseHelper.class.getName(), "getColumnValues", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
 						throw new DatabaseException(DatabaseHelper.class.getName(), "getColumnValues", siminovException.getMessage());
@@ -2839,103 +3636,452 @@ Example:
 		Iterator<Relationship> oneToManyRealtionships = entityDescriptor.getManyToOneRelationships();
 		Iterator<Relationship> manyToManyRealtionships = entityDescriptor.getManyToManyRelationships();
 		
-		Collection<Attribute> foreignAttributes = new ArrayList<Attribute>();
+		Collection<Attribute> foreignAttributes = new ArrayList<Attribute>(Arrays.asList(entityDescriptor.getPlan().getPrimaryKeys()));
+		
+		while(oneToManyRealtionships.hasNext()) {
+			
+			Relationship relationship = oneToManyRealtionships.next();
+			EntityDescriptor referedEntityDescriptor = relationship.getReferedEntityDescriptor();
+			
+			Collection<Attribute> referedForeignKeys = getForeignKeys(referedEntityDescriptor);
+			Iterator<Attribute> referedForeignKeysIterate = referedForeignKeys.iterator();
+			
+			while(referedForeignKeysIterate.hasNext()) {
+				foreignAttributes.add(referedForeignKeysIterate.next());
+			}
+		}
+
+		while(manyToManyRealtionships.hasNext()) {
+			
+			Relationship relationship = manyToManyRealtionships.next();
+			EntityDescriptor referedEntityDescriptor = relationship.getReferedEntityDescriptor();
+			
+			Collection<Attribute> referedForeignKeys = getForeignKeys(referedEntityDescriptor);
+			Iterator<Attribute> referedForeignKeysIterate = referedForeignKeys.iterator();
+			
+			while(referedForeignKeysIterate.hasNext()) {
+				foreignAttributes.add(referedForeignKeysIterate.next());
+			}
+		}
+
+		return foreignAttributes;
+	}
+	
+	/**
+ 		Iterates the provided cursor, and returns tuples in form of actual objects.
+	 */
+	static Iterator<Object> parseAndInflateData(final Object object, final Object parentObject, final EntityDescriptor entityDescriptor, Iterator<Map<String, Object>> values) throws DatabaseException {
+		Siminov.isActive();
+
+		Class<?> classObject = null;
+		if(entityDescriptor == null) {
+			classObject = object.getClass();				
+		} else {
+			classObject = entityDescriptor.getClassObject();
+		}
+
+		Collection<Object> tuples = new LinkedList<Object>();
+		while(values.hasNext()) {
+			tuples.add(inflateData(classObject, entityDescriptor, values.next()));
+		}
+		
+		return tuples.iterator();
+	}
+
+	/**
+		Cursor which inflates one object, and processes its relationships, per tuple read from database cursor.
+	 */
+	private static class EntityCursor implements ICursor<Object> {
+		
+		private final ICursor<Map<String, Object>> datas;
+		private final Object parentObject;
+		private final EntityDescriptor entityDescriptor;
+		private final Collection<Relationship> joins;
+		
+		private EntityCursor(final ICursor<Map<String, Object>> datas, final Object parentObject, final EntityDescriptor entityDescriptor, final Collection<Relationship> joins) {
+			this.datas = datas;
+			this.parentObject = parentObject;
+			this.entityDescriptor = entityDescriptor;
+			this.joins = joins;
+		}
+		
+		public boolean hasNext() throws DatabaseException {
+			return datas.hasNext();
+		}
+		
+		public Object next() throws DatabaseException {
+			
+			Map<String, Object> data = datas.next();
+			
+			try {
+				Object tuple = inflateData(entityDescriptor.getClassObject(), entityDescriptor, data);
+				
+				List<Object> tuples = Collections.singletonList(tuple);
+				List<Map<String, Object>> tupleDatas = Collections.singletonList(data);
+				
+				inflateJoins(entityDescriptor, joins, tuples, tupleDatas);
+				RelationshipHelper.processRelationships(entityDescriptor, tuples, tupleDatas, parentObject != null ? parentObject.getClass().getName() : null, joins);
+				
+				return tuple;
+			} catch(DatabaseException databaseException) {
+				datas.close();
+				throw databaseException;
+			}
+		}
+		
+		public void close() {
+			datas.close();
+		}
+	}
+
+	/**
+		Creates object of class provided and inflates it with a single tuple.
+		If a session is open, object already loaded in it for same primary key is returned instead.
+	 */
+	private static Object inflateData(final Class<?> classObject, final EntityDescriptor entityDescriptor, final Map<String, Object> value) throws DatabaseException {
+		
+		Session session = Session.getCurrentSession();
+		if(session == null || entityDescriptor == null) {
+			return createAndInflateData(classObject, entityDescriptor, value);
+		}
+		
+		String[] identityColumnNames = getIdentityColumnNames(entityDescriptor);
+		
+		Object[] identityValues = new Object[identityColumnNames.length];
+		for(int i = 0;i < identityColumnNames.length;i++) {
+			identityValues[i] = value.get(identityColumnNames[i]);
+		}
+		
+		if(identityValues.length <= 0 || Arrays.asList(identityValues).contains(null)) {
+			return createAndInflateData(classObject, entityDescriptor, value);
+		}
+		
+		List<String> identityKey = RelationshipHelper.formKey(identityValues);
+		
+		Object inflatedObject = session.get(entityDescriptor, identityKey);
+		if(inflatedObject == null) {
+			inflatedObject = createAndInflateData(classObject, entityDescriptor, value);
+			session.put(entityDescriptor, identityKey, inflatedObject);
+		}
+		
+		return inflatedObject;
+	}
+	
+	/**
+		Get columns which identify a tuple of entity: primary key attributes, followed by foreign keys which are part of primary key.
+		They are computed once per plan of entity descriptor, and computed again once plan is compiled again.
+	 */
+	private static String[] getIdentityColumnNames(final EntityDescriptor entityDescriptor) throws DatabaseException {
+		
+		EntityDescriptor.Plan plan = entityDescriptor.getPlan();
+		
+		String[] identityColumnNames = identityColumnNamesBasedOnPlan.get(plan);
+		if(identityColumnNames != null) {
+			return identityColumnNames;
+		}
+		
+		Collection<Attribute> identityAttributes = getForeignKeys(entityDescriptor);
+		
+		identityColumnNames = new String[identityAttributes.size()];
+		Iterator<Attribute> identityAttributesIterator = identityAttributes.iterator();
+		
+		for(int i = 0;i < identityColumnNames.length;i++) {
+			identityColumnNames[i] = identityAttributesIterator.next().getColumnName();
+		}
+		
+		identityColumnNamesBasedOnPlan.put(plan, identityColumnNames);
+		return identityColumnNames;
+	}
+
+	private static Object createAndInflateData(final Class<?> classObject, final EntityDescriptor entityDescriptor, final Map<String, Object> value) throws DatabaseException {
+		
+		if(entityDescriptor != null && entityDescriptor.getEntityMapper() != null) {
+			
+			Object inflatedObject = entityDescriptor.getEntityMapper().fromRow(value);
+			if(entityDescriptor.isTrackChanges()) {
+				trackChanges(inflatedObject, entityDescriptor, value);
+			}
+			
+			return inflatedObject;
+		}
+		
+		Object inflatedObject = ClassUtils.createClassInstance(classObject);
+		
+		if(entityDescriptor != null && value instanceof RowPlan.Row && ((RowPlan.Row) value).getRowPlan().getEntityDescriptor() == entityDescriptor) {
+			
+			/*
+			 * Columns are already resolved to attributes by row plan, set values based on column index.
+			 */
+			RowPlan.Row row = (RowPlan.Row) value;
+			RowPlan rowPlan = row.getRowPlan();
+			
+			int columnCount = rowPlan.getColumnCount();
+			for(int i = 0;i < columnCount;i++) {
+				
+				Attribute attribute = rowPlan.getAttribute(i);
+				Object columnValue = row.getValue(i);
+				
+				if(attribute == null || columnValue == null) {
+					continue;
+				}
+				
+				try {
+					setValue(inflatedObject, attribute, columnValue);
+				} catch(SiminovException siminovException) {
+					Log.error(DatabaseHelper.class.getName(), "parseAndInflateData", "SiminovException caught while create and inflate object through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
+					throw new DatabaseException(DatabaseHelper.class.getName(), "parseAndInflateData", siminovException.getMessage());
+				}
+			}
+		} else if(entityDescriptor != null) {
+
+			Iterator<Map.Entry<String, Object>> columns = value.entrySet().iterator();
+			while(columns.hasNext()) {
+				Map.Entry<String, Object> column = columns.next();
+				
+				Attribute attribute = entityDescriptor.getAttributeBasedOnColumnName(column.getKey());
+				if(attribute == null || column.getValue() == null) {
+					continue;
+				}
+				
+				try {
+					setValue(inflatedObject, attribute, column.getValue());
+				} catch(SiminovException siminovException) {
+					Log.error(DatabaseHelper.class.getName(), "parseAndInflateData", "SiminovException caught while create and inflate object through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
+					throw new DatabaseException(DatabaseHelper.class.getName(), "parseAndInflateData", siminovException.getMessage());
+				}
+			}
+		}
+		
+		if(entityDescriptor != null && entityDescriptor.isTrackChanges()) {
+			trackChanges(inflatedObject, entityDescriptor, value);
+		}
+		
+		return inflatedObject;
+	}
+
+	/**
+		Take snapshot of column values of object just inflated from tuple, so update can write only changed columns.
+		Attribute values are read back from object, so they are compared in same type on update. Foreign key columns are kept as read from tuple.
+	 */
+	private static void trackChanges(final Object object, final EntityDescriptor entityDescriptor, final Map<String, Object> value) throws DatabaseException {
+		
+		Map<String, Object> snapshot = new HashMap<String, Object>();
+		
+		Iterator<Map.Entry<String, Object>> columns = value.entrySet().iterator();
+		while(columns.hasNext()) {
+			Map.Entry<String, Object> column = columns.next();
+			
+			String columnName = column.getKey();
+			if(columnName.indexOf(RowPlan.JOIN_COLUMN_SEPARATOR) != -1 || entityDescriptor.containsAttributeBasedOnColumnName(columnName)) {
+				continue;
+			}
+			
+			snapshot.put(columnName, column.getValue());
+		}
+		
+		String[] columnNames = entityDescriptor.getPlan().getColumnNames();
+		Iterator<Object> columnValues = getColumnValues(object, entityDescriptor).iterator();
+		
+		for(int i = 0;i < columnNames.length;i++) {
+			
+			Object columnValue = columnValues.next();
+			if(columnValue instanceof byte[]) {
+				columnValue = ((byte[]) columnValue).clone();
+			}
+			
+			snapshot.put(columnNames[i], columnValue);
+		}
+		
+		ChangeTracker.track(object, snapshot);
+	}
+
+	/**
+		Get values of all attributes of object, in order of attributes. Entity mapper is used if it is generated for mapped class.
+	 */
+	private static Collection<Object> getColumnValues(final Object object, final EntityDescriptor entityDescriptor) throws DatabaseException {
+		
+		Collection<Object> columnValues = new ArrayList<Object>();
+		
+		IEntityMapper<Object> entityMapper = entityDescriptor.getEntityMapper();
+		if(entityMapper != null) {
+			entityMapper.bindUpdate(object, columnValues);
+			return columnValues;
+		}
+		
+		Attribute[] attributes = entityDescriptor.getPlan().getAttributes();
+		for(int i = 0;i < attributes.length;i++) {
+			
+			try {
+				columnValues.add(getValue(object, attributes[i]));
+			} catch(SiminovException siminovException) {
+				Log.error(DatabaseHelper.class.getName(), "getColumnValues", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
+				throw new DatabaseException(DatabaseHelper.class.getName(), "getColumnValues", siminovException.getMessage());
+			}
+		}
+		
+		return columnValues;
+	}
+
+	
+	/**
+	 * Get column value through getter method of attribute, resolved when entity descriptor was loaded.
+	 */
+	private static Object getValue(final Object object, final Attribute attribute) throws SiminovException {
+		
+		Method getterMethod = attribute.getGetterMethod();
+		if(getterMethod == null || !getterMethod.getDeclaringClass().isInstance(object)) {
+			return ClassUtils.getValue(object, attribute.getGetterMethodName());
+		}
+		
+		return ClassUtils.getValue(object, getterMethod);
+	}
+
+	/**
+	 * Get refered object through getter method of relationship, resolved when entity descriptor was loaded.
+	 */
+	private static Object getValue(final Object object, final Relationship relationship) throws SiminovException {
+		
+		Method getterReferMethod = relationship.getGetterReferMethod();
+		if(getterReferMethod == null || !getterReferMethod.getDeclaringClass().isInstance(object)) {
+			return ClassUtils.getValue(object, relationship.getGetterReferMethodName());
+		}
+		
+		return ClassUtils.getValue(object, getterReferMethod);
+	}
+	
+	/**
+	 * Set column value through setter method of attribute, resolved when entity descriptor was loaded.
+	 */
+	private static void setValue(final Object object, final Attribute attribute, final Object value) throws SiminovException {
+		
+		Method setterMethod = attribute.getSetterMethod();
+		if(setterMethod == null || !setterMethod.getDeclaringClass().isInstance(object)) {
+			ClassUtils.invokeMethod(object, attribute.getSetterMethodName(), new Class<?>[] {value.getClass()}, new Object[] {value});
+			return;
+		}
+		
+		ClassUtils.invokeMethod(object, setterMethod, value);
+	}
+	
+	/**
+	 * Set refered object through setter method of relationship, resolved when entity descriptor was loaded.
+	 */
+	private static void setValue(final Object object, final Relationship relationship, final Class<?> parameterType, final Object value) throws SiminovException {
+		
+		Method setterReferMethod = relationship.getSetterReferMethod();
+		if(setterReferMethod == null || !setterReferMethod.getDeclaringClass().isInstance(object)) {
+			ClassUtils.invokeMethod(object, relationship.getSetterReferMethodName(), new Class<?>[] {parameterType}, new Object[] {value});
+			return;
+		}
+		
+		ClassUtils.invokeMethod(object, setterReferMethod, value);
+	}
+
+	
+	/**
+		Iterator over refered objects of a lazy one to many relationship. Refered objects are fetched when iterator is first accessed, and only once.
+	 */
+	private static class LazyIterator implements Iterator<Object> {
+		
+		private final EntityDescriptor referedEntityDescriptor;
+		private final String whereClause;
+		private final Object[] arguments;
+		private final String parentClassName;
+		
+		private Iterator<Object> referedObjects = null;
+		
+		private LazyIterator(final EntityDescriptor referedEntityDescriptor, final String whereClause, final Object[] arguments, final String parentClassName) {
+			this.referedEntityDescriptor = referedEntityDescriptor;
+			this.whereClause = whereClause;
+			this.arguments = arguments;
+			this.parentClassName = parentClassName;
+		}
+		
+		public boolean hasNext() {
+			return load().hasNext();
+		}
 		
-		Iterator<Attribute> attributes = entityDescriptor.getAttributes();
-		while(attributes.hasNext()) {
-			Attribute attribute = attributes.next();
-			if(attribute.isPrimaryKey()) {
-				foreignAttributes.add(attribute);
-			}
+		public Object next() {
+			return load().next();
 		}
 		
-		while(oneToManyRealtionships.hasNext()) {
-			
-			Relationship relationship = oneToManyRealtionships.next();
-			EntityDescriptor referedEntityDescriptor = relationship.getReferedEntityDescriptor();
-			
-			Collection<Attribute> referedForeignKeys = getForeignKeys(referedEntityDescriptor);
-			Iterator<Attribute> referedForeignKeysIterate = referedForeignKeys.iterator();
-			
-			while(referedForeignKeysIterate.hasNext()) {
-				foreignAttributes.add(referedForeignKeysIterate.next());
-			}
+		public void remove() {
+			load().remove();
 		}
-
-		while(manyToManyRealtionships.hasNext()) {
-			
-			Relationship relationship = manyToManyRealtionships.next();
-			EntityDescriptor referedEntityDescriptor = relationship.getReferedEntityDescriptor();
-			
-			Collection<Attribute> referedForeignKeys = getForeignKeys(referedEntityDescriptor);
-			Iterator<Attribute> referedForeignKeysIterate = referedForeignKeys.iterator();
+		
+		private synchronized Iterator<Object> load() {
 			
-			while(referedForeignKeysIterate.hasNext()) {
-				foreignAttributes.add(referedForeignKeysIterate.next());
+			if(referedObjects == null) {
+				referedObjects = RelationshipHelper.fetchLazyReferedObjects(referedEntityDescriptor, whereClause, arguments, parentClassName).iterator();
 			}
+			
+			return referedObjects;
 		}
-
-		return foreignAttributes;
 	}
 	
 	/**
- 		Iterates the provided cursor, and returns tuples in form of actual objects.
+		Handler of proxy set in place of refered object of a lazy many to one relationship. Refered object is fetched when any of its method is first invoked, and only once.
 	 */
-	static Iterator<Object> parseAndInflateData(final Object object, final Object parentObject, final EntityDescriptor entityDescriptor, Iterator<Map<String, Object>> values) throws DatabaseException {
-		Siminov.isActive();
-
-		Collection<Object> tuples = new LinkedList<Object>();
-		while(values.hasNext()) {
-			
-			Map<String, Object> value = values.next();
-			
-			Set<String> columnNames = value.keySet();
-			Iterator<String> columnNamesIterate = columnNames.iterator();
+	private static class LazyInvocationHandler implements InvocationHandler {
+		
+		private final EntityDescriptor referedEntityDescriptor;
+		private final String whereClause;
+		private final Object[] arguments;
+		private final String parentClassName;
+		
+		private Object referedObject = null;
+		
+		private LazyInvocationHandler(final EntityDescriptor referedEntityDescriptor, final String whereClause, final Object[] arguments, final String parentClassName) {
+			this.referedEntityDescriptor = referedEntityDescriptor;
+			this.whereClause = whereClause;
+			this.arguments = arguments;
+			this.parentClassName = parentClassName;
+		}
+		
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
 			
-			Map<String, Object> data = new HashMap<String, Object>();
-			while(columnNamesIterate.hasNext()) {
-				String columnName = columnNamesIterate.next();
-				
-				if(entityDescriptor != null && entityDescriptor.containsAttributeBasedOnColumnName(columnName)) {
-					data.put(entityDescriptor.getAttributeBasedOnColumnName(columnName).getSetterMethodName(), value.get(columnName));
-				}
+			try {
+				return method.invoke(load(), args);
+			} catch(InvocationTargetException invocationTargetException) {
+				throw invocationTargetException.getCause();
 			}
-
-			Object inflatedObject = null;
-			String className;
+		}
+		
+		private synchronized Object load() {
 			
-			if(entityDescriptor == null) {
-				className = object.getClass().getName();				
-			} else {
-				className = entityDescriptor.getClassName();
+			if(referedObject == null) {
+				List<Object> referedObjects = RelationshipHelper.fetchLazyReferedObjects(referedEntityDescriptor, whereClause, arguments, parentClassName);
+				if(referedObjects.isEmpty()) {
+					Log.error(DatabaseHelper.class.getName(), "LazyInvocationHandler.load", "No Refered Object Found For Lazy Relationship, ENTITY-DESCRIPTOR: " + referedEntityDescriptor.getClassName() + ", WHERE-CLAUSE: " + whereClause);
+					throw new SiminovCriticalException(DatabaseHelper.class.getName(), "LazyInvocationHandler.load", "No Refered Object Found For Lazy Relationship, ENTITY-DESCRIPTOR: " + referedEntityDescriptor.getClassName() + ", WHERE-CLAUSE: " + whereClause);
+				}
+				
+				referedObject = referedObjects.get(0);
 			}
 			
-			
-			try {
-				inflatedObject = ClassUtils.createAndInflateObject(className, data);
-			} catch(SiminovException siminovException) {
-				Log.error(DatabaseHelper.class.getName(), "parseAndInflateData", "SiminovException caught while create and inflate object through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
-				throw new DatabaseException(DatabaseHelper.class.getName(), "parseAndInflateData", siminovException.getMessage());
-			} 
-			
-			tuples.add(inflatedObject);
+			return referedObject;
 		}
 		
-		return tuples.iterator();
+		/**
+		 	Get refered object if it is already fetched.
+		 	@return Refered object, NULL if it is not fetched yet.
+		 */
+		private synchronized Object getReferedObject() {
+			return referedObject;
+		}
+		
+		/**
+		 	Get primary key of refered object, as captured when relationship was loaded. Values are in order of primary key columns of refered entity.
+		 	@return Primary key of refered object.
+		 */
+		private Object[] getKey() {
+			return arguments;
+		}
 	}
 
 	
 	private static class RelationshipHelper {
 		
-		public static void processRelationship(final Object object, final Object parentObject) throws DatabaseException {
-			
-			processOneToOneRelationship(object, parentObject);
-			processOneToManyRelationship(object, parentObject);
-			processManyToOneRelationship(object, parentObject);
-			processManyToManyRelationship(object, parentObject);
-		}
-		
-		
 		public static void processRelationship(final Object object, final Object parentObject, Collection<String> columnNames, Collection<Object> columnValues) throws DatabaseException {
 			
 			processOneToOneRelationship(object, parentObject, columnNames, columnValues);
@@ -2945,87 +4091,100 @@ Example:
 		}
 		
 		
-		public static void processRelationship(final Object object, final Object parentObject, final StringBuilder whereClause) throws DatabaseException {
-			
-			processOneToOneRelationship(object, parentObject, whereClause);
-			processOneToManyRelationship(object, parentObject, whereClause);
-			processManyToOneRelationship(object, parentObject, whereClause);
-			processManyToManyRelationship(object, parentObject, whereClause);
-		}		
-		
-		public static void processRelationship(final Object object, final Object parentObject, Map<String, Object> data) throws DatabaseException {
-			
-			processOneToOneRelationship(object, parentObject, data);
-			processOneToManyRelationship(object, parentObject, data);
-			processManyToOneRelationship(object, parentObject, data);
-			processManyToManyRelationship(object, parentObject, data);
+		/**
+		 	Process relationships of all fetched objects of an entity together. 
+		 	<p>
+		 	Each loaded relationship is fetched with one query per chunk of keys, instead of one query per object, and matched back to its objects by key.
+		 	
+		 	@param entityDescriptor Entity Descriptor of fetched objects.
+		 	@param objects Fetched objects.
+		 	@param datas Tuples of fetched objects, in same order as objects.
+		 	@param parentClassName Class name of entity through which objects are being fetched, its relationships are not processed again. NULL if there is no such entity.
+		 	@throws DatabaseException If any error occur while processing relationships.
+		 */
+		public static void processRelationships(final EntityDescriptor entityDescriptor, final List<Object> objects, final List<Map<String, Object>> datas, final String parentClassName) throws DatabaseException {
+			processRelationships(entityDescriptor, objects, datas, parentClassName, Collections.<Relationship>emptyList());
 		}
 		
-		
-		/*
-		 * Process One To One Relationship
+		/**
+		 	Process relationships of all fetched objects of an entity together, except relationships already fetched through join.
 		 */
-
-		private static void processOneToOneRelationship(final Object object, final Object parentObject) throws DatabaseException {
-
-			EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
-			Iterator<EntityDescriptor.Relationship> oneToOneRelationships = entityDescriptor.getOneToOneRelationships();
+		public static void processRelationships(final EntityDescriptor entityDescriptor, final List<Object> objects, final List<Map<String, Object>> datas, final String parentClassName, final Collection<Relationship> joins) throws DatabaseException {
+			
+			if(objects.isEmpty()) {
+				return;
+			}
 			
+			Iterator<Relationship> oneToOneRelationships = entityDescriptor.getOneToOneRelationships();
 			while(oneToOneRelationships.hasNext()) {
-				
-				EntityDescriptor.Relationship oneToOneRelationship = oneToOneRelationships.next();
-
-				boolean isLoad = oneToOneRelationship.isLoad();
-				if(!isLoad) {
+				Relationship oneToOneRelationship = oneToOneRelationships.next();
+				if(!oneToOneRelationship.isLoad() || oneToOneRelationship.getReferTo().equalsIgnoreCase(parentClassName) || joins.contains(oneToOneRelationship)) {
 					continue;
 				}
-
 				
-				StringBuilder whereClause = new StringBuilder();
-				Iterator<String> foreignKeys = getPrimaryKeys(object);
-				while(foreignKeys.hasNext()) {
-					String foreignKey = foreignKeys.next();
-					Attribute attribute = entityDescriptor.getAttributeBasedOnColumnName(foreignKey);
-					Object columnValue = null;
-					
-					try {
-						columnValue = ClassUtils.getValue(object, attribute.getGetterMethodName());
-					} catch(SiminovException siminovException) {
-						Log.error(DatabaseHelper.class.getName(), "processOneToOneRelationship", "SiminovException caught while getting column value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + " METHOD-NAME: " + attribute.getGetterMethodName() + ", " + siminovException.getMessage());
-						throw new DatabaseException(DatabaseHelper.class.getName(), "processOneToOneRelationship", siminovException.getMessage());
-					}
-
-					if(whereClause.length() <= 0) {
-						whereClause.append(foreignKey + "='" + columnValue.toString() + "'"); 
-					} else {
-						whereClause.append(" AND " + foreignKey + "='" + columnValue.toString() + "'");  
-					}
-				}
-
-				EntityDescriptor referedEntityDescriptor = oneToOneRelationship.getReferedEntityDescriptor();
-				if(referedEntityDescriptor == null) {
-					referedEntityDescriptor = getEntityDescriptor(oneToOneRelationship.getReferTo());
-					oneToOneRelationship.setReferedEntityDescriptor(referedEntityDescriptor);
+				EntityDescriptor referedEntityDescriptor = getReferedEntityDescriptor(oneToOneRelationship);
+				if(entityDescriptor.getClassName().equalsIgnoreCase(referedEntityDescriptor.getClassName())) {
+					continue;
 				}
-
 				
-				if(object != null && object.getClass().getName().equalsIgnoreCase(referedEntityDescriptor.getClassName())) {
+				processOneToOneRelationship(entityDescriptor, objects, oneToOneRelationship, referedEntityDescriptor);
+			}
+			
+			Iterator<Relationship> oneToManyRelationships = entityDescriptor.getOneToManyRelationships();
+			while(oneToManyRelationships.hasNext()) {
+				Relationship oneToManyRelationship = oneToManyRelationships.next();
+				if(oneToManyRelationship.getReferTo().equalsIgnoreCase(parentClassName) || joins.contains(oneToManyRelationship)) {
 					continue;
 				}
 				
-				Object referedObject = select(null, null, referedEntityDescriptor, false, whereClause.toString(), null, null, null, null, null, null);
-				Object[] referedObjects = (Object[]) referedObject;
-
-				if(referedObjects == null || referedObjects.length <= 0) {
+				if(oneToManyRelationship.isLoad()) {
+					processOneToManyRelationship(entityDescriptor, objects, oneToManyRelationship, getReferedEntityDescriptor(oneToManyRelationship));
+				} else if(oneToManyRelationship.isLazy()) {
+					processLazyOneToManyRelationship(entityDescriptor, objects, oneToManyRelationship, getReferedEntityDescriptor(oneToManyRelationship));
+				}
+			}
+			
+			Iterator<Relationship> manyToOneRelationships = entityDescriptor.getManyToOneRelationships();
+			while(manyToOneRelationships.hasNext()) {
+				Relationship manyToOneRelationship = manyToOneRelationships.next();
+				if(manyToOneRelationship.getReferTo().equalsIgnoreCase(parentClassName) || joins.contains(manyToOneRelationship)) {
 					continue;
 				}
 				
-				if(referedObjects[0] == null) {
+				EntityDescriptor referedEntityDescriptor = getReferedEntityDescriptor(manyToOneRelationship);
+				if(manyToOneRelationship.isLoad()) {
+					processManyToOneRelationship(entityDescriptor, objects, datas, manyToOneRelationship, referedEntityDescriptor);
+				} else if(manyToOneRelationship.isLazy() && getReferType(manyToOneRelationship) != null && getReferType(manyToOneRelationship).isInterface()) {
+					for(int i = 0;i < objects.size();i++) {
+						processLazyManyToOneRelationship(entityDescriptor, objects.get(i), datas.get(i), manyToOneRelationship, referedEntityDescriptor);
+					}
+				} else {
+					for(int i = 0;i < objects.size();i++) {
+						processManyToOneRelationship(objects.get(i), datas.get(i), manyToOneRelationship, referedEntityDescriptor);
+					}
+				}
+			}
+		}
+		
+		/*
+		 * Process One To One Relationship
+		 */
+
+		private static void processOneToOneRelationship(final EntityDescriptor entityDescriptor, final List<Object> objects, final Relationship oneToOneRelationship, final EntityDescriptor referedEntityDescriptor) throws DatabaseException {
+
+			EntityDescriptor.Plan plan = entityDescriptor.getPlan();
+			List<Object[]> keys = getKeys(entityDescriptor, objects, plan.getPrimaryKeys());
+			
+			Map<List<String>, List<Object>> referedObjects = fetchReferedObjects(referedEntityDescriptor, plan.getPrimaryKeyColumnNames(), keys, entityDescriptor.getClassName());
+			for(int i = 0;i < objects.size();i++) {
+				
+				List<Object> referedObject = referedObjects.get(formKey(keys.get(i)));
+				if(referedObject == null || referedObject.isEmpty()) {
 					continue;
 				}
 				
 				try {
-					ClassUtils.invokeMethod(object, oneToOneRelationship.getSetterReferMethodName(), new Class[] {referedObjects[0].getClass()}, new Object[] {referedObjects[0]});
+					setValue(objects.get(i), oneToOneRelationship, referedObject.get(0).getClass(), referedObject.get(0));
 				} catch(SiminovException siminovException) {
 					Log.error(DatabaseHelper.class.getName(), "processOneToOneRelationship", "SiminovException caught while invoking method through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + " METHOD-NAME: " + oneToOneRelationship.getGetterReferMethodName() + ", " + siminovException.getMessage());
 					throw new DatabaseException(DatabaseHelper.class.getName(), "processOneToOneRelationship", siminovException.getMessage());
@@ -3033,7 +4192,6 @@ Example:
 			}
 		}
 
-
 		private static void processOneToOneRelationship(final Object object, final Object parentObject, Collection<String> columnNames, Collection<Object> columnValues) throws DatabaseException {
 			EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
 			Iterator<Relationship> oneToOneRelationships = entityDescriptor.getOneToOneRelationships();
@@ -3053,7 +4211,7 @@ Example:
 
 				Object referedObject = null;
 				try {
-					referedObject = ClassUtils.getValue(object, oneToOneRelationship.getGetterReferMethodName());
+					referedObject = getValue(object, oneToOneRelationship);
 				} catch(SiminovException siminovException) {
 					Log.error(DatabaseHelper.class.getName(), "processOneToOneRelationship", "SiminovException caught while get method values through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + " METHOD-NAME: " + oneToOneRelationship.getGetterReferMethodName() + ", " + siminovException.getMessage());
 					throw new DatabaseException(DatabaseHelper.class.getName(), "processOneToOneRelationship", siminovException.getMessage());
@@ -3078,7 +4236,7 @@ Example:
 					if(isPrimary) {
 						try {
 							columnNames.add(attribute.getColumnName());
-							columnValues.add(ClassUtils.getValue(referedObject, attribute.getGetterMethodName()));
+							columnValues.add(getValue(referedObject, attribute));
 						} catch(SiminovException siminovException) {
 							Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while get method values through reflection, CLASS-NAME: " + referedObject.getClass().getName() + ", " + " METHOD-NAME: " + attribute.getGetterMethodName() + ", " + siminovException.getMessage());
 							throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToOneRelationship", siminovException.getMessage());
@@ -3094,126 +4252,22 @@ Example:
 			
 		}
 
-		private static void processOneToOneRelationship(final Object object, final Object parentObject, final StringBuilder whereClause) throws DatabaseException {
-			EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
-			Iterator<Relationship> oneToOneRelationships = entityDescriptor.getOneToOneRelationships();
-
-			while(oneToOneRelationships.hasNext()) {
-				Relationship oneToOneRelationship = oneToOneRelationships.next();
-				if(parentObject != null && oneToOneRelationship.getReferTo().equalsIgnoreCase(parentObject.getClass().getName())) {
-					continue;
-				}
-				
-				
-				EntityDescriptor referedEntityDescriptor = oneToOneRelationship.getReferedEntityDescriptor();
-				if(referedEntityDescriptor == null) {
-					referedEntityDescriptor = getEntityDescriptor(oneToOneRelationship.getReferTo());
-					oneToOneRelationship.setReferedEntityDescriptor(referedEntityDescriptor);
-				}
-
-				Object referedObject = null;
-				try {
-					referedObject = ClassUtils.getValue(object, oneToOneRelationship.getGetterReferMethodName());
-				} catch(SiminovException siminovException) {
-					Log.error(DatabaseHelper.class.getName(), "processOneToOneRelationship", "SiminovException caught while get method values through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + " METHOD-NAME: " + oneToOneRelationship.getGetterReferMethodName() + ", " + siminovException.getMessage());
-					throw new DatabaseException(DatabaseHelper.class.getName(), "processOneToOneRelationship", siminovException.getMessage());
-				}
-
-				if(referedObject == null) {
-					Log.error(DatabaseHelper.class.getName(), "processOneToOneRelationship", "Parent Object Not Set, Please Provide Proper Relationship. REFER-TO: " + oneToOneRelationship.getReferTo());
-					throw new DatabaseException(DatabaseHelper.class.getName(), "processOneToOneRelationship", "Parent Object Not Set, Please Provide Proper Relationship. REFER-TO: " + oneToOneRelationship.getReferTo());
-				}
-
-				
-				processOneToManyRelationship(referedObject, object, whereClause);
-				processManyToOneRelationship(referedObject, object, whereClause);
-				processManyToManyRelationship(referedObject, object, whereClause);
-				
-				Iterator<Attribute> parentAttributes = referedEntityDescriptor.getAttributes();
-				while(parentAttributes.hasNext()) {
-					Attribute attribute = parentAttributes.next();
-					
-					boolean isPrimary = attribute.isPrimaryKey();
-					if(isPrimary) {
-						Object columnValue = null;
-						try {
-							columnValue = ClassUtils.getValue(referedObject, attribute.getGetterMethodName());
-						} catch(SiminovException siminovException) {
-							Log.error(DatabaseHelper.class.getName(), "processOneToOneRelationship", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
-							throw new DatabaseException(DatabaseHelper.class.getName(), "processOneToOneRelationship", siminovException.getMessage());
-						} 
-
-						
-						if(whereClause.length() <= 0) {
-							whereClause.append(attribute.getColumnName() + "= '" + columnValue + "'");
-						} else {
-							whereClause.append(" AND " + attribute.getColumnName() + "= '" + columnValue + "'");
-						}
-					}
-				}
-			}
-		}
-		
-		private static void processOneToManyRelationship(final Object object, final Object parentObject, final StringBuilder whereClause) throws DatabaseException {
-			
-		}
-		
-
-		private static void processOneToManyRelationship(final Object object, final Object parentObject) throws DatabaseException {
+		private static void processOneToManyRelationship(final EntityDescriptor entityDescriptor, final List<Object> objects, final Relationship oneToManyRelationship, final EntityDescriptor referedEntityDescriptor) throws DatabaseException {
 
-			EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
-			Iterator<EntityDescriptor.Relationship> oneToManyRelationships = entityDescriptor.getOneToManyRelationships();
+			EntityDescriptor.Plan plan = entityDescriptor.getPlan();
+			List<Object[]> keys = getKeys(entityDescriptor, objects, plan.getPrimaryKeys());
 			
-			while(oneToManyRelationships.hasNext()) {
-				
-				EntityDescriptor.Relationship oneToManyRelationship = oneToManyRelationships.next();
-				
-				boolean isLoad = oneToManyRelationship.isLoad();
-				if(!isLoad) {
-					continue;
-				}
-
-				
-				StringBuilder whereClause = new StringBuilder();
-				Iterator<String> foreignKeys = getPrimaryKeys(object);
-				while(foreignKeys.hasNext()) {
-					String foreignKey = foreignKeys.next();
-					Attribute attribute = entityDescriptor.getAttributeBasedOnColumnName(foreignKey);
-					Object columnValue = null;
-					
-					try {
-						columnValue = ClassUtils.getValue(object, attribute.getGetterMethodName());
-					} catch(SiminovException siminovException) {
-						Log.error(DatabaseHelper.class.getName(), "processOneToManyRelationship", "SiminovException caught while getting column value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + " METHOD-NAME: " + attribute.getGetterMethodName() + ", " + siminovException.getMessage());
-						throw new DatabaseException(DatabaseHelper.class.getName(), "processOneToManyRelationship", siminovException.getMessage());
-					}
-
-					if(whereClause.length() <= 0) {
-						whereClause.append(foreignKey + "='" + columnValue.toString() + "'"); 
-					} else {
-						whereClause.append(" AND " + foreignKey + "='" + columnValue.toString() + "'");  
-					}
-				}
-
-				EntityDescriptor referedEntityDescriptor = oneToManyRelationship.getReferedEntityDescriptor();
-				if(referedEntityDescriptor == null) {
-					referedEntityDescriptor = getEntityDescriptor(oneToManyRelationship.getReferTo());
-					oneToManyRelationship.setReferedEntityDescriptor(referedEntityDescriptor);
-				}
-
+			Map<List<String>, List<Object>> referedObjects = fetchReferedObjects(referedEntityDescriptor, plan.getPrimaryKeyColumnNames(), keys, entityDescriptor.getClassName());
+			for(int i = 0;i < objects.size();i++) {
 				
-				Object referedObject = select(null, null, referedEntityDescriptor, false, whereClause.toString(), null, null, null, null, null, null);
-				Object[] referedObjects = (Object[]) referedObject;
-
 				Collection<Object> referedCollection = new ArrayList<Object>();
-				if(referedObjects != null && referedObjects.length > 0) {
-					for(int i = 0;i < referedObjects.length;i++) {
-						referedCollection.add(referedObjects[i]);
-					}
+				List<Object> referedObject = referedObjects.get(formKey(keys.get(i)));
+				if(referedObject != null) {
+					referedCollection.addAll(referedObject);
 				}
 				
 				try {
-					ClassUtils.invokeMethod(object, oneToManyRelationship.getSetterReferMethodName(), new Class[] {Iterator.class}, new Object[] {referedCollection.iterator()});
+					setValue(objects.get(i), oneToManyRelationship, Iterator.class, referedCollection.iterator());
 				} catch(SiminovException siminovException) {
 					Log.error(DatabaseHelper.class.getName(), "processOneToManyRelationship", "SiminovException caught while invoking method through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + " METHOD-NAME: " + oneToManyRelationship.getGetterReferMethodName() + ", " + siminovException.getMessage());
 					throw new DatabaseException(DatabaseHelper.class.getName(), "processOneToManyRelationship", siminovException.getMessage());
@@ -3221,16 +4275,6 @@ Example:
 			}
 		}
 
-		
-		private static void processManyToOneRelationship(final Object object, final Object parentObject) throws DatabaseException {
-
-		}
-		
-		private static void processManyToManyRelationship(final Object object, final Object parentObject) throws DatabaseException {
-
-		}
-		
-		
 		private static void processManyToOneRelationship(final Object object, final Object parentObject, final Collection<String> columnNames, final Collection<Object> columnValues) throws DatabaseException {
 			EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
 			Iterator<Relationship> manyToOneRelationships = entityDescriptor.getManyToOneRelationships();
@@ -3250,7 +4294,7 @@ Example:
 
 				Object referedObject = null;
 				try {
-					referedObject = ClassUtils.getValue(object, manyToOneRelationship.getGetterReferMethodName());
+					referedObject = getValue(object, manyToOneRelationship);
 				} catch(SiminovException siminovException) {
 					Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while get method values through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + " METHOD-NAME: " + manyToOneRelationship.getGetterReferMethodName() + ", " + siminovException.getMessage());
 					throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToOneRelationship", siminovException.getMessage());
@@ -3261,63 +4305,24 @@ Example:
 					throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToOneRelationship", "Parent Object Not Set, Please Provide Proper Relationship. REFER-TO: " + manyToOneRelationship.getReferTo());
 				}
 				
-				
-				processOneToOneRelationship(referedObject, object, columnNames, columnValues);
-				processManyToOneRelationship(referedObject, object, columnNames, columnValues);
-				processManyToManyRelationship(referedObject, object, columnNames, columnValues);
-				
-				Iterator<Attribute> parentAttributes = referedEntityDescriptor.getAttributes();
-				while(parentAttributes.hasNext()) {
-					Attribute attribute = parentAttributes.next();
+				LazyInvocationHandler lazyInvocationHandler = getLazyInvocationHandler(referedObject);
+				if(lazyInvocationHandler != null) {
 					
-					boolean isPrimary = attribute.isPrimaryKey();
-					if(isPrimary) {
-						try {
-							columnNames.add(attribute.getColumnName());
-							columnValues.add(ClassUtils.getValue(referedObject, attribute.getGetterMethodName()));
-						} catch(SiminovException siminovException) {
-							Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while get method values through reflection, CLASS-NAME: " + referedObject.getClass().getName() + ", " + " METHOD-NAME: " + attribute.getGetterMethodName() + ", " + siminovException.getMessage());
-							throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToOneRelationship", siminovException.getMessage());
-						} 
+					Object fetchedReferedObject = lazyInvocationHandler.getReferedObject();
+					if(fetchedReferedObject == null && !hasReferedKeys(referedEntityDescriptor)) {
+						columnNames.addAll(Arrays.asList(referedEntityDescriptor.getPlan().getPrimaryKeyColumnNames()));
+						columnValues.addAll(Arrays.asList(lazyInvocationHandler.getKey()));
+						
+						continue;
 					}
+					
+					referedObject = fetchedReferedObject != null ? fetchedReferedObject : lazyInvocationHandler.load();
 				}
-			}
-		}
-		
-		private static void processManyToOneRelationship(final Object object, final Object parentObject, final StringBuilder whereClause) throws DatabaseException {
-			EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
-			Iterator<Relationship> manyToOneRelationships = entityDescriptor.getManyToOneRelationships();
-
-			while(manyToOneRelationships.hasNext()) {
-				Relationship manyToOneRelationship = manyToOneRelationships.next();
-				if(parentObject != null && manyToOneRelationship.getReferTo().equalsIgnoreCase(parentObject.getClass().getName())) {
-					continue;
-				}
-				
 				
-				EntityDescriptor referedEntityDescriptor = manyToOneRelationship.getReferedEntityDescriptor();
-				if(referedEntityDescriptor == null) {
-					referedEntityDescriptor = getEntityDescriptor(manyToOneRelationship.getReferTo());
-					manyToOneRelationship.setReferedEntityDescriptor(referedEntityDescriptor);
-				}
-
-				Object referedObject = null;
-				try {
-					referedObject = ClassUtils.getValue(object, manyToOneRelationship.getGetterReferMethodName());
-				} catch(SiminovException siminovException) {
-					Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while get method values through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + " METHOD-NAME: " + manyToOneRelationship.getGetterReferMethodName() + ", " + siminovException.getMessage());
-					throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToOneRelationship", siminovException.getMessage());
-				}
-
-				if(referedObject == null) {
-					Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "Parent Object Not Set, Please Provide Proper Relationship. REFER-TO: " + manyToOneRelationship.getReferTo());
-					throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToOneRelationship", "Parent Object Not Set, Please Provide Proper Relationship. REFER-TO: " + manyToOneRelationship.getReferTo());
-				}
-
 				
-				processOneToOneRelationship(referedObject, object, whereClause);
-				processManyToOneRelationship(referedObject, object, whereClause);
-				processManyToManyRelationship(referedObject, object, whereClause);
+				processOneToOneRelationship(referedObject, object, columnNames, columnValues);
+				processManyToOneRelationship(referedObject, object, columnNames, columnValues);
+				processManyToManyRelationship(referedObject, object, columnNames, columnValues);
 				
 				Iterator<Attribute> parentAttributes = referedEntityDescriptor.getAttributes();
 				while(parentAttributes.hasNext()) {
@@ -3325,119 +4330,98 @@ Example:
 					
 					boolean isPrimary = attribute.isPrimaryKey();
 					if(isPrimary) {
-						Object columnValue = null;
 						try {
-							columnValue = ClassUtils.getValue(referedObject, attribute.getGetterMethodName());
+							columnNames.add(attribute.getColumnName());
+							columnValues.add(getValue(referedObject, attribute));
 						} catch(SiminovException siminovException) {
-							Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
+							Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while get method values through reflection, CLASS-NAME: " + referedObject.getClass().getName() + ", " + " METHOD-NAME: " + attribute.getGetterMethodName() + ", " + siminovException.getMessage());
 							throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToOneRelationship", siminovException.getMessage());
 						} 
-
-						
-						if(whereClause.length() <= 0) {
-							whereClause.append(attribute.getColumnName() + "= '" + columnValue + "'");
-						} else {
-							whereClause.append(" AND " + attribute.getColumnName() + "= '" + columnValue + "'");
-						}
 					}
 				}
 			}
 		}
 		
-		private static void processOneToOneRelationship(final Object object, final Object parentObject, Map<String, Object> data) throws DatabaseException {
+		private static void processManyToOneRelationship(final EntityDescriptor entityDescriptor, final List<Object> objects, final List<Map<String, Object>> datas, final Relationship manyToOneRelationship, final EntityDescriptor referedEntityDescriptor) throws DatabaseException {
 			
-		}
-		
-		private static void processOneToManyRelationship(final Object object, final Object parentObject, Map<String, Object> data) throws DatabaseException {
+			String[] columnNames = referedEntityDescriptor.getPlan().getPrimaryKeyColumnNames();
 			
-		}
-		
-		private static void processManyToOneRelationship(final Object object, final Object parentObject, Map<String, Object> data) throws DatabaseException {
-			EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
-			Iterator<Relationship> manyToOneRelationships = entityDescriptor.getManyToOneRelationships();
-
-			while(manyToOneRelationships.hasNext()) {
-				Relationship manyToOneRelationship = manyToOneRelationships.next();
-				if(parentObject != null && manyToOneRelationship.getReferTo().equalsIgnoreCase(parentObject.getClass().getName())) {
+			List<Object[]> keys = new ArrayList<Object[]>(datas.size());
+			for(int i = 0;i < datas.size();i++) {
+				Object[] key = new Object[columnNames.length];
+				for(int j = 0;j < columnNames.length;j++) {
+					key[j] = datas.get(i).get(columnNames[j]);
+				}
+				
+				keys.add(key);
+			}
+			
+			Map<List<String>, List<Object>> referedObjects = fetchReferedObjects(referedEntityDescriptor, columnNames, keys, entityDescriptor.getClassName());
+			for(int i = 0;i < objects.size();i++) {
+				
+				List<Object> referedObject = referedObjects.get(formKey(keys.get(i)));
+				if(referedObject == null || referedObject.isEmpty()) {
 					continue;
 				}
 				
-				EntityDescriptor referedEntityDescriptor = manyToOneRelationship.getReferedEntityDescriptor();
-				if(referedEntityDescriptor == null) {
-					referedEntityDescriptor = getEntityDescriptor(manyToOneRelationship.getReferTo());
-					manyToOneRelationship.setReferedEntityDescriptor(referedEntityDescriptor);
+				try {
+					setValue(objects.get(i), manyToOneRelationship, referedObject.get(0).getClass(), referedObject.get(0));
+				} catch(SiminovException siminovException) {
+					Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + entityDescriptor.getClassName() + ", METHOD-NAME: " + manyToOneRelationship.getSetterReferMethodName() + ", " + siminovException.getMessage());
+					throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + entityDescriptor.getClassName() + ", METHOD-NAME: " + manyToOneRelationship.getSetterReferMethodName() + ", " + siminovException.getMessage());
 				}
+			}
+		}
+		
+		private static void processManyToOneRelationship(final Object object, final Map<String, Object> data, final Relationship manyToOneRelationship, final EntityDescriptor referedEntityDescriptor) throws DatabaseException {
 
-				Object referedObject = ClassUtils.createClassInstance(manyToOneRelationship.getReferedEntityDescriptor().getClassName());
-				if(referedObject == null) {
-					Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "Unable To Create Parent Relationship. REFER-TO: " + manyToOneRelationship.getReferTo());
-					return;
-				}
+			Object referedObject = ClassUtils.createClassInstance(referedEntityDescriptor.getClassObject());
+			if(referedObject == null) {
+				Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "Unable To Create Parent Relationship. REFER-TO: " + manyToOneRelationship.getReferTo());
+				return;
+			}
 
+			
+			Iterator<Relationship> manyToOneRelationships = referedEntityDescriptor.getManyToOneRelationships();
+			while(manyToOneRelationships.hasNext()) {
+				Relationship relationship = manyToOneRelationships.next();
+				if(relationship.getReferTo().equalsIgnoreCase(object.getClass().getName())) {
+					continue;
+				}
 				
-				processOneToOneRelationship(referedObject, object, data);
-				processManyToOneRelationship(referedObject, object, data);
-				processManyToManyRelationship(referedObject, object, data);
-				
-				if(manyToOneRelationship.isLoad()) {
-
-					StringBuilder whereClause = new StringBuilder();
-
-					Iterator<String> foreignKeys = getPrimaryKeys(referedObject);
-					while(foreignKeys.hasNext()) {
-						String foreignKey = foreignKeys.next();
-						Attribute attribute = referedEntityDescriptor.getAttributeBasedOnColumnName(foreignKey);
-						Object columnValue = data.get(attribute.getColumnName());
-
-						if(whereClause.length() <= 0) {
-							whereClause.append(foreignKey + "='" + columnValue.toString() + "'"); 
-						} else {
-							whereClause.append(" AND " + foreignKey + "='" + columnValue.toString() + "'");  
-						}
-					}
-					
-					Object[] fetchedObjects = select(null, null, referedEntityDescriptor, false, whereClause.toString(), null, null, null, null, null, null);
-					if(fetchedObjects == null || fetchedObjects.length <= 0) {
-						return;
-					}
-					
-					referedObject = fetchedObjects[0];
-					
+				if(relationship.isLoad()) {
+					processManyToOneRelationship(referedEntityDescriptor, Collections.singletonList(referedObject), Collections.singletonList(data), relationship, getReferedEntityDescriptor(relationship));
 				} else {
-					Iterator<String> foreignKeys = getPrimaryKeys(referedObject);
-					while(foreignKeys.hasNext()) {
-						String foreignKey = foreignKeys.next();
-						Attribute attribute = referedEntityDescriptor.getAttributeBasedOnColumnName(foreignKey);
-
-						Object columnValue = data.get(attribute.getColumnName());
-						if(columnValue == null) {
-							continue;
-						}
-						
-						try {
-							ClassUtils.invokeMethod(referedObject, attribute.getSetterMethodName(), new Class[] {columnValue.getClass()}, new Object[] {columnValue});
-						} catch(SiminovException siminovException) {
-							Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + referedEntityDescriptor.getClassName() + ", METHOD-NAME: " + attribute.getSetterMethodName() + ", " + siminovException.getMessage());
-							throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + referedEntityDescriptor.getClassName() + ", METHOD-NAME: " + attribute.getSetterMethodName() + ", " + siminovException.getMessage());
-						}
-					}
+					processManyToOneRelationship(referedObject, data, relationship, getReferedEntityDescriptor(relationship));
 				}
-				
+			}
+			
+			
+			Iterator<String> foreignKeys = getPrimaryKeys(referedObject);
+			while(foreignKeys.hasNext()) {
+				String foreignKey = foreignKeys.next();
+				Attribute attribute = referedEntityDescriptor.getAttributeBasedOnColumnName(foreignKey);
 
-				if(referedObject == null) {
-					Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "Unable To Create Parent Relationship. REFER-TO: " + manyToOneRelationship.getReferTo());
-					throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToOneRelationship", "Unable To Create Parent Relationship. REFER-TO: " + manyToOneRelationship.getReferTo());
+				Object columnValue = data.get(attribute.getColumnName());
+				if(columnValue == null) {
+					continue;
 				}
-
 				
 				try {
-					ClassUtils.invokeMethod(object, manyToOneRelationship.getSetterReferMethodName(), new Class[] {referedObject.getClass()}, new Object[] {referedObject});
+					setValue(referedObject, attribute, columnValue);
 				} catch(SiminovException siminovException) {
-					Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + entityDescriptor.getClassName() + ", METHOD-NAME: " + manyToOneRelationship.getSetterReferMethodName() + ", " + siminovException.getMessage());
-					throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + entityDescriptor.getClassName() + ", METHOD-NAME: " + manyToOneRelationship.getSetterReferMethodName() + ", " + siminovException.getMessage());
+					Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + referedEntityDescriptor.getClassName() + ", METHOD-NAME: " + attribute.getSetterMethodName() + ", " + siminovException.getMessage());
+					throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + referedEntityDescriptor.getClassName() + ", METHOD-NAME: " + attribute.getSetterMethodName() + ", " + siminovException.getMessage());
 				}
 			}
 
+			
+			try {
+				setValue(object, manyToOneRelationship, referedObject.getClass(), referedObject);
+			} catch(SiminovException siminovException) {
+				Log.error(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + object.getClass().getName() + ", METHOD-NAME: " + manyToOneRelationship.getSetterReferMethodName() + ", " + siminovException.getMessage());
+				throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToOneRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + object.getClass().getName() + ", METHOD-NAME: " + manyToOneRelationship.getSetterReferMethodName() + ", " + siminovException.getMessage());
+			}
 		}
 
 		private static void processManyToManyRelationship(final Object object, final Object parentObject, Collection<String> columnNames, Collection<Object> columnValues) throws DatabaseException {
@@ -3459,7 +4443,7 @@ Example:
 				
 				Object referedObject = null;
 				try {
-					referedObject = ClassUtils.getValue(object, manyToManyRelationship.getGetterReferMethodName());
+					referedObject = getValue(object, manyToManyRelationship);
 				} catch(SiminovException siminovException) {
 					Log.error(DatabaseHelper.class.getName(), "processManyToManyRelationship", "SiminovException caught while get method values through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + " METHOD-NAME: " + manyToManyRelationship.getGetterReferMethodName() + ", " + siminovException.getMessage());
 					throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToManyRelationship", siminovException.getMessage());
@@ -3484,7 +4468,7 @@ Example:
 					if(isPrimary) {
 						try {
 							columnNames.add(attribute.getColumnName());
-							columnValues.add(ClassUtils.getValue(referedObject, attribute.getGetterMethodName()));
+							columnValues.add(getValue(referedObject, attribute));
 						} catch(SiminovException siminovException) {
 							Log.error(DatabaseHelper.class.getName(), "processManyToManyRelationship", "SiminovException caught while get method values through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
 							throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToManyRelationship", siminovException.getMessage());
@@ -3494,145 +4478,335 @@ Example:
 			}
 		}
 		
-		private static void processManyToManyRelationship(final Object object, final Object parentObject, final StringBuilder whereClause) throws DatabaseException {
-			EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
-			Iterator<Relationship> manyToManyRelationships = entityDescriptor.getManyToManyRelationships();
+		/*
+		 * Lazy Relationships
+		 */
+		
+		private static void processLazyOneToManyRelationship(final EntityDescriptor entityDescriptor, final List<Object> objects, final Relationship oneToManyRelationship, final EntityDescriptor referedEntityDescriptor) throws DatabaseException {
 			
-			while(manyToManyRelationships.hasNext()) {
-				Relationship manyToManyRelationship = manyToManyRelationships.next();
-				if(parentObject != null && manyToManyRelationship.getReferTo().equalsIgnoreCase(parentObject.getClass().getName())) {
-					continue;
-				}
-				
+			EntityDescriptor.Plan plan = entityDescriptor.getPlan();
+			String whereClause = QueryTemplates.formKeyWhereClause(plan.getPrimaryKeyColumnNames());
+			
+			List<Object[]> keys = getKeys(entityDescriptor, objects, plan.getPrimaryKeys());
+			for(int i = 0;i < objects.size();i++) {
 				
-				EntityDescriptor referedEntityDescriptor = manyToManyRelationship.getReferedEntityDescriptor();
-				if(referedEntityDescriptor == null) {
-					referedEntityDescriptor = getEntityDescriptor(manyToManyRelationship.getReferTo());
-					manyToManyRelationship.setReferedEntityDescriptor(referedEntityDescriptor);
-				}
+				Iterator<Object> referedObjects = new LazyIterator(referedEntityDescriptor, whereClause, keys.get(i), entityDescriptor.getClassName());
 				
-				Object referedObject = null;
 				try {
-					referedObject = ClassUtils.getValue(object, manyToManyRelationship.getGetterReferMethodName());
+					setValue(objects.get(i), oneToManyRelationship, Iterator.class, referedObjects);
 				} catch(SiminovException siminovException) {
-					Log.error(DatabaseHelper.class.getName(), "processManyToManyRelationship", "SiminovException caught while get method values through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + " METHOD-NAME: " + manyToManyRelationship.getGetterReferMethodName() + ", " + siminovException.getMessage());
-					throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToManyRelationship", siminovException.getMessage());
-				}
-
-				if(referedObject == null) {
-					Log.error(DatabaseHelper.class.getName(), "processManyToManyRelationship", "Parent Object Not Set, Please Provide Proper Relationship. REFER-TO: " + manyToManyRelationship.getReferTo());
-					return;
-				}
-
-				processRelationship(referedObject, object, whereClause);
-
-				Iterator<Attribute> parentAttributes = referedEntityDescriptor.getAttributes();
-				while(parentAttributes.hasNext()) {
-					Attribute attribute = parentAttributes.next();
-					
-					boolean isPrimary = attribute.isPrimaryKey();
-					if(isPrimary) {
-						Object columnValue = null;
-						try {
-							columnValue = ClassUtils.getValue(referedObject, attribute.getGetterMethodName());
-						} catch(SiminovException siminovException) {
-							Log.error(DatabaseHelper.class.getName(), "processManyToManyRelationship", "SiminovException caught while get method value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + siminovException.getMessage());
-							throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToManyRelationship", siminovException.getMessage());
-						} 
-
-						
-						if(whereClause.length() <= 0) {
-							whereClause.append(attribute.getColumnName() + "= '" + columnValue + "'");
-						} else {
-							whereClause.append(" AND " + attribute.getColumnName() + "= '" + columnValue + "'");
-						}
-					}
+					Log.error(DatabaseHelper.class.getName(), "processLazyOneToManyRelationship", "SiminovException caught while invoking method through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + " METHOD-NAME: " + oneToManyRelationship.getSetterReferMethodName() + ", " + siminovException.getMessage());
+					throw new DatabaseException(DatabaseHelper.class.getName(), "processLazyOneToManyRelationship", siminovException.getMessage());
 				}
 			}
 		}
 		
-		private static void processManyToManyRelationship(final Object object, final Object parentObject, Map<String, Object> data) throws DatabaseException {
-			EntityDescriptor entityDescriptor = getEntityDescriptor(object.getClass().getName());
-			Iterator<Relationship> manyToManyRelationships = entityDescriptor.getManyToOneRelationships();
+		/**
+		 	Get handler of lazy refered object.
+		 	@param referedObject Refered object.
+		 	@return Handler, NULL if refered object is not a proxy of lazy relationship.
+		 */
+		private static LazyInvocationHandler getLazyInvocationHandler(final Object referedObject) {
+			
+			if(!Proxy.isProxyClass(referedObject.getClass())) {
+				return null;
+			}
+			
+			InvocationHandler invocationHandler = Proxy.getInvocationHandler(referedObject);
+			return invocationHandler instanceof LazyInvocationHandler ? (LazyInvocationHandler) invocationHandler : null;
+		}
+		
+		/**
+		 	Check whether key of refered entity carries keys of its own refered entities. Key captured by a lazy proxy holds only primary key columns of refered entity, 
+		 	so a proxy of such entity has to be fetched to get rest of key.
+		 */
+		private static boolean hasReferedKeys(final EntityDescriptor referedEntityDescriptor) {
+			return referedEntityDescriptor.getOneToOneRelationships().hasNext() || referedEntityDescriptor.getManyToOneRelationships().hasNext() || referedEntityDescriptor.getManyToManyRelationships().hasNext();
+		}
+		
+		/**
+		 	Set proxy of refer type in place of refered object. Proxy can only be created for an interface, so it is used only if setter of relationship accepts an interface which refered class implements.
+		 */
+		private static void processLazyManyToOneRelationship(final EntityDescriptor entityDescriptor, final Object object, final Map<String, Object> data, final Relationship manyToOneRelationship, final EntityDescriptor referedEntityDescriptor) throws DatabaseException {
+			
+			String[] columnNames = referedEntityDescriptor.getPlan().getPrimaryKeyColumnNames();
+			
+			Object[] key = new Object[columnNames.length];
+			for(int i = 0;i < columnNames.length;i++) {
+				key[i] = data.get(columnNames[i]);
+			}
+			
+			if(columnNames.length <= 0 || Arrays.asList(key).contains(null)) {
+				return;
+			}
+			
+			Class<?> referType = getReferType(manyToOneRelationship);
+			Object referedObject = Proxy.newProxyInstance(referType.getClassLoader(), new Class<?>[] {referType}, new LazyInvocationHandler(referedEntityDescriptor, QueryTemplates.formKeyWhereClause(columnNames), key, entityDescriptor.getClassName()));
+			
+			try {
+				setValue(object, manyToOneRelationship, referType, referedObject);
+			} catch(SiminovException siminovException) {
+				Log.error(DatabaseHelper.class.getName(), "processLazyManyToOneRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + entityDescriptor.getClassName() + ", METHOD-NAME: " + manyToOneRelationship.getSetterReferMethodName() + ", " + siminovException.getMessage());
+				throw new DatabaseException(DatabaseHelper.class.getName(), "processLazyManyToOneRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + entityDescriptor.getClassName() + ", METHOD-NAME: " + manyToOneRelationship.getSetterReferMethodName() + ", " + siminovException.getMessage());
+			}
+		}
+		
+		/**
+		 	Fetch refered objects of a lazy relationship, when they are first accessed. Any error is thrown as SiminovCriticalException, as it occurs while application is accessing relationship.
+		 */
+		private static List<Object> fetchLazyReferedObjects(final EntityDescriptor referedEntityDescriptor, final String whereClause, final Object[] arguments, final String parentClassName) {
+			
+			List<Object> referedObjects = new ArrayList<Object>();
+			List<Map<String, Object>> referedDatas = new ArrayList<Map<String, Object>>();
+			
+			try {
+				select(referedEntityDescriptor, whereClause, arguments, referedObjects, referedDatas);
+				processRelationships(referedEntityDescriptor, referedObjects, referedDatas, parentClassName);
+			} catch(DatabaseException databaseException) {
+				Log.error(DatabaseHelper.class.getName(), "fetchLazyReferedObjects", "DatabaseException caught while fetching lazy relationship, ENTITY-DESCRIPTOR: " + referedEntityDescriptor.getClassName() + ", " + databaseException.getMessage());
+				throw new SiminovCriticalException(DatabaseHelper.class.getName(), "fetchLazyReferedObjects", "DatabaseException caught while fetching lazy relationship, ENTITY-DESCRIPTOR: " + referedEntityDescriptor.getClassName() + ", " + databaseException.getMessage());
+			}
+			
+			return referedObjects;
+		}
+		
+		/**
+		 	Get type accepted by setter of relationship, NULL if setter is not resolved.
+		 */
+		private static Class<?> getReferType(final Relationship relationship) {
+			
+			Method setterReferMethod = relationship.getSetterReferMethod();
+			if(setterReferMethod == null) {
+				return null;
+			}
+			
+			return setterReferMethod.getParameterTypes()[0];
+		}
+		
+		/*
+		 * Batch Fetch Of Refered Objects
+		 */
+		
+		/**
+		 	Fetch objects of refered entity whose key columns match any of the keys, in chunks so that number of ? placeholders in a query stays within SQLite limit.
+		 	<p>
+		 	Relationships of fetched objects are processed in same way, batch per relationship.
+		 	
+		 	@param referedEntityDescriptor Entity Descriptor of refered entity.
+		 	@param columnNames Key columns of refered entity.
+		 	@param keys Keys to be matched, keys having NULL value are skipped.
+		 	@param parentClassName Class name of entity which is fetching refered objects.
+		 	@return Fetched objects mapped by their key, formed through formKey.
+		 	@throws DatabaseException If any error occur while fetching objects.
+		 */
+		private static Map<List<String>, List<Object>> fetchReferedObjects(final EntityDescriptor referedEntityDescriptor, final String[] columnNames, final List<Object[]> keys, final String parentClassName) throws DatabaseException {
 
-			while(manyToManyRelationships.hasNext()) {
-				Relationship manyToManyRelationship = manyToManyRelationships.next();
-				if(parentObject != null && manyToManyRelationship.getReferTo().equalsIgnoreCase(parentObject.getClass().getName())) {
+			Map<List<String>, List<Object>> referedObjects = new HashMap<List<String>, List<Object>>();
+			
+			Map<List<String>, Object[]> distinctKeys = new LinkedHashMap<List<String>, Object[]>();
+			for(int i = 0;i < keys.size();i++) {
+				Object[] key = keys.get(i);
+				if(Arrays.asList(key).contains(null)) {
 					continue;
 				}
 				
-				
-				EntityDescriptor referedEntityDescriptor = manyToManyRelationship.getReferedEntityDescriptor();
-				if(referedEntityDescriptor == null) {
-					referedEntityDescriptor = getEntityDescriptor(manyToManyRelationship.getReferTo());
-					manyToManyRelationship.setReferedEntityDescriptor(referedEntityDescriptor);
-				}
+				distinctKeys.put(formKey(key), key);
+			}
 
-				Object referedObject = ClassUtils.createClassInstance(manyToManyRelationship.getReferedEntityDescriptor().getClassName());
-				if(referedObject == null) {
-					Log.error(DatabaseHelper.class.getName(), "processManyToManyRelationship", "Parent Object Not Set, Please Provide Proper Relationship. REFER-TO: " + manyToManyRelationship.getReferTo());
-					return;
+			boolean identityKeys = columnNames.length > 0 && Arrays.equals(columnNames, getIdentityColumnNames(referedEntityDescriptor));
+			
+			/*
+			 * Reuse objects already loaded in open session, if keys are primary keys of refered entity.
+			 */
+			Session session = Session.getCurrentSession();
+			if(session != null && identityKeys) {
+				
+				Iterator<Map.Entry<List<String>, Object[]>> distinctKeysEntries = distinctKeys.entrySet().iterator();
+				while(distinctKeysEntries.hasNext()) {
+					Map.Entry<List<String>, Object[]> distinctKey = distinctKeysEntries.next();
+					
+					Object referedObject = session.get(referedEntityDescriptor, distinctKey.getKey());
+					if(referedObject == null) {
+						continue;
+					}
+					
+					List<Object> matchedObjects = new ArrayList<Object>();
+					matchedObjects.add(referedObject);
+					
+					referedObjects.put(distinctKey.getKey(), matchedObjects);
+					distinctKeysEntries.remove();
 				}
-
+			}
+			
+			/*
+			 * Serve tuples from entity cache, if keys are primary keys of refered entity.
+			 */
+			EntityCache entityCache = identityKeys ? EntityCache.getEntityCache(referedEntityDescriptor) : null;
+			if(entityCache != null) {
 				
-				processRelationship(referedObject, object, data);
+				List<Object> cachedObjects = new ArrayList<Object>();
+				List<Map<String, Object>> cachedDatas = new ArrayList<Map<String, Object>>();
 				
-				if(manyToManyRelationship.isLoad()) {
-
-					StringBuilder whereClause = new StringBuilder();
-
-					Iterator<String> foreignKeys = getPrimaryKeys(referedObject);
-					while(foreignKeys.hasNext()) {
-						String foreignKey = foreignKeys.next();
-						Attribute attribute = referedEntityDescriptor.getAttributeBasedOnColumnName(foreignKey);
-						Object columnValue = data.get(attribute.getColumnName());
-
-						if(whereClause.length() <= 0) {
-							whereClause.append(foreignKey + "='" + columnValue.toString() + "'"); 
-						} else {
-							whereClause.append(" AND " + foreignKey + "='" + columnValue.toString() + "'");  
-						}
-					}
+				Iterator<List<String>> distinctKeysIterator = distinctKeys.keySet().iterator();
+				while(distinctKeysIterator.hasNext()) {
 					
-					Object[] fetchedObjects = select(null, null, referedEntityDescriptor, false, whereClause.toString(), null, null, null, null, null, null);
-					if(fetchedObjects == null || fetchedObjects.length <= 0) {
-						return;
+					Map<String, Object> cachedData = entityCache.get(distinctKeysIterator.next());
+					if(cachedData == null) {
+						continue;
 					}
 					
-					referedObject = fetchedObjects[0];
+					cachedObjects.add(inflateData(referedEntityDescriptor.getClassObject(), referedEntityDescriptor, cachedData));
+					cachedDatas.add(cachedData);
+					
+					distinctKeysIterator.remove();
+				}
+				
+				processRelationships(referedEntityDescriptor, cachedObjects, cachedDatas, parentClassName);
+				addReferedObjects(referedObjects, columnNames, cachedObjects, cachedDatas);
+			}
+			
+			if(distinctKeys.isEmpty() || columnNames.length <= 0) {
+				return referedObjects;
+			}
+			
+			int chunkSize = Math.max(1, SQLITE_MAX_VARIABLE_NUMBER / columnNames.length);
+			Iterator<Object[]> distinctKeysIterator = distinctKeys.values().iterator();
 
-				} else {
-					Iterator<String> primaryKeys = getPrimaryKeys(referedObject);
-					while(primaryKeys.hasNext()) {
-						String foreignKey = primaryKeys.next();
-						Attribute attribute = referedEntityDescriptor.getAttributeBasedOnColumnName(foreignKey);
-
-						Object columnValue = data.get(attribute.getColumnName());
-						if(columnValue == null) {
-							continue;
+			while(distinctKeysIterator.hasNext()) {
+
+				StringBuilder whereClause = new StringBuilder();
+				Collection<Object> arguments = new ArrayList<Object>();
+				
+				if(columnNames.length == 1) {
+					whereClause.append(columnNames[0] + " " + Clause.IN + "(");
+				}
+				
+				int count = 0;
+				while(distinctKeysIterator.hasNext() && count < chunkSize) {
+					Object[] key = distinctKeysIterator.next();
+					
+					if(columnNames.length == 1) {
+						if(count > 0) {
+							whereClause.append(", ");
 						}
 						
-						try {
-							ClassUtils.invokeMethod(referedObject, attribute.getSetterMethodName(), new Class[] {columnValue.getClass()}, new Object[] {columnValue});
-						} catch(SiminovException siminovException) {
-							Log.error(DatabaseHelper.class.getName(), "processManyToManyRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + referedEntityDescriptor.getClassName() + ", METHOD-NAME: " + attribute.getSetterMethodName() + ", " + siminovException.getMessage());
-							throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToManyRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + referedEntityDescriptor.getClassName() + ", METHOD-NAME: " + attribute.getSetterMethodName() + ", " + siminovException.getMessage());
+						whereClause.append(Clause.ARGUMENT);
+						arguments.add(key[0]);
+					} else {
+						if(count > 0) {
+							whereClause.append(" " + Clause.OR + " ");
 						}
+						
+						whereClause.append("(");
+						for(int i = 0;i < columnNames.length;i++) {
+							if(i > 0) {
+								whereClause.append(" " + Clause.AND + " ");
+							}
+							
+							whereClause.append(columnNames[i] + " " + Clause.EQUAL_TO + " " + Clause.ARGUMENT);
+							arguments.add(key[i]);
+						}
+						whereClause.append(")");
 					}
+					
+					count++;
 				}
-
-				if(referedObject == null) {
-					Log.error(DatabaseHelper.class.getName(), "processManyToManyRelationship", "Parent Object Not Set, Please Provide Proper Relationship. REFER-TO: " + manyToManyRelationship.getReferTo());
-					throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToManyRelationship", "Parent Object Not Set, Please Provide Proper Relationship. REFER-TO: " + manyToManyRelationship.getReferTo());
+				
+				if(columnNames.length == 1) {
+					whereClause.append(")");
 				}
 				
-				try {
-					ClassUtils.invokeMethod(object, manyToManyRelationship.getSetterReferMethodName(), new Class[] {referedObject.getClass()}, new Object[] {referedObject});
-				} catch(SiminovException siminovException) {
-					Log.error(DatabaseHelper.class.getName(), "processManyToManyRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + entityDescriptor.getClassName() + ", METHOD-NAME: " + manyToManyRelationship.getSetterReferMethodName() + ", " + siminovException.getMessage());
-					throw new DatabaseException(DatabaseHelper.class.getName(), "processManyToManyRelationship", "SiminovException caught while invoking method, CLASS-NAME: " + entityDescriptor.getClassName() + ", METHOD-NAME: " + manyToManyRelationship.getSetterReferMethodName() + ", " + siminovException.getMessage());
+				
+				List<Object> fetchedObjects = new ArrayList<Object>();
+				List<Map<String, Object>> fetchedDatas = new ArrayList<Map<String, Object>>();
+				
+				long generation = entityCache != null ? entityCache.getGeneration() : 0;
+				select(referedEntityDescriptor, whereClause.toString(), arguments.toArray(), fetchedObjects, fetchedDatas);
+				
+				if(entityCache != null) {
+					for(int i = 0;i < fetchedDatas.size();i++) {
+						entityCache.put(formKey(fetchedDatas.get(i), columnNames), fetchedDatas.get(i), generation);
+					}
+				}
+				
+				processRelationships(referedEntityDescriptor, fetchedObjects, fetchedDatas, parentClassName);
+				addReferedObjects(referedObjects, columnNames, fetchedObjects, fetchedDatas);
+			}
+			
+			return referedObjects;
+		}
+		
+		/**
+		 	Map fetched objects by their key, formed through formKey from key columns of their tuples.
+		 */
+		private static void addReferedObjects(final Map<List<String>, List<Object>> referedObjects, final String[] columnNames, final List<Object> fetchedObjects, final List<Map<String, Object>> fetchedDatas) {
+			
+			for(int i = 0;i < fetchedObjects.size();i++) {
+				
+				List<String> formedKey = formKey(fetchedDatas.get(i), columnNames);
+				List<Object> matchedObjects = referedObjects.get(formedKey);
+				if(matchedObjects == null) {
+					matchedObjects = new ArrayList<Object>();
+					referedObjects.put(formedKey, matchedObjects);
+				}
+				
+				matchedObjects.add(fetchedObjects.get(i));
+			}
+		}
+		
+		private static List<String> formKey(final Map<String, Object> data, final String[] columnNames) {
+			
+			Object[] key = new Object[columnNames.length];
+			for(int i = 0;i < columnNames.length;i++) {
+				key[i] = data.get(columnNames[i]);
+			}
+			
+			return formKey(key);
+		}
+		
+		/**
+		 	Form hash key of column values. Values are compared as strings, same as they are stored by SQLite, so Integer and Long values of a column match.
+		 */
+		private static List<String> formKey(final Object[] values) {
+			
+			List<String> key = new ArrayList<String>(values.length);
+			for(int i = 0;i < values.length;i++) {
+				key.add(String.valueOf(values[i]));
+			}
+			
+			return key;
+		}
+
+		private static List<Object[]> getKeys(final EntityDescriptor entityDescriptor, final List<Object> objects, final Attribute[] attributes) throws DatabaseException {
+			
+			List<Object[]> keys = new ArrayList<Object[]>(objects.size());
+			for(int i = 0;i < objects.size();i++) {
+				
+				Object[] key = new Object[attributes.length];
+				for(int j = 0;j < attributes.length;j++) {
+					try {
+						key[j] = getValue(objects.get(i), attributes[j]);
+					} catch(SiminovException siminovException) {
+						Log.error(DatabaseHelper.class.getName(), "getKeys", "SiminovException caught while getting column value through reflection, CLASS-NAME: " + entityDescriptor.getClassName() + ", " + " METHOD-NAME: " + attributes[j].getGetterMethodName() + ", " + siminovException.getMessage());
+						throw new DatabaseException(DatabaseHelper.class.getName(), "getKeys", siminovException.getMessage());
+					}
 				}
+				
+				keys.add(key);
 			}
+			
+			return keys;
+		}
+		
+		private static EntityDescriptor getReferedEntityDescriptor(final Relationship relationship) throws DatabaseException {
+			
+			EntityDescriptor referedEntityDescriptor = relationship.getReferedEntityDescriptor();
+			if(referedEntityDescriptor == null) {
+				referedEntityDescriptor = getEntityDescriptor(relationship.getReferTo());
+				relationship.setReferedEntityDescriptor(referedEntityDescriptor);
+			}
+			
+			return referedEntityDescriptor;
 		}
 	}
 }
@@ -0,0 +1,70 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+
+/**
+ * Specification of delete query, passed to {@link siminov.core.database.design.IQueryBuilder#formDeleteQuery(DeleteSpec)}.
+ */
+public class DeleteSpec {
+
+	private String tableName = null;
+	private String whereClause = null;
+
+	/**
+	 * DeleteSpec Constructor
+	 * @param tableName Name of table.
+	 * @param whereClause Where clause, NULL if all tuples are deleted.
+	 */
+	public DeleteSpec(final String tableName, final String whereClause) {
+		this.tableName = tableName;
+		this.whereClause = whereClause;
+	}
+
+	/**
+	 * Get table name.
+	 * @return Name of table.
+	 */
+	public String getTableName() {
+		return this.tableName;
+	}
+
+	/**
+	 * Set table name.
+	 * @param tableName Name of table.
+	 */
+	public void setTableName(final String tableName) {
+		this.tableName = tableName;
+	}
+
+	/**
+	 * Get where clause.
+	 * @return Where clause, NULL if all tuples are deleted.
+	 */
+	public String getWhereClause() {
+		return this.whereClause;
+	}
+
+	/**
+	 * Set where clause.
+	 * @param whereClause Where clause, NULL if all tuples are deleted.
+	 */
+	public void setWhereClause(final String whereClause) {
+		this.whereClause = whereClause;
+	}
+}
@@ -0,0 +1,300 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import siminov.core.model.EntityDescriptor;
+import siminov.core.resource.ResourceManager;
+
+
+/**
+ * Process wide cache of tuples of an entity, based on primary key, for entities which define cache property in EntityDescriptor.xml.
+ * <p>
+ * It keeps up to configured number of tuples, evicting least recently used tuple once it is full.
+ * Tuples are cached as read from database, and a new object is inflated from cached tuple on every hit, so cached tuples are never shared with application.
+ * <p>
+ * Primary key lookups, through select on primary key columns and through relationships, are served from cache.
+ * Save, update and delete of entity invalidate cached tuples, and clear caches of entities refering it. Queries executed directly on database clear cache of entity they write.
+ * <p>
+ * Tuple read before a concurrent save, update or delete of entity is not cached after it. While a transaction is open on database of entity, tuples are neither served nor cached.
+ *
+ * <pre>
+ *
+Example:
+
+	{@code
+
+	EntityCache entityCache = Database.getEntityCache(Book.class);
+	if(entityCache != null) {
+		long hits = entityCache.getHitCount();
+		long misses = entityCache.getMissCount();
+	}
+
+	}
+ * </pre>
+ */
+public class EntityCache {
+
+	private static final Map<String, EntityCache> entityCaches = new HashMap<String, EntityCache>();
+	private static final Map<String, Integer> openTransactions = new HashMap<String, Integer>();
+
+	private final String className;
+	private final String databaseName;
+	private final int maximumSize;
+
+	private final Map<List<String>, Map<String, Object>> tuples;
+
+	private long generation = 0;
+
+	private long hitCount = 0;
+	private long missCount = 0;
+	private long evictionCount = 0;
+
+	private EntityCache(final String className, final String databaseName, final int maximumSize) {
+		this.className = className;
+		this.databaseName = databaseName;
+		this.maximumSize = maximumSize;
+
+		this.tuples = new LinkedHashMap<List<String>, Map<String, Object>>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			protected boolean removeEldestEntry(final Map.Entry<List<String>, Map<String, Object>> eldest) {
+
+				if(size() <= EntityCache.this.maximumSize) {
+					return false;
+				}
+
+				evictionCount++;
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Get cache of entity, creating it on first use.
+	 * @param entityDescriptor Entity descriptor.
+	 * @return Entity cache, NULL if entity does not define cache.
+	 */
+	static EntityCache getEntityCache(final EntityDescriptor entityDescriptor) {
+
+		int cacheSize = entityDescriptor.getCacheSize();
+		if(cacheSize <= 0) {
+			return null;
+		}
+
+		synchronized(entityCaches) {
+
+			EntityCache entityCache = entityCaches.get(entityDescriptor.getClassName());
+			if(entityCache == null) {
+				String databaseName = ResourceManager.getInstance().getDatabaseDescriptorBasedOnClassName(entityDescriptor.getClassName()).getDatabaseName();
+
+				entityCache = new EntityCache(entityDescriptor.getClassName(), databaseName, cacheSize);
+				entityCaches.put(entityDescriptor.getClassName(), entityCache);
+			}
+
+			return entityCache;
+		}
+	}
+
+	/**
+	 * Clear caches of all entities.
+	 */
+	static void clearAll() {
+
+		synchronized(entityCaches) {
+
+			Iterator<EntityCache> entityCachesIterator = entityCaches.values().iterator();
+			while(entityCachesIterator.hasNext()) {
+				entityCachesIterator.next().clear();
+			}
+		}
+	}
+
+	/**
+	 * Mark transaction as begun on database. Nested transactions are counted.
+	 * @param databaseName Name of database.
+	 */
+	static void beginTransaction(final String databaseName) {
+
+		synchronized(openTransactions) {
+			Integer count = openTransactions.get(databaseName);
+			openTransactions.put(databaseName, count == null ? 1 : count + 1);
+		}
+	}
+
+	/**
+	 * Mark transaction as ended on database, either committed or rolled back.
+	 * <p>
+	 * Generation of caches of its entities is changed before transaction is counted as ended, so tuple read within transaction is not cached after it.
+	 * @param databaseName Name of database.
+	 */
+	static void endTransaction(final String databaseName) {
+
+		List<EntityCache> caches = null;
+		synchronized(entityCaches) {
+			caches = new ArrayList<EntityCache>(entityCaches.values());
+		}
+
+		Iterator<EntityCache> cachesIterator = caches.iterator();
+		while(cachesIterator.hasNext()) {
+
+			EntityCache entityCache = cachesIterator.next();
+			if(entityCache.databaseName.equals(databaseName)) {
+				entityCache.nextGeneration();
+			}
+		}
+
+		synchronized(openTransactions) {
+			Integer count = openTransactions.get(databaseName);
+			if(count == null || count <= 1) {
+				openTransactions.remove(databaseName);
+			} else {
+				openTransactions.put(databaseName, count - 1);
+			}
+		}
+	}
+
+	private static boolean isTransactionOpen(final String databaseName) {
+
+		synchronized(openTransactions) {
+			return openTransactions.containsKey(databaseName);
+		}
+	}
+
+	/**
+	 * Get cached tuple.
+	 * @param key Primary key of tuple.
+	 * @return Tuple, NULL if tuple is not cached, or a transaction is open on database.
+	 */
+	synchronized Map<String, Object> get(final List<String> key) {
+
+		if(isTransactionOpen(this.databaseName)) {
+			return null;
+		}
+
+		Map<String, Object> tuple = this.tuples.get(key);
+		if(tuple == null) {
+			this.missCount++;
+		} else {
+			this.hitCount++;
+		}
+
+		return tuple;
+	}
+
+	/**
+	 * Get generation of cache, which changes whenever tuples are removed.
+	 * <p>
+	 * It is read before tuple is fetched and passed to put, so tuple read before a concurrent write is not cached after that write.
+	 * @return Generation.
+	 */
+	synchronized long getGeneration() {
+		return this.generation;
+	}
+
+	/**
+	 * Cache tuple, unless cache was invalidated since tuple was fetched, or a transaction is open on database.
+	 * @param key Primary key of tuple.
+	 * @param tuple Tuple as read from database.
+	 * @param generation Generation of cache read before tuple was fetched.
+	 */
+	synchronized void put(final List<String> key, final Map<String, Object> tuple, final long generation) {
+
+		if(generation != this.generation || isTransactionOpen(this.databaseName)) {
+			return;
+		}
+
+		this.tuples.put(key, tuple);
+	}
+
+	/**
+	 * Remove cached tuple.
+	 * @param key Primary key of tuple.
+	 */
+	synchronized void remove(final List<String> key) {
+		this.generation++;
+		this.tuples.remove(key);
+	}
+
+	/**
+	 * Remove all cached tuples. Statistics are kept.
+	 */
+	public synchronized void clear() {
+		this.generation++;
+		this.tuples.clear();
+	}
+
+	private synchronized void nextGeneration() {
+		this.generation++;
+	}
+
+	/**
+	 * Get class name of entity.
+	 * @return Class name.
+	 */
+	public String getClassName() {
+		return this.className;
+	}
+
+	/**
+	 * Get maximum number of tuples kept in cache.
+	 * @return Maximum number of tuples.
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Get number of tuples in cache.
+	 * @return Number of tuples.
+	 */
+	public synchronized int getSize() {
+		return this.tuples.size();
+	}
+
+	/**
+	 * Get number of lookups served from cache.
+	 * @return Hit count.
+	 */
+	public synchronized long getHitCount() {
+		return this.hitCount;
+	}
+
+	/**
+	 * Get number of lookups which were not found in cache.
+	 * @return Miss count.
+	 */
+	public synchronized long getMissCount() {
+		return this.missCount;
+	}
+
+	/**
+	 * Get number of tuples evicted because cache was full.
+	 * @return Eviction count.
+	 */
+	public synchronized long getEvictionCount() {
+		return this.evictionCount;
+	}
+}
@@ -0,0 +1,88 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+
+/**
+ * Specification of insert and upsert bind queries, passed to {@link siminov.core.database.design.IQueryBuilder#formSaveBindQuery(InsertSpec)}
+ * and {@link siminov.core.database.design.IQueryBuilder#formUpsertBindQuery(InsertSpec)}. Values are bound in order of column names.
+ */
+public class InsertSpec {
+
+	private String tableName = null;
+	private String[] columnNames = new String[0];
+	private String[] primaryKeys = new String[0];
+
+	/**
+	 * InsertSpec Constructor
+	 * @param tableName Name of table.
+	 * @param columnNames Name of columns, in order of values bound.
+	 */
+	public InsertSpec(final String tableName, final String[] columnNames) {
+		this.tableName = tableName;
+		this.columnNames = columnNames;
+	}
+
+	/**
+	 * Get table name.
+	 * @return Name of table.
+	 */
+	public String getTableName() {
+		return this.tableName;
+	}
+
+	/**
+	 * Set table name.
+	 * @param tableName Name of table.
+	 */
+	public void setTableName(final String tableName) {
+		this.tableName = tableName;
+	}
+
+	/**
+	 * Get column names, in order of values bound.
+	 * @return Column names.
+	 */
+	public String[] getColumnNames() {
+		return this.columnNames;
+	}
+
+	/**
+	 * Set column names, in order of values bound.
+	 * @param columnNames Column names.
+	 */
+	public void setColumnNames(final String[] columnNames) {
+		this.columnNames = columnNames;
+	}
+
+	/**
+	 * Get columns of primary key of table on which conflict is detected by upsert.
+	 * @return Primary key column names, empty if not set.
+	 */
+	public String[] getPrimaryKeys() {
+		return this.primaryKeys;
+	}
+
+	/**
+	 * Set columns of primary key of table on which conflict is detected by upsert. It is not used by insert.
+	 * @param primaryKeys Primary key column names.
+	 */
+	public void setPrimaryKeys(final String[] primaryKeys) {
+		this.primaryKeys = primaryKeys != null ? primaryKeys : new String[0];
+	}
+}
@@ -0,0 +1,339 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Cache of tuples returned by select and aggregate queries of a database, for databases which define query_cache_size property in DatabaseDescriptor.xml.
+ * <p>
+ * Result is cached based on query and its arguments, and is tagged with tables read by query.
+ * Any save, update or delete through SIMINOV invalidates results of tables it writes, and of tables refering them.
+ * Results older than query_cache_ttl (in milliseconds) are not served, and least recently used result is evicted once cache is full.
+ * <p>
+ * While a transaction is open on database, results are neither served nor cached, as they may contain uncommitted tuples, or miss tuples not yet visible to other connections.
+ * Once transaction ends, results of tables written within it are invalidated again.
+ * <p>
+ * Queries executed directly on database invalidate results of table they write, or whole cache if written table can not be told from query, as for schema changes.
+ */
+public class QueryCache {
+
+	private final int maximumSize;
+	private final long timeToLive;
+	private final boolean metricsEnable;
+
+	private final Map<List<String>, Result> results;
+
+	private long generation = 0;
+
+	private int openTransactions = 0;
+	private final Set<String> writtenTables = new HashSet<String>();
+
+	private long hitCount = 0;
+	private long missCount = 0;
+	private long evictionCount = 0;
+	private long invalidationCount = 0;
+
+	/**
+	 * QueryCache Constructor
+	 * @param maximumSize Maximum number of results kept in cache.
+	 * @param timeToLive Time in milliseconds for which result is served, 0 if result does not expire.
+	 * @param metricsEnable TRUE: If hit, miss, eviction and invalidation counts are recorded, FALSE: If they are not recorded.
+	 */
+	public QueryCache(final int maximumSize, final long timeToLive, final boolean metricsEnable) {
+		this.maximumSize = maximumSize;
+		this.timeToLive = timeToLive;
+		this.metricsEnable = metricsEnable;
+
+		this.results = new LinkedHashMap<List<String>, Result>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			protected boolean removeEldestEntry(final Map.Entry<List<String>, Result> eldest) {
+
+				if(size() <= QueryCache.this.maximumSize) {
+					return false;
+				}
+
+				if(QueryCache.this.metricsEnable) {
+					evictionCount++;
+				}
+
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Form key of query and its arguments. Arguments are kept with their type, as SQLite compares values of different types differently.
+	 * @param query Query.
+	 * @param arguments Values of ? placeholders in query.
+	 * @return Key.
+	 */
+	static List<String> formKey(final String query, final Object[] arguments) {
+
+		List<String> key = new ArrayList<String>();
+		key.add(query.trim());
+
+		if(arguments == null) {
+			return key;
+		}
+
+		for(int i = 0;i < arguments.length;i++) {
+
+			Object argument = arguments[i];
+			if(argument == null) {
+				key.add(null);
+			} else if(argument instanceof byte[]) {
+				key.add(byte[].class.getName() + ":" + Arrays.toString((byte[]) argument));
+			} else {
+				key.add(argument.getClass().getName() + ":" + argument);
+			}
+		}
+
+		return key;
+	}
+
+	/**
+	 * Get cached tuples of query.
+	 * @param key Key of query, formed through formKey.
+	 * @return Tuples, NULL if result is not cached or is expired.
+	 */
+	synchronized List<Map<String, Object>> get(final List<String> key) {
+
+		if(this.openTransactions > 0) {
+			return null;
+		}
+
+		Result result = this.results.get(key);
+		if(result != null && result.isExpired()) {
+			this.results.remove(key);
+			result = null;
+		}
+
+		if(this.metricsEnable) {
+			if(result == null) {
+				this.missCount++;
+			} else {
+				this.hitCount++;
+			}
+		}
+
+		return result != null ? result.tuples : null;
+	}
+
+	/**
+	 * Get generation of cache, which changes whenever results are invalidated.
+	 * <p>
+	 * It is read before query is executed and passed to put, so result read before a concurrent write is not cached after that write.
+	 * @return Generation.
+	 */
+	synchronized long getGeneration() {
+		return this.generation;
+	}
+
+	/**
+	 * Cache tuples of query, unless cache was invalidated since query was executed, or a transaction is open.
+	 * @param key Key of query, formed through formKey.
+	 * @param tableNames Tables read by query.
+	 * @param tuples Tuples returned by query.
+	 * @param generation Generation of cache read before query was executed.
+	 */
+	synchronized void put(final List<String> key, final Collection<String> tableNames, final List<Map<String, Object>> tuples, final long generation) {
+
+		if(generation != this.generation || this.openTransactions > 0) {
+			return;
+		}
+
+		Set<String> tables = new HashSet<String>();
+
+		Iterator<String> tableNamesIterator = tableNames.iterator();
+		while(tableNamesIterator.hasNext()) {
+			tables.add(tableNamesIterator.next().toLowerCase());
+		}
+
+		long expiresAt = this.timeToLive > 0 ? System.currentTimeMillis() + this.timeToLive : 0;
+		this.results.put(key, new Result(Collections.unmodifiableList(tuples), tables, expiresAt));
+	}
+
+	/**
+	 * Remove cached results of all queries which read table.
+	 * @param tableName Name of table.
+	 */
+	public synchronized void invalidate(final String tableName) {
+
+		String table = tableName.toLowerCase();
+		this.generation++;
+
+		if(this.openTransactions > 0) {
+			this.writtenTables.add(table);
+		}
+
+		remove(table);
+	}
+
+	/**
+	 * Check whether a transaction is open on database, during which results are neither served nor cached.
+	 * @return TRUE: If transaction is open, FALSE: If no transaction is open.
+	 */
+	synchronized boolean isTransactionOpen() {
+		return this.openTransactions > 0;
+	}
+
+	/**
+	 * Mark transaction as begun on database. Nested transactions are counted.
+	 */
+	synchronized void beginTransaction() {
+		this.openTransactions++;
+	}
+
+	/**
+	 * Mark transaction as ended on database, either committed or rolled back.
+	 * <p>
+	 * Generation is changed, so result read before transaction ended is not cached. Once outermost transaction ends, results of tables written within it are invalidated.
+	 */
+	synchronized void endTransaction() {
+
+		if(this.openTransactions > 0) {
+			this.openTransactions--;
+		}
+
+		this.generation++;
+
+		if(this.openTransactions > 0) {
+			return;
+		}
+
+		Iterator<String> writtenTablesIterator = this.writtenTables.iterator();
+		while(writtenTablesIterator.hasNext()) {
+			remove(writtenTablesIterator.next());
+		}
+
+		this.writtenTables.clear();
+	}
+
+	private void remove(final String table) {
+
+		Iterator<Result> resultsIterator = this.results.values().iterator();
+		while(resultsIterator.hasNext()) {
+
+			if(resultsIterator.next().tables.contains(table)) {
+				resultsIterator.remove();
+
+				if(this.metricsEnable) {
+					this.invalidationCount++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove all cached results. Statistics are kept.
+	 */
+	public synchronized void clear() {
+		this.generation++;
+		this.results.clear();
+	}
+
+	/**
+	 * Get maximum number of results kept in cache.
+	 * @return Maximum number of results.
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Get time in milliseconds for which result is served.
+	 * @return Time to live, 0 if result does not expire.
+	 */
+	public long getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Get number of results in cache.
+	 * @return Number of results.
+	 */
+	public synchronized int getSize() {
+		return this.results.size();
+	}
+
+	/**
+	 * Get number of queries served from cache. It is recorded only if metrics are enabled.
+	 * @return Hit count.
+	 */
+	public synchronized long getHitCount() {
+		return this.hitCount;
+	}
+
+	/**
+	 * Get number of queries which were not found in cache. It is recorded only if metrics are enabled.
+	 * @return Miss count.
+	 */
+	public synchronized long getMissCount() {
+		return this.missCount;
+	}
+
+	/**
+	 * Get number of results evicted because cache was full. It is recorded only if metrics are enabled.
+	 * @return Eviction count.
+	 */
+	public synchronized long getEvictionCount() {
+		return this.evictionCount;
+	}
+
+	/**
+	 * Get number of results removed because a table read by them was written. It is recorded only if metrics are enabled.
+	 * @return Invalidation count.
+	 */
+	public synchronized long getInvalidationCount() {
+		return this.invalidationCount;
+	}
+
+
+	/**
+	 * Cached tuples of a query, with tables read by it.
+	 */
+	private static class Result {
+
+		private final List<Map<String, Object>> tuples;
+		private final Set<String> tables;
+		private final long expiresAt;
+
+		private Result(final List<Map<String, Object>> tuples, final Set<String> tables, final long expiresAt) {
+			this.tuples = tuples;
+			this.tables = tables;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired() {
+			return this.expiresAt > 0 && System.currentTimeMillis() >= this.expiresAt;
+		}
+	}
+}
@@ -0,0 +1,338 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+
+import siminov.core.database.design.IQueryBuilder;
+import siminov.core.model.EntityDescriptor;
+import siminov.core.model.EntityDescriptor.Attribute;
+
+
+/**
+ * Cache of insert, upsert, update, delete and select queries formed by query builder of a database.
+ * <p>
+ * Query is formed once for an entity and set of columns, and is reused by every later save, update, delete or select of same columns,
+ * instead of being formed again through query builder. Values are always bound to ? placeholders, so same query serves every object.
+ * <p>
+ * Queries are kept per table, and are matched on their type and column names compared one by one, so no key is formed or hashed on a lookup.
+ * Least recently used query of a table is evicted once it has too many queries, which only happens if an entity is written through many different sets of columns.
+ */
+public class QueryTemplates {
+
+	private static final int MAXIMUM_SIZE_PER_TABLE = 64;
+
+	private static final String SAVE_QUERY = "SAVE";
+	private static final String UPSERT_QUERY = "UPSERT";
+	private static final String UPSERT_UPDATE_QUERY = "UPSERT_UPDATE";
+	private static final String UPSERT_INSERT_QUERY = "UPSERT_INSERT";
+	private static final String UPDATE_QUERY = "UPDATE";
+	private static final String DELETE_QUERY = "DELETE";
+	private static final String SELECT_QUERY = "SELECT";
+
+	private final IQueryBuilder queryBuilder;
+	
+	/**
+	 * Queries of each table, most recently used first.
+	 */
+	private final Map<String, LinkedList<Template>> queries = new HashMap<String, LinkedList<Template>>();
+
+	/**
+	 * QueryTemplates Constructor
+	 * @param queryBuilder Query builder of database.
+	 */
+	public QueryTemplates(final IQueryBuilder queryBuilder) {
+		this.queryBuilder = queryBuilder;
+	}
+
+	/**
+	 * Form where clause which matches each of column names with a ? placeholder.
+	 * @param columnNames Name of columns.
+	 * @return Where clause.
+	 */
+	static String formKeyWhereClause(final String[] columnNames) {
+
+		StringBuilder whereClause = new StringBuilder();
+		for(int i = 0;i < columnNames.length;i++) {
+			if(i > 0) {
+				whereClause.append(" " + Clause.AND + " ");
+			}
+
+			whereClause.append(columnNames[i] + " " + Clause.EQUAL_TO + " " + Clause.ARGUMENT);
+		}
+
+		return whereClause.toString();
+	}
+
+	/**
+	 * Get insert bind query of entity for column names.
+	 * @param entityDescriptor Entity descriptor.
+	 * @param columnNames Name of columns, in order of values bound.
+	 * @return Insert bind query.
+	 */
+	String getSaveQuery(final EntityDescriptor entityDescriptor, final Collection<String> columnNames) {
+
+		String query = get(SAVE_QUERY, entityDescriptor, columnNames, null, null);
+		if(query != null) {
+			return query;
+		}
+
+		return put(SAVE_QUERY, entityDescriptor, columnNames, null, null, this.queryBuilder.formSaveBindQuery(new InsertSpec(entityDescriptor.getTableName(), columnNames.toArray(new String[columnNames.size()]))));
+	}
+
+	/**
+	 * Get upsert bind queries of entity for column names, executed in order with same values. Conflict is detected on primary key of table, which is primary key attributes and foreign key columns of relationships.
+	 * <p>
+	 * It is a single query, or update and insert queries if database can not upsert in a single statement, which have to be executed in a transaction.
+	 * @param entityDescriptor Entity descriptor.
+	 * @param columnNames Name of columns, in order of values bound.
+	 * @return Upsert bind queries.
+	 */
+	String[] getUpsertQueries(final EntityDescriptor entityDescriptor, final Collection<String> columnNames) {
+
+		String query = get(UPSERT_QUERY, entityDescriptor, columnNames, null, null);
+		if(query != null) {
+			return new String[] {query};
+		}
+
+		String updateQuery = get(UPSERT_UPDATE_QUERY, entityDescriptor, columnNames, null, null);
+		String insertQuery = get(UPSERT_INSERT_QUERY, entityDescriptor, columnNames, null, null);
+		if(updateQuery != null && insertQuery != null) {
+			return new String[] {updateQuery, insertQuery};
+		}
+
+		Collection<String> primaryKeys = new ArrayList<String>();
+
+		Iterator<String> columnNamesIterator = columnNames.iterator();
+		while(columnNamesIterator.hasNext()) {
+			String columnName = columnNamesIterator.next();
+
+			/*
+			 * Columns which are not attributes are foreign keys added by relationships.
+			 */
+			Attribute attribute = entityDescriptor.getAttributeBasedOnColumnName(columnName);
+			if(attribute == null || attribute.isPrimaryKey()) {
+				primaryKeys.add(columnName);
+			}
+		}
+
+		InsertSpec insertSpec = new InsertSpec(entityDescriptor.getTableName(), columnNames.toArray(new String[columnNames.size()]));
+		insertSpec.setPrimaryKeys(primaryKeys.toArray(new String[primaryKeys.size()]));
+
+		query = this.queryBuilder.formUpsertBindQuery(insertSpec);
+		if(query != null) {
+			return new String[] {put(UPSERT_QUERY, entityDescriptor, columnNames, null, null, query)};
+		}
+
+		updateQuery = put(UPSERT_UPDATE_QUERY, entityDescriptor, columnNames, null, null, this.queryBuilder.formUpsertUpdateBindQuery(insertSpec));
+		insertQuery = put(UPSERT_INSERT_QUERY, entityDescriptor, columnNames, null, null, this.queryBuilder.formUpsertInsertBindQuery(insertSpec));
+		
+		return new String[] {updateQuery, insertQuery};
+	}
+
+	/**
+	 * Get update bind query of entity, which sets column names of tuple matched on key column names.
+	 * @param entityDescriptor Entity descriptor.
+	 * @param columnNames Name of columns updated, their values are bound first.
+	 * @param keyColumnNames Name of columns which identify tuple, their values are bound after values of updated columns.
+	 * @return Update bind query.
+	 */
+	String getUpdateQuery(final EntityDescriptor entityDescriptor, final Collection<String> columnNames, final Collection<String> keyColumnNames) {
+
+		String query = get(UPDATE_QUERY, entityDescriptor, columnNames, keyColumnNames, null);
+		if(query != null) {
+			return query;
+		}
+
+		String whereClause = formKeyWhereClause(keyColumnNames.toArray(new String[keyColumnNames.size()]));
+		return put(UPDATE_QUERY, entityDescriptor, columnNames, keyColumnNames, null, this.queryBuilder.formUpdateBindQuery(new UpdateSpec(entityDescriptor.getTableName(), columnNames.toArray(new String[columnNames.size()]), whereClause)));
+	}
+
+	/**
+	 * Get delete bind query of entity, which deletes tuple matched on key column names.
+	 * @param entityDescriptor Entity descriptor.
+	 * @param keyColumnNames Name of columns which identify tuple, in order of values bound.
+	 * @return Delete bind query.
+	 */
+	String getDeleteQuery(final EntityDescriptor entityDescriptor, final Collection<String> keyColumnNames) {
+
+		String query = get(DELETE_QUERY, entityDescriptor, null, keyColumnNames, null);
+		if(query != null) {
+			return query;
+		}
+
+		String whereClause = formKeyWhereClause(keyColumnNames.toArray(new String[keyColumnNames.size()]));
+		return put(DELETE_QUERY, entityDescriptor, null, keyColumnNames, null, this.queryBuilder.formDeleteQuery(new DeleteSpec(entityDescriptor.getTableName(), whereClause)));
+	}
+
+	/**
+	 * Get query which selects whole tuples of entity matched by where clause. It is used for primary key and relationship lookups, whose where clauses only have ? placeholders.
+	 * @param entityDescriptor Entity descriptor.
+	 * @param whereClause Where clause.
+	 * @return Select query.
+	 */
+	String getSelectQuery(final EntityDescriptor entityDescriptor, final String whereClause) {
+
+		String query = get(SELECT_QUERY, entityDescriptor, null, null, whereClause);
+		if(query != null) {
+			return query;
+		}
+
+		SelectSpec selectSpec = new SelectSpec(entityDescriptor.getTableName());
+		selectSpec.setWhereClause(whereClause);
+
+		return put(SELECT_QUERY, entityDescriptor, null, null, whereClause, this.queryBuilder.formSelectQuery(selectSpec));
+	}
+
+	/**
+	 * Remove all cached queries. It has to be called if query builder forms different queries for same parameters, for example once table is altered.
+	 */
+	public synchronized void clear() {
+		this.queries.clear();
+	}
+
+	/**
+	 * Get number of cached queries.
+	 * @return Number of queries.
+	 */
+	public synchronized int getSize() {
+		
+		int size = 0;
+		
+		Iterator<LinkedList<Template>> templates = this.queries.values().iterator();
+		while(templates.hasNext()) {
+			size += templates.next().size();
+		}
+		
+		return size;
+	}
+
+	/**
+	 * Get query of table matching type and column names, and move it to front of queries of table.
+	 */
+	private synchronized String get(final String type, final EntityDescriptor entityDescriptor, final Collection<String> columnNames, final Collection<String> keyColumnNames, final String whereClause) {
+		
+		LinkedList<Template> templates = this.queries.get(entityDescriptor.getTableName());
+		if(templates == null) {
+			return null;
+		}
+		
+		Iterator<Template> templatesIterator = templates.iterator();
+		while(templatesIterator.hasNext()) {
+			
+			Template template = templatesIterator.next();
+			if(template.matches(type, columnNames, keyColumnNames, whereClause)) {
+				
+				if(templates.getFirst() != template) {
+					templatesIterator.remove();
+					templates.addFirst(template);
+				}
+				
+				return template.query;
+			}
+		}
+		
+		return null;
+	}
+
+	/**
+	 * Cache query of table, evicting least recently used query of table once it has too many queries. Column names are copied, as caller may reuse its collections.
+	 */
+	private synchronized String put(final String type, final EntityDescriptor entityDescriptor, final Collection<String> columnNames, final Collection<String> keyColumnNames, final String whereClause, final String query) {
+		
+		LinkedList<Template> templates = this.queries.get(entityDescriptor.getTableName());
+		if(templates == null) {
+			templates = new LinkedList<Template>();
+			this.queries.put(entityDescriptor.getTableName(), templates);
+		}
+		
+		String[] columns = columnNames != null ? columnNames.toArray(new String[columnNames.size()]) : null;
+		String[] keyColumns = keyColumnNames != null ? keyColumnNames.toArray(new String[keyColumnNames.size()]) : null;
+		
+		templates.addFirst(new Template(type, columns, keyColumns, whereClause, query));
+		if(templates.size() > MAXIMUM_SIZE_PER_TABLE) {
+			templates.removeLast();
+		}
+		
+		return query;
+	}
+
+	/**
+	 * Query formed for a type of query and its column names, or where clause for select queries.
+	 */
+	private static class Template {
+		
+		private final String type;
+		private final String[] columnNames;
+		private final String[] keyColumnNames;
+		private final String whereClause;
+		private final String query;
+		
+		private Template(final String type, final String[] columnNames, final String[] keyColumnNames, final String whereClause, final String query) {
+			this.type = type;
+			this.columnNames = columnNames;
+			this.keyColumnNames = keyColumnNames;
+			this.whereClause = whereClause;
+			this.query = query;
+		}
+		
+		/**
+		 * Type is matched by reference, as types are constants of QueryTemplates. Column names are mostly same instances held by entity descriptor, so equals returns on reference check.
+		 */
+		private boolean matches(final String type, final Collection<String> columnNames, final Collection<String> keyColumnNames, final String whereClause) {
+			
+			if(this.type != type) {
+				return false;
+			}
+			
+			if(this.whereClause == null ? whereClause != null : !this.whereClause.equals(whereClause)) {
+				return false;
+			}
+			
+			return matches(this.columnNames, columnNames) && matches(this.keyColumnNames, keyColumnNames);
+		}
+		
+		private static boolean matches(final String[] cachedColumnNames, final Collection<String> columnNames) {
+			
+			if(cachedColumnNames == null || columnNames == null) {
+				return cachedColumnNames == null && columnNames == null;
+			}
+			
+			if(cachedColumnNames.length != columnNames.size()) {
+				return false;
+			}
+			
+			int index = 0;
+			
+			Iterator<String> columnNamesIterator = columnNames.iterator();
+			while(columnNamesIterator.hasNext()) {
+				
+				if(!cachedColumnNames[index++].equals(columnNamesIterator.next())) {
+					return false;
+				}
+			}
+			
+			return true;
+		}
+	}
+}
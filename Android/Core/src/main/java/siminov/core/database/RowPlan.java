@@ -0,0 +1,403 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import siminov.core.database.design.IDataTypeHandler;
+import siminov.core.model.EntityDescriptor;
+import siminov.core.model.EntityDescriptor.Attribute;
+import siminov.core.model.EntityDescriptor.Relationship;
+
+
+/**
+ * Compiled plan to read tuples of a query, resolved once per entity descriptor and projection (column names returned by query).
+ * <p>
+ * It maps each column index to its attribute and to the type in which value has to be read,
+ * so tuples can be read straight from column positions into {@link Row} without any per row lookup.
+ */
+public class RowPlan {
+
+	/**
+	 * Column value type is not known, it has to be read based on type stored in database.
+	 */
+	public static final int ANY_COLUMN_TYPE = 0;
+
+	/**
+	 * Column value has to be read as String.
+	 */
+	public static final int STRING_COLUMN_TYPE = 1;
+
+	/**
+	 * Column value has to be read as Integer.
+	 */
+	public static final int INTEGER_COLUMN_TYPE = 2;
+
+	/**
+	 * Column value has to be read as Long.
+	 */
+	public static final int LONG_COLUMN_TYPE = 3;
+
+	/**
+	 * Column value has to be read as Float.
+	 */
+	public static final int FLOAT_COLUMN_TYPE = 4;
+
+	/**
+	 * Column value has to be read as Double.
+	 */
+	public static final int DOUBLE_COLUMN_TYPE = 5;
+
+	/**
+	 * Column value has to be read as Boolean.
+	 */
+	public static final int BOOLEAN_COLUMN_TYPE = 6;
+
+	/**
+	 * Column value has to be read as byte array.
+	 */
+	public static final int BLOB_COLUMN_TYPE = 7;
+
+
+	/**
+	 * Separator between refer of relationship and column name, in name of a column fetched through join of relationship.
+	 * It is not a period, as android cursor drops anything till last period from column name while looking up its index.
+	 */
+	public static final String JOIN_COLUMN_SEPARATOR = "__";
+
+	private final EntityDescriptor entityDescriptor;
+
+	private final String[] columnNames;
+	private final Attribute[] attributes;
+	private final int[] columnTypes;
+
+	private final Map<String, Integer> columnIndexes;
+
+
+	/**
+	 * RowPlan Constructor
+	 * @param entityDescriptor Entity Descriptor of tuples, NULL if query is not mapped to any entity.
+	 * @param columnNames Column names returned by query.
+	 */
+	public RowPlan(final EntityDescriptor entityDescriptor, final String[] columnNames) {
+
+		this.entityDescriptor = entityDescriptor;
+		this.columnNames = columnNames;
+
+		this.attributes = new Attribute[columnNames.length];
+		this.columnTypes = new int[columnNames.length];
+		this.columnIndexes = new HashMap<String, Integer>(columnNames.length * 2);
+
+		for(int i = 0;i < columnNames.length;i++) {
+
+			Attribute attribute = null;
+			Attribute joinedAttribute = null;
+			if(entityDescriptor != null) {
+				attribute = entityDescriptor.getAttributeBasedOnColumnName(columnNames[i]);
+				if(attribute == null) {
+					joinedAttribute = getJoinedAttribute(entityDescriptor, columnNames[i]);
+				}
+			}
+
+			/*
+			 * Joined columns are read in type of their attribute, but are not mapped to any attribute of entity.
+			 */
+			this.attributes[i] = attribute;
+			this.columnTypes[i] = getColumnType(attribute != null ? attribute : joinedAttribute);
+
+			this.columnIndexes.put(columnNames[i], i);
+		}
+	}
+
+	/**
+	 * Get entity descriptor of tuples.
+	 * @return Entity Descriptor, NULL if query is not mapped to any entity.
+	 */
+	public EntityDescriptor getEntityDescriptor() {
+		return this.entityDescriptor;
+	}
+
+	/**
+	 * Get number of columns.
+	 * @return Number of columns.
+	 */
+	public int getColumnCount() {
+		return this.columnNames.length;
+	}
+
+	/**
+	 * Get column name based on index.
+	 * @param index Index of column.
+	 * @return Name of column.
+	 */
+	public String getColumnName(final int index) {
+		return this.columnNames[index];
+	}
+
+	/**
+	 * Get attribute mapped to column based on index.
+	 * @param index Index of column.
+	 * @return Attribute, NULL if column is not mapped to any attribute.
+	 */
+	public Attribute getAttribute(final int index) {
+		return this.attributes[index];
+	}
+
+	/**
+	 * Get type in which column value has to be read.
+	 * @param index Index of column.
+	 * @return Column type, one of *_COLUMN_TYPE constants.
+	 */
+	public int getColumnType(final int index) {
+		return this.columnTypes[index];
+	}
+
+	/**
+	 * Get index of column based on name.
+	 * @param columnName Name of column.
+	 * @return Index of column, -1 if column is not part of query.
+	 */
+	public int getColumnIndex(final String columnName) {
+
+		Integer index = this.columnIndexes.get(columnName);
+		if(index == null) {
+			return -1;
+		}
+
+		return index;
+	}
+
+	/**
+	 * Create new empty tuple for this plan.
+	 * @return Row.
+	 */
+	public Row newRow() {
+		return new Row(this, new Object[this.columnNames.length]);
+	}
+
+
+	private static Attribute getJoinedAttribute(final EntityDescriptor entityDescriptor, final String columnName) {
+
+		int separator = columnName.indexOf(JOIN_COLUMN_SEPARATOR);
+		if(separator <= 0) {
+			return null;
+		}
+
+		Relationship relationship = entityDescriptor.getRelationshipBasedOnRefer(columnName.substring(0, separator));
+		if(relationship == null || relationship.getReferedEntityDescriptor() == null) {
+			return null;
+		}
+
+		return relationship.getReferedEntityDescriptor().getAttributeBasedOnColumnName(columnName.substring(separator + JOIN_COLUMN_SEPARATOR.length()));
+	}
+
+	private static int getColumnType(final Attribute attribute) {
+
+		if(attribute == null || attribute.getType() == null) {
+			return ANY_COLUMN_TYPE;
+		}
+
+		String type = attribute.getType();
+		if(type.equalsIgnoreCase(IDataTypeHandler.STRING_DATA_TYPE)) {
+			return STRING_COLUMN_TYPE;
+		} else if(type.equalsIgnoreCase(IDataTypeHandler.INTEGER_DATA_TYPE) || type.equalsIgnoreCase(IDataTypeHandler.PRIMITIVE_INTEGER_DATA_TYPE)) {
+			return INTEGER_COLUMN_TYPE;
+		} else if(type.equalsIgnoreCase(IDataTypeHandler.LONG_DATA_TYPE) || type.equalsIgnoreCase(IDataTypeHandler.PRIMITIVE_LONG_DATA_TYPE)) {
+			return LONG_COLUMN_TYPE;
+		} else if(type.equalsIgnoreCase(IDataTypeHandler.FLOAT_DATA_TYPE) || type.equalsIgnoreCase(IDataTypeHandler.PRIMITIVE_FLOAT_DATA_TYPE)) {
+			return FLOAT_COLUMN_TYPE;
+		} else if(type.equalsIgnoreCase(IDataTypeHandler.DOUBLE_DATA_TYPE) || type.equalsIgnoreCase(IDataTypeHandler.PRIMITIVE_DOUBLE_DATA_TYPE)) {
+			return DOUBLE_COLUMN_TYPE;
+		} else if(type.equalsIgnoreCase(IDataTypeHandler.BOOLEAN_DATA_TYPE) || type.equalsIgnoreCase(IDataTypeHandler.PRIMITIVE_BOOLEAN_DATA_TYPE)) {
+			return BOOLEAN_COLUMN_TYPE;
+		} else if(type.equalsIgnoreCase(IDataTypeHandler.BYTE_DATA_TYPE) || type.equalsIgnoreCase(IDataTypeHandler.PRIMITIVE_BYTE_DATA_TYPE)) {
+			return BLOB_COLUMN_TYPE;
+		}
+
+		return ANY_COLUMN_TYPE;
+	}
+
+
+	/**
+	 * Tuple read through RowPlan. Values are stored by column index, column names are shared through plan.
+	 * <p>
+	 * It is exposed as read only Map of column name and its value, so it can be used wherever tuple Map is expected.
+	 */
+	public static class Row extends AbstractMap<String, Object> {
+
+		private final RowPlan rowPlan;
+		private final Object[] values;
+
+		private Row(final RowPlan rowPlan, final Object[] values) {
+			this.rowPlan = rowPlan;
+			this.values = values;
+		}
+
+		/**
+		 * Get plan based on which this tuple is read.
+		 * @return Row Plan.
+		 */
+		public RowPlan getRowPlan() {
+			return this.rowPlan;
+		}
+
+		/**
+		 * Get column value based on index.
+		 * @param index Index of column.
+		 * @return Column value.
+		 */
+		public Object getValue(final int index) {
+			return this.values[index];
+		}
+
+		/**
+		 * Set column value based on index.
+		 * @param index Index of column.
+		 * @param value Column value.
+		 */
+		public void setValue(final int index, final Object value) {
+			this.values[index] = value;
+		}
+
+		public Object get(final Object columnName) {
+
+			if(!(columnName instanceof String)) {
+				return null;
+			}
+
+			int index = this.rowPlan.getColumnIndex((String) columnName);
+			if(index < 0) {
+				return null;
+			}
+
+			return this.values[index];
+		}
+
+		public boolean containsKey(final Object columnName) {
+
+			if(!(columnName instanceof String)) {
+				return false;
+			}
+
+			int index = this.rowPlan.getColumnIndex((String) columnName);
+			return index >= 0 && this.values[index] != null;
+		}
+
+		public Set<Map.Entry<String, Object>> entrySet() {
+
+			return new AbstractSet<Map.Entry<String, Object>>() {
+
+				public int size() {
+
+					int size = 0;
+					for(int i = 0;i < values.length;i++) {
+						if(values[i] != null && rowPlan.getColumnIndex(rowPlan.getColumnName(i)) == i) {
+							size++;
+						}
+					}
+
+					return size;
+				}
+
+				public Iterator<Map.Entry<String, Object>> iterator() {
+
+					return new Iterator<Map.Entry<String, Object>>() {
+
+						private int index = advance(0);
+
+						public boolean hasNext() {
+							return index < values.length;
+						}
+
+						public Map.Entry<String, Object> next() {
+
+							if(index >= values.length) {
+								throw new NoSuchElementException();
+							}
+
+							Map.Entry<String, Object> entry = new Column(rowPlan.getColumnName(index), values[index]);
+							index = advance(index + 1);
+
+							return entry;
+						}
+
+						public void remove() {
+							throw new UnsupportedOperationException();
+						}
+
+						private int advance(int from) {
+
+							/*
+							 * Skip null values and duplicate column names, same as tuple Map would have.
+							 */
+							while(from < values.length && (values[from] == null || rowPlan.getColumnIndex(rowPlan.getColumnName(from)) != from)) {
+								from++;
+							}
+
+							return from;
+						}
+					};
+				}
+			};
+		}
+	}
+	
+	
+	private static class Column implements Map.Entry<String, Object> {
+
+		private final String columnName;
+		private final Object value;
+
+		private Column(final String columnName, final Object value) {
+			this.columnName = columnName;
+			this.value = value;
+		}
+
+		public String getKey() {
+			return this.columnName;
+		}
+
+		public Object getValue() {
+			return this.value;
+		}
+
+		public Object setValue(final Object value) {
+			throw new UnsupportedOperationException();
+		}
+
+		public boolean equals(final Object object) {
+
+			if(!(object instanceof Map.Entry)) {
+				return false;
+			}
+
+			Map.Entry<?, ?> entry = (Map.Entry<?, ?>) object;
+			return this.columnName.equals(entry.getKey()) && (this.value == null ? entry.getValue() == null : this.value.equals(entry.getValue()));
+		}
+
+		public int hashCode() {
+			return this.columnName.hashCode() ^ (this.value == null ? 0 : this.value.hashCode());
+		}
+	}
+}
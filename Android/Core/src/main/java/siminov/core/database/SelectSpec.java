@@ -0,0 +1,291 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+
+/**
+ * Specification of select query, passed to {@link siminov.core.database.design.IQueryBuilder#formSelectQuery(SelectSpec)}.
+ * <p>
+ * Unlike parameter map, column names, group bys and order bys are kept as arrays, so same specification can be passed to query builder any number of times.
+ */
+public class SelectSpec {
+
+	private static final String[] NO_NAMES = new String[0];
+
+	private String tableName = null;
+	private boolean distinct = false;
+	private String whereClause = null;
+	private String[] columnNames = NO_NAMES;
+	private String[] groupBys = NO_NAMES;
+	private String having = null;
+	private String[] orderBys = NO_NAMES;
+	private String whichOrderBy = null;
+	private String limit = null;
+	private List<Join> joins = Collections.emptyList();
+
+	/**
+	 * SelectSpec Constructor
+	 * @param tableName Name of table.
+	 */
+	public SelectSpec(final String tableName) {
+		this.tableName = tableName;
+	}
+
+	/**
+	 * Copy remaining names of iterator into an array. It is used to adapt iterator based parameters.
+	 * @param names Iterator of names, can be NULL.
+	 * @return Names, empty if iterator is NULL.
+	 */
+	public static String[] toArray(final Iterator<String> names) {
+
+		if(names == null || !names.hasNext()) {
+			return NO_NAMES;
+		}
+
+		Collection<String> collection = new ArrayList<String>();
+		while(names.hasNext()) {
+			collection.add(names.next());
+		}
+
+		return collection.toArray(new String[collection.size()]);
+	}
+
+	/**
+	 * Get table name.
+	 * @return Name of table.
+	 */
+	public String getTableName() {
+		return this.tableName;
+	}
+
+	/**
+	 * Set table name.
+	 * @param tableName Name of table.
+	 */
+	public void setTableName(final String tableName) {
+		this.tableName = tableName;
+	}
+
+	/**
+	 * Check whether only distinct tuples are selected.
+	 * @return TRUE: If only distinct tuples are selected, FALSE: If all tuples are selected.
+	 */
+	public boolean isDistinct() {
+		return this.distinct;
+	}
+
+	/**
+	 * Set whether only distinct tuples are selected.
+	 * @param distinct TRUE: If only distinct tuples are selected, FALSE: If all tuples are selected.
+	 */
+	public void setDistinct(final boolean distinct) {
+		this.distinct = distinct;
+	}
+
+	/**
+	 * Get where clause.
+	 * @return Where clause, NULL if all tuples are selected.
+	 */
+	public String getWhereClause() {
+		return this.whereClause;
+	}
+
+	/**
+	 * Set where clause.
+	 * @param whereClause Where clause.
+	 */
+	public void setWhereClause(final String whereClause) {
+		this.whereClause = whereClause;
+	}
+
+	/**
+	 * Get column names to be selected.
+	 * @return Column names, empty if all columns are selected.
+	 */
+	public String[] getColumnNames() {
+		return this.columnNames;
+	}
+
+	/**
+	 * Set column names to be selected.
+	 * @param columnNames Column names, NULL or empty if all columns are selected.
+	 */
+	public void setColumnNames(final String[] columnNames) {
+		this.columnNames = columnNames != null ? columnNames : NO_NAMES;
+	}
+
+	/**
+	 * Get group bys.
+	 * @return Group bys, empty if tuples are not grouped.
+	 */
+	public String[] getGroupBys() {
+		return this.groupBys;
+	}
+
+	/**
+	 * Set group bys.
+	 * @param groupBys Group bys.
+	 */
+	public void setGroupBys(final String[] groupBys) {
+		this.groupBys = groupBys != null ? groupBys : NO_NAMES;
+	}
+
+	/**
+	 * Get having clause.
+	 * @return Having clause.
+	 */
+	public String getHaving() {
+		return this.having;
+	}
+
+	/**
+	 * Set having clause. It is only permitted along with group bys.
+	 * @param having Having clause.
+	 */
+	public void setHaving(final String having) {
+		this.having = having;
+	}
+
+	/**
+	 * Get order bys.
+	 * @return Order bys, empty if tuples are not ordered.
+	 */
+	public String[] getOrderBys() {
+		return this.orderBys;
+	}
+
+	/**
+	 * Set order bys.
+	 * @param orderBys Order bys.
+	 */
+	public void setOrderBys(final String[] orderBys) {
+		this.orderBys = orderBys != null ? orderBys : NO_NAMES;
+	}
+
+	/**
+	 * Get which order by, ASC or DESC.
+	 * @return Which order by.
+	 */
+	public String getWhichOrderBy() {
+		return this.whichOrderBy;
+	}
+
+	/**
+	 * Set which order by, ASC or DESC.
+	 * @param whichOrderBy Which order by.
+	 */
+	public void setWhichOrderBy(final String whichOrderBy) {
+		this.whichOrderBy = whichOrderBy;
+	}
+
+	/**
+	 * Get limit.
+	 * @return Limit.
+	 */
+	public String getLimit() {
+		return this.limit;
+	}
+
+	/**
+	 * Set limit, a count optionally followed by an offset.
+	 * @param limit Limit.
+	 */
+	public void setLimit(final String limit) {
+		this.limit = limit;
+	}
+
+	/**
+	 * Get joined tables.
+	 * @return Joins, empty if no table is joined.
+	 */
+	public List<Join> getJoins() {
+		return this.joins;
+	}
+
+	/**
+	 * Set joined tables. Each joined table is LEFT JOIN'ed to tuples of select query.
+	 * @param joins Joins.
+	 */
+	public void setJoins(final List<Join> joins) {
+		this.joins = joins != null ? joins : Collections.<Join>emptyList();
+	}
+
+
+	/**
+	 * Table joined to tuples of select query.
+	 */
+	public static class Join {
+
+		private final String tableName;
+		private final String[] columnNames;
+		private final String columnPrefix;
+		private final String[] keys;
+
+		/**
+		 * Join Constructor
+		 * @param tableName Name of joined table.
+		 * @param columnNames Columns of joined table to be fetched.
+		 * @param columnPrefix Columns of joined table are fetched as prefix followed by column name.
+		 * @param keys Columns having same name in both tables on which tables are joined.
+		 */
+		public Join(final String tableName, final String[] columnNames, final String columnPrefix, final String[] keys) {
+			this.tableName = tableName;
+			this.columnNames = columnNames;
+			this.columnPrefix = columnPrefix;
+			this.keys = keys;
+		}
+
+		/**
+		 * Get name of joined table.
+		 * @return Name of table.
+		 */
+		public String getTableName() {
+			return this.tableName;
+		}
+
+		/**
+		 * Get columns of joined table to be fetched.
+		 * @return Column names.
+		 */
+		public String[] getColumnNames() {
+			return this.columnNames;
+		}
+
+		/**
+		 * Get prefix of fetched columns of joined table.
+		 * @return Column prefix.
+		 */
+		public String getColumnPrefix() {
+			return this.columnPrefix;
+		}
+
+		/**
+		 * Get columns on which tables are joined.
+		 * @return Keys.
+		 */
+		public String[] getKeys() {
+			return this.keys;
+		}
+	}
+}
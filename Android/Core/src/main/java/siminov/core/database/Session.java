@@ -0,0 +1,165 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import siminov.core.model.EntityDescriptor;
+
+
+/**
+ * Unit of work which keeps identity map of objects loaded from database, based on entity and primary key.
+ * <p>
+ * While session is open, every tuple loaded on the thread which opened it is resolved to a single object:
+ * two selects returning the same tuple return the same object, and parent objects of many-to-one relationships
+ * already loaded are reused instead of being fetched again.
+ * <p>
+ * Session is bound to the thread which opened it, and has to be closed by that thread once unit of work is done.
+ * Sessions can be nested, closing a session makes previously opened session current again.
+ *
+ * <pre>
+ *
+Example:
+
+	{@code
+
+	Session session = Database.openSession();
+	try {
+		Book[] books = new Book().select().execute();
+		Book[] cBooks = new Book().select().where(Book.TITLE).equalTo(Book.BOOK_TYPE_C).execute();
+
+		//Same book object is in both books and cBooks.
+	} finally {
+		session.close();
+	}
+
+	}
+ * </pre>
+ */
+public class Session {
+
+	private static final ThreadLocal<Session> currentSession = new ThreadLocal<Session>();
+
+	private final Session previousSession;
+	private final Map<String, Map<List<String>, Object>> identityMap = new HashMap<String, Map<List<String>, Object>>();
+
+	private boolean closed = false;
+
+	private Session(final Session previousSession) {
+		this.previousSession = previousSession;
+	}
+
+	/**
+	 * Open session and bind it to current thread.
+	 * @return Session.
+	 */
+	static Session open() {
+
+		Session session = new Session(currentSession.get());
+		currentSession.set(session);
+
+		return session;
+	}
+
+	/**
+	 * Get session bound to current thread.
+	 * @return Session, NULL if no session is open on current thread.
+	 */
+	static Session getCurrentSession() {
+		return currentSession.get();
+	}
+
+	/**
+	 * Get object loaded in this session.
+	 * @param entityDescriptor Entity descriptor of object.
+	 * @param key Primary key of object.
+	 * @return Object, NULL if no object is loaded for key.
+	 */
+	Object get(final EntityDescriptor entityDescriptor, final List<String> key) {
+
+		Map<List<String>, Object> objects = this.identityMap.get(entityDescriptor.getClassName());
+		if(objects == null) {
+			return null;
+		}
+
+		return objects.get(key);
+	}
+
+	/**
+	 * Add object loaded in this session.
+	 * @param entityDescriptor Entity descriptor of object.
+	 * @param key Primary key of object.
+	 * @param object Object.
+	 */
+	void put(final EntityDescriptor entityDescriptor, final List<String> key, final Object object) {
+
+		Map<List<String>, Object> objects = this.identityMap.get(entityDescriptor.getClassName());
+		if(objects == null) {
+			objects = new HashMap<List<String>, Object>();
+			this.identityMap.put(entityDescriptor.getClassName(), objects);
+		}
+
+		objects.put(key, object);
+	}
+
+	/**
+	 * Forget all objects loaded in this session, so further selects load fresh objects.
+	 */
+	public void clear() {
+		this.identityMap.clear();
+	}
+
+	/**
+	 * Check whether session is closed.
+	 * @return TRUE: If session is closed, FALSE: If session is open.
+	 */
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * Close session and release objects loaded in it. Calling it more than once has no effect.
+	 * <p>
+	 * Session which was current when this session was opened becomes current again.
+	 */
+	public void close() {
+
+		if(this.closed) {
+			return;
+		}
+
+		this.closed = true;
+		this.identityMap.clear();
+
+		if(currentSession.get() == this) {
+
+			Session previousSession = this.previousSession;
+			while(previousSession != null && previousSession.closed) {
+				previousSession = previousSession.previousSession;
+			}
+
+			if(previousSession != null) {
+				currentSession.set(previousSession);
+			} else {
+				currentSession.remove();
+			}
+		}
+	}
+}
@@ -0,0 +1,282 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import siminov.core.Constants;
+import siminov.core.Siminov;
+import siminov.core.database.design.IDatabaseImpl;
+import siminov.core.database.design.IQueryBuilder;
+import siminov.core.database.design.ITransactionWork;
+import siminov.core.exception.DatabaseException;
+import siminov.core.exception.DeploymentException;
+import siminov.core.log.Log;
+import siminov.core.model.DatabaseDescriptor;
+import siminov.core.resource.ResourceManager;
+
+
+/**
+ * Transaction scope bound to the thread which opened it, one per database.
+ * <p>
+ * Outermost scope begins database transaction, and commits it once its unit of work is done, so all saves, updates and deletes made within scope share one commit.
+ * Nested scopes of same database are mapped on savepoints, so failure of a nested unit of work only rolls back its own changes.
+ * For example, if nested unit of work below fails, liquor saved by outer unit of work is still committed, while brand is not:
+ * <pre>
+ * Database.inTransaction(databaseDescriptor, new ITransactionWork() {
+ *     public void execute() throws DatabaseException {
+ *         liquor.save();
+ *         try {
+ *             Database.inTransaction(databaseDescriptor, new ITransactionWork() {
+ *                 public void execute() throws DatabaseException {
+ *                     brand.save(); // Fails.
+ *                 }
+ *             });
+ *         } catch(DatabaseException databaseException) {
+ *         }
+ *     }
+ * });
+ * </pre>
+ * If savepoint can not be rolled back without ending enclosing transaction, outer unit of work fails instead of committing only part of its changes.
+ * <p>
+ * If database is busy or locked by another connection, outermost unit of work is rolled back and executed again, waiting longer before each attempt.
+ */
+class Transaction {
+
+	private static final int MAX_ATTEMPTS = 5;
+	private static final long INITIAL_BACKOFF = 20;
+	private static final long MAX_BACKOFF = 640;
+
+	private static final String SAVEPOINT_NAME_PREFIX = "SIMINOV_SAVEPOINT_";
+
+	/*
+	 * Messages of SQLite errors SQLITE_BUSY and SQLITE_LOCKED, on which unit of work is retried.
+	 */
+	private static final String[] BUSY_MESSAGES = new String[] {"database is locked", "database table is locked", "SQLITE_BUSY", "SQLITE_LOCKED"};
+
+	private static final ThreadLocal<Map<String, Transaction>> currentTransactions = new ThreadLocal<Map<String, Transaction>>();
+
+	private final DatabaseDescriptor databaseDescriptor;
+	private final IDatabaseImpl database;
+	private final IQueryBuilder queryBuilder;
+
+	private int depth = 0;
+	private boolean aborted = false;
+
+	private Transaction(final DatabaseDescriptor databaseDescriptor, final IDatabaseImpl database, final IQueryBuilder queryBuilder) {
+		this.databaseDescriptor = databaseDescriptor;
+		this.database = database;
+		this.queryBuilder = queryBuilder;
+	}
+
+	/**
+	 * Execute unit of work within transaction scope of database, on current thread.
+	 * @param databaseDescriptor Database descriptor.
+	 * @param work Unit of work.
+	 * @throws DatabaseException If unit of work fails, or database stays busy after all attempts.
+	 */
+	static void execute(final DatabaseDescriptor databaseDescriptor, final ITransactionWork work) throws DatabaseException {
+		Siminov.isActive();
+
+		Map<String, Transaction> transactions = currentTransactions.get();
+		if(transactions == null) {
+			transactions = new HashMap<String, Transaction>();
+			currentTransactions.set(transactions);
+		}
+
+		Transaction transaction = transactions.get(databaseDescriptor.getDatabaseName());
+		if(transaction != null) {
+			transaction.executeNested(work);
+			return;
+		}
+
+		DatabaseBundle databaseBundle = ResourceManager.getInstance().getDatabaseBundle(databaseDescriptor.getDatabaseName());
+		IDatabaseImpl database = databaseBundle.getDatabase();
+
+		if(database == null) {
+			Log.error(Transaction.class.getName(), "execute", "No Database Instance Found For DATABASE-DESCRIPTOR: " + databaseDescriptor.getDatabaseName());
+			throw new DeploymentException(Transaction.class.getName(), "execute", "No Database Instance Found For DATABASE-DESCRIPTOR: " + databaseDescriptor.getDatabaseName());
+		}
+
+		transaction = new Transaction(databaseDescriptor, database, databaseBundle.getQueryBuilder());
+		transactions.put(databaseDescriptor.getDatabaseName(), transaction);
+
+		try {
+			transaction.executeOutermost(work);
+		} finally {
+			transactions.remove(databaseDescriptor.getDatabaseName());
+			if(transactions.isEmpty()) {
+				currentTransactions.remove();
+			}
+		}
+	}
+
+	/**
+	 * Check whether a transaction scope of database is open on current thread.
+	 * @param databaseDescriptor Database descriptor.
+	 * @return TRUE: If transaction scope is open, FALSE: If no transaction scope is open.
+	 */
+	static boolean isOpen(final DatabaseDescriptor databaseDescriptor) {
+
+		Map<String, Transaction> transactions = currentTransactions.get();
+		return transactions != null && transactions.containsKey(databaseDescriptor.getDatabaseName());
+	}
+
+	private void executeOutermost(final ITransactionWork work) throws DatabaseException {
+
+		long backoff = INITIAL_BACKOFF;
+		for(int attempt = 1;;attempt++) {
+
+			try {
+				executeOnce(work);
+				return;
+			} catch(DatabaseException databaseException) {
+				if(attempt >= MAX_ATTEMPTS || !isBusy(databaseException)) {
+					throw databaseException;
+				}
+
+				Log.important(Transaction.class.getName(), "executeOutermost", "Database Busy, Retrying Transaction, ATTEMPT: " + attempt + ", DATABASE-DESCRIPTOR: " + databaseDescriptor.getDatabaseName());
+			}
+
+			try {
+				Thread.sleep(backoff);
+			} catch(InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+
+				Log.error(Transaction.class.getName(), "executeOutermost", "InterruptedException caught while waiting for busy database, DATABASE-DESCRIPTOR: " + databaseDescriptor.getDatabaseName());
+				throw new DatabaseException(Transaction.class.getName(), "executeOutermost", "InterruptedException caught while waiting for busy database, DATABASE-DESCRIPTOR: " + databaseDescriptor.getDatabaseName());
+			}
+
+			backoff = Math.min(backoff * 2, MAX_BACKOFF);
+		}
+	}
+
+	private void executeOnce(final ITransactionWork work) throws DatabaseException {
+
+		/*
+		 * State of previous attempt is not carried over, so an attempt aborted by a nested rollback does not fail a retry which succeeds.
+		 */
+		aborted = false;
+		depth = 0;
+
+		database.executeMethod(Constants.SQLITE_DATABASE_BEGIN_TRANSACTION, null);
+		DatabaseHelper.transactionBegan(databaseDescriptor);
+
+		try {
+			work.execute();
+
+			if(aborted) {
+				Log.error(Transaction.class.getName(), "executeOnce", "Transaction was ended by rollback of nested scope, DATABASE-DESCRIPTOR: " + databaseDescriptor.getDatabaseName());
+				throw new DatabaseException(Transaction.class.getName(), "executeOnce", "Transaction was ended by rollback of nested scope, DATABASE-DESCRIPTOR: " + databaseDescriptor.getDatabaseName());
+			}
+
+			database.executeMethod(Constants.SQLITE_DATABASE_COMMIT_TRANSACTION, null);
+		} catch(DatabaseException databaseException) {
+			rollback();
+			throw databaseException;
+		} catch(RuntimeException runtimeException) {
+			rollback();
+			throw runtimeException;
+		}
+
+		/*
+		 * Commit is made here, so it is retried as well if database is busy.
+		 */
+		try {
+			database.executeMethod(Constants.SQLITE_DATABASE_END_TRANSACTION, null);
+		} finally {
+			DatabaseHelper.transactionEnded(databaseDescriptor, true);
+		}
+	}
+
+	private void executeNested(final ITransactionWork work) throws DatabaseException {
+
+		String savepointName = SAVEPOINT_NAME_PREFIX + (++depth);
+		try {
+			database.executeQuery(databaseDescriptor, null, queryBuilder.formSavepointQuery(savepointName));
+
+			try {
+				work.execute();
+			} catch(DatabaseException databaseException) {
+				rollbackTo(savepointName);
+				throw databaseException;
+			} catch(RuntimeException runtimeException) {
+				rollbackTo(savepointName);
+				throw runtimeException;
+			}
+
+			database.executeQuery(databaseDescriptor, null, queryBuilder.formReleaseSavepointQuery(savepointName));
+		} finally {
+			depth--;
+		}
+	}
+
+	/**
+	 * End transaction without marking it successful. Failure is only logged, so error of unit of work is not lost.
+	 */
+	private void rollback() {
+
+		try {
+			database.executeMethod(Constants.SQLITE_DATABASE_END_TRANSACTION, null);
+		} catch(DatabaseException databaseException) {
+			Log.error(Transaction.class.getName(), "rollback", "DatabaseException caught while ending transaction, DATABASE-DESCRIPTOR: " + databaseDescriptor.getDatabaseName() + ", " + databaseException.getMessage());
+		} finally {
+			DatabaseHelper.transactionEnded(databaseDescriptor, false);
+		}
+	}
+
+	/**
+	 * Undo changes made since savepoint, and release it. Failure is only logged, so error of unit of work is not lost.
+	 * <p>
+	 * Savepoint is only released if enclosing transaction is still open after rollback, so failure to release it means changes of outer scope are lost too, and transaction is marked aborted.
+	 */
+	private void rollbackTo(final String savepointName) {
+
+		ChangeTracker.dropPendingSnapshots(databaseDescriptor.getDatabaseName());
+
+		try {
+			database.executeQuery(databaseDescriptor, null, queryBuilder.formRollbackToSavepointQuery(savepointName));
+		} catch(DatabaseException databaseException) {
+			Log.error(Transaction.class.getName(), "rollbackTo", "DatabaseException caught while rolling back savepoint, SAVEPOINT: " + savepointName + ", " + databaseException.getMessage());
+		}
+
+		try {
+			database.executeQuery(databaseDescriptor, null, queryBuilder.formReleaseSavepointQuery(savepointName));
+		} catch(DatabaseException databaseException) {
+			aborted = true;
+			Log.error(Transaction.class.getName(), "rollbackTo", "DatabaseException caught while releasing savepoint, enclosing transaction is no longer open, SAVEPOINT: " + savepointName + ", " + databaseException.getMessage());
+		}
+	}
+
+	private static boolean isBusy(final DatabaseException databaseException) {
+
+		String message = databaseException.getMessage();
+		if(message == null) {
+			return false;
+		}
+
+		for(int i = 0;i < BUSY_MESSAGES.length;i++) {
+			if(message.contains(BUSY_MESSAGES[i])) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
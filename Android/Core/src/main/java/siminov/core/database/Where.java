@@ -18,10 +18,15 @@
 
 package siminov.core.database;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.Future;
 
+import siminov.core.database.design.IAsyncCallback;
 import siminov.core.database.design.IAverage;
 import siminov.core.database.design.ICount;
+import siminov.core.database.design.ICursor;
 import siminov.core.database.design.IDelete;
 import siminov.core.database.design.IGroupConcat;
 import siminov.core.database.design.IMax;
@@ -62,6 +67,8 @@ public class Where implements ISelect, IDelete, ICount, ISum, ITotal, IAverage,
 
 	private String delimiter = null;
 	
+	private Collection<String> fetchJoins = new ArrayList<String>();
+	
 	/**
 	 * Where Constructor
 	 */
@@ -237,6 +244,16 @@ public class Where implements ISelect, IDelete, ICount, ISum, ITotal, IAverage,
 		return this;
 	}
 
+	/**
+	 * Used to fetch refered object of a relationship in same query, through LEFT JOIN.
+	 * @param refer Refer of relationship.
+	 * @return Where Where instance object.
+	 */
+	public Where fetchJoin(String refer) {
+		this.fetchJoins.add(refer);
+		return this;
+	}
+
 	/**
 	 * Used to provide name of column for which average will be calculated.
 	 * @param delimiter Name of Delimiter.
@@ -247,63 +264,96 @@ public class Where implements ISelect, IDelete, ICount, ISum, ITotal, IAverage,
 		return this;
 	}
 
-	@SuppressWarnings("unchecked")
 	public<T> T execute() throws DatabaseException {
+		return this.<T>compile().execute();
+	}
+
+	public<T> ICursor<T> executeCursor() throws DatabaseException {
+		return this.<T>compile().executeCursor();
+	}
+
+	public<T> Future<T> executeAsync(final IAsyncCallback<T> callback) throws DatabaseException {
+		return this.<T>compile().executeAsync(callback);
+	}
+	
+	/**
+	 * Compile query, so that it can be executed any number of times with new values of its ? placeholders. 
+	 * Query reflects state of this builder at the time of compiling, later changes to builder do not affect it.
+	 * @return Compiled query.
+	 * @throws DatabaseException If any error occur while compiling query.
+	 */
+	public<T> CompiledQuery<T> compile() throws DatabaseException {
+
+		String where = formWhereClause();
+		String having = formHavingClause();
+
+		Object[] arguments = formArguments();
+
+		String[] columns = this.columns != null ? this.columns : new String[] {};
+		String[] orderBy = this.orderBy != null ? this.orderBy : new String[] {};
+		String[] groupBy = this.groupBy != null ? this.groupBy : new String[] {};
+
+		SelectSpec selectSpec = new SelectSpec(entityDescriptor.getTableName());
+		selectSpec.setDistinct(distinct);
+		selectSpec.setWhereClause(where);
+		selectSpec.setColumnNames(columns);
+		selectSpec.setGroupBys(groupBy);
+		selectSpec.setHaving(having);
+		selectSpec.setOrderBys(orderBy);
+		selectSpec.setWhichOrderBy(whichOrderBy);
+		selectSpec.setLimit(formLimit());
+		
+		AggregateSpec aggregateSpec = new AggregateSpec(null, entityDescriptor.getTableName(), column);
+		aggregateSpec.setDistinct(distinct);
+		aggregateSpec.setWhereClause(where);
+		aggregateSpec.setGroupBys(groupBy);
+		aggregateSpec.setHaving(having);
+		aggregateSpec.setDelimiter(delimiter);
+		
+		return new CompiledQuery<T>(entityDescriptor, interfaceName, referObject, where, selectSpec, new ArrayList<String>(fetchJoins), aggregateSpec, arguments);
+	}
+	
+	private String formWhereClause() {
 
-		String where = "";
 		if(this.whereClause != null && this.whereClause.length() > 0) {
-			where = this.whereClause;
-		} else {
-			if(this.where != null) {
-				where = this.where.toString();
-			}
+			return this.whereClause;
+		} else if(this.where != null) {
+			return this.where.toString();
 		}
-		
-		String having = "";
+
+		return "";
+	}
+	
+	private String formHavingClause() {
+
 		if(this.havingClause != null && this.havingClause.length() > 0) {
-			having = this.havingClause;
-		} else {
-			if(this.having != null) {
-				having = this.having.toString();
-			}
+			return this.havingClause;
+		} else if(this.having != null) {
+			return this.having.toString();
 		}
 
-		if(this.columns == null) {
-			this.columns = new String[] {};			
-		}
-		
-		if(this.orderBy == null) {
-			this.orderBy = new String[] {};
-		}
+		return "";
+	}
+	
+	private Object[] formArguments() {
+
+		Collection<Object> arguments = new ArrayList<Object>();
 		
-		if(this.groupBy == null) {
-			this.groupBy = new String[] {};
+		if((this.whereClause == null || this.whereClause.length() <= 0) && this.where != null) {
+			arguments.addAll(Arrays.asList(this.where.getArguments()));
 		}
 
-		String limit = null;
-		if(this.limit != 0) {
-			limit = String.valueOf(this.limit);
+		if((this.havingClause == null || this.havingClause.length() <= 0) && this.having != null) {
+			arguments.addAll(Arrays.asList(this.having.getArguments()));
 		}
 
-		
-		if(interfaceName.equalsIgnoreCase(IDelete.class.getName())) {
-			DatabaseHelper.delete(referObject, where);
-		} else if(interfaceName.equalsIgnoreCase(ICount.class.getName())) {
-			return (T) (Integer) DatabaseHelper.count(entityDescriptor, column, distinct, where, Arrays.asList(groupBy).iterator(), having);
-		} else if(interfaceName.equalsIgnoreCase(IAverage.class.getName())) {
-			return (T) (Integer) DatabaseHelper.avg(entityDescriptor, column, where, Arrays.asList(groupBy).iterator(), having);
-		} else if(interfaceName.equalsIgnoreCase(ISum.class.getName())) {
-			return (T) (Integer) DatabaseHelper.sum(entityDescriptor, column, where, Arrays.asList(groupBy).iterator(), having);
-		} else if(interfaceName.equalsIgnoreCase(ITotal.class.getName())) {
-			return (T) (Integer) DatabaseHelper.total(entityDescriptor, column, where, Arrays.asList(groupBy).iterator(), having);
-		} else if(interfaceName.equalsIgnoreCase(IMax.class.getName())) {
-			return (T) (Integer) DatabaseHelper.max(entityDescriptor, column, where, Arrays.asList(groupBy).iterator(), having);
-		} else if(interfaceName.equalsIgnoreCase(IMin.class.getName())) {
-			return (T) (Integer) DatabaseHelper.min(entityDescriptor, column, where, Arrays.asList(groupBy).iterator(), having);
-		} else if(interfaceName.equalsIgnoreCase(IGroupConcat.class.getName())) {
-			return (T) DatabaseHelper.groupConcat(entityDescriptor, column, delimiter, where, Arrays.asList(groupBy).iterator(), having);
-		} else if(interfaceName.equalsIgnoreCase(ISelect.class.getName())) {
-			return (T) DatabaseHelper.select(referObject, null, entityDescriptor, distinct, where, Arrays.asList(columns).iterator(), Arrays.asList(groupBy).iterator(), having, Arrays.asList(orderBy).iterator(), whichOrderBy, limit);
+		return arguments.toArray();
+	}
+	
+	private String formLimit() {
+
+		if(this.limit != 0) {
+			return String.valueOf(this.limit);
 		}
 
 		return null;
@@ -0,0 +1,499 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import siminov.core.Siminov;
+import siminov.core.database.design.ITransactionWork;
+import siminov.core.exception.DatabaseException;
+import siminov.core.log.Log;
+import siminov.core.model.DatabaseDescriptor;
+import siminov.core.model.EntityDescriptor;
+
+
+/**
+ * Buffer of writes of an entity having write_behind enabled in its EntityDescriptor.xml.
+ * <p>
+ * save, saveOrUpdate and delete of objects are only buffered, and written by a background thread in a single transaction 
+ * once write_behind_interval passes or write_behind_batch_size writes are buffered. Writes of same primary key made before buffer is written
+ * are coalesced into one, which writes state object has when it is written. Buffer holds at most four batches, a caller finding it full writes it itself.
+ * <p>
+ * Buffered writes are not visible to selects until they are written. {@link Database#flush()} writes all buffered writes, and SIMINOV writes them while shutting down.
+ * Writes made within a transaction scope are never buffered, so they stay part of transaction. Buffered writes are written within scope before a write which is not buffered,
+ * so they reach database in order they were made.
+ */
+public class WriteBehindQueue {
+
+	private static final int BATCHES_PER_BUFFER = 4;
+	private static final long SHUTDOWN_TIMEOUT = 30;
+
+	private enum Operation {
+		SAVE,
+		SAVE_OR_UPDATE,
+		DELETE
+	}
+
+	private static final ConcurrentMap<String, WriteBehindQueue> queues = new ConcurrentHashMap<String, WriteBehindQueue>();
+
+	private static final Object schedulerLock = new Object();
+	private static ScheduledThreadPoolExecutor scheduler = null;
+
+	/*
+	 * Set once shutdown begins, after which writes are no longer buffered, but are written immediately.
+	 */
+	private static volatile boolean closed = false;
+
+	private final EntityDescriptor entityDescriptor;
+	private final DatabaseDescriptor databaseDescriptor;
+
+	private final int batchSize;
+	private final int capacity;
+
+	private final Object drainLock = new Object();
+	private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+	private Map<Object, PendingWrite> pendingWrites = new LinkedHashMap<Object, PendingWrite>();
+
+	private final AtomicLong coalescedWrites = new AtomicLong();
+	private final AtomicLong writtenWrites = new AtomicLong();
+	private final AtomicLong failedWrites = new AtomicLong();
+	private final AtomicLong batches = new AtomicLong();
+
+	private final Runnable drainTask = new Runnable() {
+
+		public void run() {
+
+			drainScheduled.set(false);
+
+			try {
+				drain();
+			} catch(RuntimeException runtimeException) {
+				Log.error(WriteBehindQueue.class.getName(), "run", "RuntimeException caught while writing buffered writes, ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName() + ", " + runtimeException.getMessage());
+			}
+		}
+	};
+
+	private WriteBehindQueue(final EntityDescriptor entityDescriptor, final DatabaseDescriptor databaseDescriptor) {
+		this.entityDescriptor = entityDescriptor;
+		this.databaseDescriptor = databaseDescriptor;
+
+		this.batchSize = entityDescriptor.getWriteBehindBatchSize();
+		this.capacity = this.batchSize * BATCHES_PER_BUFFER;
+	}
+
+	/**
+	 * Get write behind queue of entity. Queue is created on first use, and lives till SIMINOV is shutdown.
+	 * @param entityDescriptor Entity descriptor.
+	 * @return Queue of entity, NULL if entity does not have write_behind enabled, or SIMINOV is shutting down.
+	 * @throws DatabaseException If database descriptor of entity can not be found.
+	 */
+	static WriteBehindQueue getWriteBehindQueue(final EntityDescriptor entityDescriptor) throws DatabaseException {
+
+		if(!entityDescriptor.isWriteBehind() || closed) {
+			return null;
+		}
+
+		WriteBehindQueue queue = queues.get(entityDescriptor.getClassName());
+		if(queue != null) {
+			return queue;
+		}
+
+		queue = new WriteBehindQueue(entityDescriptor, DatabaseHelper.getDatabaseDescriptor(entityDescriptor.getClassName()));
+
+		WriteBehindQueue existingQueue = queues.putIfAbsent(entityDescriptor.getClassName(), queue);
+		if(existingQueue != null) {
+			return existingQueue;
+		}
+
+		long interval = entityDescriptor.getWriteBehindInterval();
+		synchronized(schedulerLock) {
+
+			ScheduledThreadPoolExecutor scheduler = getScheduler();
+			if(scheduler != null) {
+				scheduler.scheduleWithFixedDelay(queue.drainTask, interval, interval, TimeUnit.MILLISECONDS);
+			}
+		}
+
+		return queue;
+	}
+
+	/**
+	 * Buffer save of object, if its entity has write_behind enabled.
+	 * @return TRUE: If save is buffered, FALSE: If object has to be saved immediately.
+	 */
+	static boolean save(final EntityDescriptor entityDescriptor, final Object object) throws DatabaseException {
+		return enqueue(entityDescriptor, object, Operation.SAVE);
+	}
+
+	/**
+	 * Buffer save or update of object, if its entity has write_behind enabled.
+	 * @return TRUE: If save or update is buffered, FALSE: If object has to be saved or updated immediately.
+	 */
+	static boolean saveOrUpdate(final EntityDescriptor entityDescriptor, final Object object) throws DatabaseException {
+		return enqueue(entityDescriptor, object, Operation.SAVE_OR_UPDATE);
+	}
+
+	/**
+	 * Buffer delete of object, if its entity has write_behind enabled.
+	 * @return TRUE: If delete is buffered, FALSE: If object has to be deleted immediately.
+	 */
+	static boolean delete(final EntityDescriptor entityDescriptor, final Object object) throws DatabaseException {
+		return enqueue(entityDescriptor, object, Operation.DELETE);
+	}
+
+	/**
+	 * Write buffered writes of entity before a write which is not buffered, so writes reach database in order they are made.
+	 */
+	static void flush(final EntityDescriptor entityDescriptor) throws DatabaseException {
+
+		WriteBehindQueue queue = queues.get(entityDescriptor.getClassName());
+		if(queue == null) {
+			return;
+		}
+
+		queue.flush();
+	}
+
+	/**
+	 * Write buffered writes of all entities. It returns once all writes buffered before it was called are written.
+	 */
+	static void flushAll() {
+
+		Iterator<WriteBehindQueue> writeBehindQueues = queues.values().iterator();
+		while(writeBehindQueues.hasNext()) {
+			writeBehindQueues.next().flush();
+		}
+	}
+
+	/**
+	 * Start buffering writes again, once SIMINOV is started after it was shutdown. It is called by SIMINOV while starting.
+	 */
+	public static void open() {
+		closed = false;
+	}
+
+	/**
+	 * Stop background writes and write buffered writes of all entities. It is called by SIMINOV while shutting down.
+	 * <p>
+	 * Writes made from here on are not buffered, so a write made by another thread while buffered writes are written still reaches database.
+	 */
+	public static void shutdownAll() {
+
+		closed = true;
+
+		synchronized(schedulerLock) {
+
+			if(scheduler != null) {
+				scheduler.shutdown();
+
+				try {
+					if(!scheduler.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+						Log.error(WriteBehindQueue.class.getName(), "shutdownAll", "Background Write Did Not Complete.");
+					}
+				} catch(InterruptedException interruptedException) {
+					Thread.currentThread().interrupt();
+					Log.error(WriteBehindQueue.class.getName(), "shutdownAll", "InterruptedException caught while waiting for background write.");
+				}
+
+				scheduler = null;
+			}
+		}
+
+		flushAll();
+		queues.clear();
+	}
+
+	private static boolean enqueue(final EntityDescriptor entityDescriptor, final Object object, final Operation operation) throws DatabaseException {
+
+		Siminov.isActive();
+
+		WriteBehindQueue queue = getWriteBehindQueue(entityDescriptor);
+		if(queue == null || Transaction.isOpen(queue.databaseDescriptor)) {
+			return false;
+		}
+
+		/*
+		 * Writes of objects without primary key values can not be matched, so each is buffered on its own.
+		 */
+		Object key = DatabaseHelper.getKey(entityDescriptor, object);
+		if(key == null) {
+			key = new Object();
+		}
+
+		int size = 0;
+		synchronized(queue) {
+
+			/*
+			 * Checked along with buffering, so write is either buffered before shutdown writes buffer, or is written immediately.
+			 */
+			if(closed) {
+				return false;
+			}
+
+			PendingWrite previousWrite = queue.pendingWrites.get(key);
+			if(previousWrite == null) {
+				queue.pendingWrites.put(key, new PendingWrite(operation, object));
+			} else {
+				previousWrite.coalesce(operation, object);
+				queue.coalescedWrites.incrementAndGet();
+			}
+
+			size = queue.pendingWrites.size();
+		}
+
+		if(size >= queue.capacity) {
+			queue.flush();
+		} else if(size >= queue.batchSize && queue.drainScheduled.compareAndSet(false, true)) {
+
+			synchronized(schedulerLock) {
+
+				ScheduledThreadPoolExecutor scheduler = getScheduler();
+				if(scheduler != null) {
+					scheduler.execute(queue.drainTask);
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Get scheduler of background writes, creating it on first use. It has to be called holding scheduler lock, so scheduler is not shutdown while a task is submitted to it.
+	 * @return Scheduler, NULL if SIMINOV is shutting down.
+	 */
+	private static ScheduledThreadPoolExecutor getScheduler() {
+
+		synchronized(schedulerLock) {
+
+			if(closed) {
+				return null;
+			}
+
+			if(scheduler == null) {
+				scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+
+					public Thread newThread(final Runnable runnable) {
+
+						Thread thread = new Thread(runnable, "Siminov-write-behind");
+						thread.setDaemon(true);
+
+						return thread;
+					}
+				});
+			}
+
+			return scheduler;
+		}
+	}
+
+	/**
+	 * Write all buffered writes. It returns once all writes buffered before it was called are written.
+	 * <p>
+	 * Within a transaction scope, writes are made on current thread as part of that transaction, nested in a savepoint.
+	 */
+	public void flush() {
+
+		/*
+		 * Drain lock is not waited for within a transaction scope, as a background drain holding it may be waiting for transaction of this thread to end.
+		 */
+		if(Transaction.isOpen(databaseDescriptor)) {
+			write();
+			return;
+		}
+
+		drain();
+	}
+
+	/**
+	 * Write buffered writes, one drain at a time.
+	 */
+	private void drain() {
+
+		synchronized(drainLock) {
+			write();
+		}
+	}
+
+	/**
+	 * Write buffered writes in one transaction. Batches are written one at a time, in order they were buffered.
+	 */
+	private void write() {
+
+		synchronized(this) {
+
+			if(pendingWrites.isEmpty()) {
+				return;
+			}
+		}
+
+		/*
+		 * Buffer is taken once transaction has begun, so a drain waiting for transaction of another thread does not hold writes buffered before it.
+		 * It is taken only once, as unit of work is executed again if database is busy.
+		 */
+		final List<PendingWrite> batch = new ArrayList<PendingWrite>();
+		try {
+			Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+				public void execute() throws DatabaseException {
+
+					if(batch.isEmpty()) {
+						batch.addAll(takePendingWrites());
+					}
+
+					for(int i = 0;i < batch.size();i++) {
+						batch.get(i).write();
+					}
+				}
+			});
+
+			if(!batch.isEmpty()) {
+				writtenWrites.addAndGet(batch.size());
+				batches.incrementAndGet();
+			}
+
+			return;
+		} catch(DatabaseException databaseException) {
+			Log.error(WriteBehindQueue.class.getName(), "write", "DatabaseException caught while writing batch, writing writes one by one, ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName() + ", " + databaseException.getMessage());
+		}
+
+		/*
+		 * Batch is rolled back as a whole, so writes are retried one by one and only those failing again are dropped.
+		 */
+		for(int i = 0;i < batch.size();i++) {
+
+			final PendingWrite pendingWrite = batch.get(i);
+			try {
+				Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+					public void execute() throws DatabaseException {
+						pendingWrite.write();
+					}
+				});
+
+				writtenWrites.incrementAndGet();
+			} catch(DatabaseException databaseException) {
+				failedWrites.incrementAndGet();
+				Log.error(WriteBehindQueue.class.getName(), "write", "DatabaseException caught while writing buffered write, dropping it, ENTITY-DESCRIPTOR: " + entityDescriptor.getClassName() + ", OPERATION: " + pendingWrite.operation + ", " + databaseException.getMessage());
+			}
+		}
+	}
+
+	private synchronized List<PendingWrite> takePendingWrites() {
+
+		List<PendingWrite> writes = new ArrayList<PendingWrite>(pendingWrites.values());
+		pendingWrites = new LinkedHashMap<Object, PendingWrite>();
+
+		return writes;
+	}
+
+	/**
+	 * Get number of writes buffered and not yet written.
+	 * @return Pending writes.
+	 */
+	public synchronized int getPendingCount() {
+		return this.pendingWrites.size();
+	}
+
+	/**
+	 * Get number of writes which were coalesced into a write of same primary key already buffered.
+	 * @return Coalesced writes.
+	 */
+	public long getCoalescedCount() {
+		return this.coalescedWrites.get();
+	}
+
+	/**
+	 * Get number of buffered writes written to database.
+	 * @return Written writes.
+	 */
+	public long getWrittenCount() {
+		return this.writtenWrites.get();
+	}
+
+	/**
+	 * Get number of buffered writes dropped because they could not be written.
+	 * @return Failed writes.
+	 */
+	public long getFailedCount() {
+		return this.failedWrites.get();
+	}
+
+	/**
+	 * Get number of batches written in a single transaction.
+	 * @return Batches.
+	 */
+	public long getBatchCount() {
+		return this.batches.get();
+	}
+
+
+	/**
+	 * Buffered write of an object, which later writes of same primary key are coalesced into.
+	 */
+	private static class PendingWrite {
+
+		private Operation operation;
+		private Object object;
+
+		private PendingWrite(final Operation operation, final Object object) {
+			this.operation = operation;
+			this.object = object;
+		}
+
+		/**
+		 * Coalesce later write of same primary key. Delete wins over any earlier write. Save after an earlier write becomes save or update,
+		 * as tuple may already exist by then, unless both are saves.
+		 */
+		private void coalesce(final Operation operation, final Object object) {
+
+			if(operation == Operation.DELETE || (operation == Operation.SAVE && this.operation == Operation.SAVE)) {
+				this.operation = operation;
+			} else {
+				this.operation = Operation.SAVE_OR_UPDATE;
+			}
+
+			this.object = object;
+		}
+
+		/**
+		 * Write object. It is called within transaction scope, so write is executed immediately instead of being buffered again.
+		 */
+		private void write() throws DatabaseException {
+
+			if(operation == Operation.SAVE) {
+				DatabaseHelper.save(object);
+			} else if(operation == Operation.SAVE_OR_UPDATE) {
+				DatabaseHelper.saveOrUpdate(object);
+			} else {
+				DatabaseHelper.delete(object, null, null);
+			}
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database.design;
+
+import siminov.core.exception.DatabaseException;
+
+
+/**
+ * Receives result of database operation executed asynchronously.
+ * <p>
+ * Callback is invoked on the database thread which executed operation, not on the thread which submitted it.
+ * Application should hand result over to its UI thread itself, and should not block in callback, as it delays other pending operations.
+ *
+ * @param <T> Type of result of operation.
+ */
+public interface IAsyncCallback<T> {
+
+	/**
+	 * Invoked once operation completes.
+	 *
+	 * @param result Result of operation, NULL if operation has no result.
+	 */
+	public void onSuccess(final T result);
+
+	/**
+	 * Invoked if operation fails.
+	 *
+	 * @param databaseException Error due to which operation failed.
+	 */
+	public void onFailure(final DatabaseException databaseException);
+
+}
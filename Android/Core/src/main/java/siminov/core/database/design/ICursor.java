@@ -0,0 +1,77 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database.design;
+
+import siminov.core.exception.DatabaseException;
+
+
+/**
+ * Exposes methods to stream tuples of a query one at a time.
+ * <p>
+ * Underlying database cursor is kept open until all tuples are read or {@link #close()} is called,
+ * and each tuple is read only when {@link #next()} is called, so memory used is bounded by one tuple instead of whole result.
+ * <p>
+ * Cursor is not synchronized, it should be used and closed by the thread which opened it.
+ *
+ * <pre>
+ *
+Example:
+
+	{@code
+
+	ICursor<Book> books = null;
+	try {
+		books = new Book().select().executeCursor();
+		while(books.hasNext()) {
+			Book book = books.next();
+		}
+	} catch(DatabaseException de) {
+		//Log it.
+	} finally {
+		if(books != null) {
+			books.close();
+		}
+	}
+
+	}
+ * </pre>
+ *
+ * @param <T> Type of tuple.
+ */
+public interface ICursor<T> {
+
+	/**
+	 * Check whether there are more tuples to read.
+	 * @return TRUE: If there is a tuple to read, FALSE: If all tuples are read.
+	 * @throws DatabaseException If any error occur while moving cursor.
+	 */
+	public boolean hasNext() throws DatabaseException;
+
+	/**
+	 * Read next tuple.
+	 * @return Tuple.
+	 * @throws DatabaseException If there is no tuple to read, or any error occur while reading tuple.
+	 */
+	public T next() throws DatabaseException;
+
+	/**
+	 * Release underlying database cursor. It is called automatically once all tuples are read, calling it more than once has no effect.
+	 */
+	public void close();
+
+}
@@ -20,6 +20,7 @@ package siminov.core.database.design;
 import java.util.Iterator;
 import java.util.Map;
 
+import siminov.core.database.AsyncDatabase;
 import siminov.core.exception.DatabaseException;
 import siminov.core.model.DatabaseDescriptor;
 import siminov.core.model.EntityDescriptor;
@@ -358,6 +359,33 @@ try {
  */
 	public void saveOrUpdate() throws DatabaseException;
 
+	/**
+	It returns asynchronous view of object, whose save, update and saveOrUpdate are executed on writer thread of database instead of calling thread.
+
+   	<pre>
+   	
+Example: Make Beer Object
+
+{@code
+
+Book cBook = new Book();
+cBook.setTitle(Book.BOOK_TYPE_C);
+
+try {
+	cBook.async().save(null);
+} catch(DatabaseException de) {
+	//Log it.
+}
+		
+}			
+			
+    </pre>
+ 
+   	@return Asynchronous view of object.
+   	@throws DatabaseException If no database descriptor is mapped to object.
+ */
+	public AsyncDatabase async() throws DatabaseException;
+
 	/**
 	It deletes a record from single table in a relational database.
 
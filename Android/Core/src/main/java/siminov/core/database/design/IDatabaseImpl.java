@@ -72,6 +72,17 @@ public interface IDatabaseImpl {
 	 	@throws DatabaseException If any error occur while inserting or updating tuple.
 	 */
 	public void executeBindQuery(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query, final Iterator<Object> columnValues) throws DatabaseException;
+
+	/**
+	 	Compile bind query once, so it can be executed for many tuples without compiling it again. Statement has to be closed once it is not needed.
+
+	 	@param databaseDescriptor Database-Descriptor object which defines the schema of database.
+	 	@param entityDescriptor Entity-Descriptor object which defines the structure of table.
+	 	@param query Bind query which needs to be compiled.
+	 	@return Compiled statement.
+	 	@throws DatabaseException If any error occur while compiling query.
+	 */
+	public IStatement compileBindQuery(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query) throws DatabaseException;
 	
 	/**
 	 	Query the given table, returning a Cursor over the result set.
@@ -84,6 +95,45 @@ public interface IDatabaseImpl {
 	 */
 	public Iterator<Map<String, Object>> executeSelectQuery(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query) throws DatabaseException;
 
+	/**
+	 	Query the given table with ? placeholders in query, binding arguments in their place.
+	 	<p>
+	 	Arguments are bound based on their type, so comparisons are done on actual values and query can be reused for any values.
+	 	
+	 	@param databaseDescriptor Database-Descriptor object which defines the schema of database.
+	 	@param entityDescriptor Entity-Descriptor object which defines the structure of table.
+		@param query Query based on which tuples will be fetched from database.
+		@param arguments Values to be bound in place of ? placeholders, in order of their placeholders. NULL if query has no placeholders.
+	 	@return Tuples fetched from database.
+	 	@throws DatabaseException If any error occur while getting tuples from a single table.
+	 */
+	public Iterator<Map<String, Object>> executeSelectQuery(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query, final Object[] arguments) throws DatabaseException;
+
+	/**
+	 	Query the given table, returning a cursor which reads tuples one at a time while it is iterated.
+	 	<p>
+	 	Unlike executeSelectQuery, result set is not read upfront. Database cursor stays open until all tuples are read or cursor is closed.
+
+	 	@param databaseDescriptor Database-Descriptor object which defines the schema of database.
+	 	@param entityDescriptor Entity-Descriptor object which defines the structure of table.
+		@param query Query based on which tuples will be fetched from database.
+	 	@return Cursor of tuples, positioned before the first tuple.
+	 	@throws DatabaseException If any error occur while executing query.
+	 */
+	public ICursor<Map<String, Object>> executeSelectCursor(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query) throws DatabaseException;
+
+	/**
+	 	Query the given table with ? placeholders in query, returning a cursor which reads tuples one at a time while it is iterated.
+
+	 	@param databaseDescriptor Database-Descriptor object which defines the schema of database.
+	 	@param entityDescriptor Entity-Descriptor object which defines the structure of table.
+		@param query Query based on which tuples will be fetched from database.
+		@param arguments Values to be bound in place of ? placeholders, in order of their placeholders. NULL if query has no placeholders.
+	 	@return Cursor of tuples, positioned before the first tuple.
+	 	@throws DatabaseException If any error occur while executing query.
+	 */
+	public ICursor<Map<String, Object>> executeSelectCursor(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query, final Object[] arguments) throws DatabaseException;
+
 	/**
 	 * Executes the method on database object.
 	 * @param methodName Name Of Database Method.
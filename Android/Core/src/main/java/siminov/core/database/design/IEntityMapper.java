@@ -0,0 +1,68 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database.design;
+
+import java.util.Collection;
+import java.util.Map;
+
+import siminov.core.exception.DatabaseException;
+
+
+/**
+ * Exposes methods to bind and inflate mapped class objects without reflection.
+ * <p>
+ * Implementations are generated at build time by entity-mapper.gradle, one per EntityDescriptor.xml, and are named as mapped class name followed by {@link #ENTITY_MAPPER_CLASS_NAME_SUFFIX}.
+ * If no implementation is found for a mapped class, SIMINOV falls back to reflection.
+ *
+ * @param <T> Mapped class.
+ */
+public interface IEntityMapper<T> {
+
+	/**
+	 * Suffix added to mapped class name to form name of generated entity mapper class.
+	 */
+	public String ENTITY_MAPPER_CLASS_NAME_SUFFIX = "$$EntityMapper";
+
+	/**
+	 * Add column values of object needed by insert bind query, in order of attributes as defined in EntityDescriptor.xml file.
+	 *
+	 * @param object Mapped class object.
+	 * @param columnValues Column values to which values need to be added.
+	 * @throws DatabaseException If any error occur while getting column values.
+	 */
+	public void bindInsert(final T object, final Collection<Object> columnValues) throws DatabaseException;
+
+	/**
+	 * Add column values of object needed by update bind query, in order of attributes as defined in EntityDescriptor.xml file.
+	 *
+	 * @param object Mapped class object.
+	 * @param columnValues Column values to which values need to be added.
+	 * @throws DatabaseException If any error occur while getting column values.
+	 */
+	public void bindUpdate(final T object, final Collection<Object> columnValues) throws DatabaseException;
+
+	/**
+	 * Create mapped class object and inflate it with tuple fetched from database.
+	 *
+	 * @param row Tuple, column name and its value.
+	 * @return Mapped class object.
+	 * @throws DatabaseException If any error occur while inflating object.
+	 */
+	public T fromRow(final Map<String, Object> row) throws DatabaseException;
+
+}
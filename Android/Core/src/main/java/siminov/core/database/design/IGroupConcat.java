@@ -18,6 +18,9 @@
 
 package siminov.core.database.design;
 
+import java.util.concurrent.Future;
+
+import siminov.core.database.CompiledQuery;
 import siminov.core.exception.DatabaseException;
 
 /**
@@ -97,4 +100,19 @@ public interface IGroupConcat {
 	 */
 	public<T> T execute() throws DatabaseException;
 
+	/**
+	 * Compile query, so that it can be executed any number of times with new values of its ? placeholders, without forming it again.
+	 * @return Compiled query.
+	 * @throws DatabaseException Throws exception if any error occur while compiling query.
+	 */
+	public<T> CompiledQuery<T> compile() throws DatabaseException;
+
+	/**
+	 * Execute query asynchronously, on database thread. See {@link CompiledQuery#executeAsync(IAsyncCallback, Object...)}.
+	 * @param callback Callback notified with result of query, NULL if not needed.
+	 * @return Future of result of query.
+	 * @throws DatabaseException Throws exception if query can not be submitted.
+	 */
+	public<T> Future<T> executeAsync(final IAsyncCallback<T> callback) throws DatabaseException;
+
 }
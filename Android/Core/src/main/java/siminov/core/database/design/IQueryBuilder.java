@@ -20,6 +20,11 @@ package siminov.core.database.design;
 import java.util.Map;
 
 import siminov.core.Constants;
+import siminov.core.database.AggregateSpec;
+import siminov.core.database.DeleteSpec;
+import siminov.core.database.InsertSpec;
+import siminov.core.database.SelectSpec;
+import siminov.core.database.UpdateSpec;
 
 /**
  * Exposes API's to build database queries.
@@ -287,6 +292,31 @@ public interface IQueryBuilder {
 	 */
 	public String FORM_SELECT_QUERY_LIMIT_PARAMETER = Constants.FORM_SELECT_QUERY_LIMIT_PARAMETER;
 	
+	/**
+	 * Joins parameter to create select query, Iterator of join parameter maps. Each joined table is LEFT JOIN'ed to tuples of select query.
+	 */
+	public String FORM_SELECT_QUERY_JOINS_PARAMETER = Constants.FORM_SELECT_QUERY_JOINS_PARAMETER;
+
+	/**
+	 * Table name parameter of a join
+	 */
+	public String FORM_SELECT_QUERY_JOIN_TABLE_NAME_PARAMETER = Constants.FORM_SELECT_QUERY_JOIN_TABLE_NAME_PARAMETER;
+
+	/**
+	 * Column names parameter of a join, columns of joined table to be fetched
+	 */
+	public String FORM_SELECT_QUERY_JOIN_COLUMN_NAMES_PARAMETER = Constants.FORM_SELECT_QUERY_JOIN_COLUMN_NAMES_PARAMETER;
+
+	/**
+	 * Column prefix parameter of a join, columns of joined table are fetched as prefix followed by column name
+	 */
+	public String FORM_SELECT_QUERY_JOIN_COLUMN_PREFIX_PARAMETER = Constants.FORM_SELECT_QUERY_JOIN_COLUMN_PREFIX_PARAMETER;
+
+	/**
+	 * Keys parameter of a join, columns having same name in both tables on which tables are joined
+	 */
+	public String FORM_SELECT_QUERY_JOIN_KEYS_PARAMETER = Constants.FORM_SELECT_QUERY_JOIN_KEYS_PARAMETER;
+	
 	/**
 	 * Build query to fetch tuples from table.
 	 * @param parameters Required to build query.
@@ -294,6 +324,13 @@ public interface IQueryBuilder {
 	 */
 	public String formSelectQuery(final Map<String, Object> parameters);
 
+	/**
+	 * Build query to fetch tuples from table, based on typed specification instead of parameters.
+	 * @param selectSpec Specification of query.
+	 * @return Select Query.
+	 */
+	public String formSelectQuery(final SelectSpec selectSpec);
+
 
 
 /*
@@ -315,6 +352,67 @@ public interface IQueryBuilder {
 	 * @return Save Query.
 	 */
 	public String formSaveBindQuery(final Map<String, Object> parameters);
+
+	/**
+	 * Build query to insert data into table, based on typed specification instead of parameters.
+	 * @param insertSpec Specification of query.
+	 * @return Save Query.
+	 */
+	public String formSaveBindQuery(final InsertSpec insertSpec);
+	
+
+
+/*
+ * Form Upsert Bind Query	
+ */
+	/**
+	 * Table name parameter to create upsert bind query
+	 */
+	public String FORM_UPSERT_BIND_QUERY_TABLE_NAME_PARAMETER = Constants.FORM_UPSERT_BIND_QUERY_TABLE_NAME_PARAMETER;
+
+	/**
+	 * Column names parameter to create upsert bind query
+	 */
+	public String FORM_UPSERT_BIND_QUERY_COLUMN_NAMES_PARAMETER = Constants.FORM_UPSERT_BIND_QUERY_COLUMN_NAMES_PARAMETER;
+
+	/**
+	 * Primary keys parameter to create upsert bind query, columns of primary key of table on which conflict is detected
+	 */
+	public String FORM_UPSERT_BIND_QUERY_PRIMARY_KEYS_PARAMETER = Constants.FORM_UPSERT_BIND_QUERY_PRIMARY_KEYS_PARAMETER;
+	
+	/**
+	 * Build query to insert data into table, or update it if tuple with same primary key already exists, in a single statement.
+	 * <p>
+	 * Values are bound in order of column names, same as save bind query.
+	 * @param parameters Required to build query.
+	 * @return Upsert Query, or NULL if database can not upsert in a single statement.
+	 */
+	public String formUpsertBindQuery(final Map<String, Object> parameters);
+
+	/**
+	 * Build query to insert or update data of table, based on typed specification instead of parameters.
+	 * @param insertSpec Specification of query, including primary keys of table.
+	 * @return Upsert Query, or NULL if database can not upsert in a single statement.
+	 */
+	public String formUpsertBindQuery(final InsertSpec insertSpec);
+
+	/**
+	 * Build query to update tuple with same primary key, used with upsert insert bind query if database can not upsert in a single statement.
+	 * <p>
+	 * Values are bound in order of column names, same as upsert bind query.
+	 * @param insertSpec Specification of query, including primary keys of table.
+	 * @return Upsert Update Query.
+	 */
+	public String formUpsertUpdateBindQuery(final InsertSpec insertSpec);
+
+	/**
+	 * Build query to insert data into table only if no tuple with same primary key exists, executed after upsert update bind query.
+	 * <p>
+	 * Values are bound in order of column names, same as upsert bind query.
+	 * @param insertSpec Specification of query, including primary keys of table.
+	 * @return Upsert Insert Query.
+	 */
+	public String formUpsertInsertBindQuery(final InsertSpec insertSpec);
 	
 
 
@@ -342,6 +440,13 @@ public interface IQueryBuilder {
 	 * @return Update Query.
 	 */
 	public String formUpdateBindQuery(final Map<String, Object> parameters);
+
+	/**
+	 * Build query to update tuples, based on typed specification instead of parameters.
+	 * @param updateSpec Specification of query.
+	 * @return Update Query.
+	 */
+	public String formUpdateBindQuery(final UpdateSpec updateSpec);
 	
 
 
@@ -364,6 +469,13 @@ public interface IQueryBuilder {
 	 * @return Delete Query.
 	 */
 	public String formDeleteQuery(final Map<String, Object> parameters);
+
+	/**
+	 * Build query to delete tuples, based on typed specification instead of parameters.
+	 * @param deleteSpec Specification of query.
+	 * @return Delete Query.
+	 */
+	public String formDeleteQuery(final DeleteSpec deleteSpec);
 	
 
 
@@ -635,6 +747,17 @@ public interface IQueryBuilder {
 	public String formGroupConcatQuery(final Map<String, Object> parameters);
 	
 
+/*
+ * Form Aggregate Query	
+ */
+	/**
+	 * Build count, avg, sum, total, max, min or group concat query, based on function of typed specification.
+	 * @param aggregateSpec Specification of query.
+	 * @return Aggregate Query.
+	 */
+	public String formAggregateQuery(final AggregateSpec aggregateSpec);
+	
+
 /*
  * Form Foreign Keys Query	
  */
@@ -650,4 +773,29 @@ public interface IQueryBuilder {
 	 */
 	public String formForeignKeyQuery(final Map<String, Object> parameters);
 	
+
+/*
+ * Form Savepoint Queries	
+ */
+	/**
+	 * Build query to open savepoint within current transaction.
+	 * @param savepointName Name of savepoint.
+	 * @return Savepoint Query.
+	 */
+	public String formSavepointQuery(final String savepointName);
+	
+	/**
+	 * Build query to release savepoint, merging its changes into enclosing transaction.
+	 * @param savepointName Name of savepoint.
+	 * @return Release Savepoint Query.
+	 */
+	public String formReleaseSavepointQuery(final String savepointName);
+	
+	/**
+	 * Build query to undo changes made since savepoint was opened.
+	 * @param savepointName Name of savepoint.
+	 * @return Rollback To Savepoint Query.
+	 */
+	public String formRollbackToSavepointQuery(final String savepointName);
+	
 }
@@ -17,6 +17,9 @@
 
 package siminov.core.database.design;
 
+import java.util.concurrent.Future;
+
+import siminov.core.database.CompiledQuery;
 import siminov.core.exception.DatabaseException;
 
 /**
@@ -114,11 +117,43 @@ public interface ISelect {
 	 */
 	public ISelect columns(String...columns);
 	
+	/**
+	 * Used to fetch refered object of a one to one or many to one relationship in same query, through LEFT JOIN, instead of a separate query after tuples are fetched.
+	 * It can be called for more than one relationship.
+	 * @param refer Refer of relationship, as defined in entity descriptor.
+	 * @return ISelect Interface.
+	 */
+	public ISelect fetchJoin(String refer);
+	
 	/**
 	 * Used to get tuples, this method should be called in last to get tuples from table.
 	 * @return Return array of model objects.
 	 * @throws DatabaseException Throws exception if any error occur while getting tuples from table. 
 	 */
 	public<T> T execute() throws DatabaseException;
+
+	/**
+	 * Compile query, so that it can be executed any number of times with new values of its ? placeholders, without forming it again.
+	 * @return Compiled query.
+	 * @throws DatabaseException Throws exception if any error occur while compiling query.
+	 */
+	public<T> CompiledQuery<T> compile() throws DatabaseException;
+
+	/**
+	 * Execute query asynchronously, on database thread. See {@link CompiledQuery#executeAsync(IAsyncCallback, Object...)}.
+	 * @param callback Callback notified with result of query, NULL if not needed.
+	 * @return Future of result of query.
+	 * @throws DatabaseException Throws exception if query can not be submitted.
+	 */
+	public<T> Future<T> executeAsync(final IAsyncCallback<T> callback) throws DatabaseException;
+
+	/**
+	 * Used to get tuples one at a time, instead of reading all tuples upfront as execute() does.
+	 * Each object is inflated only when it is read from cursor, so it should be used to scan large tables.
+	 * Cursor has to be closed if it is not read till end.
+	 * @return Cursor of model objects.
+	 * @throws DatabaseException Throws exception if any error occur while executing query.
+	 */
+	public<T> ICursor<T> executeCursor() throws DatabaseException;
 	
 }
@@ -0,0 +1,45 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database.design;
+
+import java.util.Iterator;
+
+import siminov.core.exception.DatabaseException;
+
+
+/**
+ * Exposes methods to deal with a pre-compiled bind query, which can be executed many times with different column values.
+ * <p>
+ * Statement is not synchronized, it should be used and closed by the thread which compiled it.
+ */
+public interface IStatement {
+
+	/**
+	 * Bind column values in place of query parameters and execute statement. Bindings of previous execution are cleared first.
+	 *
+	 * @param columnValues Column values, in order of query parameters.
+	 * @throws DatabaseException If any error occur while executing statement.
+	 */
+	public void execute(final Iterator<Object> columnValues) throws DatabaseException;
+
+	/**
+	 * Release compiled statement. Calling it more than once has no effect.
+	 */
+	public void close();
+
+}
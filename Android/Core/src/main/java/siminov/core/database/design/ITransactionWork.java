@@ -0,0 +1,37 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database.design;
+
+import siminov.core.exception.DatabaseException;
+
+
+/**
+ * Unit of work executed within a transaction scope by {@link siminov.core.database.Database#inTransaction(siminov.core.model.DatabaseDescriptor, ITransactionWork)}.
+ * <p>
+ * Unit of work may be executed more than once, if database is busy, so it should not have side effects outside database which can not be repeated.
+ */
+public interface ITransactionWork {
+
+	/**
+	 * Execute database operations of unit of work. Throwing exception rolls back all changes made by it.
+	 *
+	 * @throws DatabaseException If any error occur while executing unit of work.
+	 */
+	public void execute() throws DatabaseException;
+
+}
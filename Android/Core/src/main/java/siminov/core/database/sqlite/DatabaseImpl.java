@@ -18,36 +18,94 @@
 package siminov.core.database.sqlite;
 
 import java.io.File;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 
+import siminov.core.database.DatabaseHelper;
 import siminov.core.database.DatabaseUtils;
-import siminov.core.database.design.IDataTypeHandler;
+import siminov.core.database.RowPlan;
+import siminov.core.database.RowPlan.Row;
+import siminov.core.database.design.ICursor;
 import siminov.core.database.design.IDatabaseImpl;
+import siminov.core.database.design.IStatement;
 import siminov.core.exception.DatabaseException;
 import siminov.core.exception.DeploymentException;
 import siminov.core.log.Log;
 import siminov.core.model.DatabaseDescriptor;
 import siminov.core.model.EntityDescriptor;
-import siminov.core.model.EntityDescriptor.Attribute;
+import android.database.Cursor;
 import android.database.sqlite.SQLiteCursor;
+import android.database.sqlite.SQLiteCursorDriver;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteProgram;
+import android.database.sqlite.SQLiteQuery;
 import android.database.sqlite.SQLiteStatement;
+import android.os.Build;
 
 
 /**
  * Provides IDatabase implementation for SQLite database.
+ * <p>
+ * If write_ahead_logging is enabled in DatabaseDescriptor.xml, database is opened in write-ahead-log mode. Android then keeps a pool of
+ * read connections behind the same SQLiteDatabase, so selects of other threads do not wait for writes. Selects made while a transaction is open
+ * go to connection of transaction, so they see its uncommitted writes.
  */
 public class DatabaseImpl implements IDatabaseImpl {
 
+	private static final String ROW_PLAN_KEY_SEPARATOR = ",";
+	private static final int ROW_PLAN_CACHE_SIZE = 64;
+	
+	static final int STATEMENT_CACHE_SIZE = 32;
+	
+	/**
+	 * Write-ahead-log needs SQLite 3.7, first bundled with Android 3.0 (API 11).
+	 */
+	private static final int WRITE_AHEAD_LOGGING_SDK_VERSION = 11;
+	
 	private SQLiteDatabase sqliteDatabase = null;
 	
+	private long statementCacheHits = 0;
+	private long statementCacheMisses = 0;
+	private long statementCacheEvictions = 0;
+	private boolean statementsClosed = false;
+	
+	/**
+	 * Compiled bind queries, keyed by query. Guarded by itself, but only while a statement is looked up or given back:
+	 * a statement is taken out of cache while it executes, so its bindings belong to one caller and no lock is held while SQLite runs it.
+	 */
+	private final Map<String, SQLiteStatement> statements = new LinkedHashMap<String, SQLiteStatement>(16, 0.75f, true) {
+		
+		private static final long serialVersionUID = 1L;
+
+		protected boolean removeEldestEntry(Map.Entry<String, SQLiteStatement> eldest) {
+			
+			if(size() > STATEMENT_CACHE_SIZE) {
+				eldest.getValue().close();
+				statementCacheEvictions++;
+				
+				return true;
+			}
+			
+			return false;
+		}
+	};
+	
+	private final Map<String, RowPlan> rowPlans = new LinkedHashMap<String, RowPlan>(16, 0.75f, true) {
+		
+		private static final long serialVersionUID = 1L;
+
+		protected boolean removeEldestEntry(Map.Entry<String, RowPlan> eldest) {
+			return size() > ROW_PLAN_CACHE_SIZE;
+		}
+	};
+	
 	public void openOrCreate(final DatabaseDescriptor databaseDescriptor) throws DatabaseException {
 
 		String databasePath = new DatabaseUtils().getDatabasePath(databaseDescriptor);
@@ -78,9 +136,50 @@ public class DatabaseImpl implements IDatabaseImpl {
 			Log.error(DatabaseImpl.class.getName(), "openOrCreate", "SQLiteException caught while opening database, " + sqliteException.getMessage());
 			throw new DatabaseException(DatabaseImpl.class.getName(), "openOrCreate", "SQLiteException caught while opening database, " + sqliteException.getMessage());
 		}
+		
+		if(databaseDescriptor.isWriteAheadLoggingEnable()) {
+			enableWriteAheadLogging(databaseDescriptor);
+		}
+	}
+	
+	/**
+	 * Switch database to write-ahead-log mode. Android opens its own read connections once it is enabled, so no other connection is opened here.
+	 * Each of them compiles selects it executes, so statement cache of connections is set to its maximum size, letting repeated selects reuse compiled statements.
+	 */
+	private void enableWriteAheadLogging(final DatabaseDescriptor databaseDescriptor) throws DatabaseException {
+		
+		if(Build.VERSION.SDK_INT < WRITE_AHEAD_LOGGING_SDK_VERSION) {
+			Log.important(DatabaseImpl.class.getName(), "enableWriteAheadLogging", "Write Ahead Logging Is Not Supported On This Device, DATABASE-DESCRIPTOR: " + databaseDescriptor.getDatabaseName());
+			return;
+		}
+		
+		boolean writeAheadLogging = false;
+		try {
+			sqliteDatabase.setMaxSqlCacheSize(SQLiteDatabase.MAX_SQL_CACHE_SIZE);
+			writeAheadLogging = sqliteDatabase.enableWriteAheadLogging();
+		} catch(RuntimeException runtimeException) {
+			Log.error(DatabaseImpl.class.getName(), "enableWriteAheadLogging", "Exception caught while enabling write ahead logging, DATABASE-DESCRIPTOR: " + databaseDescriptor.getDatabaseName() + ", " + runtimeException.getMessage());
+			throw new DatabaseException(DatabaseImpl.class.getName(), "enableWriteAheadLogging", "Exception caught while enabling write ahead logging, DATABASE-DESCRIPTOR: " + databaseDescriptor.getDatabaseName() + ", " + runtimeException.getMessage());
+		}
+		
+		if(!writeAheadLogging) {
+			Log.important(DatabaseImpl.class.getName(), "enableWriteAheadLogging", "Write Ahead Logging Could Not Be Enabled, DATABASE-DESCRIPTOR: " + databaseDescriptor.getDatabaseName());
+		}
 	}
 	
 	public void close(final DatabaseDescriptor databaseDescriptor) throws DatabaseException {
+		
+		synchronized(statements) {
+			
+			Iterator<SQLiteStatement> cachedStatements = statements.values().iterator();
+			while(cachedStatements.hasNext()) {
+				cachedStatements.next().close();
+			}
+			
+			statements.clear();
+			statementsClosed = true;
+		}
+		
 		sqliteDatabase.close();
 	}
 
@@ -93,215 +192,469 @@ public class DatabaseImpl implements IDatabaseImpl {
 			Log.error(DatabaseImpl.class.getName(), "executeQuery(" + query + ")", "SQLiteException caught while executing query, QUERY: " + query + ", " + sqliteException.getMessage());
 			throw new DatabaseException(DatabaseImpl.class.getName(), "executeQuery(" + query + ")", "SQLiteException caught while executing query, QUERY: " + query + ", " + sqliteException.getMessage());
 		}
+		
+		DatabaseHelper.invalidateCaches(databaseDescriptor, query);
 	}
 	
 	public void executeBindQuery(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query, final Iterator<Object> columnValues) throws DatabaseException {
 		Log.debug(DatabaseImpl.class.getName(), "executeBindQuery", "QUERY: " + query);
 		
-		SQLiteStatement statement =null;
+		SQLiteStatement statement = null;
+		synchronized(statements) {
+			
+			statement = statements.remove(query);
+			if(statement != null) {
+				statementCacheHits++;
+			} else {
+				statementCacheMisses++;
+			}
+		}
+		
+		if(statement == null) {
+			
+			try {
+				statement = sqliteDatabase.compileStatement(query);
+			} catch(SQLiteException sqliteException) {
+				Log.error(DatabaseImpl.class.getName(), "executeBindQuery(" + query + ")", "SQLiteException caught while compiling statement, " + sqliteException.getMessage());
+				logColumnValues(columnValues);
+	
+				throw new DatabaseException(DatabaseImpl.class.getName(), "executeBindQuery(" + query + ")", "SQLiteException caught while compiling statement, " + sqliteException.getMessage());
+			}
+		}
+		
+		try {
+			executeStatement(statement, query, columnValues);
+		} finally {
+			releaseStatement(query, statement);
+		}
+		
+		DatabaseHelper.invalidateCaches(databaseDescriptor, query);
+	}
+	
+	/**
+	 * Give statement back to cache once it is executed. It is closed instead if another caller already gave back a statement of same query, or database is closed.
+	 */
+	private void releaseStatement(final String query, final SQLiteStatement statement) {
+		
+		synchronized(statements) {
+			
+			if(statementsClosed || statements.containsKey(query)) {
+				statement.close();
+				return;
+			}
+			
+			statements.put(query, statement);
+		}
+	}
+	
+	/**
+	 * Get number of bind queries executed through already compiled statement.
+	 * @return Statement cache hits.
+	 */
+	public long getStatementCacheHits() {
+		synchronized(statements) {
+			return statementCacheHits;
+		}
+	}
+	
+	/**
+	 * Get number of bind queries which had to be compiled.
+	 * @return Statement cache misses.
+	 */
+	public long getStatementCacheMisses() {
+		synchronized(statements) {
+			return statementCacheMisses;
+		}
+	}
+	
+	/**
+	 * Get number of compiled statements closed to keep cache within its size.
+	 * @return Statement cache evictions.
+	 */
+	public long getStatementCacheEvictions() {
+		synchronized(statements) {
+			return statementCacheEvictions;
+		}
+	}
+	
+	public IStatement compileBindQuery(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query) throws DatabaseException {
+		Log.debug(DatabaseImpl.class.getName(), "compileBindQuery", "QUERY: " + query);
+		
+		SQLiteStatement statement = null;
 		
 		try {
 			statement = sqliteDatabase.compileStatement(query);
 		} catch(SQLiteException sqliteException) {
-			Log.error(DatabaseImpl.class.getName(), "executeBindQuery(" + query + ")", "SQLiteException caught while compiling statement, " + sqliteException.getMessage());
-
-			int index = 0;
-			while(columnValues.hasNext()) {
-				Object columnValue = columnValues.next();
-				
-				if(columnValue instanceof String) {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX: " + index + ", VALUE: " + columnValue);
-				} else if(columnValue instanceof Integer) {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + ((Integer) columnValue).intValue());
-				} else if(columnValue instanceof Long) {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + ((Long) columnValue).longValue());
-				} else if(columnValue instanceof Double) {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + ((Double) columnValue).doubleValue());
-				} else if(columnValue instanceof Float) {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + ((Float) columnValue).floatValue());
-				} else if(columnValue instanceof byte[]) {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + new String((byte[]) columnValue));
-				} else if(columnValue instanceof Boolean) {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + ((Boolean) columnValue).toString());
-				} else {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + columnValue);
-				}
-				
-				index++;
-			}
-
-			throw new DatabaseException(DatabaseImpl.class.getName(), "executeBindQuery(" + query + ")", "SQLiteException caught while compiling statement, " + sqliteException.getMessage());
+			Log.error(DatabaseImpl.class.getName(), "compileBindQuery(" + query + ")", "SQLiteException caught while compiling statement, " + sqliteException.getMessage());
+			throw new DatabaseException(DatabaseImpl.class.getName(), "compileBindQuery(" + query + ")", "SQLiteException caught while compiling statement, " + sqliteException.getMessage());
 		}
 		
+		return new BindStatement(statement, query);
+	}
+	
+	/**
+	 * Bind column values to compiled statement and execute it. Bindings are cleared before and after execution, so statement can be executed again.
+	 */
+	private static void executeStatement(final SQLiteStatement statement, final String query, final Iterator<Object> columnValues) throws DatabaseException {
+		
+		statement.clearBindings();
+
 		final Collection<Object> duplicateColumnValues = new LinkedList<Object>();
 		
+		int index = 0;
+		while(columnValues.hasNext()) {
+			Object columnValue = columnValues.next();
+			
+			bindColumnValue(statement, index + 1, columnValue);
+			
+			duplicateColumnValues.add(columnValue);
+			index++;
+		} 
+
+		try {
+			statement.execute();
+		} catch(SQLiteException sqliteException) {
+			Log.error(DatabaseImpl.class.getName(), "executeBindQuery(" + query + ")", "SQLiteException caught while executing statement, " + sqliteException.getMessage());
+			logColumnValues(duplicateColumnValues.iterator());
+			
+			statement.clearBindings();
+
+			throw new DatabaseException(DatabaseImpl.class.getName(), "executeBindQuery(" + query + ")", "SQLiteException caught while executing statement, " + sqliteException.getMessage());
+		}
+
+		statement.clearBindings();
+	}
+	
+	private static void logColumnValues(final Iterator<Object> columnValues) {
+		
 		int index = 0;
 		while(columnValues.hasNext()) {
 			Object columnValue = columnValues.next();
 			
 			if(columnValue instanceof String) {
-				statement.bindString(index + 1, (String) columnValue);
+				Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX: " + index + ", VALUE: " + columnValue);
 			} else if(columnValue instanceof Integer) {
-				statement.bindLong(index + 1, ((Integer) columnValue));
+				Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + ((Integer) columnValue).intValue());
 			} else if(columnValue instanceof Long) {
-				statement.bindLong(index + 1, (Long) columnValue);
+				Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + ((Long) columnValue).longValue());
 			} else if(columnValue instanceof Double) {
-				statement.bindDouble(index + 1, (Double) columnValue);
+				Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + ((Double) columnValue).doubleValue());
 			} else if(columnValue instanceof Float) {
-				statement.bindDouble(index + 1, (Float) columnValue);
+				Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + ((Float) columnValue).floatValue());
 			} else if(columnValue instanceof byte[]) {
-				statement.bindBlob(index + 1, (byte[]) columnValue);
+				Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + new String((byte[]) columnValue));
 			} else if(columnValue instanceof Boolean) {
-				statement.bindString(index + 1,  (Boolean) columnValue ? Boolean.TRUE.toString() : Boolean.FALSE.toString());
+				Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + ((Boolean) columnValue).toString());
 			} else {
-				statement.bindNull(index + 1);
+				Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + columnValue);
 			}
 			
-			duplicateColumnValues.add(columnValue);
 			index++;
-		} 
-
+		}
+	}
+	
+	public Iterator<Map<String, Object>> executeSelectQuery(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query) throws DatabaseException {
+		return executeSelectQuery(databaseDescriptor, entityDescriptor, query, null);
+	}
+	
+	public Iterator<Map<String, Object>> executeSelectQuery(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query, final Object[] arguments) throws DatabaseException {
+		
+		SQLiteCursor sqliteCursor = null;
 		try {
-			statement.execute();
+			sqliteCursor = rawQuery(sqliteDatabase, query, arguments);
 		} catch(SQLiteException sqliteException) {
-			Log.error(DatabaseImpl.class.getName(), "executeBindQuery(" + query + ")", "SQLiteException caught while executing statement, " + sqliteException.getMessage());
-			
-			index = 0;
+			Log.error(DatabaseImpl.class.getName(), "executeSelectQuery(" + query + ")", "SQLiteException caught while executing query, QUERY: " + query + ", " + sqliteException.getMessage());
+			throw new DatabaseException(DatabaseImpl.class.getName(), "executeSelectQuery(" + query + ")", "SQLiteException caught while executing query, QUERY: " + query + ", " + sqliteException.getMessage());
+		}
+		
+		Collection<Map<String, Object>> tuples = new ArrayList<Map<String,Object>>();
 
-			Iterator<Object> newColumnValues = duplicateColumnValues.iterator();
-			while(newColumnValues.hasNext()) {
-				Object columnValue = newColumnValues.next();
-				
-				if(columnValue instanceof String) {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-NAME: " + index + ", VALUE: " + columnValue);
-				} else if(columnValue instanceof Integer) {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-NAME: " + index + ", VALUE: " + ((Integer) columnValue).longValue());
-				} else if(columnValue instanceof Long) {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-NAME: " + index + ", VALUE: " + ((Long) columnValue).longValue());
-				} else if(columnValue instanceof Double) {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-NAME: " + index + ", VALUE: " + ((Double) columnValue).doubleValue());
-				} else if(columnValue instanceof Float) {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-NAME: " + index + ", VALUE: " + ((Float) columnValue).floatValue());
-				} else if(columnValue instanceof byte[]) {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-NAME: " + index + ", VALUE: " + new String((byte[]) columnValue));
-				} else if(columnValue instanceof Boolean) {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-NAME: " + index + ", VALUE: " + ((Boolean) columnValue).toString());
-				} else {
-					Log.error(DatabaseImpl.class.getName(), "executeBindQuery", "COLUMN-INDEX " + index + ", VALUE: " + columnValue);
-				}
-				
-				index++;
+		try {
+			String[] columnNames = sqliteCursor.getColumnNames();
+			if(columnNames == null || columnNames.length <= 0) {
+				return tuples.iterator();
 			}
-			
-			statement.clearBindings();
-			statement.close();
 
-			throw new DatabaseException(DatabaseImpl.class.getName(), "executeBindQuery(" + query + ")", "SQLiteException caught while executing statement, " + sqliteException.getMessage());
+			RowPlan rowPlan = getRowPlan(entityDescriptor, columnNames);
+			while(sqliteCursor.moveToNext()) {
+				tuples.add(readRow(sqliteCursor, rowPlan));
+			}
+		} finally {
+			sqliteCursor.close();
 		}
+		
+		return tuples.iterator();
+	}
 
-		statement.clearBindings();
-		statement.close();
+	public ICursor<Map<String, Object>> executeSelectCursor(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query) throws DatabaseException {
+		return executeSelectCursor(databaseDescriptor, entityDescriptor, query, null);
+	}
+
+	public ICursor<Map<String, Object>> executeSelectCursor(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query, final Object[] arguments) throws DatabaseException {
+
+		SQLiteCursor sqliteCursor = null;
+		try {
+			sqliteCursor = rawQuery(sqliteDatabase, query, arguments);
+		} catch(SQLiteException sqliteException) {
+			Log.error(DatabaseImpl.class.getName(), "executeSelectCursor(" + query + ")", "SQLiteException caught while executing query, QUERY: " + query + ", " + sqliteException.getMessage());
+			throw new DatabaseException(DatabaseImpl.class.getName(), "executeSelectCursor(" + query + ")", "SQLiteException caught while executing query, QUERY: " + query + ", " + sqliteException.getMessage());
+		}
+
+		String[] columnNames = sqliteCursor.getColumnNames();
+		if(columnNames == null || columnNames.length <= 0) {
+			sqliteCursor.close();
+			return new RowCursor(null, null);
+		}
+
+		return new RowCursor(sqliteCursor, getRowPlan(entityDescriptor, columnNames));
+	}
+
+	/**
+	 * Execute select query on connection, binding arguments based on their type. SQLiteDatabase.rawQuery binds all arguments as String, so they are bound through cursor factory.
+	 */
+	private static SQLiteCursor rawQuery(final SQLiteDatabase connection, final String query, final Object[] arguments) {
+		
+		if(arguments == null || arguments.length <= 0) {
+			return (SQLiteCursor) connection.rawQuery(query, null);
+		}
+		
+		return (SQLiteCursor) connection.rawQueryWithFactory(new BindCursorFactory(arguments), query, null, null);
 	}
 	
-	public Iterator<Map<String, Object>> executeSelectQuery(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query) throws DatabaseException {
+	/**
+	 * Bind value to program based on its type. Boolean is bound as String, same as it is stored.
+	 */
+	private static void bindColumnValue(final SQLiteProgram program, final int index, final Object columnValue) {
 		
-			SQLiteCursor sqliteCursor = (SQLiteCursor) sqliteDatabase.rawQuery(query, null);
-			Collection<Map<String, Object>> tuples = new ArrayList<Map<String,Object>>();
+		if(columnValue instanceof String) {
+			program.bindString(index, (String) columnValue);
+		} else if(columnValue instanceof Integer) {
+			program.bindLong(index, ((Integer) columnValue));
+		} else if(columnValue instanceof Long) {
+			program.bindLong(index, (Long) columnValue);
+		} else if(columnValue instanceof Double) {
+			program.bindDouble(index, (Double) columnValue);
+		} else if(columnValue instanceof Float) {
+			program.bindDouble(index, (Float) columnValue);
+		} else if(columnValue instanceof byte[]) {
+			program.bindBlob(index, (byte[]) columnValue);
+		} else if(columnValue instanceof Boolean) {
+			program.bindString(index,  (Boolean) columnValue ? Boolean.TRUE.toString() : Boolean.FALSE.toString());
+		} else if(columnValue instanceof Short || columnValue instanceof Byte) {
+			program.bindLong(index, ((Number) columnValue).longValue());
+		} else if(columnValue != null) {
+			program.bindString(index, columnValue.toString());
+		} else {
+			program.bindNull(index);
+		}
+	}
+	
+	/**
+	 * Get compiled row plan for entity descriptor and column names returned by query, it is created only once per projection.
+	 */
+	private RowPlan getRowPlan(final EntityDescriptor entityDescriptor, final String[] columnNames) {
+		
+		StringBuilder key = new StringBuilder();
+		if(entityDescriptor != null) {
+			key.append(entityDescriptor.getClassName());
+		}
+		
+		for(int i = 0;i < columnNames.length;i++) {
+			key.append(ROW_PLAN_KEY_SEPARATOR);
+			key.append(columnNames[i]);
+		}
+		
+		synchronized(rowPlans) {
 			
-			while(sqliteCursor.moveToNext()) {
-				HashMap<String, Object> tuple = new HashMap<String, Object>();
-				
-				String[] columnNames = sqliteCursor.getColumnNames();
-				if(columnNames == null || columnNames.length <= 0) {
-					continue;
-				}
-				
-				for(int i = 0;i < columnNames.length;i++) {
-					boolean isString = sqliteCursor.isString(i);
-					boolean isLong = sqliteCursor.isLong(i);
-					boolean isFloat = sqliteCursor.isFloat(i);
-					boolean isBlob = sqliteCursor.isBlob(i);
-					
-					if(isString) {
-
-						String columnValue = sqliteCursor.getString(i);
-
-						if(entityDescriptor != null) {
-							
-							Attribute attribute = entityDescriptor.getAttributeBasedOnColumnName(columnNames[i]);
-							if(attribute != null) {
+			RowPlan rowPlan = rowPlans.get(key.toString());
+			if(rowPlan == null || rowPlan.getEntityDescriptor() != entityDescriptor) {
+				rowPlan = new RowPlan(entityDescriptor, columnNames);
+				rowPlans.put(key.toString(), rowPlan);
+			}
+			
+			return rowPlan;
+		}
+	}
 	
-								if(attribute.getType().equalsIgnoreCase(IDataTypeHandler.STRING_DATA_TYPE)) {
-									tuple.put(columnNames[i], (String) columnValue);
-								} else if(attribute.getType().equalsIgnoreCase(IDataTypeHandler.PRIMITIVE_BOOLEAN_DATA_TYPE)) {
-									tuple.put(columnNames[i], columnValue.equalsIgnoreCase(Boolean.TRUE.toString()) ? true : false);
-								} else if(attribute.getType().equalsIgnoreCase(IDataTypeHandler.BOOLEAN_DATA_TYPE)) {
-									tuple.put(columnNames[i], columnValue.equalsIgnoreCase(Boolean.TRUE.toString()) ? Boolean.TRUE : Boolean.FALSE);
-								}
-							} else {
-								tuple.put(columnNames[i], columnValue);
-							}
-						} else {
-							tuple.put(columnNames[i], columnValue);
-						}
-					} else if(isLong) {
-						long columnValue = sqliteCursor.getLong(i);
-
-						if(entityDescriptor != null) {
-							
-							Attribute attribute = entityDescriptor.getAttributeBasedOnColumnName(columnNames[i]);
-							if(attribute != null) {
-								if(attribute.getType().equalsIgnoreCase(IDataTypeHandler.PRIMITIVE_INTEGER_DATA_TYPE)) {
-									tuple.put(columnNames[i], Integer.parseInt(Long.toString(columnValue)));
-								} else if(attribute.getType().equalsIgnoreCase(IDataTypeHandler.INTEGER_DATA_TYPE)) {
-									tuple.put(columnNames[i], Integer.getInteger(Long.toString(columnValue)));
-								} else if(attribute.getType().equalsIgnoreCase(IDataTypeHandler.PRIMITIVE_LONG_DATA_TYPE)) {
-									tuple.put(columnNames[i], columnValue);
-								} else if(attribute.getType().equalsIgnoreCase(IDataTypeHandler.LONG_DATA_TYPE)) {
-									tuple.put(columnNames[i], Long.valueOf(columnValue));
-								}
-							} else {
-								tuple.put(columnNames[i], columnValue);
-							}
-						} else {
-							tuple.put(columnNames[i], columnValue);
-						}
-					} else if(isFloat) {
-						float columnValue = sqliteCursor.getFloat(i);
-						
-						if(entityDescriptor != null) {
-							
-							Attribute attribute = entityDescriptor.getAttributeBasedOnColumnName(columnNames[i]);
-							if(attribute != null) {
-								if(attribute.getType().equalsIgnoreCase(IDataTypeHandler.PRIMITIVE_DOUBLE_DATA_TYPE)) {
-									tuple.put(columnNames[i], Double.parseDouble(Float.toString(columnValue)));
-								} else if(attribute.getType().equalsIgnoreCase(IDataTypeHandler.DOUBLE_DATA_TYPE)) {
-									tuple.put(columnNames[i], Double.valueOf(Float.toString(columnValue)));
-								} else if(attribute.getType().equalsIgnoreCase(IDataTypeHandler.PRIMITIVE_FLOAT_DATA_TYPE)) {
-									tuple.put(columnNames[i], columnValue);
-								} else if(attribute.getType().equalsIgnoreCase(IDataTypeHandler.FLOAT_DATA_TYPE)) {
-									tuple.put(columnNames[i], Float.valueOf(columnValue));
-								}
-							} else {
-								tuple.put(columnNames[i], columnValue);
-							}
-						} else {
-							tuple.put(columnNames[i], columnValue);
-						}
-
-						tuple.put(columnNames[i], columnValue);
-					} else if(isBlob) {
-						tuple.put(columnNames[i], sqliteCursor.getBlob(i));
+	/**
+	 * Read tuple at current position of cursor, based on row plan.
+	 */
+	private Row readRow(final SQLiteCursor sqliteCursor, final RowPlan rowPlan) {
+		
+		Row row = rowPlan.newRow();
+		
+		int columnCount = rowPlan.getColumnCount();
+		for(int i = 0;i < columnCount;i++) {
+			
+			if(sqliteCursor.isNull(i)) {
+				continue;
+			}
+			
+			switch(rowPlan.getColumnType(i)) {
+				case RowPlan.STRING_COLUMN_TYPE:
+					row.setValue(i, sqliteCursor.getString(i));
+					break;
+				case RowPlan.INTEGER_COLUMN_TYPE:
+					row.setValue(i, sqliteCursor.getInt(i));
+					break;
+				case RowPlan.LONG_COLUMN_TYPE:
+					row.setValue(i, sqliteCursor.getLong(i));
+					break;
+				case RowPlan.FLOAT_COLUMN_TYPE:
+					row.setValue(i, sqliteCursor.getFloat(i));
+					break;
+				case RowPlan.DOUBLE_COLUMN_TYPE:
+					row.setValue(i, sqliteCursor.getDouble(i));
+					break;
+				case RowPlan.BOOLEAN_COLUMN_TYPE:
+					row.setValue(i, sqliteCursor.getString(i).equalsIgnoreCase(Boolean.TRUE.toString()) ? Boolean.TRUE : Boolean.FALSE);
+					break;
+				case RowPlan.BLOB_COLUMN_TYPE:
+					row.setValue(i, sqliteCursor.getBlob(i));
+					break;
+				default:
+					if(sqliteCursor.isString(i)) {
+						row.setValue(i, sqliteCursor.getString(i));
+					} else if(sqliteCursor.isLong(i)) {
+						row.setValue(i, sqliteCursor.getLong(i));
+					} else if(sqliteCursor.isFloat(i)) {
+						row.setValue(i, sqliteCursor.getFloat(i));
+					} else if(sqliteCursor.isBlob(i)) {
+						row.setValue(i, sqliteCursor.getBlob(i));
 					}
-				}
-				
-				tuples.add(tuple);
+			}
+		}
+		
+		return row;
+	}
+
+	/**
+	 * Cursor factory which binds arguments of select query based on their type, before query is executed.
+	 */
+	private static class BindCursorFactory implements SQLiteDatabase.CursorFactory {
+		
+		private final Object[] arguments;
+		
+		private BindCursorFactory(final Object[] arguments) {
+			this.arguments = arguments;
+		}
+		
+		@SuppressWarnings("deprecation")
+		public Cursor newCursor(final SQLiteDatabase sqliteDatabase, final SQLiteCursorDriver cursorDriver, final String editTable, final SQLiteQuery query) {
+			
+			for(int i = 0;i < arguments.length;i++) {
+				bindColumnValue(query, i + 1, arguments[i]);
 			}
 			
-			sqliteCursor.close();
-		return tuples.iterator();
+			return new SQLiteCursor(sqliteDatabase, cursorDriver, editTable, query);
+		}
 	}
-	
+
+	/**
+	 * Bind query compiled once, executed with new column values each time.
+	 */
+	private static class BindStatement implements IStatement {
+		
+		private SQLiteStatement statement = null;
+		private final String query;
+		
+		private BindStatement(final SQLiteStatement statement, final String query) {
+			this.statement = statement;
+			this.query = query;
+		}
+		
+		public void execute(final Iterator<Object> columnValues) throws DatabaseException {
+			
+			if(statement == null) {
+				Log.error(DatabaseImpl.class.getName(), "execute", "Statement is already closed, QUERY: " + query);
+				throw new DatabaseException(DatabaseImpl.class.getName(), "execute", "Statement is already closed, QUERY: " + query);
+			}
+			
+			executeStatement(statement, query, columnValues);
+		}
+		
+		public void close() {
+			
+			if(statement != null) {
+				statement.close();
+				statement = null;
+			}
+		}
+	}
+
+	/**
+	 * Cursor which reads one tuple per next() from open SQLite cursor, and closes it once all tuples are read.
+	 */
+	private class RowCursor implements ICursor<Map<String, Object>> {
+
+		private SQLiteCursor sqliteCursor = null;
+		private final RowPlan rowPlan;
+
+		private boolean moved = false;
+		private boolean hasNext = false;
+
+		private RowCursor(final SQLiteCursor sqliteCursor, final RowPlan rowPlan) {
+			this.sqliteCursor = sqliteCursor;
+			this.rowPlan = rowPlan;
+		}
+
+		public boolean hasNext() throws DatabaseException {
+
+			if(sqliteCursor == null) {
+				return false;
+			}
+
+			if(!moved) {
+
+				try {
+					hasNext = sqliteCursor.moveToNext();
+				} catch(SQLiteException sqliteException) {
+					close();
+
+					Log.error(DatabaseImpl.class.getName(), "hasNext", "SQLiteException caught while moving cursor, " + sqliteException.getMessage());
+					throw new DatabaseException(DatabaseImpl.class.getName(), "hasNext", "SQLiteException caught while moving cursor, " + sqliteException.getMessage());
+				}
+
+				moved = true;
+				if(!hasNext) {
+					close();
+				}
+			}
+
+			return hasNext;
+		}
+
+		public Map<String, Object> next() throws DatabaseException {
+
+			if(!hasNext()) {
+				Log.error(DatabaseImpl.class.getName(), "next", "No more tuples to read.");
+				throw new DatabaseException(DatabaseImpl.class.getName(), "next", "No more tuples to read.");
+			}
+
+			moved = false;
+
+			try {
+				return readRow(sqliteCursor, rowPlan);
+			} catch(SQLiteException sqliteException) {
+				close();
+
+				Log.error(DatabaseImpl.class.getName(), "next", "SQLiteException caught while reading tuple, " + sqliteException.getMessage());
+				throw new DatabaseException(DatabaseImpl.class.getName(), "next", "SQLiteException caught while reading tuple, " + sqliteException.getMessage());
+			}
+		}
+
+		public void close() {
+
+			if(sqliteCursor != null) {
+				sqliteCursor.close();
+				sqliteCursor = null;
+			}
+
+			hasNext = false;
+			moved = true;
+		}
+	}
+
 	public void executeMethod(final String methodName, final Object parameter) throws DatabaseException {
 		Method method = null;
 		
@@ -338,17 +691,29 @@ public class DatabaseImpl implements IDatabaseImpl {
 			try {
 				 method.invoke(sqliteDatabase, new Object[] {});	
 			} catch(Exception exception) {
-				Log.error(DatabaseImpl.class.getName(), "invokeMethod", "Exception caught while getting return value from method, METHOD-NAME: " + methodName + ", " + exception.getMessage());
-				throw new DatabaseException(DatabaseImpl.class.getName(), "invokeMethod", "Exception caught while getting return value from method, METHOD-NAME: " + methodName + ", " + exception.getMessage());
+				Log.error(DatabaseImpl.class.getName(), "invokeMethod", "Exception caught while getting return value from method, METHOD-NAME: " + methodName + ", " + getMessage(exception));
+				throw new DatabaseException(DatabaseImpl.class.getName(), "invokeMethod", "Exception caught while getting return value from method, METHOD-NAME: " + methodName + ", " + getMessage(exception));
 			}
 		} else {
 			try {
 				 method.invoke(sqliteDatabase, new Object[] {parameter});	
 			} catch(Exception exception) {
-				Log.error(DatabaseImpl.class.getName(), "invokeMethod", "Exception caught while getting return value from method, METHOD-NAME: " + methodName + ", " + exception.getMessage());
-				throw new DatabaseException(DatabaseImpl.class.getName(), "invokeMethod", "Exception caught while getting return value from method, METHOD-NAME: " + methodName + ", " + exception.getMessage());
+				Log.error(DatabaseImpl.class.getName(), "invokeMethod", "Exception caught while getting return value from method, METHOD-NAME: " + methodName + ", " + getMessage(exception));
+				throw new DatabaseException(DatabaseImpl.class.getName(), "invokeMethod", "Exception caught while getting return value from method, METHOD-NAME: " + methodName + ", " + getMessage(exception));
 			}
 		}
 	}
+	
+	/**
+	 * Get message of exception thrown by invoked method, which is wrapped in InvocationTargetException, so that errors such as database is locked are not lost.
+	 */
+	private static String getMessage(final Exception exception) {
+		
+		if(exception instanceof InvocationTargetException && exception.getCause() != null) {
+			return exception.getCause().getMessage();
+		}
+		
+		return exception.getMessage();
+	}
 
 }
@@ -19,12 +19,21 @@
 package siminov.core.database.sqlite;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
 import siminov.core.Constants;
+import siminov.core.database.AggregateSpec;
+import siminov.core.database.AggregateSpec.Function;
+import siminov.core.database.DeleteSpec;
+import siminov.core.database.InsertSpec;
+import siminov.core.database.SelectSpec;
+import siminov.core.database.SelectSpec.Join;
+import siminov.core.database.UpdateSpec;
 import siminov.core.database.design.IQueryBuilder;
 import siminov.core.exception.DatabaseException;
 import siminov.core.exception.DeploymentException;
@@ -33,6 +42,7 @@ import siminov.core.model.EntityDescriptor;
 import siminov.core.model.EntityDescriptor.Attribute;
 import siminov.core.model.EntityDescriptor.Relationship;
 import siminov.core.resource.ResourceManager;
+import android.os.Build;
 import android.text.TextUtils;
 
 
@@ -41,6 +51,15 @@ import android.text.TextUtils;
  */
 public class QueryBuilder implements Constants, IQueryBuilder {
 
+	/**
+	 * UPSERT (INSERT ... ON CONFLICT DO UPDATE) needs SQLite 3.24, first bundled with Android 11 (API 30).
+	 */
+	private static final int UPSERT_SDK_VERSION = 30;
+	
+	/**
+	 * Valid LIMIT clause, a count optionally followed by an offset. It is compiled once, as select queries are formed on every select.
+	 */
+	private static final Pattern LIMIT_PATTERN = Pattern.compile("\\s*\\d+\\s*(,\\s*\\d+\\s*)?");
 	
 	public String formTableInfoQuery(final Map<String, Object> parameters) {
 		
@@ -239,87 +258,74 @@ public class QueryBuilder implements Constants, IQueryBuilder {
 	@SuppressWarnings("unchecked")
 	public String formSelectQuery(final Map<String, Object> parameters) {
 
-		final String tableName = (String) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_TABLE_NAME_PARAMETER);
-		final boolean distinct = (Boolean) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_DISTINCT_PARAMETER);
-		final String whereClause = (String) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_WHERE_CLAUSE_PARAMETER);
-		final Iterator<String> columnNames = (Iterator<String>) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_COLUMN_NAMES_PARAMETER);
-		final Iterator<String> groupBys = (Iterator<String>) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_GROUP_BYS_PARAMETER);
-		final String having = (String) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_HAVING_PARAMETER);
-		final Iterator<String> orderBy = (Iterator<String>) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_ORDER_BYS_PARAMETER);
-		final String whichOrderBy = (String) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_WHICH_ORDER_BY_PARAMETER);
-		final String limit = (String) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_LIMIT_PARAMETER);
-		
-		
-		StringBuilder groupBysBuilder = new StringBuilder();
-		
-		int index = 0;
-		if(groupBys != null) {
-			while(groupBys.hasNext()) {
-				if(index == 0) {
-					groupBysBuilder.append(groupBys.next());
-				} else {
-					groupBysBuilder.append(", " + groupBys.next());
-				}
+		final SelectSpec selectSpec = new SelectSpec((String) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_TABLE_NAME_PARAMETER));
+		selectSpec.setDistinct((Boolean) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_DISTINCT_PARAMETER));
+		selectSpec.setWhereClause((String) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_WHERE_CLAUSE_PARAMETER));
+		selectSpec.setColumnNames(SelectSpec.toArray((Iterator<String>) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_COLUMN_NAMES_PARAMETER)));
+		selectSpec.setGroupBys(SelectSpec.toArray((Iterator<String>) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_GROUP_BYS_PARAMETER)));
+		selectSpec.setHaving((String) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_HAVING_PARAMETER));
+		selectSpec.setOrderBys(SelectSpec.toArray((Iterator<String>) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_ORDER_BYS_PARAMETER)));
+		selectSpec.setWhichOrderBy((String) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_WHICH_ORDER_BY_PARAMETER));
+		selectSpec.setLimit((String) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_LIMIT_PARAMETER));
+
+		final Iterator<Map<String, Object>> joins = (Iterator<Map<String, Object>>) parameters.get(IQueryBuilder.FORM_SELECT_QUERY_JOINS_PARAMETER);
+		if(joins != null && joins.hasNext()) {
+			
+			List<Join> joinSpecs = new ArrayList<Join>();
+			while(joins.hasNext()) {
+				Map<String, Object> join = joins.next();
 				
-				index++;
+				joinSpecs.add(new Join((String) join.get(IQueryBuilder.FORM_SELECT_QUERY_JOIN_TABLE_NAME_PARAMETER), 
+						SelectSpec.toArray((Iterator<String>) join.get(IQueryBuilder.FORM_SELECT_QUERY_JOIN_COLUMN_NAMES_PARAMETER)), 
+						(String) join.get(IQueryBuilder.FORM_SELECT_QUERY_JOIN_COLUMN_PREFIX_PARAMETER), 
+						SelectSpec.toArray((Iterator<String>) join.get(IQueryBuilder.FORM_SELECT_QUERY_JOIN_KEYS_PARAMETER))));
 			}
+			
+			selectSpec.setJoins(joinSpecs);
 		}
 		
-		StringBuilder orderBysBuilder = new StringBuilder();
-		
-		index = 0;
-		if(orderBy != null) {
-			while(orderBy.hasNext()) {
-				if(index == 0) {
-					orderBysBuilder.append(orderBy.next());
-				} else {
-					orderBysBuilder.append(", " + orderBy.next());	
-				}
-				
-				index++;
-			}
-		}
-
-		return formSelectQuery(tableName, distinct, whereClause, columnNames, groupBysBuilder.toString(), having, orderBysBuilder.toString(), whichOrderBy, limit);
+		return formSelectQuery(selectSpec);
 	}
 	
-	private String formSelectQuery(final String table, final boolean distinct, final String whereClause, final Iterator<String> columnsNames, final String groupBys, final String having, final String orderBys, final String whichOrderBy, final String limit) {
+	public String formSelectQuery(final SelectSpec selectSpec) {
+		
+		final String groupBys = join(selectSpec.getGroupBys());
+		final String having = selectSpec.getHaving();
+		final String limit = selectSpec.getLimit();
+		final String whichOrderBy = selectSpec.getWhichOrderBy();
+		
         if (TextUtils.isEmpty(groupBys) && !TextUtils.isEmpty(having)) {
             throw new IllegalArgumentException(
                     "HAVING clauses are only permitted when using a groupBy clause");
         }
         
-        Pattern sLimitPattern = Pattern.compile("\\s*\\d+\\s*(,\\s*\\d+\\s*)?");
-        if (!TextUtils.isEmpty(limit) && !sLimitPattern.matcher(limit).matches()) {
+        if (!TextUtils.isEmpty(limit) && !LIMIT_PATTERN.matcher(limit).matches()) {
             throw new IllegalArgumentException("invalid LIMIT clauses:" + limit);
         }
 
         StringBuilder query = new StringBuilder(120);
 
         query.append("SELECT ");
-        if(distinct) {
+        if(selectSpec.isDistinct()) {
             query.append("DISTINCT ");
         } else {
 
-        	int columnNamesCount = 0;
-        	if(columnsNames != null) {
-                if (columnsNames.hasNext()) {
-                	++columnNamesCount;
-                    appendColumns(query, columnsNames);
-                }
-            }
-        	
-        	if(columnNamesCount <= 0) {
+        	String[] columnNames = selectSpec.getColumnNames();
+        	if(columnNames.length > 0) {
+        		query.append(join(columnNames));
+        		query.append(' ');
+        	} else {
             	query.append("* ");
         	}
         }
         
         query.append("FROM ");
-        query.append(table);
-        appendClause(query, " WHERE ", whereClause);
+        query.append(selectSpec.getTableName());
+        appendClause(query, " WHERE ", selectSpec.getWhereClause());
         appendClause(query, " GROUP BY ", groupBys);
         appendClause(query, " HAVING ", having);
         
+        String orderBys = join(selectSpec.getOrderBys());
         if(whichOrderBy != null && whichOrderBy.length() > 0) {
             appendClause(query, " ORDER BY ", orderBys + " " + whichOrderBy);
         } else {
@@ -328,9 +334,49 @@ public class QueryBuilder implements Constants, IQueryBuilder {
 
         appendClause(query, " LIMIT ", limit);
 
-        return query.toString();
+        List<Join> joins = selectSpec.getJoins();
+        if(joins.isEmpty()) {
+        	return query.toString();
+        }
+        
+        return formJoinQuery(query.toString(), joins);
     }
-
+	
+	/**
+	 * Wraps select query as T0 and LEFT JOIN's each joined table (T1, T2, ...) to it, so where, order by and limit of select query apply only to its own table.
+	 * Columns of joined tables are aliased with their prefix, so they do not clash with columns of T0.
+	 */
+	private static String formJoinQuery(final String query, final List<Join> joins) {
+		
+		StringBuilder columns = new StringBuilder("T0.*");
+		StringBuilder joinClauses = new StringBuilder();
+		
+		for(int index = 0;index < joins.size();index++) {
+			Join join = joins.get(index);
+			
+			String alias = "T" + (index + 1);
+			String columnPrefix = join.getColumnPrefix();
+			
+			String[] columnNames = join.getColumnNames();
+			for(int i = 0;i < columnNames.length;i++) {
+				columns.append(", " + alias + "." + columnNames[i] + " AS \"" + columnPrefix + columnNames[i] + "\"");
+			}
+			
+			joinClauses.append(" LEFT JOIN " + join.getTableName() + " " + alias + " ON ");
+			
+			String[] keys = join.getKeys();
+			for(int i = 0;i < keys.length;i++) {
+				if(i > 0) {
+					joinClauses.append(" AND ");
+				}
+				
+				joinClauses.append(alias + "." + keys[i] + " = T0." + keys[i]);
+			}
+		}
+		
+		return "SELECT " + columns.toString() + " FROM (" + query + ") T0" + joinClauses.toString();
+	}
+	
     private static void appendClause(final StringBuilder s, final String name, final String clause) {
         if (!TextUtils.isEmpty(clause)) {
             s.append(name);
@@ -338,393 +384,359 @@ public class QueryBuilder implements Constants, IQueryBuilder {
         }
     }
 	
-    private static void appendColumns(final StringBuilder s, final Iterator<String> columns) {
+    /**
+     * Join names with comma, skipping NULL names.
+     */
+    private static String join(final String[] names) {
         
-    	int index = 0;
-    	while(columns.hasNext()) {
-            String column = columns.next();
-
-            if (column != null) {
-                if (index > 0) {
-                    s.append(", ");
-                }
-                
-                s.append(column);
-                index++;
-            }
-        }
-
-        s.append(' ');
+    	StringBuilder s = new StringBuilder();
+    	for(int i = 0;i < names.length;i++) {
+    		if(names[i] == null) {
+    			continue;
+    		}
+    		
+    		if(s.length() > 0) {
+    			s.append(", ");
+    		}
+    		
+    		s.append(names[i]);
+    	}
+    	
+    	return s.toString();
     }
 
+    private static void appendPlaceholders(final StringBuilder query, final int count) {
+    	
+		for(int i = 0;i < count;i++) {
+			if(i == 0) {
+				query.append("?");
+			} else {
+				query.append(", ?"); 
+			}
+		}
+    }
+    
 	@SuppressWarnings("unchecked")
 	public String formSaveBindQuery(final Map<String, Object> parameters) {
 		
 		final String tableName = (String) parameters.get(IQueryBuilder.FORM_SAVE_BIND_QUERY_TABLE_NAME_PARAMETER);
 		final Iterator<String> columnNames = (Iterator<String>) parameters.get(IQueryBuilder.FORM_SAVE_BIND_QUERY_COLUMN_NAMES_PARAMETER);
 		
-		StringBuilder query = new StringBuilder();
-			query.append("INSERT INTO " + tableName + "(");
+		return formSaveBindQuery(new InsertSpec(tableName, SelectSpec.toArray(columnNames)));
+	}
 
-			int index = 0;
-			while(columnNames.hasNext()) {
-				if(index == 0) {
-					query.append(columnNames.next());
-				} else {
-					query.append(", " + columnNames.next());
-				}
-				
-				index++;
-			}
-			
+	public String formSaveBindQuery(final InsertSpec insertSpec) {
+		
+		final String[] columnNames = insertSpec.getColumnNames();
+		
+		StringBuilder query = new StringBuilder();
+			query.append("INSERT INTO " + insertSpec.getTableName() + "(");
+			query.append(join(columnNames));
 			query.append(") VALUES(");
-			
-			for(int i = 0;i < index;i++) {
-				if(i == 0) {
-					query.append("?");
-				} else {
-					query.append(", ?"); 
-				}
-			}
-			
+			appendPlaceholders(query, columnNames.length);
 			query.append(")");
+			
 		return query.toString();
 	}
-
 	
 	@SuppressWarnings("unchecked")
-	public String formUpdateBindQuery(final Map<String, Object> parameters) {
+	public String formUpsertBindQuery(final Map<String, Object> parameters) {
 		
-		final String tableName = (String) parameters.get(IQueryBuilder.FORM_UPDATE_BIND_QUERY_TABLE_NAME_PARAMETER);
-		final Iterator<String> columnNames = (Iterator<String>) parameters.get(IQueryBuilder.FORM_UPDATE_BIND_QUERY_COLUMN_NAMES_PARAMETER);
-		final String whereClause = (String) parameters.get(IQueryBuilder.FORM_UPDATE_BIND_QUERY_WHERE_CLAUSE_PARAMETER);
+		final String tableName = (String) parameters.get(IQueryBuilder.FORM_UPSERT_BIND_QUERY_TABLE_NAME_PARAMETER);
+		final Iterator<String> columnNames = (Iterator<String>) parameters.get(IQueryBuilder.FORM_UPSERT_BIND_QUERY_COLUMN_NAMES_PARAMETER);
+		final Iterator<String> primaryKeys = (Iterator<String>) parameters.get(IQueryBuilder.FORM_UPSERT_BIND_QUERY_PRIMARY_KEYS_PARAMETER);
 		
+		InsertSpec insertSpec = new InsertSpec(tableName, SelectSpec.toArray(columnNames));
+		insertSpec.setPrimaryKeys(SelectSpec.toArray(primaryKeys));
+		
+		return formUpsertBindQuery(insertSpec);
+	}
+	
+	/**
+	 * SQLite older than 3.24 has no ON CONFLICT clause, so NULL is returned and tuple is upserted through update and insert bind queries instead.
+	 * INSERT OR REPLACE is not used, as it deletes existing tuple before inserting it again, which applies ON DELETE actions of foreign keys referring to it.
+	 */
+	public String formUpsertBindQuery(final InsertSpec insertSpec) {
+		
+		final String[] columns = insertSpec.getColumnNames();
+		final List<String> keys = Arrays.asList(insertSpec.getPrimaryKeys());
+		
+		if(keys.isEmpty()) {
+			return formSaveBindQuery(insertSpec);
+		} else if(Build.VERSION.SDK_INT < UPSERT_SDK_VERSION) {
+			return null;
+		}
 		
 		StringBuilder query = new StringBuilder();
-			query.append("UPDATE " + tableName + " SET ");
+			query.append("INSERT INTO " + insertSpec.getTableName() + "(");
+			query.append(join(columns));
+			query.append(") VALUES(");
+			appendPlaceholders(query, columns.length);
+			query.append(")");
+			
+			query.append(" ON CONFLICT(");
+			query.append(join(insertSpec.getPrimaryKeys()));
+			query.append(") DO ");
 			
 			int index = 0;
-			while(columnNames.hasNext()) {
+			for(int i = 0;i < columns.length;i++) {
+				String column = columns[i];
+				if(keys.contains(column)) {
+					continue;
+				}
+				
 				if(index == 0) {
-					query.append(columnNames.next() + "= ?");
+					query.append("UPDATE SET " + column + "= excluded." + column);
 				} else {
-					query.append(", " + columnNames.next() + "= ?");
+					query.append(", " + column + "= excluded." + column);
 				}
 				
 				index++;
 			}
-	
-			if(whereClause != null && whereClause.length() > 0) {
-				query.append(" WHERE " + whereClause);
+			
+			if(index == 0) {
+				query.append("NOTHING");
 			}
 			
 		return query.toString();
 	}
 
-	
-	public String formDeleteQuery(final Map<String, Object> parameters) {
-		
-		final String tableName = (String) parameters.get(IQueryBuilder.FORM_DELETE_QUERY_TABLE_NAME_PARAMETER);
-		final String whereClause = (String) parameters.get(IQueryBuilder.FORM_DELETE_QUERY_WHERE_CLAUSE_PARAMETER);
+	public String formUpsertUpdateBindQuery(final InsertSpec insertSpec) {
 		
+		final String[] columns = insertSpec.getColumnNames();
+		final List<String> keys = Arrays.asList(insertSpec.getPrimaryKeys());
 		
 		StringBuilder query = new StringBuilder();
-			query.append("DELETE FROM " + tableName);
+			query.append("UPDATE " + insertSpec.getTableName() + " SET ");
 			
-			if(whereClause != null && whereClause.length() > 0) {
-				query.append(" WHERE " + whereClause);
+			int index = 0;
+			for(int i = 0;i < columns.length;i++) {
+				if(keys.contains(columns[i])) {
+					continue;
+				}
+				
+				if(index > 0) {
+					query.append(", ");
+				}
+				
+				query.append(columns[i] + "= ?" + (i + 1));
+				index++;
+			}
+			
+			/*
+			 * Every column is part of primary key, so key is set to itself and statement only matches tuple.
+			 */
+			if(index == 0) {
+				int key = Arrays.asList(columns).indexOf(keys.get(0));
+				query.append(columns[key] + "= ?" + (key + 1));
 			}
 			
+			query.append(" WHERE ");
+			appendKeyCondition(query, columns, keys);
+			
 		return query.toString();
 	}
 
-	
-	@SuppressWarnings("unchecked")
-	public String formCountQuery(final Map<String, Object> parameters) {
-		
-		final String tableName = (String) parameters.get(IQueryBuilder.FORM_COUNT_QUERY_TABLE_NAME_PARAMETER);
-		final String column = (String) parameters.get(IQueryBuilder.FORM_COUNT_QUERY_COLUMN_PARAMETER);
-		final boolean distinct = (Boolean) parameters.get(IQueryBuilder.FORM_COUNT_QUERY_DISTINCT_PARAMETER);
-		final String whereClause = (String) parameters.get(IQueryBuilder.FORM_COUNT_QUERY_WHERE_CLAUSE_PARAMETER);
-		final Iterator<String> groupBys = (Iterator<String>) parameters.get(IQueryBuilder.FORM_COUNT_QUERY_GROUP_BYS_PARAMETER);
-		final String having = (String) parameters.get(IQueryBuilder.FORM_COUNT_QUERY_HAVING_PARAMETER);
+	public String formUpsertInsertBindQuery(final InsertSpec insertSpec) {
 		
+		final String tableName = insertSpec.getTableName();
+		final String[] columns = insertSpec.getColumnNames();
 		
 		StringBuilder query = new StringBuilder();
-			if(column != null && column.length() > 0) {
-				if(distinct) {
-					query.append("SELECT COUNT(DISTINCT " + column + " ) FROM " + tableName);					
-				} else {
-					query.append("SELECT COUNT(" + column + ") FROM " + tableName);
-				}
-			} else {
-				query.append("SELECT COUNT(*) FROM " + tableName);
-			}
-		
-			if(whereClause != null && whereClause.length() > 0) {
-				query.append(" " + " WHERE " + whereClause);
-			}
-
-			StringBuilder groupBysBuilder = new StringBuilder();
+			query.append("INSERT INTO " + tableName + "(");
+			query.append(join(columns));
+			query.append(") SELECT ");
 			
-			int index = 0;
-			if(groupBys != null) {
-				while(groupBys.hasNext()) {
-					if(index == 0) {
-						groupBysBuilder.append(groupBys.next());
-					} else {
-						groupBysBuilder.append(", " + groupBys.next());
-					}
-					
-					index++;
+			for(int i = 0;i < columns.length;i++) {
+				if(i > 0) {
+					query.append(", ");
 				}
+				
+				query.append("?" + (i + 1));
 			}
-
-	        appendClause(query, " GROUP BY ", groupBysBuilder.toString());
-	        appendClause(query, " HAVING ", having);
+			
+			query.append(" WHERE NOT EXISTS (SELECT 1 FROM " + tableName + " WHERE ");
+			appendKeyCondition(query, columns, Arrays.asList(insertSpec.getPrimaryKeys()));
+			query.append(")");
 			
 		return query.toString();
 	}
 
-	
-	@SuppressWarnings("unchecked")
-	public String formAvgQuery(final Map<String, Object> parameters) {
-
-		final String tableName = (String) parameters.get(IQueryBuilder.FORM_AVG_QUERY_TABLE_NAME_PARAMETER);
-		final String column = (String) parameters.get(IQueryBuilder.FORM_AVG_QUERY_COLUMN_PARAMETER);
-		final String whereClause = (String) parameters.get(IQueryBuilder.FORM_AVG_QUERY_WHERE_CLAUSE_PARAMETER);
-		final Iterator<String> groupBys = (Iterator<String>) parameters.get(IQueryBuilder.FORM_AVG_QUERY_GROUP_BYS_PARAMETER);
-		final String having = (String) parameters.get(IQueryBuilder.FORM_AVG_QUERY_HAVING_PARAMETER);
+	/**
+	 * Append condition matching primary key columns to their numbered placeholders, so values are bound once in order of column names.
+	 */
+	private static void appendKeyCondition(final StringBuilder query, final String[] columns, final List<String> keys) {
 		
-		
-		StringBuilder query = new StringBuilder();
-			query.append("SELECT AVG(" + column + ")" + " FROM " + tableName);
-			
-			if(whereClause != null && whereClause.length() > 0) {
-				query.append(" " + " WHERE " + whereClause);
+		int index = 0;
+		for(int i = 0;i < columns.length;i++) {
+			if(!keys.contains(columns[i])) {
+				continue;
 			}
-
-			StringBuilder groupBysBuilder = new StringBuilder();
 			
-			int index = 0;
-			if(groupBys != null) {
-				while(groupBys.hasNext()) {
-					if(index == 0) {
-						groupBysBuilder.append(groupBys.next());
-					} else {
-						groupBysBuilder.append(", " + groupBys.next());
-					}
-					
-					index++;
-				}
+			if(index > 0) {
+				query.append(" AND ");
 			}
-
-	        appendClause(query, " GROUP BY ", groupBysBuilder.toString());
-	        appendClause(query, " HAVING ", having);
 			
-		return query.toString();
+			query.append(columns[i] + "= ?" + (i + 1));
+			index++;
+		}
 	}
+
 	
 	@SuppressWarnings("unchecked")
-	public String formSumQuery(final Map<String, Object> parameters) {
+	public String formUpdateBindQuery(final Map<String, Object> parameters) {
 		
-		final String tableName = (String) parameters.get(IQueryBuilder.FORM_SUM_QUERY_TABLE_NAME_PARAMETER);
-		final String column = (String) parameters.get(IQueryBuilder.FORM_SUM_QUERY_COLUMN_PARAMETER);
-		final String whereClause = (String) parameters.get(IQueryBuilder.FORM_SUM_QUERY_WHERE_CLAUSE_PARAMETER);
-		final Iterator<String> groupBys = (Iterator<String>) parameters.get(IQueryBuilder.FORM_SUM_QUERY_GROUP_BYS_PARAMETER);
-		final String having = (String) parameters.get(IQueryBuilder.FORM_SUM_QUERY_HAVING_PARAMETER);
+		final String tableName = (String) parameters.get(IQueryBuilder.FORM_UPDATE_BIND_QUERY_TABLE_NAME_PARAMETER);
+		final Iterator<String> columnNames = (Iterator<String>) parameters.get(IQueryBuilder.FORM_UPDATE_BIND_QUERY_COLUMN_NAMES_PARAMETER);
+		final String whereClause = (String) parameters.get(IQueryBuilder.FORM_UPDATE_BIND_QUERY_WHERE_CLAUSE_PARAMETER);
+		
+		return formUpdateBindQuery(new UpdateSpec(tableName, SelectSpec.toArray(columnNames), whereClause));
+	}
 
+	public String formUpdateBindQuery(final UpdateSpec updateSpec) {
+		
+		final String[] columnNames = updateSpec.getColumnNames();
+		final String whereClause = updateSpec.getWhereClause();
 		
 		StringBuilder query = new StringBuilder();
-			query.append("SELECT SUM(" + column + ")" + " FROM " + tableName);
-			
-			
-			if(whereClause != null && whereClause.length() > 0) {
-				query.append(" " + " WHERE " + whereClause);
-			}
-
-			StringBuilder groupBysBuilder = new StringBuilder();
+			query.append("UPDATE " + updateSpec.getTableName() + " SET ");
 			
-			int index = 0;
-			if(groupBys != null) {
-				while(groupBys.hasNext()) {
-					if(index == 0) {
-						groupBysBuilder.append(groupBys.next());
-					} else {
-						groupBysBuilder.append(", " + groupBys.next());
-					}
-					
-					index++;
+			for(int i = 0;i < columnNames.length;i++) {
+				if(i == 0) {
+					query.append(columnNames[i] + "= ?");
+				} else {
+					query.append(", " + columnNames[i] + "= ?");
 				}
 			}
-
-	        appendClause(query, " GROUP BY ", groupBysBuilder.toString());
-	        appendClause(query, " HAVING ", having);
+	
+			if(whereClause != null && whereClause.length() > 0) {
+				query.append(" WHERE " + whereClause);
+			}
 			
 		return query.toString();
 	}
-	
 
-	@SuppressWarnings("unchecked")
-	public String formTotalQuery(final Map<String, Object> parameters) {
+	
+	public String formDeleteQuery(final Map<String, Object> parameters) {
+		
+		final String tableName = (String) parameters.get(IQueryBuilder.FORM_DELETE_QUERY_TABLE_NAME_PARAMETER);
+		final String whereClause = (String) parameters.get(IQueryBuilder.FORM_DELETE_QUERY_WHERE_CLAUSE_PARAMETER);
+		
+		return formDeleteQuery(new DeleteSpec(tableName, whereClause));
+	}
 
-		final String tableName = (String) parameters.get(IQueryBuilder.FORM_TOTAL_QUERY_TABLE_NAME_PARAMETER);
-		final String column = (String) parameters.get(IQueryBuilder.FORM_TOTAL_QUERY_COLUMN_PARAMETER);
-		final String whereClause = (String) parameters.get(IQueryBuilder.FORM_TOTAL_QUERY_WHERE_CLAUSE_PARAMETER);
-		final Iterator<String> groupBys = (Iterator<String>) parameters.get(IQueryBuilder.FORM_TOTAL_QUERY_GROUP_BYS_PARAMETER);
-		final String having = (String) parameters.get(IQueryBuilder.FORM_TOTAL_QUERY_HAVING_PARAMETER);
+	public String formDeleteQuery(final DeleteSpec deleteSpec) {
 		
+		final String whereClause = deleteSpec.getWhereClause();
 		
 		StringBuilder query = new StringBuilder();
-			query.append("SELECT TOTAL(" + column + ")" + " FROM " + tableName);
-			
+			query.append("DELETE FROM " + deleteSpec.getTableName());
 			
 			if(whereClause != null && whereClause.length() > 0) {
-				query.append(" " + " WHERE " + whereClause);
-			}
-
-			StringBuilder groupBysBuilder = new StringBuilder();
-			
-			int index = 0;
-			if(groupBys != null) {
-				while(groupBys.hasNext()) {
-					if(index == 0) {
-						groupBysBuilder.append(groupBys.next());
-					} else {
-						groupBysBuilder.append(", " + groupBys.next());
-					}
-					
-					index++;
-				}
+				query.append(" WHERE " + whereClause);
 			}
-
-	        appendClause(query, " GROUP BY ", groupBysBuilder.toString());
-	        appendClause(query, " HAVING ", having);
 			
 		return query.toString();
 	}
 
-	@SuppressWarnings("unchecked")
-	public String formMaxQuery(final Map<String, Object> parameters) {
+	
+	public String formAggregateQuery(final AggregateSpec aggregateSpec) {
 		
-		final String tableName = (String) parameters.get(IQueryBuilder.FORM_MAX_QUERY_TABLE_NAME_PARAMETER);
-		final String column = (String) parameters.get(IQueryBuilder.FORM_MAX_QUERY_COLUMN_PARAMETER);
-		final String whereClause = (String) parameters.get(IQueryBuilder.FORM_MAX_QUERY_WHERE_CLAUSE_PARAMETER);
-		final Iterator<String> groupBys = (Iterator<String>) parameters.get(IQueryBuilder.FORM_MAX_QUERY_GROUP_BYS_PARAMETER);
-		final String having = (String) parameters.get(IQueryBuilder.FORM_MAX_QUERY_HAVING_PARAMETER);
-
+		final Function function = aggregateSpec.getFunction();
+		final String tableName = aggregateSpec.getTableName();
+		final String column = aggregateSpec.getColumn();
+		final String delimiter = aggregateSpec.getDelimiter();
 		
 		StringBuilder query = new StringBuilder();
-			query.append("SELECT MAX(" + column + ")" + " FROM " + tableName);
-			
-			
-			if(whereClause != null && whereClause.length() > 0) {
-				query.append(" " + " WHERE " + whereClause);
-			}
-
-			StringBuilder groupBysBuilder = new StringBuilder();
-			
-			int index = 0;
-			if(groupBys != null) {
-				while(groupBys.hasNext()) {
-					if(index == 0) {
-						groupBysBuilder.append(groupBys.next());
+			if(function == Function.COUNT) {
+				if(column != null && column.length() > 0) {
+					if(aggregateSpec.isDistinct()) {
+						query.append("SELECT COUNT(DISTINCT " + column + " ) FROM " + tableName);					
 					} else {
-						groupBysBuilder.append(", " + groupBys.next());
+						query.append("SELECT COUNT(" + column + ") FROM " + tableName);
 					}
-					
-					index++;
+				} else {
+					query.append("SELECT COUNT(*) FROM " + tableName);
 				}
+			} else if(function == Function.GROUP_CONCAT && delimiter != null && delimiter.length() > 0) {
+				query.append("SELECT GROUP_CONCAT(" + column + ", " + delimiter + ")" + " FROM " + tableName);
+			} else {
+				query.append("SELECT " + function.getName() + "(" + column + ")" + " FROM " + tableName);
 			}
-
-	        appendClause(query, " GROUP BY ", groupBysBuilder.toString());
-	        appendClause(query, " HAVING ", having);
+		
+	        appendClause(query, " WHERE ", aggregateSpec.getWhereClause());
+	        appendClause(query, " GROUP BY ", join(aggregateSpec.getGroupBys()));
+	        appendClause(query, " HAVING ", aggregateSpec.getHaving());
 			
 		return query.toString();
 	}
-
 	
 	@SuppressWarnings("unchecked")
-	public String formMinQuery(final Map<String, Object> parameters) {
+	private static AggregateSpec formAggregateSpec(final Function function, final Map<String, Object> parameters, final String tableNameParameter, final String columnParameter, final String whereClauseParameter, final String groupBysParameter, final String havingParameter) {
+		
+		AggregateSpec aggregateSpec = new AggregateSpec(function, (String) parameters.get(tableNameParameter), (String) parameters.get(columnParameter));
+		aggregateSpec.setWhereClause((String) parameters.get(whereClauseParameter));
+		aggregateSpec.setGroupBys(SelectSpec.toArray((Iterator<String>) parameters.get(groupBysParameter)));
+		aggregateSpec.setHaving((String) parameters.get(havingParameter));
 		
-		final String tableName = (String) parameters.get(IQueryBuilder.FORM_MIN_QUERY_TABLE_NAME_PARAMETER);
-		final String column = (String) parameters.get(IQueryBuilder.FORM_MIN_QUERY_COLUMN_PARAMETER);
-		final String whereClause = (String) parameters.get(IQueryBuilder.FORM_MIN_QUERY_WHERE_CLAUSE_PARAMETER);
-		final Iterator<String> groupBys = (Iterator<String>) parameters.get(IQueryBuilder.FORM_MIN_QUERY_GROUP_BYS_PARAMETER);
-		final String having = (String) parameters.get(IQueryBuilder.FORM_MIN_QUERY_HAVING_PARAMETER);
+		return aggregateSpec;
+	}
+
+	
+	public String formCountQuery(final Map<String, Object> parameters) {
 		
+		AggregateSpec aggregateSpec = formAggregateSpec(Function.COUNT, parameters, IQueryBuilder.FORM_COUNT_QUERY_TABLE_NAME_PARAMETER, IQueryBuilder.FORM_COUNT_QUERY_COLUMN_PARAMETER, IQueryBuilder.FORM_COUNT_QUERY_WHERE_CLAUSE_PARAMETER, IQueryBuilder.FORM_COUNT_QUERY_GROUP_BYS_PARAMETER, IQueryBuilder.FORM_COUNT_QUERY_HAVING_PARAMETER);
+		aggregateSpec.setDistinct((Boolean) parameters.get(IQueryBuilder.FORM_COUNT_QUERY_DISTINCT_PARAMETER));
 		
-		StringBuilder query = new StringBuilder();
-			query.append("SELECT MIN(" + column + ")" + " FROM " + tableName);
-			
-			
-			if(whereClause != null && whereClause.length() > 0) {
-				query.append(" " + " WHERE " + whereClause);
-			}
+		return formAggregateQuery(aggregateSpec);
+	}
 
-			StringBuilder groupBysBuilder = new StringBuilder();
-			
-			int index = 0;
-			if(groupBys != null) {
-				while(groupBys.hasNext()) {
-					if(index == 0) {
-						groupBysBuilder.append(groupBys.next());
-					} else {
-						groupBysBuilder.append(", " + groupBys.next());
-					}
-					
-					index++;
-				}
-			}
+	
+	public String formAvgQuery(final Map<String, Object> parameters) {
+		return formAggregateQuery(formAggregateSpec(Function.AVG, parameters, IQueryBuilder.FORM_AVG_QUERY_TABLE_NAME_PARAMETER, IQueryBuilder.FORM_AVG_QUERY_COLUMN_PARAMETER, IQueryBuilder.FORM_AVG_QUERY_WHERE_CLAUSE_PARAMETER, IQueryBuilder.FORM_AVG_QUERY_GROUP_BYS_PARAMETER, IQueryBuilder.FORM_AVG_QUERY_HAVING_PARAMETER));
+	}
+	
+	public String formSumQuery(final Map<String, Object> parameters) {
+		return formAggregateQuery(formAggregateSpec(Function.SUM, parameters, IQueryBuilder.FORM_SUM_QUERY_TABLE_NAME_PARAMETER, IQueryBuilder.FORM_SUM_QUERY_COLUMN_PARAMETER, IQueryBuilder.FORM_SUM_QUERY_WHERE_CLAUSE_PARAMETER, IQueryBuilder.FORM_SUM_QUERY_GROUP_BYS_PARAMETER, IQueryBuilder.FORM_SUM_QUERY_HAVING_PARAMETER));
+	}
+	
 
-	        appendClause(query, " GROUP BY ", groupBysBuilder.toString());
-	        appendClause(query, " HAVING ", having);
-			
-		return query.toString();
+	public String formTotalQuery(final Map<String, Object> parameters) {
+		return formAggregateQuery(formAggregateSpec(Function.TOTAL, parameters, IQueryBuilder.FORM_TOTAL_QUERY_TABLE_NAME_PARAMETER, IQueryBuilder.FORM_TOTAL_QUERY_COLUMN_PARAMETER, IQueryBuilder.FORM_TOTAL_QUERY_WHERE_CLAUSE_PARAMETER, IQueryBuilder.FORM_TOTAL_QUERY_GROUP_BYS_PARAMETER, IQueryBuilder.FORM_TOTAL_QUERY_HAVING_PARAMETER));
+	}
+
+	public String formMaxQuery(final Map<String, Object> parameters) {
+		return formAggregateQuery(formAggregateSpec(Function.MAX, parameters, IQueryBuilder.FORM_MAX_QUERY_TABLE_NAME_PARAMETER, IQueryBuilder.FORM_MAX_QUERY_COLUMN_PARAMETER, IQueryBuilder.FORM_MAX_QUERY_WHERE_CLAUSE_PARAMETER, IQueryBuilder.FORM_MAX_QUERY_GROUP_BYS_PARAMETER, IQueryBuilder.FORM_MAX_QUERY_HAVING_PARAMETER));
+	}
+
+	
+	public String formMinQuery(final Map<String, Object> parameters) {
+		return formAggregateQuery(formAggregateSpec(Function.MIN, parameters, IQueryBuilder.FORM_MIN_QUERY_TABLE_NAME_PARAMETER, IQueryBuilder.FORM_MIN_QUERY_COLUMN_PARAMETER, IQueryBuilder.FORM_MIN_QUERY_WHERE_CLAUSE_PARAMETER, IQueryBuilder.FORM_MIN_QUERY_GROUP_BYS_PARAMETER, IQueryBuilder.FORM_MIN_QUERY_HAVING_PARAMETER));
 	}
 
 	
-	@SuppressWarnings("unchecked")
 	public String formGroupConcatQuery(final Map<String, Object> parameters) {
 
-		final String tableName = (String) parameters.get(IQueryBuilder.FORM_GROUP_CONCAT_QUERY_TABLE_NAME_PARAMETER);
-		final String column = (String) parameters.get(IQueryBuilder.FORM_GROUP_CONCAT_QUERY_COLUMN_PARAMETER);
-		final String delimiter = (String) parameters.get(IQueryBuilder.FORM_GROUP_CONCAT_QUERY_DELIMITER_PARAMETER);
-		final String whereClause = (String) parameters.get(IQueryBuilder.FORM_GROUP_CONCAT_QUERY_WHERE_CLAUSE_PARAMETER);
-		final String having = (String) parameters.get(IQueryBuilder.FORM_GROUP_CONCAT_QUERY_HAVING_PARAMETER);
-		final Iterator<String> groupBys = (Iterator<String>) parameters.get(IQueryBuilder.FORM_GROUP_CONCAT_QUERY_GROUP_BYS_PARAMETER);
+		AggregateSpec aggregateSpec = formAggregateSpec(Function.GROUP_CONCAT, parameters, IQueryBuilder.FORM_GROUP_CONCAT_QUERY_TABLE_NAME_PARAMETER, IQueryBuilder.FORM_GROUP_CONCAT_QUERY_COLUMN_PARAMETER, IQueryBuilder.FORM_GROUP_CONCAT_QUERY_WHERE_CLAUSE_PARAMETER, IQueryBuilder.FORM_GROUP_CONCAT_QUERY_GROUP_BYS_PARAMETER, IQueryBuilder.FORM_GROUP_CONCAT_QUERY_HAVING_PARAMETER);
+		aggregateSpec.setDelimiter((String) parameters.get(IQueryBuilder.FORM_GROUP_CONCAT_QUERY_DELIMITER_PARAMETER));
 		
-		
-		StringBuilder query = new StringBuilder();
-			if(delimiter == null || delimiter.length() <= 0) {
-				query.append("SELECT GROUP_CONCAT(" + column + ")" + " FROM " + tableName);
-			} else {
-				query.append("SELECT GROUP_CONCAT(" + column + ", " + delimiter + ")" + " FROM " + tableName);
-			}
-		
-			if(whereClause != null && whereClause.length() > 0) {
-				query.append(" WHERE " + whereClause);
-			} 
-			
-			StringBuilder groupBysBuilder = new StringBuilder();
-			
-			int index = 0;
-			if(groupBys != null) {
-				while(groupBys.hasNext()) {
-					if(index == 0) {
-						groupBysBuilder.append(groupBys.next());
-					} else {
-						groupBysBuilder.append(", " + groupBys.next());
-					}
-					
-					index++;
-				}
-			}
-
-	        appendClause(query, " GROUP BY ", groupBysBuilder.toString());
-	        appendClause(query, " HAVING ", having);
+		return formAggregateQuery(aggregateSpec);
+	}
 
-		return query.toString();
+	
+	public String formSavepointQuery(final String savepointName) {
+		return "SAVEPOINT " + savepointName;
+	}
+	
+	public String formReleaseSavepointQuery(final String savepointName) {
+		return "RELEASE SAVEPOINT " + savepointName;
+	}
+	
+	/**
+	 * Query starts with ; as Android 4.1 to 8.1 takes any statement starting with ROL as ROLLBACK, and ends whole transaction instead of only undoing savepoint.
+	 */
+	public String formRollbackToSavepointQuery(final String savepointName) {
+		return ";ROLLBACK TO SAVEPOINT " + savepointName;
 	}
 
 
@@ -28,7 +28,10 @@ import siminov.core.utils.ClassUtils;
  */
 public class EventHandler {
 
-	private static EventHandler eventHandler = null;
+	/*
+	 * Event handlers are created from application descriptor, so instance can only be created once it is read, and not by class loader.
+	 */
+	private static volatile EventHandler eventHandler = null;
 	
 	private ISiminovEvents coreEventHandler = null;
 	private IDatabaseEvents databaseEventHandler = null;
@@ -58,11 +61,18 @@ public class EventHandler {
 	 * @return EventHandler Singleton instance of Event Handler
 	 */
 	public static EventHandler getInstance() {
-		if(eventHandler == null) {
-			eventHandler = new EventHandler();
+		EventHandler instance = eventHandler;
+		if(instance != null) {
+			return instance;
 		}
 		
-		return eventHandler;
+		synchronized(EventHandler.class) {
+			if(eventHandler == null) {
+				eventHandler = new EventHandler();
+			}
+			
+			return eventHandler;
+		}
 	}
 
 	/**
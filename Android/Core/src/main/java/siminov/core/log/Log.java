@@ -90,7 +90,10 @@ public abstract class Log {
 		return "Class Name: " + className + ", Method Name: " + methodName + ", Message: " + message;
 	}
 	
+	/*
+	 * Build fields are null outside of a device, as in JVM unit tests.
+	 */
 	private static boolean isEmulator() {
-		return Build.BRAND.startsWith("generic") && Build.DEVICE.startsWith("generic");
+		return Build.BRAND != null && Build.BRAND.startsWith("generic") && Build.DEVICE != null && Build.DEVICE.startsWith("generic");
 	}
 }
@@ -61,6 +61,30 @@ Example:
 		<!-- Optional Field (Default is false) -->
 		<property name="external_storage">true/false</property>
 
+		<!-- Optional Field (Default is 0, results are not cached) -->
+		<!-- Maximum number of select and aggregate results to be cached -->
+		<property name="query_cache_size">number_of_results</property>
+
+		<!-- Optional Field (Default is 0, results do not expire) -->
+		<!-- Time in milliseconds for which cached result is served -->
+		<property name="query_cache_ttl">time_in_milliseconds</property>
+
+		<!-- Optional Field (Default is false) -->
+		<!-- Record hit, miss, eviction and invalidation counts of query cache -->
+		<property name="query_cache_metrics">true/false</property>
+
+		<!-- Optional Field (Default is false) -->
+		<!-- Open database in write-ahead-log mode, so reads do not wait for writes -->
+		<property name="write_ahead_logging">true/false</property>
+
+		<!-- Optional Field (Default is 0, reads share connection of writes) -->
+		<!-- Number of selects run concurrently, only used along with write_ahead_logging -->
+		<property name="reader_pool_size">number_of_connections</property>
+
+		<!-- Optional Field (Default is 64) -->
+		<!-- Number of asynchronous operations which can be pending on database, callers submitting more wait till one completes -->
+		<property name="async_queue_size">number_of_operations</property>
+
 
 
 		<!-- Entity Descriptor Paths Needed Under This Database Descriptor -->
@@ -80,6 +104,8 @@ Example:
 */
 public class DatabaseDescriptor implements IDescriptor {
 	
+	private static final int DEFAULT_ASYNC_QUEUE_SIZE = 64;
+	
 	protected Map<String, String> properties = new HashMap<String, String> ();
 	
 	protected Collection<String> entityDescriptorPaths = new ConcurrentLinkedQueue<String> ();
@@ -209,6 +235,148 @@ public class DatabaseDescriptor implements IDescriptor {
 	}
 	
 	
+	/**
+	 * Get maximum number of select and aggregate results to be cached, as per defined in DatabaseDescriptor.xml file.
+	 * @return Maximum number of results, 0 if results are not cached.
+	 */
+	public int getQueryCacheSize() {
+		
+		String queryCacheSize = this.properties.get(Constants.DATABASE_DESCRIPTOR_QUERY_CACHE_SIZE);
+		if(queryCacheSize == null || queryCacheSize.length() <= 0) {
+			return 0;
+		}
+		
+		try {
+			return Math.max(0, Integer.parseInt(queryCacheSize.trim()));
+		} catch(NumberFormatException numberFormatException) {
+			return 0;
+		}
+	}
+	
+	/**
+	 * Set maximum number of select and aggregate results to be cached.
+	 * @param queryCacheSize Maximum number of results, 0 to not cache results.
+	 */
+	public void setQueryCacheSize(final int queryCacheSize) {
+		this.properties.put(Constants.DATABASE_DESCRIPTOR_QUERY_CACHE_SIZE, Integer.toString(queryCacheSize));
+	}
+	
+	/**
+	 * Get time in milliseconds for which cached result is served, as per defined in DatabaseDescriptor.xml file.
+	 * @return Time to live, 0 if results do not expire.
+	 */
+	public long getQueryCacheTtl() {
+		
+		String queryCacheTtl = this.properties.get(Constants.DATABASE_DESCRIPTOR_QUERY_CACHE_TTL);
+		if(queryCacheTtl == null || queryCacheTtl.length() <= 0) {
+			return 0;
+		}
+		
+		try {
+			return Math.max(0, Long.parseLong(queryCacheTtl.trim()));
+		} catch(NumberFormatException numberFormatException) {
+			return 0;
+		}
+	}
+	
+	/**
+	 * Set time in milliseconds for which cached result is served.
+	 * @param queryCacheTtl Time to live, 0 if results do not expire.
+	 */
+	public void setQueryCacheTtl(final long queryCacheTtl) {
+		this.properties.put(Constants.DATABASE_DESCRIPTOR_QUERY_CACHE_TTL, Long.toString(queryCacheTtl));
+	}
+	
+	/**
+	 * Check whether hit, miss, eviction and invalidation counts of query cache are recorded.
+	 * @return TRUE: If query_cache_metrics defined as true in DatabaseDescriptor.xml file, FALSE: If it is not defined or defined as false.
+	 */
+	public boolean isQueryCacheMetricsEnable() {
+		
+		String queryCacheMetrics = this.properties.get(Constants.DATABASE_DESCRIPTOR_QUERY_CACHE_METRICS);
+		return queryCacheMetrics != null && queryCacheMetrics.equalsIgnoreCase("true");
+	}
+	
+	/**
+	 * Set whether hit, miss, eviction and invalidation counts of query cache are recorded.
+	 * @param queryCacheMetricsEnable (true/false) Query cache metrics enable or not.
+	 */
+	public void setQueryCacheMetricsEnable(final boolean queryCacheMetricsEnable) {
+		this.properties.put(Constants.DATABASE_DESCRIPTOR_QUERY_CACHE_METRICS, Boolean.toString(queryCacheMetricsEnable));
+	}
+	
+	/**
+	 * Check whether database is opened in write-ahead-log mode.
+	 * @return TRUE: If write_ahead_logging defined as true in DatabaseDescriptor.xml file, FALSE: If it is not defined or defined as false.
+	 */
+	public boolean isWriteAheadLoggingEnable() {
+		
+		String writeAheadLogging = this.properties.get(Constants.DATABASE_DESCRIPTOR_WRITE_AHEAD_LOGGING);
+		return writeAheadLogging != null && writeAheadLogging.equalsIgnoreCase("true");
+	}
+	
+	/**
+	 * Set whether database is opened in write-ahead-log mode.
+	 * @param writeAheadLoggingEnable (true/false) Write ahead logging enable or not.
+	 */
+	public void setWriteAheadLoggingEnable(final boolean writeAheadLoggingEnable) {
+		this.properties.put(Constants.DATABASE_DESCRIPTOR_WRITE_AHEAD_LOGGING, Boolean.toString(writeAheadLoggingEnable));
+	}
+	
+	/**
+	 * Get number of selects run concurrently in write-ahead-log mode, as per defined in DatabaseDescriptor.xml file.
+	 * It sizes reader threads of asynchronous selects; read connections themselves are pooled by Android.
+	 * @return Number of concurrent selects, 0 if selects run one at a time.
+	 */
+	public int getReaderPoolSize() {
+		
+		String readerPoolSize = this.properties.get(Constants.DATABASE_DESCRIPTOR_READER_POOL_SIZE);
+		if(readerPoolSize == null || readerPoolSize.length() <= 0) {
+			return 0;
+		}
+		
+		try {
+			return Math.max(0, Integer.parseInt(readerPoolSize.trim()));
+		} catch(NumberFormatException numberFormatException) {
+			return 0;
+		}
+	}
+	
+	/**
+	 * Set number of selects run concurrently in write-ahead-log mode.
+	 * @param readerPoolSize Number of concurrent selects, 0 to run them one at a time.
+	 */
+	public void setReaderPoolSize(final int readerPoolSize) {
+		this.properties.put(Constants.DATABASE_DESCRIPTOR_READER_POOL_SIZE, Integer.toString(readerPoolSize));
+	}
+	
+	/**
+	 * Get number of asynchronous operations which can be pending on database, as per defined in DatabaseDescriptor.xml file.
+	 * @return Number of pending operations, 64 if not defined.
+	 */
+	public int getAsyncQueueSize() {
+		
+		String asyncQueueSize = this.properties.get(Constants.DATABASE_DESCRIPTOR_ASYNC_QUEUE_SIZE);
+		if(asyncQueueSize == null || asyncQueueSize.length() <= 0) {
+			return DEFAULT_ASYNC_QUEUE_SIZE;
+		}
+		
+		try {
+			return Math.max(1, Integer.parseInt(asyncQueueSize.trim()));
+		} catch(NumberFormatException numberFormatException) {
+			return DEFAULT_ASYNC_QUEUE_SIZE;
+		}
+	}
+	
+	/**
+	 * Set number of asynchronous operations which can be pending on database.
+	 * @param asyncQueueSize Number of pending operations.
+	 */
+	public void setAsyncQueueSize(final int asyncQueueSize) {
+		this.properties.put(Constants.DATABASE_DESCRIPTOR_ASYNC_QUEUE_SIZE, Integer.toString(asyncQueueSize));
+	}
+	
+	
 	/**
 	 * Get all Properties defined in descriptor.
 	 * @return All Property Values.
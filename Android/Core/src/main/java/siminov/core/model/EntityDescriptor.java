@@ -17,15 +17,21 @@
 
 package siminov.core.model;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 
 import siminov.core.Constants;
+import siminov.core.database.design.IEntityMapper;
+import siminov.core.utils.ClassUtils;
 import siminov.core.utils.EmptyIterator;
 
 
@@ -53,6 +59,26 @@ Example:
 		<!-- MAPPED CLASS NAME -->
 		<property name="class_name">mapped_class_name</property>
 
+		<!-- Optional Field (Default Is false) -->
+		<!-- TRACK CHANGES: Keep column values of loaded objects, so update writes only changed columns -->
+		<property name="track_changes">true/false</property>
+
+		<!-- Optional Field -->
+		<!-- CACHE: Keep up to N tuples in process wide cache, based on primary key, evicting least recently used -->
+		<property name="cache">lru:N</property>
+
+		<!-- Optional Field (Default Is false) -->
+		<!-- WRITE BEHIND: Buffer save, saveOrUpdate and delete of objects, and write them in batches from background, coalescing writes of same primary key -->
+		<property name="write_behind">true/false</property>
+
+		<!-- Optional Field (Default Is 1000) -->
+		<!-- WRITE BEHIND INTERVAL: Milliseconds after which buffered writes are written -->
+		<property name="write_behind_interval">milliseconds</property>
+
+		<!-- Optional Field (Default Is 500) -->
+		<!-- WRITE BEHIND BATCH SIZE: Number of buffered writes after which they are written without waiting for interval -->
+		<property name="write_behind_batch_size">number_of_writes</property>
+
 
 		<!-- Optional Field -->
 		<attributes>
@@ -160,6 +186,9 @@ Example:
  */
 public class EntityDescriptor implements IDescriptor {
 
+	private static final long DEFAULT_WRITE_BEHIND_INTERVAL = 1000;
+	private static final int DEFAULT_WRITE_BEHIND_BATCH_SIZE = 500;
+
 	private Map<String, String> properties = new HashMap<String, String> ();
 	
 	protected Map<String, Attribute> attributeBasedOnColumnNames = new LinkedHashMap<String, Attribute>();
@@ -170,6 +199,11 @@ public class EntityDescriptor implements IDescriptor {
 	protected Map<String, Relationship> relationshipsBasedOnRefer = new LinkedHashMap<String, Relationship>(); 
 	protected Map<String, Relationship> relationshipsBasedOnReferTo = new LinkedHashMap<String, Relationship>();
 	
+	private Class<?> classObject = null;
+	private IEntityMapper<Object> entityMapper = null;
+	
+	private volatile Plan plan = null;
+	
 	
 	/**
 	 * Get table name.
@@ -201,6 +235,215 @@ public class EntityDescriptor implements IDescriptor {
 	 */
 	public void setClassName(final String className) {
 		this.properties.put(Constants.ENTITY_DESCRIPTOR_CLASS_NAME, className);
+		this.classObject = null;
+	}
+
+	/**
+	 * Check whether changes of loaded objects are tracked, so update writes only changed columns.
+	 * @return TRUE: If changes are tracked, FALSE: If changes are not tracked.
+	 */
+	public boolean isTrackChanges() {
+		return Boolean.parseBoolean(this.properties.get(Constants.ENTITY_DESCRIPTOR_TRACK_CHANGES));
+	}
+	
+	/**
+	 * Set whether changes of loaded objects are tracked, as per defined in EntityDescriptor.xml file.
+	 * @param trackChanges TRUE: If changes are tracked, FALSE: If changes are not tracked.
+	 */
+	public void setTrackChanges(final boolean trackChanges) {
+		this.properties.put(Constants.ENTITY_DESCRIPTOR_TRACK_CHANGES, Boolean.toString(trackChanges));
+	}
+	
+	/**
+	 * Get maximum number of tuples to be kept in entity cache, as per defined by cache property (lru:N).
+	 * @return Maximum number of tuples, 0 if entity is not cached.
+	 */
+	public int getCacheSize() {
+		
+		String cache = this.properties.get(Constants.ENTITY_DESCRIPTOR_CACHE);
+		if(cache == null || !cache.toLowerCase().startsWith(Constants.ENTITY_DESCRIPTOR_CACHE_LRU)) {
+			return 0;
+		}
+		
+		try {
+			return Math.max(0, Integer.parseInt(cache.substring(Constants.ENTITY_DESCRIPTOR_CACHE_LRU.length()).trim()));
+		} catch(NumberFormatException numberFormatException) {
+			return 0;
+		}
+	}
+	
+	/**
+	 * Set maximum number of tuples to be kept in entity cache.
+	 * @param cacheSize Maximum number of tuples, 0 to not cache entity.
+	 */
+	public void setCacheSize(final int cacheSize) {
+		this.properties.put(Constants.ENTITY_DESCRIPTOR_CACHE, Constants.ENTITY_DESCRIPTOR_CACHE_LRU + cacheSize);
+	}
+	
+	/**
+	 * Check whether writes of objects are buffered and written in batches from background.
+	 * @return TRUE: If writes are buffered, FALSE: If writes are executed immediately.
+	 */
+	public boolean isWriteBehind() {
+		return Boolean.parseBoolean(this.properties.get(Constants.ENTITY_DESCRIPTOR_WRITE_BEHIND));
+	}
+	
+	/**
+	 * Set whether writes of objects are buffered and written in batches from background, as per defined in EntityDescriptor.xml file.
+	 * @param writeBehind TRUE: If writes are buffered, FALSE: If writes are executed immediately.
+	 */
+	public void setWriteBehind(final boolean writeBehind) {
+		this.properties.put(Constants.ENTITY_DESCRIPTOR_WRITE_BEHIND, Boolean.toString(writeBehind));
+	}
+	
+	/**
+	 * Get milliseconds after which buffered writes are written, as per defined by write_behind_interval property.
+	 * @return Interval in milliseconds, 1000 if not defined or not a positive number.
+	 */
+	public long getWriteBehindInterval() {
+		
+		String writeBehindInterval = this.properties.get(Constants.ENTITY_DESCRIPTOR_WRITE_BEHIND_INTERVAL);
+		if(writeBehindInterval == null || writeBehindInterval.length() <= 0) {
+			return DEFAULT_WRITE_BEHIND_INTERVAL;
+		}
+		
+		try {
+			long interval = Long.parseLong(writeBehindInterval.trim());
+			return interval > 0 ? interval : DEFAULT_WRITE_BEHIND_INTERVAL;
+		} catch(NumberFormatException numberFormatException) {
+			return DEFAULT_WRITE_BEHIND_INTERVAL;
+		}
+	}
+	
+	/**
+	 * Set milliseconds after which buffered writes are written.
+	 * @param writeBehindInterval Interval in milliseconds.
+	 */
+	public void setWriteBehindInterval(final long writeBehindInterval) {
+		this.properties.put(Constants.ENTITY_DESCRIPTOR_WRITE_BEHIND_INTERVAL, Long.toString(writeBehindInterval));
+	}
+	
+	/**
+	 * Get number of buffered writes after which they are written without waiting for interval, as per defined by write_behind_batch_size property.
+	 * @return Batch size, 500 if not defined or not a positive number.
+	 */
+	public int getWriteBehindBatchSize() {
+		
+		String writeBehindBatchSize = this.properties.get(Constants.ENTITY_DESCRIPTOR_WRITE_BEHIND_BATCH_SIZE);
+		if(writeBehindBatchSize == null || writeBehindBatchSize.length() <= 0) {
+			return DEFAULT_WRITE_BEHIND_BATCH_SIZE;
+		}
+		
+		try {
+			int batchSize = Integer.parseInt(writeBehindBatchSize.trim());
+			return batchSize > 0 ? batchSize : DEFAULT_WRITE_BEHIND_BATCH_SIZE;
+		} catch(NumberFormatException numberFormatException) {
+			return DEFAULT_WRITE_BEHIND_BATCH_SIZE;
+		}
+	}
+	
+	/**
+	 * Set number of buffered writes after which they are written without waiting for interval.
+	 * @param writeBehindBatchSize Batch size.
+	 */
+	public void setWriteBehindBatchSize(final int writeBehindBatchSize) {
+		this.properties.put(Constants.ENTITY_DESCRIPTOR_WRITE_BEHIND_BATCH_SIZE, Integer.toString(writeBehindBatchSize));
+	}
+	
+	/**
+	 * Get mapped class. It is loaded once and cached for further use.
+	 * @return Mapped class.
+	 */
+	public Class<?> getClassObject() {
+		
+		if(this.classObject == null) {
+			this.classObject = ClassUtils.createClass(getClassName());
+		}
+		
+		return this.classObject;
+	}
+	
+	/**
+	 * Get entity mapper generated for mapped class.
+	 * @return Entity mapper, NULL if no entity mapper is generated for mapped class.
+	 */
+	public IEntityMapper<Object> getEntityMapper() {
+		return this.entityMapper;
+	}
+	
+	/**
+	 * Set entity mapper for mapped class.
+	 * @param entityMapper Entity mapper.
+	 */
+	public void setEntityMapper(final IEntityMapper<Object> entityMapper) {
+		this.entityMapper = entityMapper;
+	}
+	
+	/**
+	 * Find entity mapper generated at build time for mapped class, and cache it.
+	 * <p>
+	 * Entity mapper is optional, if it is not found SIMINOV uses reflection.
+	 */
+	@SuppressWarnings("unchecked")
+	public void resolveEntityMapper() {
+		
+		Class<?> entityMapperClass = ClassUtils.findClass(getClassName() + IEntityMapper.ENTITY_MAPPER_CLASS_NAME_SUFFIX);
+		if(entityMapperClass == null || !IEntityMapper.class.isAssignableFrom(entityMapperClass)) {
+			this.entityMapper = null;
+			return;
+		}
+		
+		this.entityMapper = (IEntityMapper<Object>) ClassUtils.createClassInstance(entityMapperClass);
+	}
+	
+	/**
+	 * Resolve getter and setter methods of all attributes and relationships against mapped class, and cache them.
+	 * <p>
+	 * It is called once when entity descriptor is loaded, so that database operations do not have to resolve methods through reflection again.
+	 */
+	public void resolveAccessorMethods() {
+		
+		Class<?> classObject = getClassObject();
+		
+		Iterator<Attribute> attributes = this.attributeBasedOnVariableNames.values().iterator();
+		while(attributes.hasNext()) {
+			Attribute attribute = attributes.next();
+			
+			attribute.setGetterMethod(ClassUtils.findGetterMethod(classObject, attribute.getGetterMethodName()));
+			attribute.setSetterMethod(ClassUtils.findSetterMethod(classObject, attribute.getSetterMethodName()));
+		}
+		
+		Iterator<Relationship> relationships = this.relationshipsBasedOnRefer.values().iterator();
+		while(relationships.hasNext()) {
+			Relationship relationship = relationships.next();
+			
+			relationship.setGetterReferMethod(ClassUtils.findGetterMethod(classObject, relationship.getGetterReferMethodName()));
+			relationship.setSetterReferMethod(ClassUtils.findSetterMethod(classObject, relationship.getSetterReferMethodName()));
+		}
+	}
+	
+	/**
+	 * Compile plan of attributes and relationships.
+	 * <p>
+	 * It is called once when entity descriptor is loaded, and plan is compiled again on first use after attributes or relationships are changed.
+	 */
+	public void compilePlan() {
+		this.plan = new Plan(this);
+	}
+	
+	/**
+	 * Get compiled plan of attributes and relationships, compiling it if it is not compiled yet.
+	 * @return Plan.
+	 */
+	public Plan getPlan() {
+		
+		Plan plan = this.plan;
+		if(plan == null) {
+			plan = new Plan(this);
+			this.plan = plan;
+		}
+		
+		return plan;
 	}
 
 	/**
@@ -262,6 +505,8 @@ public class EntityDescriptor implements IDescriptor {
 	public void addAttribute(final Attribute attribute) {
 		this.attributeBasedOnVariableNames.put(attribute.getVariableName(), attribute);
 		this.attributeBasedOnColumnNames.put(attribute.getColumnName(), attribute);
+		
+		this.plan = null;
 	}
 	
 	/**
@@ -286,6 +531,9 @@ public class EntityDescriptor implements IDescriptor {
 	 */
 	public void removeAttribute(final Attribute attribute) {
 		this.attributeBasedOnColumnNames.values().remove(attribute);
+		this.attributeBasedOnVariableNames.values().remove(attribute);
+		
+		this.plan = null;
 	}
 	
 	/**
@@ -378,20 +626,7 @@ public class EntityDescriptor implements IDescriptor {
 	 * @return Iterator of relationship objects.
 	 */
 	public Iterator<Relationship> getOneToOneRelationships() {
-		
-		Collection<Relationship> oneToOneRelationships = new ArrayList<Relationship>();
-		Collection<Relationship> relationships = relationshipsBasedOnRefer.values();
-
-		Iterator<Relationship> relationshipsIterator = relationships.iterator();
-		while(relationshipsIterator.hasNext()) {
-			Relationship relationship = relationshipsIterator.next();
-			
-			if(relationship.getType().equalsIgnoreCase(Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_ONE_TO_ONE)) {
-				oneToOneRelationships.add(relationship);
-			}
-		}
-	
-		return oneToOneRelationships.iterator();
+		return getPlan().getRelationships(RelationshipType.ONE_TO_ONE).iterator();
 	}
 	
 	/**
@@ -399,20 +634,7 @@ public class EntityDescriptor implements IDescriptor {
 	 * @return Iterator of relationship objects.
 	 */
 	public Iterator<Relationship> getOneToManyRelationships() {
-
-		Collection<Relationship> oneToManyRelationships = new ArrayList<Relationship>();
-		Collection<Relationship> relationships = relationshipsBasedOnRefer.values();
-
-		Iterator<Relationship> relationshipsIterator = relationships.iterator();
-		while(relationshipsIterator.hasNext()) {
-			Relationship relationship = relationshipsIterator.next();
-			
-			if(relationship.getType().equalsIgnoreCase(Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_ONE_TO_MANY)) {
-				oneToManyRelationships.add(relationship);
-			}
-		}
-	
-		return oneToManyRelationships.iterator();
+		return getPlan().getRelationships(RelationshipType.ONE_TO_MANY).iterator();
 	}
 	
 	/**
@@ -420,20 +642,7 @@ public class EntityDescriptor implements IDescriptor {
 	 * @return Iterator of relationship objects.
 	 */
 	public Iterator<Relationship> getManyToOneRelationships() {
-		
-		Collection<Relationship> manyToOneRelationships = new ArrayList<Relationship>();
-		Collection<Relationship> relationships = relationshipsBasedOnRefer.values();
-
-		Iterator<Relationship> relationshipsIterator = relationships.iterator();
-		while(relationshipsIterator.hasNext()) {
-			Relationship relationship = relationshipsIterator.next();
-			
-			if(relationship.getType().equalsIgnoreCase(Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_MANY_TO_ONE)) {
-				manyToOneRelationships.add(relationship);
-			}
-		}
-	
-		return manyToOneRelationships.iterator();
+		return getPlan().getRelationships(RelationshipType.MANY_TO_ONE).iterator();
 	}
 	
 	/**
@@ -441,20 +650,7 @@ public class EntityDescriptor implements IDescriptor {
 	 * @return Iterator of relationship objects.
 	 */
 	public Iterator<Relationship> getManyToManyRelationships() {
-		
-		Collection<Relationship> manyToManyRelationships = new ArrayList<Relationship>();
-		Collection<Relationship> relationships = relationshipsBasedOnRefer.values();
-
-		Iterator<Relationship> relationshipsIterator = relationships.iterator();
-		while(relationshipsIterator.hasNext()) {
-			Relationship relationship = relationshipsIterator.next();
-			
-			if(relationship.getType().equalsIgnoreCase(Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_MANY_TO_MANY)) {
-				manyToManyRelationships.add(relationship);
-			}
-		}
-	
-		return manyToManyRelationships.iterator();
+		return getPlan().getRelationships(RelationshipType.MANY_TO_MANY).iterator();
 	}
 	
 	/**
@@ -464,6 +660,8 @@ public class EntityDescriptor implements IDescriptor {
 	public void addRelationship(Relationship relationship) {
 		this.relationshipsBasedOnRefer.put(relationship.getRefer(), relationship);
 		this.relationshipsBasedOnReferTo.put(relationship.getReferTo(), relationship);
+		
+		this.plan = null;
 	}
 
 	
@@ -568,6 +766,9 @@ Example:
 		private String getterMethodName = null;
 		private String setterMethodName = null;
 
+		private Method getterMethod = null;
+		private Method setterMethod = null;
+
 		private Map<String, String> properties = new HashMap<String, String> ();
 		
 		
@@ -632,6 +833,7 @@ Example:
 		 */
 		public void setGetterMethodName(final String getMethodName) {
 			this.getterMethodName = getMethodName;
+			this.getterMethod = null;
 		}
 		
 		/**
@@ -648,6 +850,39 @@ Example:
 		 */
 		public void setSetterMethodName(final String setMethodName) {
 			this.setterMethodName = setMethodName;
+			this.setterMethod = null;
+		}
+		
+		/**
+		 * Get resolved mapped class column getter method.
+		 * @return Getter method, NULL if it is not resolved yet.
+		 */
+		public Method getGetterMethod() {
+			return this.getterMethod;
+		}
+		
+		/**
+		 * Set resolved mapped class column getter method.
+		 * @param getterMethod Getter method.
+		 */
+		public void setGetterMethod(final Method getterMethod) {
+			this.getterMethod = getterMethod;
+		}
+		
+		/**
+		 * Get resolved mapped class column setter method.
+		 * @return Setter method, NULL if it is not resolved yet.
+		 */
+		public Method getSetterMethod() {
+			return this.setterMethod;
+		}
+		
+		/**
+		 * Set resolved mapped class column setter method.
+		 * @param setterMethod Setter method.
+		 */
+		public void setSetterMethod(final Method setterMethod) {
+			this.setterMethod = setterMethod;
 		}
 		
 		/**
@@ -1006,10 +1241,15 @@ Example:
 		private String getterReferMethodName = null;
 		private String setterReferMethodName = null;
 		
+		private Method getterReferMethod = null;
+		private Method setterReferMethod = null;
+		
 		private Map<String, String> properties = new HashMap<String, String> ();
 		
 		private EntityDescriptor referedEntityDescriptor = null;
 		
+		private RelationshipType relationshipType = null;
+		
 		/**
 		 * Get relationship type.
 		 * @return Type of relationship.
@@ -1024,6 +1264,22 @@ Example:
 		 */
 		public void setType(String type) {
 			this.properties.put(Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE, type);
+			this.relationshipType = null;
+		}
+		
+		/**
+		 * Get relationship type, resolved once from type property.
+		 * @return Type of relationship, NULL if type is not defined or is not supported.
+		 */
+		public RelationshipType getRelationshipType() {
+			
+			RelationshipType relationshipType = this.relationshipType;
+			if(relationshipType == null) {
+				relationshipType = RelationshipType.valueOfType(getType());
+				this.relationshipType = relationshipType;
+			}
+			
+			return relationshipType;
 		}
 		
 		/**
@@ -1104,6 +1360,7 @@ Example:
 		 */
 		public void setGetterReferMethodName(String getterReferMethodName) {
 			this.getterReferMethodName = getterReferMethodName;
+			this.getterReferMethod = null;
 		}
 		
 		/**
@@ -1120,6 +1377,39 @@ Example:
 		 */
 		public void setSetterReferMethodName(String setterReferMethodName) {
 			this.setterReferMethodName = setterReferMethodName;
+			this.setterReferMethod = null;
+		}
+		
+		/**
+		 * Get resolved getter refer method.
+		 * @return Getter refer method, NULL if it is not resolved yet.
+		 */
+		public Method getGetterReferMethod() {
+			return this.getterReferMethod;
+		}
+		
+		/**
+		 * Set resolved getter refer method.
+		 * @param getterReferMethod Getter refer method.
+		 */
+		public void setGetterReferMethod(Method getterReferMethod) {
+			this.getterReferMethod = getterReferMethod;
+		}
+		
+		/**
+		 * Get resolved setter refer method.
+		 * @return Setter refer method, NULL if it is not resolved yet.
+		 */
+		public Method getSetterReferMethod() {
+			return this.setterReferMethod;
+		}
+		
+		/**
+		 * Set resolved setter refer method.
+		 * @param setterReferMethod Setter refer method.
+		 */
+		public void setSetterReferMethod(Method setterReferMethod) {
+			this.setterReferMethod = setterReferMethod;
 		}
 		
 		/**
@@ -1146,6 +1436,28 @@ Example:
 			this.properties.put(Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_LOAD, Boolean.toString(load));
 		}
 		
+		/**
+		 * Check whether load property value is set to LAZY, in which case refered objects are fetched only when they are first accessed.
+		 * @return TRUE: If load property value is set to lazy; FALSE: If load property value is not set to lazy.
+		 */
+		public boolean isLazy() {
+			
+			String load = this.properties.get(Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_LOAD);
+			if(load == null || load.length() <= 0) {
+				return false;
+			}
+			
+			return load.equalsIgnoreCase(Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_LOAD_LAZY);
+		}
+		
+		/**
+		 * Set load property value to lazy.
+		 * @param lazy TRUE: If refered objects has to be fetched on first access; FALSE: If refered objects has not to be fetched.
+		 */
+		public void setLazy(boolean lazy) {
+			this.properties.put(Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_LOAD, lazy ? Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_LOAD_LAZY : Boolean.toString(false));
+		}
+		
 		/**
 		 * Get all Properties defined in descriptor.
 		 * @return All Property Values.
@@ -1179,6 +1491,7 @@ Example:
 		 */
 		public void addProperty(String name, String value) {
 			this.properties.put(name, value);
+			this.relationshipType = null;
 		}
 		
 		/**
@@ -1187,6 +1500,7 @@ Example:
 		 */
 		public void removeProperty(String name) {
 			this.properties.remove(name);
+			this.relationshipType = null;
 		}
 		
 		
@@ -1206,4 +1520,173 @@ Example:
 			this.referedEntityDescriptor = referedEntityDescriptor;
 		}
 	}
+	
+	
+	/**
+	 * Types of relationship supported between entities.
+	 */
+	public enum RelationshipType {
+		
+		ONE_TO_ONE(Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_ONE_TO_ONE),
+		ONE_TO_MANY(Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_ONE_TO_MANY),
+		MANY_TO_ONE(Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_MANY_TO_ONE),
+		MANY_TO_MANY(Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_MANY_TO_MANY);
+		
+		private final String type;
+		
+		private RelationshipType(final String type) {
+			this.type = type;
+		}
+		
+		/**
+		 * Get type as defined in EntityDescriptor.xml file.
+		 * @return Type of relationship.
+		 */
+		public String getType() {
+			return this.type;
+		}
+		
+		/**
+		 * Get relationship type based on type defined in EntityDescriptor.xml file, ignoring case.
+		 * @param type Type of relationship.
+		 * @return Relationship type, NULL if type is not supported.
+		 */
+		public static RelationshipType valueOfType(final String type) {
+			
+			if(type == null) {
+				return null;
+			}
+			
+			RelationshipType[] relationshipTypes = values();
+			for(int i = 0;i < relationshipTypes.length;i++) {
+				if(relationshipTypes[i].type.equalsIgnoreCase(type)) {
+					return relationshipTypes[i];
+				}
+			}
+			
+			return null;
+		}
+	}
+	
+	
+	/**
+	 * Immutable plan of entity descriptor, compiled once from its attributes and relationships, so that database operations do not have to walk and filter them on every call.
+	 * <p>
+	 * Arrays returned by plan are shared, they must not be modified.
+	 */
+	public static class Plan {
+		
+		private final Attribute[] attributes;
+		private final Attribute[] primaryKeys;
+		private final String[] columnNames;
+		private final String[] primaryKeyColumnNames;
+		
+		private final Map<String, Integer> columnIndexes;
+		private final Map<RelationshipType, List<Relationship>> relationships;
+		
+		private Plan(final EntityDescriptor entityDescriptor) {
+			
+			Collection<Attribute> attributes = entityDescriptor.attributeBasedOnVariableNames.values();
+			this.attributes = attributes.toArray(new Attribute[attributes.size()]);
+			this.columnNames = new String[this.attributes.length];
+			
+			Collection<Attribute> primaryKeys = new ArrayList<Attribute>();
+			Map<String, Integer> columnIndexes = new HashMap<String, Integer>();
+			
+			for(int i = 0;i < this.attributes.length;i++) {
+				Attribute attribute = this.attributes[i];
+				
+				this.columnNames[i] = attribute.getColumnName();
+				columnIndexes.put(attribute.getColumnName(), i);
+				
+				if(attribute.isPrimaryKey()) {
+					primaryKeys.add(attribute);
+				}
+			}
+			
+			this.primaryKeys = primaryKeys.toArray(new Attribute[primaryKeys.size()]);
+			this.primaryKeyColumnNames = new String[this.primaryKeys.length];
+			
+			for(int i = 0;i < this.primaryKeys.length;i++) {
+				this.primaryKeyColumnNames[i] = this.primaryKeys[i].getColumnName();
+			}
+			
+			this.columnIndexes = Collections.unmodifiableMap(columnIndexes);
+			
+			Map<RelationshipType, List<Relationship>> relationships = new EnumMap<RelationshipType, List<Relationship>>(RelationshipType.class);
+			
+			RelationshipType[] relationshipTypes = RelationshipType.values();
+			for(int i = 0;i < relationshipTypes.length;i++) {
+				relationships.put(relationshipTypes[i], new ArrayList<Relationship>());
+			}
+			
+			Iterator<Relationship> relationshipsIterator = entityDescriptor.relationshipsBasedOnRefer.values().iterator();
+			while(relationshipsIterator.hasNext()) {
+				Relationship relationship = relationshipsIterator.next();
+				
+				RelationshipType relationshipType = relationship.getRelationshipType();
+				if(relationshipType != null) {
+					relationships.get(relationshipType).add(relationship);
+				}
+			}
+			
+			for(int i = 0;i < relationshipTypes.length;i++) {
+				relationships.put(relationshipTypes[i], Collections.unmodifiableList(relationships.get(relationshipTypes[i])));
+			}
+			
+			this.relationships = relationships;
+		}
+		
+		/**
+		 * Get all attributes, in order they are defined.
+		 * @return Attributes.
+		 */
+		public Attribute[] getAttributes() {
+			return this.attributes;
+		}
+		
+		/**
+		 * Get column names of all attributes, in order of attributes.
+		 * @return Column names.
+		 */
+		public String[] getColumnNames() {
+			return this.columnNames;
+		}
+		
+		/**
+		 * Get primary key attributes, in order they are defined.
+		 * @return Primary key attributes.
+		 */
+		public Attribute[] getPrimaryKeys() {
+			return this.primaryKeys;
+		}
+		
+		/**
+		 * Get column names of primary key attributes, in order of primary key attributes.
+		 * @return Primary key column names.
+		 */
+		public String[] getPrimaryKeyColumnNames() {
+			return this.primaryKeyColumnNames;
+		}
+		
+		/**
+		 * Get index of attribute based on column name.
+		 * @param columnName Name of column.
+		 * @return Index of attribute in attributes, -1 if no attribute is mapped to column.
+		 */
+		public int getColumnIndex(final String columnName) {
+			
+			Integer columnIndex = this.columnIndexes.get(columnName);
+			return columnIndex != null ? columnIndex : -1;
+		}
+		
+		/**
+		 * Get relationships of type, in order they are defined.
+		 * @param relationshipType Type of relationship.
+		 * @return Unmodifiable list of relationships.
+		 */
+		public List<Relationship> getRelationships(final RelationshipType relationshipType) {
+			return this.relationships.get(relationshipType);
+		}
+	}
 }
@@ -30,6 +30,7 @@ import siminov.core.exception.DeploymentException;
 import siminov.core.log.Log;
 import siminov.core.model.EntityDescriptor;
 import siminov.core.model.EntityDescriptor.Attribute;
+import siminov.core.model.EntityDescriptor.Relationship;
 import siminov.core.resource.ResourceManager;
 import android.content.Context;
 
@@ -222,6 +223,13 @@ public class EntityDescriptorReader extends SiminovSAXDefaultHandler implements
 		}
 		
 		doValidation();
+		
+		/*
+		 * Resolve getter and setter methods, and generated entity mapper if any, and compile plan of attributes and relationships, once so that database operations do not have to do it on every call.
+		 */
+		entityDescriptor.resolveAccessorMethods();
+		entityDescriptor.resolveEntityMapper();
+		entityDescriptor.compilePlan();
 	}
 
 	public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
@@ -334,6 +342,31 @@ public class EntityDescriptorReader extends SiminovSAXDefaultHandler implements
 			throw new DeploymentException(getClass().getName(), "doValidation", "CLASS-NAME IS MANDATORY FIELD - ENTITY-DESCRIPTOR: " + this.entityDescriptorName);
 		}
 		
+		/*
+		 * Validate Cache field.
+		 */
+		String cache = entityDescriptor.getProperty(ENTITY_DESCRIPTOR_CACHE);
+		if(cache != null && cache.length() > 0 && entityDescriptor.getCacheSize() <= 0) {
+			Log.error(getClass().getName(), "doValidation", "INVALID CACHE, IT SHOULD BE " + ENTITY_DESCRIPTOR_CACHE_LRU + "N WHERE N IS MAXIMUM NUMBER OF TUPLES - ENTITY-DESCRIPTOR: " + this.entityDescriptorName + ", CACHE: " + cache);
+			throw new DeploymentException(getClass().getName(), "doValidation", "INVALID CACHE, IT SHOULD BE " + ENTITY_DESCRIPTOR_CACHE_LRU + "N WHERE N IS MAXIMUM NUMBER OF TUPLES - ENTITY-DESCRIPTOR: " + this.entityDescriptorName + ", CACHE: " + cache);
+		}
+		
+		/*
+		 * Validate Write Behind fields.
+		 */
+		if(entityDescriptor.isWriteBehind()) {
+			
+			if(!isPositiveNumber(entityDescriptor.getProperty(ENTITY_DESCRIPTOR_WRITE_BEHIND_INTERVAL))) {
+				Log.error(getClass().getName(), "doValidation", "INVALID WRITE-BEHIND-INTERVAL, IT SHOULD BE POSITIVE NUMBER OF MILLISECONDS - ENTITY-DESCRIPTOR: " + this.entityDescriptorName + ", WRITE-BEHIND-INTERVAL: " + entityDescriptor.getProperty(ENTITY_DESCRIPTOR_WRITE_BEHIND_INTERVAL));
+				throw new DeploymentException(getClass().getName(), "doValidation", "INVALID WRITE-BEHIND-INTERVAL, IT SHOULD BE POSITIVE NUMBER OF MILLISECONDS - ENTITY-DESCRIPTOR: " + this.entityDescriptorName + ", WRITE-BEHIND-INTERVAL: " + entityDescriptor.getProperty(ENTITY_DESCRIPTOR_WRITE_BEHIND_INTERVAL));
+			}
+			
+			if(!isPositiveNumber(entityDescriptor.getProperty(ENTITY_DESCRIPTOR_WRITE_BEHIND_BATCH_SIZE))) {
+				Log.error(getClass().getName(), "doValidation", "INVALID WRITE-BEHIND-BATCH-SIZE, IT SHOULD BE POSITIVE NUMBER OF WRITES - ENTITY-DESCRIPTOR: " + this.entityDescriptorName + ", WRITE-BEHIND-BATCH-SIZE: " + entityDescriptor.getProperty(ENTITY_DESCRIPTOR_WRITE_BEHIND_BATCH_SIZE));
+				throw new DeploymentException(getClass().getName(), "doValidation", "INVALID WRITE-BEHIND-BATCH-SIZE, IT SHOULD BE POSITIVE NUMBER OF WRITES - ENTITY-DESCRIPTOR: " + this.entityDescriptorName + ", WRITE-BEHIND-BATCH-SIZE: " + entityDescriptor.getProperty(ENTITY_DESCRIPTOR_WRITE_BEHIND_BATCH_SIZE));
+			}
+		}
+		
 		Iterator<Attribute> attributes = entityDescriptor.getAttributes();
 		while(attributes.hasNext()) {
 			Attribute attribute = attributes.next();
@@ -365,5 +398,45 @@ public class EntityDescriptorReader extends SiminovSAXDefaultHandler implements
 				throw new DeploymentException(getClass().getName(), "doValidation", "COLUMN-TYPE IS MANDATORY FIELD - ENTITY-DESCRIPTOR - COLUMN: " + this.entityDescriptorName);
 			}
 		}
+		
+		Iterator<Relationship> relationships = entityDescriptor.getRelationships();
+		while(relationships.hasNext()) {
+			Relationship relationship = relationships.next();
+			
+			/*
+			 * Validate Load field, lazy load is supported only for one to many and many to one relationships.
+			 */
+			String load = relationship.getProperty(ENTITY_DESCRIPTOR_RELATIONSHIP_LOAD);
+			if(load == null || load.length() <= 0 || load.equalsIgnoreCase(Boolean.TRUE.toString()) || load.equalsIgnoreCase(Boolean.FALSE.toString())) {
+				continue;
+			}
+			
+			if(!load.equalsIgnoreCase(ENTITY_DESCRIPTOR_RELATIONSHIP_LOAD_LAZY)) {
+				Log.error(getClass().getName(), "doValidation", "INVALID LOAD VALUE: " + load + " - ENTITY-DESCRIPTOR - RELATIONSHIP: " + this.entityDescriptorName + ", REFER: " + relationship.getRefer());
+				throw new DeploymentException(getClass().getName(), "doValidation", "INVALID LOAD VALUE: " + load + " - ENTITY-DESCRIPTOR - RELATIONSHIP: " + this.entityDescriptorName + ", REFER: " + relationship.getRefer());
+			}
+			
+			String type = relationship.getType();
+			if(type == null || (!type.equalsIgnoreCase(ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_ONE_TO_MANY) && !type.equalsIgnoreCase(ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_MANY_TO_ONE))) {
+				Log.error(getClass().getName(), "doValidation", "LAZY LOAD IS ONLY SUPPORTED FOR ONE-TO-MANY AND MANY-TO-ONE - ENTITY-DESCRIPTOR - RELATIONSHIP: " + this.entityDescriptorName + ", REFER: " + relationship.getRefer());
+				throw new DeploymentException(getClass().getName(), "doValidation", "LAZY LOAD IS ONLY SUPPORTED FOR ONE-TO-MANY AND MANY-TO-ONE - ENTITY-DESCRIPTOR - RELATIONSHIP: " + this.entityDescriptorName + ", REFER: " + relationship.getRefer());
+			}
+		}
+	}
+
+	/**
+	 * Check whether value of a property is a positive number. Property which is not defined takes its default value, so it is valid.
+	 */
+	private static boolean isPositiveNumber(final String value) {
+		
+		if(value == null || value.length() <= 0) {
+			return true;
+		}
+		
+		try {
+			return Long.parseLong(value.trim()) > 0;
+		} catch(NumberFormatException numberFormatException) {
+			return false;
+		}
 	}
 }
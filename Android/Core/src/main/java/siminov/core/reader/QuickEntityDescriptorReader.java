@@ -127,6 +127,7 @@ public class QuickEntityDescriptorReader extends SiminovSAXDefaultHandler implem
 					
 					this.entityDescriptor = entityDescriptorParser.getEntityDescriptor();
 					databaseDescriptor.addEntityDescriptor(entityDescriptorPath, entityDescriptor);
+					ResourceManager.getInstance().registerEntityDescriptor(databaseDescriptor, entityDescriptor);
 					
 					return;
 				}
@@ -21,6 +21,8 @@ package siminov.core.resource;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import siminov.core.database.DatabaseBundle;
 import siminov.core.database.DatabaseFactory;
@@ -49,12 +51,26 @@ public class ResourceManager {
 	/*
 	 * Resources.
 	 */
-	private Context applicationContext = null;
+	private volatile Context applicationContext = null;
 	
-	private ApplicationDescriptor applicationDescriptor = null;
-	private DatabaseFactory databaseFactory = null;
+	private volatile ApplicationDescriptor applicationDescriptor = null;
+	private final DatabaseFactory databaseFactory;
 	
-	private static ResourceManager resources = null;
+	/*
+	 * Indexes of descriptors and database bundles, so that lookups done on every database operation do not walk all database descriptors.
+	 */
+	private final Map<String, EntityDescriptor> entityDescriptorsBasedOnClassName = new ConcurrentHashMap<String, EntityDescriptor>();
+	private final Map<String, EntityDescriptor> entityDescriptorsBasedOnTableName = new ConcurrentHashMap<String, EntityDescriptor>();
+	private final Map<String, DatabaseDescriptor> databaseDescriptorsBasedOnClassName = new ConcurrentHashMap<String, DatabaseDescriptor>();
+	private final Map<String, DatabaseDescriptor> databaseDescriptorsBasedOnTableName = new ConcurrentHashMap<String, DatabaseDescriptor>();
+	private final Map<String, DatabaseBundle> databaseBundlesBasedOnClassName = new ConcurrentHashMap<String, DatabaseBundle>();
+	
+	/**
+	 * Holds singleton instance, which is created by class loader on first use of holder.
+	 */
+	private static class Holder {
+		private static final ResourceManager INSTANCE = new ResourceManager();
+	}
 	
 	/**
 	 * Resource Private Constructor
@@ -70,11 +86,7 @@ public class ResourceManager {
 	 * @return Resources instance.
 	 */
 	public static ResourceManager getInstance() {
-		if(resources == null) {
-			resources = new ResourceManager();
-		}
-		
-		return resources;
+		return Holder.INSTANCE;
 	}
 	
 
@@ -109,6 +121,62 @@ public class ResourceManager {
 	 */
 	public void setApplicationDescriptor(final ApplicationDescriptor applicationDescriptor) {
 		this.applicationDescriptor = applicationDescriptor;
+		clearIndexes();
+	}
+	
+	/**
+	 * Index all entity descriptors of all database descriptors, based on class name and table name.
+	 * <p>
+	 * It is called once all entity descriptors are loaded. Entity descriptors added later are indexed through registerEntityDescriptor, or on their first lookup.
+	 */
+	public void indexDescriptors() {
+		if(this.applicationDescriptor == null) {
+			throw new DeploymentException(ResourceManager.class.getName(), "indexDescriptors", "Siminov Not Active, INVALID APPLICATION-DESCRIPTOR FOUND");
+		}
+
+		clearIndexes();
+		
+		Iterator<DatabaseDescriptor> databaseDescriptors = this.applicationDescriptor.getDatabaseDescriptors();
+		while(databaseDescriptors.hasNext()) {
+			DatabaseDescriptor databaseDescriptor = databaseDescriptors.next();
+			
+			Iterator<EntityDescriptor> entityDescriptors = databaseDescriptor.getEntityDescriptors();
+			while(entityDescriptors.hasNext()) {
+				registerEntityDescriptor(databaseDescriptor, entityDescriptors.next());
+			}
+		}
+	}
+	
+	/**
+	 * Index entity descriptor added to database descriptor, based on its class name and table name.
+	 * @param databaseDescriptor Database descriptor which contains entity descriptor.
+	 * @param entityDescriptor Entity descriptor.
+	 */
+	public void registerEntityDescriptor(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor) {
+		
+		if(databaseDescriptor == null || entityDescriptor == null) {
+			return;
+		}
+		
+		String className = entityDescriptor.getClassName();
+		if(className != null) {
+			this.entityDescriptorsBasedOnClassName.put(className, entityDescriptor);
+			this.databaseDescriptorsBasedOnClassName.put(className, databaseDescriptor);
+		}
+		
+		String tableName = entityDescriptor.getTableName();
+		if(tableName != null) {
+			this.entityDescriptorsBasedOnTableName.put(tableName, entityDescriptor);
+			this.databaseDescriptorsBasedOnTableName.put(tableName, databaseDescriptor);
+		}
+	}
+	
+	private void clearIndexes() {
+		this.entityDescriptorsBasedOnClassName.clear();
+		this.entityDescriptorsBasedOnTableName.clear();
+		this.databaseDescriptorsBasedOnClassName.clear();
+		this.databaseDescriptorsBasedOnTableName.clear();
+		this.databaseBundlesBasedOnClassName.clear();
 	}
 	
 	/**
@@ -223,12 +291,22 @@ Example: DatabaseDescriptor.xml
 			throw new DeploymentException(ResourceManager.class.getName(), "getDatabaseDescriptorBasedOnClassName", "Siminov Not Active, INVALID APPLICATION-DESCRIPTOR FOUND");
 		}
 
+		if(className == null) {
+			return null;
+		}
+		
+		DatabaseDescriptor indexedDatabaseDescriptor = this.databaseDescriptorsBasedOnClassName.get(className);
+		if(indexedDatabaseDescriptor != null) {
+			return indexedDatabaseDescriptor;
+		}
+		
 		Iterator<DatabaseDescriptor> databaseDescriptors = this.applicationDescriptor.getDatabaseDescriptors();
 		while(databaseDescriptors.hasNext()) {
 			DatabaseDescriptor databaseDescriptor = databaseDescriptors.next();
 			boolean containsEntityDescriptorInDatabaseDescriptor = databaseDescriptor.containsEntityDescriptorBasedOnClassName(className);
 
 			if(containsEntityDescriptorInDatabaseDescriptor) {
+				registerEntityDescriptor(databaseDescriptor, databaseDescriptor.getEntityDescriptorBasedOnClassName(className));
 				return databaseDescriptor;
 			}
 		}
@@ -247,17 +325,8 @@ Example: DatabaseDescriptor.xml
 			throw new DeploymentException(ResourceManager.class.getName(), "getDatabaseDescriptorNameBasedOnClassName", "Siminov Not Active, INVALID APPLICATION-DESCRIPTOR FOUND");
 		}
 
-		Iterator<DatabaseDescriptor> databaseDescriptors = this.applicationDescriptor.getDatabaseDescriptors();
-		while(databaseDescriptors.hasNext()) {
-			DatabaseDescriptor databaseDescriptor = databaseDescriptors.next();
-			boolean containsEntityDescriptorInDatabaseDescriptor = databaseDescriptor.containsEntityDescriptorBasedOnClassName(className);
-
-			if(containsEntityDescriptorInDatabaseDescriptor) {
-				return databaseDescriptor.getDatabaseName();
-			}
-		}
-		
-		return null;
+		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptorBasedOnClassName(className);
+		return databaseDescriptor != null ? databaseDescriptor.getDatabaseName() : null;
 	}
 
 	
@@ -272,12 +341,22 @@ Example: DatabaseDescriptor.xml
 			throw new DeploymentException(ResourceManager.class.getName(), "getDatabaseDescriptorBasedOnTableName", "Siminov Not Active, INVALID APPLICATION-DESCRIPTOR FOUND");
 		}
 
+		if(tableName == null) {
+			return null;
+		}
+		
+		DatabaseDescriptor indexedDatabaseDescriptor = this.databaseDescriptorsBasedOnTableName.get(tableName);
+		if(indexedDatabaseDescriptor != null) {
+			return indexedDatabaseDescriptor;
+		}
+		
 		Iterator<DatabaseDescriptor> databaseDescriptors = this.applicationDescriptor.getDatabaseDescriptors();
 		while(databaseDescriptors.hasNext()) {
 			DatabaseDescriptor databaseDescriptor = databaseDescriptors.next();
 			boolean containsEntityDescriptorInDatabaseDescriptor = databaseDescriptor.containsEntityDescriptorBasedOnTableName(tableName);
 
 			if(containsEntityDescriptorInDatabaseDescriptor) {
+				registerEntityDescriptor(databaseDescriptor, databaseDescriptor.getEntityDescriptorBasedOnTableName(tableName));
 				return databaseDescriptor;
 			}
 		}
@@ -296,17 +375,8 @@ Example: DatabaseDescriptor.xml
 			throw new DeploymentException(ResourceManager.class.getName(), "getDatabaseDescriptorNameBasedOnTableName", "Siminov Not Active, INVALID APPLICATION-DESCRIPTOR FOUND");
 		}
 
-		Iterator<DatabaseDescriptor> databaseDescriptors = this.applicationDescriptor.getDatabaseDescriptors();
-		while(databaseDescriptors.hasNext()) {
-			DatabaseDescriptor databaseDescriptor = databaseDescriptors.next();
-			boolean containsEntityDescriptorInDatabaseDescriptor = databaseDescriptor.containsEntityDescriptorBasedOnTableName(tableName);
-
-			if(containsEntityDescriptorInDatabaseDescriptor) {
-				return databaseDescriptor.getDatabaseName();
-			}
-		}
-		
-		return null;
+		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptorBasedOnTableName(tableName);
+		return databaseDescriptor != null ? databaseDescriptor.getDatabaseName() : null;
 	}
 
 	/**
@@ -320,13 +390,25 @@ Example: DatabaseDescriptor.xml
 			throw new DeploymentException(ResourceManager.class.getName(), "getEntityDescriptorBasedOnClassName", "Siminov Not Active, INVALID APPLICATION-DESCRIPTOR FOUND");
 		}
 
+		if(className == null) {
+			return null;
+		}
+		
+		EntityDescriptor indexedEntityDescriptor = this.entityDescriptorsBasedOnClassName.get(className);
+		if(indexedEntityDescriptor != null) {
+			return indexedEntityDescriptor;
+		}
+		
 		Iterator<DatabaseDescriptor> databaseDescriptors = this.applicationDescriptor.getDatabaseDescriptors();
 		while(databaseDescriptors.hasNext()) {
 			DatabaseDescriptor databaseDescriptor = databaseDescriptors.next();
 			boolean containsEntityDescriptorInDatabaseDescriptor = databaseDescriptor.containsEntityDescriptorBasedOnClassName(className);
 
 			if(containsEntityDescriptorInDatabaseDescriptor) {
-				return databaseDescriptor.getEntityDescriptorBasedOnClassName(className);
+				EntityDescriptor entityDescriptor = databaseDescriptor.getEntityDescriptorBasedOnClassName(className);
+				registerEntityDescriptor(databaseDescriptor, entityDescriptor);
+				
+				return entityDescriptor;
 			}
 		}
 		
@@ -345,13 +427,25 @@ Example: DatabaseDescriptor.xml
 			throw new DeploymentException(ResourceManager.class.getName(), "getEntityDescriptorBasedOnTableName", "Siminov Not Active, INVALID APPLICATION-DESCRIPTOR FOUND");
 		}
 
+		if(tableName == null) {
+			return null;
+		}
+		
+		EntityDescriptor indexedEntityDescriptor = this.entityDescriptorsBasedOnTableName.get(tableName);
+		if(indexedEntityDescriptor != null) {
+			return indexedEntityDescriptor;
+		}
+		
 		Iterator<DatabaseDescriptor> databaseDescriptors = this.applicationDescriptor.getDatabaseDescriptors();
 		while(databaseDescriptors.hasNext()) {
 			DatabaseDescriptor databaseDescriptor = databaseDescriptors.next();
 			boolean containsEntityDescriptorInDatabaseDescriptor = databaseDescriptor.containsEntityDescriptorBasedOnTableName(tableName);
 
 			if(containsEntityDescriptorInDatabaseDescriptor) {
-				return databaseDescriptor.getEntityDescriptorBasedOnTableName(tableName);
+				EntityDescriptor entityDescriptor = databaseDescriptor.getEntityDescriptorBasedOnTableName(tableName);
+				registerEntityDescriptor(databaseDescriptor, entityDescriptor);
+				
+				return entityDescriptor;
 			}
 		}
 		
@@ -426,6 +520,29 @@ Example: DatabaseDescriptor.xml
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptorBasedOnName(databaseName);
 		return this.databaseFactory.getDatabaseBundle(databaseDescriptor);
 	}
+	
+	/**
+	 * Get IDatabase object of database which contains mapped class.
+	 * @param className Mapped class name.
+	 * @return IDatabase object, NULL if class is not mapped in any database.
+	 */
+	public DatabaseBundle getDatabaseBundleBasedOnClassName(final String className) {
+		
+		DatabaseBundle databaseBundle = className != null ? this.databaseBundlesBasedOnClassName.get(className) : null;
+		if(databaseBundle != null) {
+			return databaseBundle;
+		}
+		
+		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptorBasedOnClassName(className);
+		if(databaseDescriptor == null) {
+			return null;
+		}
+		
+		databaseBundle = this.databaseFactory.getDatabaseBundle(databaseDescriptor);
+		this.databaseBundlesBasedOnClassName.put(className, databaseBundle);
+		
+		return databaseBundle;
+	}
 
 	/**
 	 * Get all IDatabase objects contain by application.
@@ -444,6 +561,8 @@ Example: DatabaseDescriptor.xml
 		
 		DatabaseDescriptor databaseDescriptor = getDatabaseDescriptorBasedOnName(databaseDescriptorName);
 		this.databaseFactory.removeDatabaseBundle(databaseDescriptor);
+		
+		this.databaseBundlesBasedOnClassName.clear();
 	}
 	
 
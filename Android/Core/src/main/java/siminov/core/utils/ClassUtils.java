@@ -56,6 +56,23 @@ public class ClassUtils {
 		return classObject;
 	}
 	
+	/**
+	 * Find a Class Object based on class name provided, without failing if class does not exist.
+	 * @param className Name of Class
+	 * @return Class Object, NULL if class does not exist.
+	 */
+	public static Class<?> findClass(String className) {
+		
+		try {
+			return Class.forName(className);
+		} catch(ClassNotFoundException classNotFoundException) {
+			return null;
+		} catch(LinkageError linkageError) {
+			Log.debug(ClassUtils.class.getName(), "findClass", "LinkageError caught while finding class, CLASS-NAME: " + className + ", " + linkageError.getMessage());
+			return null;
+		}
+	}
+	
 	/**
 	 * Creates class object based on full class name provided.
 	 * @param className Name of class.
@@ -77,6 +94,24 @@ public class ClassUtils {
 		return object;
 	}
 
+	/**
+	 * Creates class object based on class provided.
+	 * @param classObject Class.
+	 * @return Object of class.
+	 */
+	public static Object createClassInstance(Class<?> classObject) {
+		
+		Object object = null;
+		try {
+			object = classObject.newInstance();
+		} catch(Exception exception) {
+			Log.error(ClassUtils.class.getName(), "createClassInstance", "Exception caught while creating new instance of class, CLASS-NAME: " + classObject.getName() + ", " + exception.getMessage());
+			throw new SiminovCriticalException(ClassUtils.class.getName(), "createClassInstance", "Exception caught while creating new instance of class, CLASS-NAME: " + classObject.getName() + ", " + exception.getMessage());
+		}
+		
+		return object;
+	}
+
 	public static Object createClassInstance(String className, Object...constructorParameters) {
 		
 		Class<?> classObject = createClass(className);
@@ -118,8 +153,105 @@ public class ClassUtils {
 	 */
 	public static Method createMethodBasedOnClassName(String className, String methodName, Class<?>...pamameterTypes) {
 		
-		Object classObject = createClassInstance(className);
-		return createMethodBasedOnClassInstance(classObject, methodName, pamameterTypes);
+		Class<?> classObject = createClass(className);
+		return createMethodBasedOnClass(classObject, methodName, pamameterTypes);
+	}
+
+	/**
+	 * Create a method object without creating instance of class.
+	 * @param classObject Class
+	 * @param methodName Name of Method
+	 * @param parameterTypes Parameter Types
+	 * @return Method Object
+	 */
+	public static Method createMethodBasedOnClass(Class<?> classObject, String methodName, Class<?>...parameterTypes) {
+		
+		Method method = null;
+		
+		try {
+			method = classObject.getMethod(methodName, parameterTypes);				
+		} catch(NoSuchMethodException noSuchMethodException) {
+			Log.debug(ClassUtils.class.getName(), "createMethodBasedOnClass", "NoSuchMethodException caught while creating method, CLASS-NAME: " + classObject.getName() + ", METHOD-NAME: " + methodName + ", " + noSuchMethodException.getMessage());
+			
+			/*
+			 * Try For Primitive Data Type
+			 */
+			parameterTypes = convertToPrimitiveClasses(parameterTypes);
+			try {
+				method = classObject.getMethod(methodName, parameterTypes);				
+			} catch(Exception exception) {
+				Log.error(ClassUtils.class.getName(), "createMethodBasedOnClass", "Exception caught while creating method, CLASS-NAME: " + classObject.getName() + ", METHOD-NAME: " + methodName + ", " + exception.getMessage());
+				throw new SiminovCriticalException(ClassUtils.class.getName(), "createMethodBasedOnClass", "Exception caught while creating method, CLASS-NAME: " + classObject.getName() + ", METHOD-NAME: " + methodName + ", " + exception.getMessage());
+			}
+		} catch(Exception exception) {
+			Log.error(ClassUtils.class.getName(), "createMethodBasedOnClass", "Exception caught while creating method, CLASS-NAME: " + classObject.getName() + ", METHOD-NAME: " + methodName + ", " + exception.getMessage());
+			throw new SiminovCriticalException(ClassUtils.class.getName(), "createMethodBasedOnClass", "Exception caught while creating method, CLASS-NAME: " + classObject.getName() + ", METHOD-NAME: " + methodName + ", " + exception.getMessage());
+		}
+		
+		method.setAccessible(true);
+		return method;
+	}
+
+	/**
+	 * Find public getter method (method with no parameter) based on name, without creating instance of class.
+	 * @param classObject Class
+	 * @param methodName Name of Method
+	 * @return Method Object, NULL if class does not have such method.
+	 */
+	public static Method findGetterMethod(final Class<?> classObject, final String methodName) {
+		
+		if(classObject == null || methodName == null) {
+			return null;
+		}
+		
+		try {
+			Method method = classObject.getMethod(methodName, new Class<?>[] {});
+			method.setAccessible(true);
+			
+			return method;
+		} catch(Exception exception) {
+			Log.debug(ClassUtils.class.getName(), "findGetterMethod", "Exception caught while finding method, CLASS-NAME: " + classObject.getName() + ", METHOD-NAME: " + methodName + ", " + exception.getMessage());
+			return null;
+		}
+	}
+	
+	/**
+	 * Find public setter method (method with single parameter) based on name, without creating instance of class.
+	 * @param classObject Class
+	 * @param methodName Name of Method
+	 * @return Method Object, NULL if class does not have such method or if it is overloaded.
+	 */
+	public static Method findSetterMethod(final Class<?> classObject, final String methodName) {
+		
+		if(classObject == null || methodName == null) {
+			return null;
+		}
+
+		Method setterMethod = null;
+		
+		Method[] methods = classObject.getMethods();
+		for(Method method : methods) {
+			
+			if(!method.getName().equals(methodName) || method.getParameterTypes().length != 1) {
+				continue;
+			}
+			
+			/*
+			 * Overloaded setter can only be resolved based on value type, leave it for runtime.
+			 */
+			if(setterMethod != null) {
+				Log.debug(ClassUtils.class.getName(), "findSetterMethod", "Overloaded setter method found, CLASS-NAME: " + classObject.getName() + ", METHOD-NAME: " + methodName);
+				return null;
+			}
+			
+			setterMethod = method;
+		}
+		
+		if(setterMethod != null) {
+			setterMethod.setAccessible(true);
+		}
+		
+		return setterMethod;
 	}
 
 	/**
@@ -169,7 +301,7 @@ public class ClassUtils {
 		Collection<Object> columnValues = new ArrayList<Object>();
 		while(methodNames.hasNext()) {
 			String methodName = methodNames.next();
-			Method method = (Method) createMethodBasedOnClassName(classObject.getClass().getName(), methodName);
+			Method method = createMethodBasedOnClass(classObject.getClass(), methodName);
 
 			try {
 				columnValues.add(method.invoke(classObject, new Object[] {}));	
@@ -191,7 +323,7 @@ public class ClassUtils {
 	 */
 	public static Object getValue(final Object classObject, final String methodName) throws SiminovException {
 		
-		Method method = (Method) createMethodBasedOnClassName(classObject.getClass().getName(), methodName);
+		Method method = createMethodBasedOnClass(classObject.getClass(), methodName);
 		try {
 			return method.invoke(classObject, new Object[] {});	
 		} catch(Exception exception) {
@@ -200,6 +332,22 @@ public class ClassUtils {
 		}
 	}
 
+	/**
+	 * Get column value based on class object and already resolved getter method.
+	 * @param classObject Class Object.
+	 * @param method Getter Method.
+	 * @return Column Value.
+	 * @throws SiminovException If any exception occur while getting column value.
+	 */
+	public static Object getValue(final Object classObject, final Method method) throws SiminovException {
+		
+		try {
+			return method.invoke(classObject, new Object[] {});	
+		} catch(Exception exception) {
+			Log.error(ClassUtils.class.getName(), "getValue", "Exception caught while getting return value from method, CLASS-NAME: " + classObject.getClass().getName() + ", METHOD-NAME: " + method.getName() + ", " + exception.getMessage());
+			throw new SiminovException(ClassUtils.class.getName(), "getValue", "Exception caught while getting return value from method, CLASS-NAME: " + classObject.getClass().getName() + ", METHOD-NAME: " + method.getName() + ", " + exception.getMessage());
+		}
+	}
 	
 	/**
 	 * Invoke method based on class object, method name and parameter provided.
@@ -212,7 +360,7 @@ public class ClassUtils {
 	 */
 	public static Object invokeMethod(final Object classObject, final String methodName, final Class<?>[] parameterTypes,final Object[] parameters) throws SiminovException {
 
-		Method method = (Method) createMethodBasedOnClassName(classObject.getClass().getName(), methodName, parameterTypes);
+		Method method = createMethodBasedOnClass(classObject.getClass(), methodName, parameterTypes);
 		return invokeMethod(classObject, method, parameters);
 	}
 
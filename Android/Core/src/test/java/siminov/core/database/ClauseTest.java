@@ -0,0 +1,109 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import siminov.core.exception.DatabaseException;
+
+public class ClauseTest {
+
+	private DatabaseFixture databaseFixture;
+
+	@Before
+	public void setUp() {
+
+		databaseFixture = new DatabaseFixture();
+		databaseFixture.addLiquor();
+		databaseFixture.start();
+	}
+
+	@After
+	public void tearDown() {
+		databaseFixture.stop();
+	}
+
+	@Test
+	public void bindsValuesInPlaceOfPlaceholders() {
+
+		Where where = new Where();
+
+		Clause clause = where.where("LIQUOR_TYPE");
+		clause.equalTo("RUM");
+		where.and("ALCHOL_CONTENT").greaterThanEqual(30);
+		where.or("DESCRIPTION").notEqualTo("it's dark");
+
+		assertEquals("LIQUOR_TYPE= ?  AND ALCHOL_CONTENT>= ?  OR DESCRIPTION!= ? ", clause.toString());
+		assertArrayEquals(new Object[] {"RUM", 30, "it's dark"}, clause.getArguments());
+	}
+
+	@Test
+	public void formsSameClauseForDifferentValues() {
+
+		Where firstWhere = new Where();
+		Clause firstClause = firstWhere.where("LIQUOR_TYPE");
+		firstClause.in("RUM", "GIN");
+
+		Where secondWhere = new Where();
+		Clause secondClause = secondWhere.where("LIQUOR_TYPE");
+		secondClause.in("VODKA", "it's");
+
+		assertTrue(firstClause.toString().endsWith("IN(? ,?)"));
+		assertEquals(firstClause.toString(), secondClause.toString());
+
+		assertArrayEquals(new Object[] {"VODKA", "it's"}, secondClause.getArguments());
+	}
+
+	@Test
+	public void keepsTypeOfValues() {
+
+		Where where = new Where();
+
+		Clause clause = where.where("ALCHOL_CONTENT");
+		clause.between(40.5, 60L);
+
+		assertArrayEquals(new Object[] {Double.valueOf(40.5), Long.valueOf(60)}, clause.getArguments());
+	}
+
+	@Test
+	public void deletesThroughBoundArguments() throws DatabaseException {
+
+		Where where = new Where();
+
+		Clause clause = where.where("LIQUOR_TYPE");
+		clause.notEqualTo("RUM");
+
+		DatabaseHelper.delete(new Liquor(), clause.toString(), clause.getArguments());
+
+		RecordingDatabase database = databaseFixture.getDatabase();
+
+		List<String> executions = database.getExecutions();
+		assertEquals(Collections.singletonList("DELETE FROM LIQUOR WHERE LIQUOR_TYPE!= ? "), executions);
+		assertEquals(Arrays.<Object>asList("RUM"), database.getBindValues().get(0));
+	}
+}
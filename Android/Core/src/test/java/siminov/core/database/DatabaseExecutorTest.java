@@ -0,0 +1,221 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import siminov.core.database.design.IAsyncCallback;
+import siminov.core.exception.DatabaseException;
+import siminov.core.model.DatabaseDescriptor;
+
+public class DatabaseExecutorTest {
+
+	private static final long TIMEOUT = 5000;
+
+	private DatabaseExecutor executor;
+	private final CountDownLatch writerReleased = new CountDownLatch(1);
+
+	@Before
+	public void setUp() {
+
+		DatabaseDescriptor databaseDescriptor = new DatabaseDescriptor();
+		databaseDescriptor.setDatabaseName("SIMINOV-EXECUTOR-TEST");
+		databaseDescriptor.setAsyncQueueSize(2);
+
+		executor = DatabaseExecutor.getInstance(databaseDescriptor);
+	}
+
+	@After
+	public void tearDown() {
+
+		writerReleased.countDown();
+		DatabaseExecutor.shutdownAll();
+	}
+
+	@Test
+	public void releasesPlaceOfOperationCancelledBeforeItRuns() throws Exception {
+
+		Future<Void> blockingWrite = executor.submitWrite(new BlockingOperation(), null);
+		Future<Void> queuedWrite = executor.submitWrite(new BlockingOperation(), null);
+
+		assertEquals(2, executor.getQueueDepth());
+
+		assertTrue(queuedWrite.cancel(false));
+		assertEquals(1, executor.getQueueDepth());
+		assertEquals(1, executor.getPendingWriteCount());
+
+		Future<Void> nextWrite = executor.submitWrite(new BlockingOperation(), null);
+		assertEquals(0, executor.getBlockedSubmitCount());
+
+		writerReleased.countDown();
+		blockingWrite.get(TIMEOUT, TimeUnit.MILLISECONDS);
+		nextWrite.get(TIMEOUT, TimeUnit.MILLISECONDS);
+
+		awaitQueueDepth(0);
+		assertEquals(0, executor.getPendingWriteCount());
+		assertEquals(3, executor.getCompletedWriteCount());
+	}
+
+	@Test
+	public void releasesPlaceOfFailedOperation() throws Exception {
+
+		final List<DatabaseException> failures = Collections.synchronizedList(new ArrayList<DatabaseException>());
+
+		Future<Void> write = executor.submitWrite(new Callable<Void>() {
+
+			public Void call() throws Exception {
+				throw new IllegalStateException("constraint failed");
+			}
+		}, new IAsyncCallback<Void>() {
+
+			public void onSuccess(final Void result) {
+				fail();
+			}
+
+			public void onFailure(final DatabaseException databaseException) {
+				failures.add(databaseException);
+			}
+		});
+
+		try {
+			write.get(TIMEOUT, TimeUnit.MILLISECONDS);
+			fail();
+		} catch(ExecutionException executionException) {
+			assertTrue(executionException.getCause() instanceof IllegalStateException);
+		}
+
+		awaitQueueDepth(0);
+		assertEquals(1, executor.getFailedCount());
+		assertEquals(1, failures.size());
+		assertTrue(failures.get(0).getMessage().contains("constraint failed"));
+	}
+
+	@Test
+	public void blocksSubmitWhileQueueIsFull() throws Exception {
+
+		executor.submitWrite(new BlockingOperation(), null);
+		executor.submitRead(new BlockingOperation(), null);
+
+		final List<Future<Void>> submitted = Collections.synchronizedList(new ArrayList<Future<Void>>());
+		Thread submitter = new Thread(new Runnable() {
+
+			public void run() {
+				try {
+					submitted.add(executor.submitWrite(new BlockingOperation(), null));
+				} catch(DatabaseException databaseException) {
+				}
+			}
+		});
+
+		submitter.start();
+
+		long deadline = System.currentTimeMillis() + TIMEOUT;
+		while(executor.getBlockedSubmitCount() == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+
+		assertEquals(1, executor.getBlockedSubmitCount());
+		assertTrue(submitted.isEmpty());
+
+		writerReleased.countDown();
+		submitter.join(TIMEOUT);
+
+		assertEquals(1, submitted.size());
+		submitted.get(0).get(TIMEOUT, TimeUnit.MILLISECONDS);
+
+		assertEquals(2, executor.getPeakQueueDepth());
+	}
+
+	@Test
+	public void executesWritesInOrderSubmitted() throws Exception {
+
+		final List<Integer> order = Collections.synchronizedList(new ArrayList<Integer>());
+
+		Future<Void> lastWrite = null;
+		for(int i = 0;i < 10;i++) {
+			final int index = i;
+
+			lastWrite = executor.submitWrite(new Callable<Void>() {
+
+				public Void call() {
+					order.add(index);
+					return null;
+				}
+			}, null);
+		}
+
+		lastWrite.get(TIMEOUT, TimeUnit.MILLISECONDS);
+		assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), order);
+	}
+
+	@Test
+	public void rejectsOperationOnceShutdown() throws Exception {
+
+		DatabaseExecutor.shutdownAll();
+
+		try {
+			executor.submitWrite(new BlockingOperation(), null);
+			fail();
+		} catch(DatabaseException databaseException) {
+		}
+
+		assertEquals(0, executor.getQueueDepth());
+		assertEquals(0, executor.getPendingWriteCount());
+	}
+
+
+	/**
+	 * Place in queue is freed by executor thread after future completes, so wait for it.
+	 */
+	private void awaitQueueDepth(final int queueDepth) throws InterruptedException {
+
+		long deadline = System.currentTimeMillis() + TIMEOUT;
+		while(executor.getQueueDepth() != queueDepth && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+
+		assertEquals(queueDepth, executor.getQueueDepth());
+	}
+
+	/**
+	 * Operation which keeps its thread busy till writer is released.
+	 */
+	private class BlockingOperation implements Callable<Void> {
+
+		public Void call() throws InterruptedException {
+			writerReleased.await(TIMEOUT, TimeUnit.MILLISECONDS);
+			return null;
+		}
+	}
+}
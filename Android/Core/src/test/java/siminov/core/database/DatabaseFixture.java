@@ -0,0 +1,148 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import siminov.core.Siminov;
+import siminov.core.database.design.IDataTypeHandler;
+import siminov.core.model.ApplicationDescriptor;
+import siminov.core.model.DatabaseDescriptor;
+import siminov.core.model.EntityDescriptor;
+import siminov.core.model.EntityDescriptor.Attribute;
+import siminov.core.resource.ResourceManager;
+
+/**
+ * Database descriptor with entities, deployed on a recording database, for tests of DatabaseHelper and the layers around it.
+ * <p>
+ * Entities are added before it is started. Starting it marks SIMINOV active, and stopping it removes everything it deployed.
+ */
+class DatabaseFixture {
+
+	static final String DATABASE_NAME = "SIMINOV-TEST";
+
+	private final ResourceManager resourceManager = ResourceManager.getInstance();
+
+	private final DatabaseDescriptor databaseDescriptor = new DatabaseDescriptor();
+	private final RecordingDatabase database = new RecordingDatabase();
+
+	private DatabaseBundle databaseBundle = null;
+
+	DatabaseFixture() {
+		this.databaseDescriptor.setDatabaseName(DATABASE_NAME);
+		this.databaseDescriptor.setType("sqlite");
+	}
+
+	DatabaseDescriptor getDatabaseDescriptor() {
+		return this.databaseDescriptor;
+	}
+
+	RecordingDatabase getDatabase() {
+		return this.database;
+	}
+
+	DatabaseBundle getDatabaseBundle() {
+		return this.databaseBundle;
+	}
+
+	/**
+	 * Add entity of Liquor class, with LIQUOR_TYPE as primary key and DESCRIPTION column.
+	 */
+	EntityDescriptor addLiquor() {
+
+		EntityDescriptor entityDescriptor = addEntity(Liquor.class.getName(), "LIQUOR");
+		addAttribute(entityDescriptor, "liquorType", "LIQUOR_TYPE", true);
+		addAttribute(entityDescriptor, "description", "DESCRIPTION", false);
+
+		return entityDescriptor;
+	}
+
+	EntityDescriptor addEntity(final String className, final String tableName) {
+
+		EntityDescriptor entityDescriptor = new EntityDescriptor();
+		entityDescriptor.setClassName(className);
+		entityDescriptor.setTableName(tableName);
+
+		this.databaseDescriptor.addEntityDescriptor(className, entityDescriptor);
+		return entityDescriptor;
+	}
+
+	static Attribute addAttribute(final EntityDescriptor entityDescriptor, final String variableName, final String columnName, final boolean primaryKey) {
+
+		String methodSuffix = Character.toUpperCase(variableName.charAt(0)) + variableName.substring(1);
+
+		Attribute attribute = new Attribute();
+		attribute.setVariableName(variableName);
+		attribute.setColumnName(columnName);
+		attribute.setType(IDataTypeHandler.STRING_DATA_TYPE);
+		attribute.setGetterMethodName("get" + methodSuffix);
+		attribute.setSetterMethodName("set" + methodSuffix);
+		attribute.setPrimaryKey(primaryKey);
+		attribute.setNotNull(primaryKey);
+
+		entityDescriptor.addAttribute(attribute);
+		return attribute;
+	}
+
+	/**
+	 * Deploy database descriptor on recording database and mark SIMINOV active.
+	 */
+	void start() {
+
+		ApplicationDescriptor applicationDescriptor = new ApplicationDescriptor();
+		applicationDescriptor.addDatabaseDescriptor(DATABASE_NAME, this.databaseDescriptor);
+
+		this.resourceManager.setApplicationDescriptor(applicationDescriptor);
+		this.resourceManager.indexDescriptors();
+
+		this.databaseBundle = this.resourceManager.getDatabaseBundle(DATABASE_NAME);
+		this.databaseBundle.setDatabase(this.database);
+
+		TestSiminov.setActive(true);
+	}
+
+	/**
+	 * Write buffered writes, and remove everything deployed by start.
+	 */
+	void stop() {
+
+		WriteBehindQueue.shutdownAll();
+		WriteBehindQueue.open();
+
+		EntityCache.clearAll();
+
+		if(this.databaseBundle != null) {
+			this.resourceManager.removeDatabaseBundle(DATABASE_NAME);
+			this.databaseBundle = null;
+		}
+
+		this.resourceManager.setApplicationDescriptor(null);
+
+		TestSiminov.setActive(false);
+	}
+
+
+	/**
+	 * Marks SIMINOV active without reading any descriptor or opening any database.
+	 */
+	private static class TestSiminov extends Siminov {
+
+		@SuppressWarnings("deprecation")
+		private static void setActive(final boolean active) {
+			isActive = active;
+		}
+	}
+}
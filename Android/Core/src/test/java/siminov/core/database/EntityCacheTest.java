@@ -0,0 +1,188 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import siminov.core.exception.DatabaseException;
+import siminov.core.model.EntityDescriptor;
+
+public class EntityCacheTest {
+
+	private static final int CACHE_SIZE = 2;
+
+	private static final List<String> RUM = Collections.singletonList("RUM");
+	private static final List<String> GIN = Collections.singletonList("GIN");
+	private static final List<String> VODKA = Collections.singletonList("VODKA");
+
+	private DatabaseFixture databaseFixture;
+	private EntityCache entityCache;
+
+	@Before
+	public void setUp() {
+
+		databaseFixture = new DatabaseFixture();
+
+		EntityDescriptor entityDescriptor = databaseFixture.addLiquor();
+		entityDescriptor.setCacheSize(CACHE_SIZE);
+
+		databaseFixture.start();
+
+		entityCache = EntityCache.getEntityCache(entityDescriptor);
+		entityCache.clear();
+	}
+
+	@After
+	public void tearDown() {
+		databaseFixture.stop();
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedTuple() {
+
+		long evictionCount = entityCache.getEvictionCount();
+
+		entityCache.put(RUM, newTuple("RUM"), entityCache.getGeneration());
+		entityCache.put(GIN, newTuple("GIN"), entityCache.getGeneration());
+
+		assertNotNull(entityCache.get(RUM));
+
+		entityCache.put(VODKA, newTuple("VODKA"), entityCache.getGeneration());
+
+		assertEquals(CACHE_SIZE, entityCache.getSize());
+		assertEquals(evictionCount + 1, entityCache.getEvictionCount());
+
+		assertNotNull(entityCache.get(RUM));
+		assertNull(entityCache.get(GIN));
+		assertNotNull(entityCache.get(VODKA));
+	}
+
+	@Test
+	public void countsHitsAndMisses() {
+
+		long hitCount = entityCache.getHitCount();
+		long missCount = entityCache.getMissCount();
+
+		Map<String, Object> tuple = newTuple("RUM");
+		entityCache.put(RUM, tuple, entityCache.getGeneration());
+
+		assertSame(tuple, entityCache.get(RUM));
+		assertNull(entityCache.get(GIN));
+
+		assertEquals(hitCount + 1, entityCache.getHitCount());
+		assertEquals(missCount + 1, entityCache.getMissCount());
+	}
+
+	@Test
+	public void doesNotCacheTupleReadBeforeWrite() {
+
+		long generation = entityCache.getGeneration();
+
+		entityCache.remove(RUM);
+		entityCache.put(RUM, newTuple("RUM"), generation);
+
+		assertNull(entityCache.get(RUM));
+	}
+
+	@Test
+	public void neitherServesNorCachesWithinTransaction() {
+
+		entityCache.put(RUM, newTuple("RUM"), entityCache.getGeneration());
+
+		EntityCache.beginTransaction(DatabaseFixture.DATABASE_NAME);
+		EntityCache.beginTransaction(DatabaseFixture.DATABASE_NAME);
+
+		long generation = entityCache.getGeneration();
+
+		assertNull(entityCache.get(RUM));
+
+		entityCache.put(GIN, newTuple("GIN"), generation);
+
+		/*
+		 * Nested transaction ends, outer transaction is still open.
+		 */
+		EntityCache.endTransaction(DatabaseFixture.DATABASE_NAME);
+		assertNull(entityCache.get(RUM));
+
+		EntityCache.endTransaction(DatabaseFixture.DATABASE_NAME);
+		assertNotNull(entityCache.get(RUM));
+		assertNull(entityCache.get(GIN));
+
+		/*
+		 * Tuple read within transaction is not cached once it ends.
+		 */
+		entityCache.put(GIN, newTuple("GIN"), generation);
+		assertNull(entityCache.get(GIN));
+	}
+
+	@Test
+	public void keepsTransactionsOfOtherDatabasesApart() {
+
+		entityCache.put(RUM, newTuple("RUM"), entityCache.getGeneration());
+
+		EntityCache.beginTransaction("SIMINOV-OTHER");
+		try {
+			assertNotNull(entityCache.get(RUM));
+		} finally {
+			EntityCache.endTransaction("SIMINOV-OTHER");
+		}
+	}
+
+	@Test
+	public void removesTupleOfWrittenObject() throws DatabaseException {
+
+		entityCache.put(RUM, newTuple("RUM"), entityCache.getGeneration());
+		entityCache.put(GIN, newTuple("GIN"), entityCache.getGeneration());
+
+		DatabaseHelper.save(new Liquor("RUM", "Dark"));
+
+		assertNull(entityCache.get(RUM));
+		assertNotNull(entityCache.get(GIN));
+	}
+
+	@Test
+	public void clearsAllTuplesOnDirectWrite() throws DatabaseException {
+
+		entityCache.put(RUM, newTuple("RUM"), entityCache.getGeneration());
+
+		DatabaseHelper.invalidateCaches(databaseFixture.getDatabaseDescriptor(), "UPDATE LIQUOR SET DESCRIPTION = 'Dark'");
+
+		assertNull(entityCache.get(RUM));
+	}
+
+
+	private static Map<String, Object> newTuple(final String liquorType) {
+
+		Map<String, Object> tuple = new HashMap<String, Object>();
+		tuple.put("LIQUOR_TYPE", liquorType);
+
+		return tuple;
+	}
+}
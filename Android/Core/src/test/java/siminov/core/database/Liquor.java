@@ -0,0 +1,51 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+/**
+ * Entity written and read by tests through a recording database.
+ */
+public class Liquor {
+
+	private String liquorType;
+	private String description;
+
+	public Liquor() {
+	}
+
+	public Liquor(final String liquorType, final String description) {
+		this.liquorType = liquorType;
+		this.description = description;
+	}
+
+	public String getLiquorType() {
+		return this.liquorType;
+	}
+
+	public void setLiquorType(final String liquorType) {
+		this.liquorType = liquorType;
+	}
+
+	public String getDescription() {
+		return this.description;
+	}
+
+	public void setDescription(final String description) {
+		this.description = description;
+	}
+}
@@ -0,0 +1,217 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import siminov.core.Constants;
+import siminov.core.exception.DatabaseException;
+import siminov.core.model.EntityDescriptor;
+import siminov.core.model.EntityDescriptor.Relationship;
+
+public class QueryCacheTest {
+
+	private static final List<String> LIQUOR_QUERY = QueryCache.formKey("SELECT * FROM LIQUOR", null);
+	private static final List<String> BRAND_QUERY = QueryCache.formKey("SELECT * FROM LIQUOR_BRAND", null);
+	private static final List<String> SHOP_QUERY = QueryCache.formKey("SELECT * FROM SHOP", null);
+
+	private static final List<Map<String, Object>> TUPLES = Collections.emptyList();
+
+	private DatabaseFixture databaseFixture;
+	private QueryCache queryCache;
+
+	@Before
+	public void setUp() {
+
+		databaseFixture = new DatabaseFixture();
+		databaseFixture.getDatabaseDescriptor().setQueryCacheSize(3);
+		databaseFixture.getDatabaseDescriptor().setQueryCacheMetricsEnable(true);
+
+		databaseFixture.addLiquor();
+
+		Relationship relationship = new Relationship();
+		relationship.setType(Constants.ENTITY_DESCRIPTOR_RELATIONSHIP_TYPE_MANY_TO_ONE);
+		relationship.setRefer("liquor");
+		relationship.setReferTo(Liquor.class.getName());
+
+		EntityDescriptor brandDescriptor = databaseFixture.addEntity("siminov.core.database.LiquorBrand", "LIQUOR_BRAND");
+		brandDescriptor.addRelationship(relationship);
+
+		databaseFixture.start();
+
+		queryCache = databaseFixture.getDatabaseBundle().getQueryCache();
+	}
+
+	@After
+	public void tearDown() {
+		databaseFixture.stop();
+	}
+
+	@Test
+	public void formsKeyOfQueryAndTypedArguments() {
+
+		assertEquals(QueryCache.formKey("SELECT * FROM LIQUOR ", new Object[] {1}), QueryCache.formKey("SELECT * FROM LIQUOR", new Object[] {1}));
+
+		assertFalse(QueryCache.formKey("SELECT * FROM LIQUOR", new Object[] {1}).equals(QueryCache.formKey("SELECT * FROM LIQUOR", new Object[] {"1"})));
+		assertFalse(QueryCache.formKey("SELECT * FROM LIQUOR", new Object[] {1}).equals(QueryCache.formKey("SELECT * FROM LIQUOR", new Object[] {1L})));
+
+		assertEquals(QueryCache.formKey("SELECT * FROM LIQUOR", new Object[] {new byte[] {1, 2}}), QueryCache.formKey("SELECT * FROM LIQUOR", new Object[] {new byte[] {1, 2}}));
+	}
+
+	@Test
+	public void invalidatesResultsOfWrittenTableOnly() {
+
+		putAll();
+
+		queryCache.invalidate("liquor");
+
+		assertNull(queryCache.get(LIQUOR_QUERY));
+		assertNotNull(queryCache.get(BRAND_QUERY));
+		assertEquals(1, queryCache.getInvalidationCount());
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedResult() {
+
+		putAll();
+		assertNotNull(queryCache.get(LIQUOR_QUERY));
+
+		queryCache.put(QueryCache.formKey("SELECT * FROM LIQUOR", new Object[] {"RUM"}), Arrays.asList("LIQUOR"), TUPLES, queryCache.getGeneration());
+
+		assertEquals(3, queryCache.getSize());
+		assertEquals(1, queryCache.getEvictionCount());
+		assertNull(queryCache.get(BRAND_QUERY));
+		assertNotNull(queryCache.get(LIQUOR_QUERY));
+	}
+
+	@Test
+	public void doesNotServeExpiredResult() throws InterruptedException {
+
+		QueryCache expiringQueryCache = new QueryCache(3, 1, true);
+		expiringQueryCache.put(LIQUOR_QUERY, Arrays.asList("LIQUOR"), TUPLES, expiringQueryCache.getGeneration());
+
+		Thread.sleep(10);
+
+		assertNull(expiringQueryCache.get(LIQUOR_QUERY));
+		assertEquals(0, expiringQueryCache.getSize());
+	}
+
+	@Test
+	public void doesNotCacheResultReadBeforeWrite() {
+
+		long generation = queryCache.getGeneration();
+
+		queryCache.invalidate("SHOP");
+		queryCache.put(LIQUOR_QUERY, Arrays.asList("LIQUOR"), TUPLES, generation);
+
+		assertNull(queryCache.get(LIQUOR_QUERY));
+	}
+
+	@Test
+	public void invalidatesTablesWrittenWithinTransactionOnceItEnds() {
+
+		putAll();
+
+		queryCache.beginTransaction();
+		queryCache.beginTransaction();
+
+		assertTrue(queryCache.isTransactionOpen());
+		assertNull(queryCache.get(SHOP_QUERY));
+
+		long generation = queryCache.getGeneration();
+		queryCache.invalidate("SHOP");
+
+		/*
+		 * Result read within transaction is neither cached, nor cached once transaction ends.
+		 */
+		queryCache.put(SHOP_QUERY, Arrays.asList("SHOP"), TUPLES, queryCache.getGeneration());
+
+		queryCache.endTransaction();
+		assertTrue(queryCache.isTransactionOpen());
+
+		queryCache.endTransaction();
+		assertFalse(queryCache.isTransactionOpen());
+
+		assertNull(queryCache.get(SHOP_QUERY));
+		assertNotNull(queryCache.get(LIQUOR_QUERY));
+
+		queryCache.put(SHOP_QUERY, Arrays.asList("SHOP"), TUPLES, generation);
+		assertNull(queryCache.get(SHOP_QUERY));
+	}
+
+	@Test
+	public void invalidatesWrittenAndReferingTablesOnSave() throws DatabaseException {
+
+		putAll();
+
+		DatabaseHelper.save(new Liquor("RUM", "Dark"));
+
+		assertNull(queryCache.get(LIQUOR_QUERY));
+		assertNull(queryCache.get(BRAND_QUERY));
+		assertNotNull(queryCache.get(SHOP_QUERY));
+	}
+
+	@Test
+	public void invalidatesTableWrittenByDirectQuery() throws DatabaseException {
+
+		putAll();
+
+		DatabaseHelper.invalidateCaches(databaseFixture.getDatabaseDescriptor(), "SELECT * FROM SHOP");
+		DatabaseHelper.invalidateCaches(databaseFixture.getDatabaseDescriptor(), "SAVEPOINT SIMINOV");
+		assertEquals(3, queryCache.getSize());
+
+		DatabaseHelper.invalidateCaches(databaseFixture.getDatabaseDescriptor(), "UPDATE \"SHOP\" SET NAME = 'Corner'");
+		assertNull(queryCache.get(SHOP_QUERY));
+		assertNotNull(queryCache.get(LIQUOR_QUERY));
+
+		DatabaseHelper.invalidateCaches(databaseFixture.getDatabaseDescriptor(), "INSERT OR IGNORE INTO LIQUOR(LIQUOR_TYPE) VALUES('RUM')");
+		assertNull(queryCache.get(LIQUOR_QUERY));
+		assertNull(queryCache.get(BRAND_QUERY));
+	}
+
+	@Test
+	public void clearsAllResultsOnSchemaChange() throws DatabaseException {
+
+		putAll();
+
+		DatabaseHelper.invalidateCaches(databaseFixture.getDatabaseDescriptor(), "DROP TABLE SHOP");
+
+		assertEquals(0, queryCache.getSize());
+	}
+
+
+	private void putAll() {
+
+		queryCache.put(LIQUOR_QUERY, Arrays.asList("LIQUOR"), TUPLES, queryCache.getGeneration());
+		queryCache.put(BRAND_QUERY, Arrays.asList("LIQUOR_BRAND"), TUPLES, queryCache.getGeneration());
+		queryCache.put(SHOP_QUERY, Arrays.asList("SHOP"), TUPLES, queryCache.getGeneration());
+	}
+}
@@ -0,0 +1,191 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import siminov.core.database.sqlite.QueryBuilder;
+import siminov.core.model.EntityDescriptor;
+
+public class QueryTemplatesTest {
+
+	private CountingQueryBuilder queryBuilder;
+	private QueryTemplates queryTemplates;
+
+	private EntityDescriptor liquorDescriptor;
+	private EntityDescriptor brandDescriptor;
+
+	@Before
+	public void setUp() {
+
+		queryBuilder = new CountingQueryBuilder();
+		queryTemplates = new QueryTemplates(queryBuilder);
+
+		liquorDescriptor = new EntityDescriptor();
+		liquorDescriptor.setClassName(Liquor.class.getName());
+		liquorDescriptor.setTableName("LIQUOR");
+		DatabaseFixture.addAttribute(liquorDescriptor, "liquorType", "LIQUOR_TYPE", true);
+		DatabaseFixture.addAttribute(liquorDescriptor, "description", "DESCRIPTION", false);
+
+		brandDescriptor = new EntityDescriptor();
+		brandDescriptor.setClassName("siminov.core.database.LiquorBrand");
+		brandDescriptor.setTableName("LIQUOR_BRAND");
+	}
+
+	@Test
+	public void formsQueryOnceForSameColumns() {
+
+		String query = queryTemplates.getSaveQuery(liquorDescriptor, Arrays.asList("LIQUOR_TYPE", "DESCRIPTION"));
+
+		assertSame(query, queryTemplates.getSaveQuery(liquorDescriptor, Arrays.asList("LIQUOR_TYPE", "DESCRIPTION")));
+		assertSame(query, queryTemplates.getSaveQuery(liquorDescriptor, new ArrayList<String>(Arrays.asList("LIQUOR_TYPE", "DESCRIPTION"))));
+		assertEquals(1, queryBuilder.formed);
+
+		String reorderedQuery = queryTemplates.getSaveQuery(liquorDescriptor, Arrays.asList("DESCRIPTION", "LIQUOR_TYPE"));
+		assertFalse(query.equals(reorderedQuery));
+		assertEquals(2, queryBuilder.formed);
+	}
+
+	@Test
+	public void keepsQueriesOfTypesAndTablesApart() {
+
+		List<String> columnNames = Arrays.asList("LIQUOR_TYPE");
+
+		queryTemplates.getSaveQuery(liquorDescriptor, columnNames);
+		queryTemplates.getDeleteQuery(liquorDescriptor, columnNames);
+		queryTemplates.getSaveQuery(brandDescriptor, columnNames);
+
+		assertEquals(3, queryBuilder.formed);
+		assertEquals(3, queryTemplates.getSize());
+
+		queryTemplates.getDeleteQuery(liquorDescriptor, columnNames);
+		assertEquals(3, queryBuilder.formed);
+	}
+
+	@Test
+	public void matchesUpdatedAndKeyColumnsSeparately() {
+
+		String query = queryTemplates.getUpdateQuery(liquorDescriptor, Arrays.asList("DESCRIPTION"), Arrays.asList("LIQUOR_TYPE"));
+		String otherQuery = queryTemplates.getUpdateQuery(liquorDescriptor, Arrays.asList("DESCRIPTION", "LIQUOR_TYPE"), Collections.<String>emptyList());
+
+		assertFalse(query.equals(otherQuery));
+		assertSame(query, queryTemplates.getUpdateQuery(liquorDescriptor, Arrays.asList("DESCRIPTION"), Arrays.asList("LIQUOR_TYPE")));
+		assertEquals(2, queryBuilder.formed);
+	}
+
+	@Test
+	public void matchesSelectOnWhereClause() {
+
+		String query = queryTemplates.getSelectQuery(liquorDescriptor, "LIQUOR_TYPE = ?");
+
+		assertSame(query, queryTemplates.getSelectQuery(liquorDescriptor, new String("LIQUOR_TYPE = ?")));
+		assertFalse(query.equals(queryTemplates.getSelectQuery(liquorDescriptor, "DESCRIPTION = ?")));
+		assertEquals(2, queryBuilder.formed);
+	}
+
+	@Test
+	public void copiesColumnNamesOfCaller() {
+
+		Collection<String> columnNames = new ArrayList<String>(Arrays.asList("LIQUOR_TYPE", "DESCRIPTION"));
+		String query = queryTemplates.getSaveQuery(liquorDescriptor, columnNames);
+
+		columnNames.remove("DESCRIPTION");
+
+		assertFalse(query.equals(queryTemplates.getSaveQuery(liquorDescriptor, columnNames)));
+		assertSame(query, queryTemplates.getSaveQuery(liquorDescriptor, Arrays.asList("LIQUOR_TYPE", "DESCRIPTION")));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedQueryOfTable() {
+
+		String brandQuery = queryTemplates.getSaveQuery(brandDescriptor, Arrays.asList("BRAND"));
+		String firstQuery = queryTemplates.getSaveQuery(liquorDescriptor, Arrays.asList("COLUMN_0"));
+		String secondQuery = queryTemplates.getSaveQuery(liquorDescriptor, Arrays.asList("COLUMN_1"));
+
+		for(int i = 2;i <= 64;i++) {
+
+			/*
+			 * Second query is used again, so first query becomes least recently used.
+			 */
+			queryTemplates.getSaveQuery(liquorDescriptor, Arrays.asList("COLUMN_" + i));
+			queryTemplates.getSaveQuery(liquorDescriptor, Arrays.asList("COLUMN_1"));
+		}
+
+		assertEquals(65, queryTemplates.getSize());
+
+		int formed = queryBuilder.formed;
+		assertSame(secondQuery, queryTemplates.getSaveQuery(liquorDescriptor, Arrays.asList("COLUMN_1")));
+		assertSame(brandQuery, queryTemplates.getSaveQuery(brandDescriptor, Arrays.asList("BRAND")));
+		assertEquals(formed, queryBuilder.formed);
+
+		assertFalse(firstQuery == queryTemplates.getSaveQuery(liquorDescriptor, Arrays.asList("COLUMN_0")));
+		assertEquals(formed + 1, queryBuilder.formed);
+	}
+
+	@Test
+	public void formsQueriesAgainOnceCleared() {
+
+		queryTemplates.getSaveQuery(liquorDescriptor, Arrays.asList("LIQUOR_TYPE"));
+		queryTemplates.clear();
+
+		assertEquals(0, queryTemplates.getSize());
+
+		queryTemplates.getSaveQuery(liquorDescriptor, Arrays.asList("LIQUOR_TYPE"));
+		assertEquals(2, queryBuilder.formed);
+	}
+
+
+	/**
+	 * Query builder which counts queries it forms. Select query is formed by test itself, as QueryBuilder needs android.text to form it.
+	 */
+	private static class CountingQueryBuilder extends QueryBuilder {
+
+		private int formed = 0;
+
+		public String formSaveBindQuery(final InsertSpec insertSpec) {
+			formed++;
+			return super.formSaveBindQuery(insertSpec);
+		}
+
+		public String formUpdateBindQuery(final UpdateSpec updateSpec) {
+			formed++;
+			return super.formUpdateBindQuery(updateSpec);
+		}
+
+		public String formDeleteQuery(final DeleteSpec deleteSpec) {
+			formed++;
+			return super.formDeleteQuery(deleteSpec);
+		}
+
+		public String formSelectQuery(final SelectSpec selectSpec) {
+			formed++;
+			return new String("SELECT * FROM " + selectSpec.getTableName() + " WHERE " + selectSpec.getWhereClause());
+		}
+	}
+}
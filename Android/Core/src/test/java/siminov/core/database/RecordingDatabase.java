@@ -0,0 +1,190 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import siminov.core.database.design.ICursor;
+import siminov.core.database.design.IDatabaseImpl;
+import siminov.core.database.design.IStatement;
+import siminov.core.exception.DatabaseException;
+import siminov.core.model.DatabaseDescriptor;
+import siminov.core.model.EntityDescriptor;
+
+/**
+ * Database implementation which records queries and methods executed on it instead of executing them.
+ * <p>
+ * Bind queries and statements fail for values marked as failing, and any execution fails with queued failure messages, so error paths can be exercised.
+ */
+class RecordingDatabase implements IDatabaseImpl {
+
+	private final List<String> executions = new ArrayList<String>();
+	private final List<List<Object>> bindValues = new ArrayList<List<Object>>();
+
+	private final Set<Object> failingValues = new HashSet<Object>();
+	private final LinkedList<String> failures = new LinkedList<String>();
+
+	private List<Map<String, Object>> tuples = Collections.emptyList();
+
+	private int compiledStatements = 0;
+	private int closedStatements = 0;
+	private int selects = 0;
+
+	/**
+	 * Get queries and method names executed, in order.
+	 */
+	synchronized List<String> getExecutions() {
+		return new ArrayList<String>(this.executions);
+	}
+
+	/**
+	 * Get values bound to bind queries and statements executed, in order.
+	 */
+	synchronized List<List<Object>> getBindValues() {
+		return new ArrayList<List<Object>>(this.bindValues);
+	}
+
+	synchronized void clearExecutions() {
+		this.executions.clear();
+		this.bindValues.clear();
+	}
+
+	/**
+	 * Make every bind query or statement binding value fail.
+	 */
+	synchronized void failOnValue(final Object value) {
+		this.failingValues.add(value);
+	}
+
+	/**
+	 * Make next execution fail with message.
+	 */
+	synchronized void failNext(final String message) {
+		this.failures.add(message);
+	}
+
+	/**
+	 * Set tuples returned by every select.
+	 */
+	synchronized void setTuples(final List<Map<String, Object>> tuples) {
+		this.tuples = tuples;
+	}
+
+	synchronized int getCompiledStatements() {
+		return this.compiledStatements;
+	}
+
+	synchronized int getClosedStatements() {
+		return this.closedStatements;
+	}
+
+	synchronized int getSelects() {
+		return this.selects;
+	}
+
+
+	public void openOrCreate(final DatabaseDescriptor databaseDescriptor) throws DatabaseException {
+	}
+
+	public void close(final DatabaseDescriptor databaseDescriptor) throws DatabaseException {
+	}
+
+	public synchronized void executeQuery(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query) throws DatabaseException {
+		execute(query, null);
+	}
+
+	public synchronized void executeBindQuery(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query, final Iterator<Object> columnValues) throws DatabaseException {
+		execute(query, columnValues);
+	}
+
+	public synchronized IStatement compileBindQuery(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query) throws DatabaseException {
+
+		this.compiledStatements++;
+
+		return new IStatement() {
+
+			public void execute(final Iterator<Object> columnValues) throws DatabaseException {
+
+				synchronized(RecordingDatabase.this) {
+					RecordingDatabase.this.execute(query, columnValues);
+				}
+			}
+
+			public void close() {
+
+				synchronized(RecordingDatabase.this) {
+					closedStatements++;
+				}
+			}
+		};
+	}
+
+	public Iterator<Map<String, Object>> executeSelectQuery(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query) throws DatabaseException {
+		return executeSelectQuery(databaseDescriptor, entityDescriptor, query, null);
+	}
+
+	public synchronized Iterator<Map<String, Object>> executeSelectQuery(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query, final Object[] arguments) throws DatabaseException {
+
+		this.selects++;
+		execute(query, arguments != null ? Arrays.asList(arguments).iterator() : null);
+
+		return new ArrayList<Map<String, Object>>(this.tuples).iterator();
+	}
+
+	public ICursor<Map<String, Object>> executeSelectCursor(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query) throws DatabaseException {
+		throw new UnsupportedOperationException();
+	}
+
+	public ICursor<Map<String, Object>> executeSelectCursor(final DatabaseDescriptor databaseDescriptor, final EntityDescriptor entityDescriptor, final String query, final Object[] arguments) throws DatabaseException {
+		throw new UnsupportedOperationException();
+	}
+
+	public synchronized void executeMethod(final String methodName, final Object parameters) throws DatabaseException {
+		execute(methodName, null);
+	}
+
+
+	private void execute(final String query, final Iterator<Object> columnValues) throws DatabaseException {
+
+		List<Object> values = new ArrayList<Object>();
+		while(columnValues != null && columnValues.hasNext()) {
+			values.add(columnValues.next());
+		}
+
+		if(!this.failures.isEmpty()) {
+			throw new DatabaseException(RecordingDatabase.class.getName(), "execute", this.failures.removeFirst());
+		}
+
+		for(int i = 0;i < values.size();i++) {
+			if(this.failingValues.contains(values.get(i))) {
+				throw new DatabaseException(RecordingDatabase.class.getName(), "execute", "constraint failed, QUERY: " + query);
+			}
+		}
+
+		this.executions.add(query);
+		this.bindValues.add(values);
+	}
+}
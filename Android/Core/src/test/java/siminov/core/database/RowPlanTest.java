@@ -0,0 +1,163 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import siminov.core.database.design.IDataTypeHandler;
+import siminov.core.model.EntityDescriptor;
+import siminov.core.model.EntityDescriptor.Attribute;
+import siminov.core.model.EntityDescriptor.Relationship;
+
+public class RowPlanTest {
+
+	private EntityDescriptor entityDescriptor;
+
+	@Before
+	public void setUp() {
+
+		EntityDescriptor liquorDescriptor = new EntityDescriptor();
+		liquorDescriptor.setClassName("Liquor");
+		liquorDescriptor.setTableName("LIQUOR");
+		liquorDescriptor.addAttribute(newAttribute("liquorType", "LIQUOR_TYPE", IDataTypeHandler.STRING_DATA_TYPE));
+		liquorDescriptor.addAttribute(newAttribute("alcholContent", "ALCHOL_CONTENT", IDataTypeHandler.PRIMITIVE_DOUBLE_DATA_TYPE));
+
+		Relationship relationship = new Relationship();
+		relationship.setRefer("liquor");
+		relationship.setReferTo("Liquor");
+		relationship.setReferedEntityDescriptor(liquorDescriptor);
+
+		entityDescriptor = new EntityDescriptor();
+		entityDescriptor.setClassName("LiquorBrand");
+		entityDescriptor.setTableName("LIQUOR_BRAND");
+		entityDescriptor.addAttribute(newAttribute("brandName", "BRAND_NAME", IDataTypeHandler.STRING_DATA_TYPE));
+		entityDescriptor.addAttribute(newAttribute("rank", "RANK", IDataTypeHandler.PRIMITIVE_INTEGER_DATA_TYPE));
+		entityDescriptor.addAttribute(newAttribute("available", "AVAILABLE", IDataTypeHandler.BOOLEAN_DATA_TYPE));
+		entityDescriptor.addRelationship(relationship);
+	}
+
+	@Test
+	public void mapsColumnsToAttributesAndTypes() {
+
+		RowPlan rowPlan = new RowPlan(entityDescriptor, new String[] {"RANK", "BRAND_NAME", "AVAILABLE", "COUNT"});
+
+		assertEquals(4, rowPlan.getColumnCount());
+
+		assertSame(entityDescriptor.getAttributeBasedOnColumnName("RANK"), rowPlan.getAttribute(0));
+		assertSame(entityDescriptor.getAttributeBasedOnColumnName("BRAND_NAME"), rowPlan.getAttribute(1));
+		assertNull(rowPlan.getAttribute(3));
+
+		assertEquals(RowPlan.INTEGER_COLUMN_TYPE, rowPlan.getColumnType(0));
+		assertEquals(RowPlan.STRING_COLUMN_TYPE, rowPlan.getColumnType(1));
+		assertEquals(RowPlan.BOOLEAN_COLUMN_TYPE, rowPlan.getColumnType(2));
+		assertEquals(RowPlan.ANY_COLUMN_TYPE, rowPlan.getColumnType(3));
+
+		assertEquals(1, rowPlan.getColumnIndex("BRAND_NAME"));
+		assertEquals(-1, rowPlan.getColumnIndex("UNKNOWN"));
+	}
+
+	@Test
+	public void readsJoinedColumnsInTypeOfReferedAttribute() {
+
+		RowPlan rowPlan = new RowPlan(entityDescriptor, new String[] {"BRAND_NAME", "liquor" + RowPlan.JOIN_COLUMN_SEPARATOR + "ALCHOL_CONTENT", "liquor" + RowPlan.JOIN_COLUMN_SEPARATOR + "UNKNOWN"});
+
+		assertNull(rowPlan.getAttribute(1));
+		assertEquals(RowPlan.DOUBLE_COLUMN_TYPE, rowPlan.getColumnType(1));
+		assertEquals(RowPlan.ANY_COLUMN_TYPE, rowPlan.getColumnType(2));
+	}
+
+	@Test
+	public void readsAllColumnsAsAnyWithoutEntity() {
+
+		RowPlan rowPlan = new RowPlan(null, new String[] {"BRAND_NAME", "RANK"});
+
+		assertNull(rowPlan.getEntityDescriptor());
+		assertNull(rowPlan.getAttribute(0));
+		assertEquals(RowPlan.ANY_COLUMN_TYPE, rowPlan.getColumnType(0));
+		assertEquals(RowPlan.ANY_COLUMN_TYPE, rowPlan.getColumnType(1));
+	}
+
+	@Test
+	public void rowExposesValuesByColumnName() {
+
+		RowPlan rowPlan = new RowPlan(entityDescriptor, new String[] {"BRAND_NAME", "RANK", "AVAILABLE"});
+
+		RowPlan.Row row = rowPlan.newRow();
+		row.setValue(0, "Black Dog");
+		row.setValue(1, 3);
+
+		assertSame(rowPlan, row.getRowPlan());
+		assertEquals("Black Dog", row.get("BRAND_NAME"));
+		assertEquals(3, row.get("RANK"));
+		assertNull(row.get("UNKNOWN"));
+
+		assertTrue(row.containsKey("RANK"));
+		assertFalse(row.containsKey("AVAILABLE"));
+		assertFalse(row.containsKey("UNKNOWN"));
+
+		assertEquals(2, row.size());
+
+		Iterator<Map.Entry<String, Object>> entries = row.entrySet().iterator();
+
+		Map.Entry<String, Object> entry = entries.next();
+		assertEquals("BRAND_NAME", entry.getKey());
+		assertEquals("Black Dog", entry.getValue());
+
+		entry = entries.next();
+		assertEquals("RANK", entry.getKey());
+		assertEquals(3, entry.getValue());
+
+		assertFalse(entries.hasNext());
+	}
+
+	@Test
+	public void rowsOfSamePlanDoNotShareValues() {
+
+		RowPlan rowPlan = new RowPlan(entityDescriptor, new String[] {"BRAND_NAME"});
+
+		RowPlan.Row firstRow = rowPlan.newRow();
+		RowPlan.Row secondRow = rowPlan.newRow();
+
+		firstRow.setValue(0, "Black Dog");
+		secondRow.setValue(0, "Teachers");
+
+		assertEquals("Black Dog", firstRow.get("BRAND_NAME"));
+		assertEquals("Teachers", secondRow.get("BRAND_NAME"));
+	}
+
+
+	private static Attribute newAttribute(final String variableName, final String columnName, final String type) {
+
+		Attribute attribute = new Attribute();
+		attribute.setVariableName(variableName);
+		attribute.setColumnName(columnName);
+		attribute.setType(type);
+
+		return attribute;
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import siminov.core.Constants;
+import siminov.core.exception.DatabaseException;
+
+public class SaveAllTest {
+
+	private DatabaseFixture databaseFixture;
+	private RecordingDatabase database;
+
+	@Before
+	public void setUp() {
+
+		databaseFixture = new DatabaseFixture();
+		databaseFixture.addLiquor();
+		databaseFixture.start();
+
+		database = databaseFixture.getDatabase();
+	}
+
+	@After
+	public void tearDown() {
+		databaseFixture.stop();
+	}
+
+	@Test
+	public void savesAllObjectsThroughOneStatementInOneTransaction() throws DatabaseException {
+
+		DatabaseHelper.saveAll(Arrays.asList(new Liquor("RUM", "Dark"), new Liquor("GIN", "Dry"), new Liquor("VODKA", "Plain")).iterator(), 0);
+
+		List<String> executions = database.getExecutions();
+		assertEquals(6, executions.size());
+
+		assertEquals(Constants.SQLITE_DATABASE_BEGIN_TRANSACTION, executions.get(0));
+		assertTrue(executions.get(1).startsWith("INSERT INTO LIQUOR"));
+		assertEquals(executions.get(1), executions.get(2));
+		assertEquals(executions.get(1), executions.get(3));
+		assertEquals(Constants.SQLITE_DATABASE_COMMIT_TRANSACTION, executions.get(4));
+		assertEquals(Constants.SQLITE_DATABASE_END_TRANSACTION, executions.get(5));
+
+		assertEquals(1, database.getCompiledStatements());
+		assertEquals(1, database.getClosedStatements());
+
+		assertTrue(database.getBindValues().get(2).contains("GIN"));
+	}
+
+	@Test
+	public void commitsEveryChunk() throws DatabaseException {
+
+		DatabaseHelper.saveAll(Arrays.asList(new Liquor("RUM", "Dark"), new Liquor("GIN", "Dry"), new Liquor("VODKA", "Plain")).iterator(), 2);
+
+		List<String> executions = database.getExecutions();
+		assertEquals(9, executions.size());
+
+		assertEquals(Constants.SQLITE_DATABASE_BEGIN_TRANSACTION, executions.get(0));
+		assertEquals(Constants.SQLITE_DATABASE_COMMIT_TRANSACTION, executions.get(3));
+		assertEquals(Constants.SQLITE_DATABASE_END_TRANSACTION, executions.get(4));
+		assertEquals(Constants.SQLITE_DATABASE_BEGIN_TRANSACTION, executions.get(5));
+		assertEquals(Constants.SQLITE_DATABASE_COMMIT_TRANSACTION, executions.get(7));
+		assertEquals(Constants.SQLITE_DATABASE_END_TRANSACTION, executions.get(8));
+
+		assertEquals(1, database.getCompiledStatements());
+	}
+
+	@Test
+	public void doesNotCommitChunkWhichFails() {
+
+		database.failOnValue("GIN");
+
+		try {
+			DatabaseHelper.saveAll(Arrays.asList(new Liquor("RUM", "Dark"), new Liquor("GIN", "Dry"), new Liquor("VODKA", "Plain")).iterator(), 0);
+			fail("DatabaseException expected");
+		} catch(DatabaseException databaseException) {
+		}
+
+		List<String> executions = database.getExecutions();
+		assertEquals(3, executions.size());
+		assertFalse(executions.contains(Constants.SQLITE_DATABASE_COMMIT_TRANSACTION));
+		assertEquals(Constants.SQLITE_DATABASE_END_TRANSACTION, executions.get(2));
+
+		assertEquals(1, database.getClosedStatements());
+	}
+}
@@ -0,0 +1,295 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import siminov.core.Constants;
+import siminov.core.database.design.ITransactionWork;
+import siminov.core.exception.DatabaseException;
+import siminov.core.model.DatabaseDescriptor;
+
+public class TransactionTest {
+
+	private static final String BUSY_MESSAGE = "database is locked (code 5)";
+
+	private DatabaseFixture databaseFixture;
+	private DatabaseDescriptor databaseDescriptor;
+	private RecordingDatabase database;
+
+	@Before
+	public void setUp() {
+
+		databaseFixture = new DatabaseFixture();
+		databaseFixture.addLiquor();
+		databaseFixture.start();
+
+		databaseDescriptor = databaseFixture.getDatabaseDescriptor();
+		database = databaseFixture.getDatabase();
+	}
+
+	@After
+	public void tearDown() {
+		databaseFixture.stop();
+	}
+
+	@Test
+	public void mapsNestedScopesOnSavepoints() throws DatabaseException {
+
+		final boolean[] open = new boolean[1];
+
+		Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+			public void execute() throws DatabaseException {
+				open[0] = Transaction.isOpen(databaseDescriptor);
+
+				Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+					public void execute() throws DatabaseException {
+						Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+							public void execute() throws DatabaseException {
+							}
+						});
+					}
+				});
+
+				Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+					public void execute() throws DatabaseException {
+					}
+				});
+			}
+		});
+
+		assertTrue(open[0]);
+		assertFalse(Transaction.isOpen(databaseDescriptor));
+
+		assertEquals(Arrays.asList(Constants.SQLITE_DATABASE_BEGIN_TRANSACTION,
+				"SAVEPOINT SIMINOV_SAVEPOINT_1", "SAVEPOINT SIMINOV_SAVEPOINT_2", "RELEASE SAVEPOINT SIMINOV_SAVEPOINT_2", "RELEASE SAVEPOINT SIMINOV_SAVEPOINT_1",
+				"SAVEPOINT SIMINOV_SAVEPOINT_1", "RELEASE SAVEPOINT SIMINOV_SAVEPOINT_1",
+				Constants.SQLITE_DATABASE_COMMIT_TRANSACTION, Constants.SQLITE_DATABASE_END_TRANSACTION), database.getExecutions());
+	}
+
+	@Test
+	public void rollsBackFailedNestedScopeOnly() throws DatabaseException {
+
+		Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+			public void execute() throws DatabaseException {
+
+				try {
+					Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+						public void execute() throws DatabaseException {
+							throw new DatabaseException(TransactionTest.class.getName(), "execute", "constraint failed");
+						}
+					});
+
+					fail();
+				} catch(DatabaseException databaseException) {
+					assertTrue(Transaction.isOpen(databaseDescriptor));
+				}
+			}
+		});
+
+		assertEquals(Arrays.asList(Constants.SQLITE_DATABASE_BEGIN_TRANSACTION,
+				"SAVEPOINT SIMINOV_SAVEPOINT_1", ";ROLLBACK TO SAVEPOINT SIMINOV_SAVEPOINT_1", "RELEASE SAVEPOINT SIMINOV_SAVEPOINT_1",
+				Constants.SQLITE_DATABASE_COMMIT_TRANSACTION, Constants.SQLITE_DATABASE_END_TRANSACTION), database.getExecutions());
+	}
+
+	@Test
+	public void failsOuterScopeOnceNestedRollbackEndsTransaction() {
+
+		try {
+			Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+				public void execute() throws DatabaseException {
+					failNestedScopeAndItsRollback();
+				}
+			});
+
+			fail();
+		} catch(DatabaseException databaseException) {
+			assertTrue(databaseException.getMessage().contains("ended by rollback of nested scope"));
+		}
+
+		List<String> executions = database.getExecutions();
+		assertFalse(executions.contains(Constants.SQLITE_DATABASE_COMMIT_TRANSACTION));
+		assertEquals(Constants.SQLITE_DATABASE_END_TRANSACTION, executions.get(executions.size() - 1));
+	}
+
+	@Test
+	public void retriesBusyTransactionWithBackoff() throws DatabaseException {
+
+		final int[] attempts = new int[1];
+		long start = System.currentTimeMillis();
+
+		Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+			public void execute() throws DatabaseException {
+				if(++attempts[0] < 3) {
+					throw new DatabaseException(TransactionTest.class.getName(), "execute", BUSY_MESSAGE);
+				}
+			}
+		});
+
+		assertEquals(3, attempts[0]);
+		assertTrue(System.currentTimeMillis() - start >= 20 + 40);
+
+		assertEquals(Arrays.asList(Constants.SQLITE_DATABASE_BEGIN_TRANSACTION, Constants.SQLITE_DATABASE_END_TRANSACTION,
+				Constants.SQLITE_DATABASE_BEGIN_TRANSACTION, Constants.SQLITE_DATABASE_END_TRANSACTION,
+				Constants.SQLITE_DATABASE_BEGIN_TRANSACTION, Constants.SQLITE_DATABASE_COMMIT_TRANSACTION, Constants.SQLITE_DATABASE_END_TRANSACTION), database.getExecutions());
+	}
+
+	@Test
+	public void retriesBusyCommit() throws DatabaseException {
+
+		final int[] attempts = new int[1];
+
+		Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+			public void execute() throws DatabaseException {
+				if(++attempts[0] == 1) {
+					database.failNext(BUSY_MESSAGE);
+				}
+			}
+		});
+
+		assertEquals(2, attempts[0]);
+	}
+
+	@Test
+	public void givesUpOnBusyDatabaseAfterMaxAttempts() {
+
+		final int[] attempts = new int[1];
+
+		try {
+			Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+				public void execute() throws DatabaseException {
+					attempts[0]++;
+					throw new DatabaseException(TransactionTest.class.getName(), "execute", BUSY_MESSAGE);
+				}
+			});
+
+			fail();
+		} catch(DatabaseException databaseException) {
+			assertEquals(BUSY_MESSAGE, databaseException.getMessage());
+		}
+
+		assertEquals(5, attempts[0]);
+		assertFalse(Transaction.isOpen(databaseDescriptor));
+	}
+
+	@Test
+	public void doesNotRetryOtherFailures() {
+
+		final int[] attempts = new int[1];
+
+		try {
+			Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+				public void execute() throws DatabaseException {
+					attempts[0]++;
+					throw new DatabaseException(TransactionTest.class.getName(), "execute", "constraint failed");
+				}
+			});
+
+			fail();
+		} catch(DatabaseException databaseException) {
+		}
+
+		assertEquals(1, attempts[0]);
+		assertEquals(Arrays.asList(Constants.SQLITE_DATABASE_BEGIN_TRANSACTION, Constants.SQLITE_DATABASE_END_TRANSACTION), database.getExecutions());
+	}
+
+	@Test
+	public void doesNotCarryAbortOverToRetry() throws DatabaseException {
+
+		final int[] attempts = new int[1];
+
+		Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+			public void execute() throws DatabaseException {
+				if(++attempts[0] == 1) {
+					failNestedScopeAndItsRollback();
+					throw new DatabaseException(TransactionTest.class.getName(), "execute", BUSY_MESSAGE);
+				}
+			}
+		});
+
+		assertEquals(2, attempts[0]);
+
+		List<String> executions = database.getExecutions();
+		assertEquals(Constants.SQLITE_DATABASE_COMMIT_TRANSACTION, executions.get(executions.size() - 2));
+	}
+
+	@Test
+	public void stopsRetryingOnceInterrupted() {
+
+		Thread.currentThread().interrupt();
+
+		try {
+			Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+				public void execute() throws DatabaseException {
+					throw new DatabaseException(TransactionTest.class.getName(), "execute", BUSY_MESSAGE);
+				}
+			});
+
+			fail();
+		} catch(DatabaseException databaseException) {
+			assertTrue(databaseException.getMessage().contains("InterruptedException"));
+		}
+
+		assertTrue(Thread.interrupted());
+	}
+
+
+	/**
+	 * Fail nested scope, and make its rollback fail too, so enclosing transaction counts as ended.
+	 */
+	private void failNestedScopeAndItsRollback() {
+
+		try {
+			Transaction.execute(databaseDescriptor, new ITransactionWork() {
+
+				public void execute() throws DatabaseException {
+					database.failNext("cannot rollback - no transaction is active");
+					database.failNext("no such savepoint: SIMINOV_SAVEPOINT_1");
+
+					throw new DatabaseException(TransactionTest.class.getName(), "execute", "constraint failed");
+				}
+			});
+
+			fail();
+		} catch(DatabaseException databaseException) {
+		}
+	}
+}
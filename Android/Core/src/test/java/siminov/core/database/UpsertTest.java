@@ -0,0 +1,101 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import siminov.core.Constants;
+import siminov.core.exception.DatabaseException;
+import siminov.core.model.EntityDescriptor;
+
+public class UpsertTest {
+
+	private DatabaseFixture databaseFixture;
+	private EntityDescriptor entityDescriptor;
+
+	@Before
+	public void setUp() {
+
+		databaseFixture = new DatabaseFixture();
+		entityDescriptor = databaseFixture.addLiquor();
+		databaseFixture.start();
+	}
+
+	@After
+	public void tearDown() {
+		databaseFixture.stop();
+	}
+
+	@Test
+	public void matchesOnPrimaryKeyAndRelationshipColumns() {
+
+		QueryTemplates queryTemplates = databaseFixture.getDatabaseBundle().getQueryTemplates();
+
+		String[] queries = queryTemplates.getUpsertQueries(entityDescriptor, Arrays.asList("LIQUOR_TYPE", "DESCRIPTION", "LIQUOR_BRAND_ID"));
+
+		assertEquals(2, queries.length);
+		assertEquals("UPDATE LIQUOR SET DESCRIPTION= ?2 WHERE LIQUOR_TYPE= ?1 AND LIQUOR_BRAND_ID= ?3", queries[0]);
+		assertTrue(queries[1].endsWith("WHERE NOT EXISTS (SELECT 1 FROM LIQUOR WHERE LIQUOR_TYPE= ?1 AND LIQUOR_BRAND_ID= ?3)"));
+	}
+
+	@Test
+	public void reusesFormedQueriesOfSameColumns() {
+
+		QueryTemplates queryTemplates = databaseFixture.getDatabaseBundle().getQueryTemplates();
+
+		String[] queries = queryTemplates.getUpsertQueries(entityDescriptor, Arrays.asList("LIQUOR_TYPE", "DESCRIPTION"));
+		String[] reusedQueries = queryTemplates.getUpsertQueries(entityDescriptor, Arrays.asList("LIQUOR_TYPE", "DESCRIPTION"));
+
+		assertEquals(queries.length, reusedQueries.length);
+		for(int i = 0;i < queries.length;i++) {
+			assertSame(queries[i], reusedQueries[i]);
+		}
+	}
+
+	@Test
+	public void updatesThenInsertsInOneTransaction() throws DatabaseException {
+
+		DatabaseHelper.saveOrUpdate(new Liquor("RUM", "Dark"));
+
+		RecordingDatabase database = databaseFixture.getDatabase();
+
+		List<String> executions = database.getExecutions();
+		assertEquals(5, executions.size());
+
+		assertEquals(Constants.SQLITE_DATABASE_BEGIN_TRANSACTION, executions.get(0));
+		assertTrue(executions.get(1).startsWith("UPDATE LIQUOR"));
+		assertTrue(executions.get(2).startsWith("INSERT INTO LIQUOR"));
+		assertEquals(Constants.SQLITE_DATABASE_COMMIT_TRANSACTION, executions.get(3));
+		assertEquals(Constants.SQLITE_DATABASE_END_TRANSACTION, executions.get(4));
+
+		/*
+		 * Both statements bind all columns in same order, through numbered placeholders.
+		 */
+		assertEquals(Arrays.<Object>asList("RUM", "Dark"), database.getBindValues().get(1));
+		assertEquals(Arrays.<Object>asList("RUM", "Dark"), database.getBindValues().get(2));
+	}
+}
@@ -0,0 +1,236 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import siminov.core.database.design.ITransactionWork;
+import siminov.core.exception.DatabaseException;
+import siminov.core.model.EntityDescriptor;
+
+public class WriteBehindQueueTest {
+
+	/*
+	 * Long enough for background write never to run while a test buffers writes.
+	 */
+	private static final long INTERVAL = 60000;
+
+	private DatabaseFixture databaseFixture;
+	private EntityDescriptor entityDescriptor;
+	private RecordingDatabase database;
+
+	@Before
+	public void setUp() {
+		start(100);
+	}
+
+	@After
+	public void tearDown() {
+		databaseFixture.stop();
+	}
+
+	@Test
+	public void buffersWritesTillFlushed() throws DatabaseException {
+
+		DatabaseHelper.save(new Liquor("RUM", "Dark"));
+		DatabaseHelper.save(new Liquor("GIN", "Dry"));
+
+		WriteBehindQueue queue = WriteBehindQueue.getWriteBehindQueue(entityDescriptor);
+
+		assertTrue(database.getExecutions().isEmpty());
+		assertEquals(2, queue.getPendingCount());
+
+		queue.flush();
+
+		assertEquals(2, countExecutions("INSERT INTO LIQUOR"));
+		assertEquals(0, queue.getPendingCount());
+		assertEquals(2, queue.getWrittenCount());
+		assertEquals(1, queue.getBatchCount());
+	}
+
+	@Test
+	public void coalescesSavesOfSamePrimaryKeyIntoSave() throws DatabaseException {
+
+		DatabaseHelper.save(new Liquor("RUM", "Dark"));
+		DatabaseHelper.save(new Liquor("RUM", "Spiced"));
+
+		WriteBehindQueue queue = WriteBehindQueue.getWriteBehindQueue(entityDescriptor);
+		assertEquals(1, queue.getPendingCount());
+		assertEquals(1, queue.getCoalescedCount());
+
+		queue.flush();
+
+		assertEquals(1, countExecutions("INSERT INTO LIQUOR"));
+		assertEquals(0, countExecutions("UPDATE LIQUOR"));
+		assertTrue(database.getBindValues().toString().contains("Spiced"));
+		assertEquals(1, queue.getWrittenCount());
+	}
+
+	@Test
+	public void coalescesSaveAndSaveOrUpdateIntoSaveOrUpdate() throws DatabaseException {
+
+		DatabaseHelper.save(new Liquor("RUM", "Dark"));
+		DatabaseHelper.saveOrUpdate(new Liquor("RUM", "Spiced"));
+
+		WriteBehindQueue.flush(entityDescriptor);
+
+		assertEquals(1, countExecutions("UPDATE LIQUOR"));
+		assertTrue(database.getBindValues().toString().contains("Spiced"));
+		assertFalse(database.getBindValues().toString().contains("Dark"));
+	}
+
+	@Test
+	public void coalescesDeleteOverEarlierWrites() throws DatabaseException {
+
+		DatabaseHelper.save(new Liquor("RUM", "Dark"));
+		DatabaseHelper.saveOrUpdate(new Liquor("RUM", "Spiced"));
+		DatabaseHelper.delete(new Liquor("RUM", "Spiced"), null, null);
+
+		WriteBehindQueue queue = WriteBehindQueue.getWriteBehindQueue(entityDescriptor);
+		assertEquals(2, queue.getCoalescedCount());
+
+		queue.flush();
+
+		assertEquals(1, countExecutions("DELETE FROM LIQUOR"));
+		assertEquals(0, countExecutions("INSERT INTO LIQUOR"));
+		assertEquals(0, countExecutions("UPDATE LIQUOR"));
+	}
+
+	@Test
+	public void writesBufferedWritesBeforeWriteWhichIsNotBuffered() throws DatabaseException {
+
+		DatabaseHelper.save(new Liquor("RUM", "Dark"));
+		DatabaseHelper.delete(new Liquor(), "LIQUOR_TYPE = ?", new Object[] {"RUM"});
+
+		List<String> executions = database.getExecutions();
+
+		int insert = indexOfExecution(executions, "INSERT INTO LIQUOR");
+		int delete = indexOfExecution(executions, "DELETE FROM LIQUOR");
+
+		assertTrue(insert >= 0);
+		assertTrue(insert < delete);
+	}
+
+	@Test
+	public void doesNotBufferWritesWithinTransaction() throws DatabaseException {
+
+		Transaction.execute(databaseFixture.getDatabaseDescriptor(), new ITransactionWork() {
+
+			public void execute() throws DatabaseException {
+				DatabaseHelper.save(new Liquor("RUM", "Dark"));
+				assertEquals(1, countExecutions("INSERT INTO LIQUOR"));
+			}
+		});
+
+		assertEquals(0, WriteBehindQueue.getWriteBehindQueue(entityDescriptor).getPendingCount());
+	}
+
+	@Test
+	public void writesBufferItselfOnceFull() throws DatabaseException {
+
+		databaseFixture.stop();
+		start(2);
+
+		WriteBehindQueue queue = WriteBehindQueue.getWriteBehindQueue(entityDescriptor);
+		for(int i = 0;i < 20;i++) {
+			DatabaseHelper.save(new Liquor("LIQUOR_" + i, "Plain"));
+
+			/*
+			 * Buffer holds four batches, background write may have written some already.
+			 */
+			assertTrue(queue.getPendingCount() < 2 * 4);
+		}
+
+		queue.flush();
+
+		assertEquals(20, queue.getWrittenCount());
+		assertEquals(20, countExecutions("INSERT INTO LIQUOR"));
+	}
+
+	@Test
+	public void retriesWritesOfFailedBatchOneByOne() throws DatabaseException {
+
+		DatabaseHelper.save(new Liquor("RUM", "Dark"));
+		DatabaseHelper.save(new Liquor("GIN", "Dry"));
+		DatabaseHelper.save(new Liquor("VODKA", "Plain"));
+
+		database.failOnValue("GIN");
+
+		WriteBehindQueue queue = WriteBehindQueue.getWriteBehindQueue(entityDescriptor);
+		queue.flush();
+
+		assertEquals(2, queue.getWrittenCount());
+		assertEquals(1, queue.getFailedCount());
+		assertEquals(0, queue.getBatchCount());
+		assertEquals(0, queue.getPendingCount());
+
+		/*
+		 * RUM is written in rolled back batch and again on its own.
+		 */
+		assertEquals(3, countExecutions("INSERT INTO LIQUOR"));
+		assertTrue(database.getBindValues().toString().contains("VODKA"));
+	}
+
+
+	private void start(final int batchSize) {
+
+		databaseFixture = new DatabaseFixture();
+
+		entityDescriptor = databaseFixture.addLiquor();
+		entityDescriptor.setWriteBehind(true);
+		entityDescriptor.setWriteBehindInterval(INTERVAL);
+		entityDescriptor.setWriteBehindBatchSize(batchSize);
+
+		databaseFixture.start();
+
+		database = databaseFixture.getDatabase();
+	}
+
+	private int countExecutions(final String prefix) {
+
+		int count = 0;
+
+		List<String> executions = database.getExecutions();
+		for(int i = 0;i < executions.size();i++) {
+			if(executions.get(i).startsWith(prefix)) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	private static int indexOfExecution(final List<String> executions, final String prefix) {
+
+		for(int i = 0;i < executions.size();i++) {
+			if(executions.get(i).startsWith(prefix)) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+}
@@ -0,0 +1,75 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database.sqlite;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import siminov.core.database.InsertSpec;
+
+public class QueryBuilderTest {
+
+	private final QueryBuilder queryBuilder = new QueryBuilder();
+
+	@Test
+	public void upsertsThroughUpdateAndInsertBelowUpsertSupport() {
+
+		InsertSpec insertSpec = newInsertSpec(new String[] {"LIQUOR_TYPE", "DESCRIPTION", "ALCHOL_CONTENT"}, new String[] {"LIQUOR_TYPE"});
+
+		assertNull(queryBuilder.formUpsertBindQuery(insertSpec));
+
+		assertEquals("UPDATE LIQUOR SET DESCRIPTION= ?2, ALCHOL_CONTENT= ?3 WHERE LIQUOR_TYPE= ?1", queryBuilder.formUpsertUpdateBindQuery(insertSpec));
+		assertEquals("INSERT INTO LIQUOR(LIQUOR_TYPE, DESCRIPTION, ALCHOL_CONTENT) SELECT ?1, ?2, ?3 WHERE NOT EXISTS (SELECT 1 FROM LIQUOR WHERE LIQUOR_TYPE= ?1)", queryBuilder.formUpsertInsertBindQuery(insertSpec));
+	}
+
+	@Test
+	public void matchesAllKeyColumnsInPlaceOfTheirValues() {
+
+		InsertSpec insertSpec = newInsertSpec(new String[] {"DESCRIPTION", "LIQUOR_TYPE", "BRAND"}, new String[] {"LIQUOR_TYPE", "BRAND"});
+
+		assertEquals("UPDATE LIQUOR SET DESCRIPTION= ?1 WHERE LIQUOR_TYPE= ?2 AND BRAND= ?3", queryBuilder.formUpsertUpdateBindQuery(insertSpec));
+		assertEquals("INSERT INTO LIQUOR(DESCRIPTION, LIQUOR_TYPE, BRAND) SELECT ?1, ?2, ?3 WHERE NOT EXISTS (SELECT 1 FROM LIQUOR WHERE LIQUOR_TYPE= ?2 AND BRAND= ?3)", queryBuilder.formUpsertInsertBindQuery(insertSpec));
+	}
+
+	@Test
+	public void setsKeyToItselfWhenEveryColumnIsKey() {
+
+		InsertSpec insertSpec = newInsertSpec(new String[] {"LIQUOR_TYPE", "BRAND"}, new String[] {"LIQUOR_TYPE", "BRAND"});
+
+		assertEquals("UPDATE LIQUOR SET LIQUOR_TYPE= ?1 WHERE LIQUOR_TYPE= ?1 AND BRAND= ?2", queryBuilder.formUpsertUpdateBindQuery(insertSpec));
+	}
+
+	@Test
+	public void insertsWhenThereIsNoKey() {
+
+		InsertSpec insertSpec = newInsertSpec(new String[] {"LIQUOR_TYPE", "DESCRIPTION"}, new String[] {});
+
+		assertEquals("INSERT INTO LIQUOR(LIQUOR_TYPE, DESCRIPTION) VALUES(?, ?)", queryBuilder.formUpsertBindQuery(insertSpec));
+	}
+
+
+	private static InsertSpec newInsertSpec(final String[] columnNames, final String[] primaryKeys) {
+
+		InsertSpec insertSpec = new InsertSpec("LIQUOR", columnNames);
+		insertSpec.setPrimaryKeys(primaryKeys);
+
+		return insertSpec;
+	}
+}
@@ -0,0 +1,97 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.database.sqlite;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import siminov.core.database.DeleteSpec;
+import siminov.core.database.InsertSpec;
+import siminov.core.database.SelectSpec;
+import siminov.core.database.UpdateSpec;
+import siminov.core.database.design.IQueryBuilder;
+
+public class QuerySpecTest {
+
+	private final QueryBuilder queryBuilder = new QueryBuilder();
+
+	@Test
+	public void formsSaveQueryFromSpec() {
+
+		InsertSpec insertSpec = new InsertSpec("LIQUOR", new String[] {"LIQUOR_TYPE", "DESCRIPTION"});
+		assertEquals("INSERT INTO LIQUOR(LIQUOR_TYPE, DESCRIPTION) VALUES(?, ?)", queryBuilder.formSaveBindQuery(insertSpec));
+
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put(IQueryBuilder.FORM_SAVE_BIND_QUERY_TABLE_NAME_PARAMETER, "LIQUOR");
+		parameters.put(IQueryBuilder.FORM_SAVE_BIND_QUERY_COLUMN_NAMES_PARAMETER, Arrays.asList("LIQUOR_TYPE", "DESCRIPTION").iterator());
+
+		assertEquals(queryBuilder.formSaveBindQuery(insertSpec), queryBuilder.formSaveBindQuery(parameters));
+	}
+
+	@Test
+	public void formsUpdateQueryFromSpec() {
+
+		UpdateSpec updateSpec = new UpdateSpec("LIQUOR", new String[] {"DESCRIPTION", "ALCHOL_CONTENT"}, "LIQUOR_TYPE = ?");
+		assertEquals("UPDATE LIQUOR SET DESCRIPTION= ?, ALCHOL_CONTENT= ? WHERE LIQUOR_TYPE = ?", queryBuilder.formUpdateBindQuery(updateSpec));
+
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put(IQueryBuilder.FORM_UPDATE_BIND_QUERY_TABLE_NAME_PARAMETER, "LIQUOR");
+		parameters.put(IQueryBuilder.FORM_UPDATE_BIND_QUERY_COLUMN_NAMES_PARAMETER, Arrays.asList("DESCRIPTION", "ALCHOL_CONTENT").iterator());
+		parameters.put(IQueryBuilder.FORM_UPDATE_BIND_QUERY_WHERE_CLAUSE_PARAMETER, "LIQUOR_TYPE = ?");
+
+		assertEquals(queryBuilder.formUpdateBindQuery(updateSpec), queryBuilder.formUpdateBindQuery(parameters));
+
+		updateSpec.setWhereClause("");
+		assertEquals("UPDATE LIQUOR SET DESCRIPTION= ?, ALCHOL_CONTENT= ?", queryBuilder.formUpdateBindQuery(updateSpec));
+	}
+
+	@Test
+	public void formsDeleteQueryFromSpec() {
+
+		assertEquals("DELETE FROM LIQUOR WHERE LIQUOR_TYPE = ?", queryBuilder.formDeleteQuery(new DeleteSpec("LIQUOR", "LIQUOR_TYPE = ?")));
+		assertEquals("DELETE FROM LIQUOR", queryBuilder.formDeleteQuery(new DeleteSpec("LIQUOR", null)));
+
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		parameters.put(IQueryBuilder.FORM_DELETE_QUERY_TABLE_NAME_PARAMETER, "LIQUOR");
+		parameters.put(IQueryBuilder.FORM_DELETE_QUERY_WHERE_CLAUSE_PARAMETER, "LIQUOR_TYPE = ?");
+
+		assertEquals("DELETE FROM LIQUOR WHERE LIQUOR_TYPE = ?", queryBuilder.formDeleteQuery(parameters));
+	}
+
+	@Test
+	public void upsertsWithoutPrimaryKeysAsSave() {
+
+		InsertSpec insertSpec = new InsertSpec("LIQUOR", new String[] {"LIQUOR_TYPE", "DESCRIPTION"});
+		assertEquals(queryBuilder.formSaveBindQuery(insertSpec), queryBuilder.formUpsertBindQuery(insertSpec));
+	}
+
+	@Test
+	public void convertsIteratorOfNamesToArray() {
+
+		assertArrayEquals(new String[] {"LIQUOR_TYPE", "DESCRIPTION"}, SelectSpec.toArray(Arrays.asList("LIQUOR_TYPE", "DESCRIPTION").iterator()));
+		assertEquals(0, SelectSpec.toArray(Collections.<String>emptyList().iterator()).length);
+		assertEquals(0, SelectSpec.toArray(null).length);
+	}
+}
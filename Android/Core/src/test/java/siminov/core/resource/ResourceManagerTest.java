@@ -0,0 +1,144 @@
+/**
+ * [SIMINOV FRAMEWORK - CORE]
+ * Copyright [2014-2016] [Siminov Software Solution LLP|support@siminov.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ **/
+
+package siminov.core.resource;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import siminov.core.database.DatabaseBundle;
+import siminov.core.model.ApplicationDescriptor;
+import siminov.core.model.DatabaseDescriptor;
+import siminov.core.model.EntityDescriptor;
+
+public class ResourceManagerTest {
+
+	private static final String DATABASE_NAME = "SIMINOV-RESOURCE-TEST";
+
+	private final ResourceManager resourceManager = ResourceManager.getInstance();
+
+	private DatabaseDescriptor databaseDescriptor;
+	private EntityDescriptor liquorDescriptor;
+
+	@Before
+	public void setUp() {
+
+		databaseDescriptor = new DatabaseDescriptor();
+		databaseDescriptor.setDatabaseName(DATABASE_NAME);
+		databaseDescriptor.setType("sqlite");
+
+		liquorDescriptor = addEntity(databaseDescriptor, "siminov.core.model.Liquor", "LIQUOR");
+
+		ApplicationDescriptor applicationDescriptor = new ApplicationDescriptor();
+		applicationDescriptor.addDatabaseDescriptor(DATABASE_NAME, databaseDescriptor);
+
+		resourceManager.setApplicationDescriptor(applicationDescriptor);
+	}
+
+	@After
+	public void tearDown() {
+
+		resourceManager.removeDatabaseBundle(DATABASE_NAME);
+		resourceManager.setApplicationDescriptor(null);
+	}
+
+	@Test
+	public void servesIndexedDescriptorsWithoutScanning() {
+
+		resourceManager.indexDescriptors();
+
+		/*
+		 * Descriptor is no longer in database descriptor, so it can only be found through index.
+		 */
+		databaseDescriptor.removeEntityDescriptor(liquorDescriptor);
+
+		assertSame(liquorDescriptor, resourceManager.getEntityDescriptorBasedOnClassName("siminov.core.model.Liquor"));
+		assertSame(liquorDescriptor, resourceManager.getEntityDescriptorBasedOnTableName("LIQUOR"));
+		assertSame(databaseDescriptor, resourceManager.getDatabaseDescriptorBasedOnClassName("siminov.core.model.Liquor"));
+		assertSame(databaseDescriptor, resourceManager.getDatabaseDescriptorBasedOnTableName("LIQUOR"));
+	}
+
+	@Test
+	public void indexesEntityAddedLaterOnFirstLookup() {
+
+		resourceManager.indexDescriptors();
+
+		EntityDescriptor bookDescriptor = addEntity(databaseDescriptor, "siminov.core.model.Book", "BOOK");
+		assertSame(bookDescriptor, resourceManager.getEntityDescriptorBasedOnClassName("siminov.core.model.Book"));
+
+		databaseDescriptor.removeEntityDescriptor(bookDescriptor);
+		assertSame(bookDescriptor, resourceManager.getEntityDescriptorBasedOnTableName("BOOK"));
+	}
+
+	@Test
+	public void indexesRegisteredEntity() {
+
+		EntityDescriptor bookDescriptor = new EntityDescriptor();
+		bookDescriptor.setClassName("siminov.core.model.Book");
+		bookDescriptor.setTableName("BOOK");
+
+		resourceManager.registerEntityDescriptor(databaseDescriptor, bookDescriptor);
+
+		assertSame(bookDescriptor, resourceManager.getEntityDescriptorBasedOnClassName("siminov.core.model.Book"));
+		assertSame(databaseDescriptor, resourceManager.getDatabaseDescriptorBasedOnTableName("BOOK"));
+	}
+
+	@Test
+	public void dropsIndexesWithApplicationDescriptor() {
+
+		resourceManager.indexDescriptors();
+
+		ApplicationDescriptor applicationDescriptor = new ApplicationDescriptor();
+		applicationDescriptor.addDatabaseDescriptor(DATABASE_NAME, databaseDescriptor);
+
+		databaseDescriptor.removeEntityDescriptor(liquorDescriptor);
+		resourceManager.setApplicationDescriptor(applicationDescriptor);
+
+		assertNull(resourceManager.getEntityDescriptorBasedOnClassName("siminov.core.model.Liquor"));
+		assertNull(resourceManager.getDatabaseDescriptorBasedOnTableName("LIQUOR"));
+	}
+
+	@Test
+	public void resolvesDatabaseBundleOfClassUntilItIsRemoved() {
+
+		DatabaseBundle databaseBundle = resourceManager.getDatabaseBundleBasedOnClassName("siminov.core.model.Liquor");
+
+		assertSame(resourceManager.getDatabaseBundle(DATABASE_NAME), databaseBundle);
+		assertSame(databaseBundle, resourceManager.getDatabaseBundleBasedOnClassName("siminov.core.model.Liquor"));
+
+		resourceManager.removeDatabaseBundle(DATABASE_NAME);
+
+		assertNotSame(databaseBundle, resourceManager.getDatabaseBundleBasedOnClassName("siminov.core.model.Liquor"));
+		assertNull(resourceManager.getDatabaseBundleBasedOnClassName("siminov.core.model.Book"));
+	}
+
+
+	private static EntityDescriptor addEntity(final DatabaseDescriptor databaseDescriptor, final String className, final String tableName) {
+
+		EntityDescriptor entityDescriptor = new EntityDescriptor();
+		entityDescriptor.setClassName(className);
+		entityDescriptor.setTableName(tableName);
+
+		databaseDescriptor.addEntityDescriptor(className, entityDescriptor);
+		return entityDescriptor;
+	}
+}